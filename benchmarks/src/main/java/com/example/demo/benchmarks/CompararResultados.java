@@ -0,0 +1,61 @@
+package com.example.demo.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Compara dois resultados JSON do JMH (base e candidato) benchmark a benchmark.
+// Uso: java -cp ... CompararResultados base.json candidato.json
+// Variação positiva = candidato melhor (mais vazão, ou menos tempo nos modos de tempo)
+public final class CompararResultados {
+
+    private CompararResultados() {}
+
+    private record Medida(String modo, double valor, double erro, String unidade) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CompararResultados <base.json> <candidato.json>");
+            System.exit(2);
+        }
+        Map<String, Medida> base = ler(new File(args[0]));
+        Map<String, Medida> candidato = ler(new File(args[1]));
+        System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s  %s%n", "benchmark", "base", "candidato", "variação", "unidade");
+        for (Map.Entry<String, Medida> e : candidato.entrySet()) {
+            Medida c = e.getValue();
+            Medida b = base.get(e.getKey());
+            if (b == null) {
+                System.out.printf(Locale.ROOT, "%-70s %14s %14.3f %9s  %s%n", e.getKey(), "-", c.valor(), "novo", c.unidade());
+                continue;
+            }
+            double variacao = "thrpt".equals(c.modo())
+                    ? (c.valor() - b.valor()) / b.valor()
+                    : (b.valor() - c.valor()) / b.valor();
+            // Diferença dentro da soma dos intervalos de erro não é conclusiva
+            String marca = Math.abs(c.valor() - b.valor()) <= b.erro() + c.erro() ? " ~" : "";
+            System.out.printf(Locale.ROOT, "%-70s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                    e.getKey(), b.valor(), c.valor(), variacao * 100, c.unidade(), marca);
+        }
+    }
+
+    // Chave = benchmark + parâmetros, para separar por exemplo tamanhoPagina=50 de 500
+    private static Map<String, Medida> ler(File arquivo) throws IOException {
+        Map<String, Medida> medidas = new LinkedHashMap<>();
+        for (JsonNode r : new ObjectMapper().readTree(arquivo)) {
+            StringBuilder chave = new StringBuilder(r.path("benchmark").asText()
+                    .replace("com.example.demo.benchmarks.", ""));
+            r.path("params").fields().forEachRemaining(p ->
+                    chave.append(' ').append(p.getKey()).append('=').append(p.getValue().asText()));
+            JsonNode m = r.path("primaryMetric");
+            double erro = m.path("scoreError").asDouble();
+            medidas.put(chave.toString(), new Medida(r.path("mode").asText(), m.path("score").asDouble(),
+                    Double.isNaN(erro) ? 0 : erro, m.path("scoreUnit").asText()));
+        }
+        return medidas;
+    }
+}
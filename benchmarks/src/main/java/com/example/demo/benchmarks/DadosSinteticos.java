@@ -0,0 +1,108 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TipoMissao;
+import com.example.demo.domain.monitoring.Comparacao;
+import com.example.demo.domain.monitoring.OrigemRegra;
+import com.example.demo.domain.monitoring.RegraEmergencia;
+import com.example.demo.domain.monitoring.TipoRegra;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// Massas de dados geradas com semente fixa: duas execuções (ou duas máquinas) medem exatamente
+// os mesmos registros, o que torna os resultados em JSON comparáveis entre si
+final class DadosSinteticos {
+
+    static final long SEMENTE = 42L;
+    static final String[] CANAIS = {"altitude", "velocidade", "temperatura_cabine", "pressao_cabine", "empuxo"};
+    static final LocalDateTime INICIO = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private DadosSinteticos() {}
+
+    // Amostras em colunas (canal por índice), 10 Hz por canal, valores em passeio aleatório
+    record Amostras(int[] canal, long[] timestampMs, double[] valor) {
+        int tamanho() { return valor.length; }
+    }
+
+    static Amostras amostras(int quantidade) {
+        SplittableRandom rnd = new SplittableRandom(SEMENTE);
+        int[] canal = new int[quantidade];
+        long[] ts = new long[quantidade];
+        double[] valor = new double[quantidade];
+        double[] atual = {0, 0, 22, 101.3, 7600};
+        for (int i = 0; i < quantidade; i++) {
+            int c = i % CANAIS.length;
+            atual[c] += rnd.nextGaussian() * (1 + Math.abs(atual[c]) * 0.001);
+            canal[i] = c;
+            ts[i] = (i / CANAIS.length) * 100L;
+            valor[i] = atual[c];
+        }
+        return new Amostras(canal, ts, valor);
+    }
+
+    // Mesmo conteúdo em NDJSON, no formato aceito por POST /api/missoes/{id}/telemetria/stream
+    static byte[] ndjson(Amostras a) {
+        StringBuilder sb = new StringBuilder(a.tamanho() * 96);
+        for (int i = 0; i < a.tamanho(); i++) {
+            sb.append("{\"canal\":\"").append(CANAIS[a.canal()[i]])
+                    .append("\",\"valor\":").append(String.format(Locale.ROOT, "%.6f", a.valor()[i]))
+                    .append(",\"unidade\":\"u\",\"dataHora\":\"")
+                    .append(INICIO.plusNanos(a.timestampMs()[i] * 1_000_000L)).append("\"}\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static List<Missao> missoes(int quantidade) {
+        SplittableRandom rnd = new SplittableRandom(SEMENTE);
+        TipoMissao[] tipos = TipoMissao.values();
+        StatusMissao[] status = StatusMissao.values();
+        NivelPrioridade[] prioridades = NivelPrioridade.values();
+        List<Missao> missoes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Missao m = new Missao();
+            m.setId((long) i + 1);
+            m.setCodigo(String.format(Locale.ROOT, "MIS-%04d-%03d", 2025 + i % 5, i));
+            m.setNome("Missão sintética " + i);
+            m.setDescricao("Descrição gerada para benchmark da missão " + i + ", com texto de tamanho típico");
+            m.setTipo(tipos[rnd.nextInt(tipos.length)]);
+            m.setStatus(status[rnd.nextInt(status.length)]);
+            m.setPrioridade(prioridades[rnd.nextInt(prioridades.length)]);
+            LocalDateTime inicio = INICIO.plusDays(rnd.nextInt(365));
+            m.setDataInicioPlanejada(inicio);
+            m.setDataFimPlanejada(inicio.plusDays(1 + rnd.nextInt(30)));
+            if (rnd.nextBoolean()) m.setDataInicioReal(inicio.plusHours(rnd.nextInt(48)));
+            missoes.add(m);
+        }
+        return missoes;
+    }
+
+    // Uma regra de cada tipo, com limites que quase nunca disparam (mede o custo de avaliar, não de ativar)
+    static List<RegraEmergencia> regras() {
+        return List.of(
+                regra("altitude alta", "altitude", TipoRegra.LIMIAR, Comparacao.MAIOR_QUE, 1e9, null, null),
+                regra("queda de pressão", "pressao_cabine", TipoRegra.TAXA_VARIACAO, Comparacao.MENOR_QUE, -1e6, null, null),
+                regra("temperatura", "temperatura_cabine", TipoRegra.N_DE_M, Comparacao.MAIOR_QUE, 1e6, 3, 5));
+    }
+
+    private static RegraEmergencia regra(String nome, String canal, TipoRegra tipo, Comparacao comparacao,
+                                         double limite, Integer n, Integer m) {
+        RegraEmergencia r = new RegraEmergencia();
+        r.setNome(nome);
+        r.setOrigem(OrigemRegra.TELEMETRIA);
+        r.setCanal(canal);
+        r.setTipo(tipo);
+        r.setComparacao(comparacao);
+        r.setLimite(limite);
+        r.setN(n);
+        r.setM(m);
+        r.setAtiva(true);
+        return r;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Mesmos argumentos do org.openjdk.jmh.Main, mas por padrão grava o resultado em JSON em
+// target/jmh/<data-hora>.json (comparável com CompararResultados)
+public final class ExecutarBenchmarks {
+
+    private ExecutarBenchmarks() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) opcoes.resultFormat(ResultFormatType.JSON);
+        if (!cli.getResult().hasValue()) {
+            Path dir = Files.createDirectories(Path.of("target", "jmh"));
+            String nome = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+            opcoes.result(dir.resolve(nome).toString());
+        }
+        new Runner(opcoes.build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.api.dto.CriarMissaoRequest;
+import com.example.demo.application.MissaoService;
+import com.example.demo.application.TelemetriaService;
+import com.example.demo.domain.monitoring.BufferCircularTelemetria;
+import com.example.demo.domain.monitoring.MotorRegras;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// Vazão de ingestão de telemetria, em amostras por segundo:
+// - emMemoria: avaliação das regras de emergência + buffer circular ao vivo (sem banco)
+// - pontaAPonta: TelemetriaService.registrarStream com NDJSON, lote JDBC em H2 (modo PostgreSQL),
+//   buffer ao vivo e métricas; mede o overhead da aplicação, não o do Postgres
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestaoTelemetriaBenchmark {
+
+    static final int AMOSTRAS = 10_000;
+
+    @State(Scope.Thread)
+    public static class Memoria {
+        DadosSinteticos.Amostras amostras;
+        MotorRegras motor;
+        BufferCircularTelemetria[] buffers;
+        long deslocamentoMs;
+
+        @Setup(Level.Trial)
+        public void preparar() {
+            amostras = DadosSinteticos.amostras(AMOSTRAS);
+            motor = new MotorRegras();
+            motor.carregar(DadosSinteticos.regras());
+            buffers = new BufferCircularTelemetria[DadosSinteticos.CANAIS.length];
+            for (int i = 0; i < buffers.length; i++) buffers[i] = new BufferCircularTelemetria(8192);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Aplicacao {
+        ConfigurableApplicationContext contexto;
+        TelemetriaService telemetria;
+        JdbcTemplate jdbc;
+        Long missaoId;
+        byte[] ndjson;
+
+        @Setup(Level.Trial)
+        public void subir() throws IOException {
+            contexto = new SpringApplicationBuilder(DemoApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // Como argumentos de linha de comando: precisam sobrepor o application.properties
+                    .run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                            "--spring.datasource.username=sa",
+                            "--spring.datasource.password=",
+                            "--spring.jpa.hibernate.ddl-auto=create",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN",
+                            "--spring.main.banner-mode=off",
+                            "--telemetria.segmentos.diretorio=" + Files.createTempDirectory("bench-segmentos"));
+            telemetria = contexto.getBean(TelemetriaService.class);
+            jdbc = contexto.getBean(JdbcTemplate.class);
+            missaoId = contexto.getBean(MissaoService.class).criarMissao(new CriarMissaoRequest(
+                    "BENCH-001", "Benchmark de ingestão", null, "ORBITAL", null,
+                    DadosSinteticos.INICIO, null)).id();
+            ndjson = DadosSinteticos.ndjson(DadosSinteticos.amostras(AMOSTRAS));
+        }
+
+        // Mantém o volume do banco em memória constante entre iterações
+        @TearDown(Level.Iteration)
+        public void limpar() {
+            jdbc.update("delete from telemetrias");
+        }
+
+        @TearDown(Level.Trial)
+        public void descer() {
+            contexto.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOSTRAS)
+    public int emMemoria(Memoria m) {
+        DadosSinteticos.Amostras a = m.amostras;
+        // Desloca o tempo a cada chamada para que as amostras continuem "novas" para as regras de taxa
+        long base = m.deslocamentoMs;
+        int disparos = 0;
+        for (int i = 0; i < a.tamanho(); i++) {
+            int c = a.canal()[i];
+            long ts = base + a.timestampMs()[i];
+            disparos += m.motor.avaliar(1L, DadosSinteticos.CANAIS[c], ts, a.valor()[i], (e, r, t, v) -> {});
+            m.buffers[c].adicionar(ts, a.valor()[i], "u");
+        }
+        m.deslocamentoMs = base + a.timestampMs()[a.tamanho() - 1] + 100;
+        return disparos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOSTRAS)
+    public void pontaAPonta(Aplicacao app, Blackhole bh) throws IOException {
+        bh.consume(app.telemetria.registrarStream(app.missaoId, new ByteArrayInputStream(app.ndjson)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.api.dto.MissaoDTO;
+import com.example.demo.api.dto.PaginaDTO;
+import com.example.demo.application.MissaoMapper;
+import com.example.demo.domain.mission.Missao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo de montar uma página de GET /api/missoes: Missao -> MissaoDTO (MissaoMapper.toDTO) e a
+// serialização JSON da PaginaDTO com um ObjectMapper configurado como o do Spring Boot
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MapeamentoMissaoBenchmark {
+
+    // Tamanho padrão e máximo de página (Paginas.LIMITE_PADRAO / LIMITE_MAXIMO)
+    @Param({"50", "500"})
+    int tamanhoPagina;
+
+    List<Missao> missoes;
+    PaginaDTO<MissaoDTO> pagina;
+    ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        missoes = DadosSinteticos.missoes(tamanhoPagina);
+        pagina = new PaginaDTO<>(mapear(missoes), (long) tamanhoPagina);
+        mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public List<MissaoDTO> mapearParaDTO() {
+        return mapear(missoes);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] mapearESerializar() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new PaginaDTO<>(mapear(missoes), (long) tamanhoPagina));
+    }
+
+    private static List<MissaoDTO> mapear(List<Missao> missoes) {
+        List<MissaoDTO> dtos = new ArrayList<>(missoes.size());
+        for (Missao m : missoes) dtos.add(MissaoMapper.toDTO(m));
+        return dtos;
+    }
+}
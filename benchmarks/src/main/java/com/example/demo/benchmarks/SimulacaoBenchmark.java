@@ -0,0 +1,59 @@
+package com.example.demo.benchmarks;
+
+import com.example.demo.domain.simulation.ModeloFoguete;
+import com.example.demo.domain.simulation.ParametrosFoguete;
+import com.example.demo.domain.simulation.ResultadoSimulacao;
+import com.example.demo.domain.simulation.SimuladorFoguete;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Custo da integração da trajetória (Dormand-Prince RK45 sobre ModeloFoguete):
+// - trajetoriaPadrao: uma simulação completa com os parâmetros padrão; os contadores auxiliares
+//   passos/avaliacoes são normalizados como a métrica principal, ou seja, saem como tempo médio
+//   por passo do integrador e por avaliação da EDO
+// - derivadas: uma avaliação do lado direito da EDO, a unidade de trabalho de cada estágio
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulacaoBenchmark {
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Contadores {
+        public long passos;
+        public long avaliacoes;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            passos = 0;
+            avaliacoes = 0;
+        }
+    }
+
+    final SimuladorFoguete simulador = new SimuladorFoguete();
+    final ModeloFoguete modelo = new ModeloFoguete(ParametrosFoguete.PADRAO);
+    final double[] estado = {35_000, 900};
+    final double[] derivada = new double[2];
+    double t = 0;
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ResultadoSimulacao trajetoriaPadrao(Contadores c) {
+        ResultadoSimulacao r = simulador.simular(ParametrosFoguete.PADRAO);
+        c.passos += r.passosAceitos() + r.passosRejeitados();
+        c.avaliacoes += r.avaliacoes();
+        return r;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double[] derivadas() {
+        // Varre a fase de queima e a balística para não medir um único ramo
+        t = t >= 300 ? 0 : t + 0.37;
+        modelo.derivadas(t, estado, derivada);
+        return derivada;
+    }
+}
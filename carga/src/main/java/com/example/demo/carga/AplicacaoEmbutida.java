@@ -0,0 +1,44 @@
+package com.example.demo.carga;
+
+import com.example.demo.DemoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+// A aplicação no mesmo processo, com servidor HTTP em porta livre e H2 em modo PostgreSQL no lugar
+// do Postgres. Serve para comparar versões do código na mesma máquina; números absolutos de
+// produção exigem o alvo externo (docker compose com Postgres)
+final class AplicacaoEmbutida implements AutoCloseable {
+
+    private final ConfigurableApplicationContext contexto;
+    private final String url;
+
+    AplicacaoEmbutida() throws IOException {
+        contexto = new SpringApplicationBuilder(DemoApplication.class)
+                // Como argumentos de linha de comando: precisam sobrepor o application.properties
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:carga;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--spring.main.banner-mode=off",
+                        "--telemetria.segmentos.diretorio=" + Files.createTempDirectory("carga-segmentos"),
+                        "--missoes.arquivamento.diretorio=" + Files.createTempDirectory("carga-arquivo"));
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        url = "http://localhost:" + porta;
+    }
+
+    String url() {
+        return url;
+    }
+
+    @Override
+    public void close() {
+        contexto.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Chamadas HTTP à API: as de preparação são síncronas e falham na primeira resposta fora de 2xx;
+// as da carga são assíncronas e descartam o corpo da resposta
+final class ClienteApi {
+
+    private static final Duration TEMPO_LIMITE = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final String base;
+    private final ObjectMapper json = new ObjectMapper();
+
+    ClienteApi(String base, Executor executor) {
+        this.base = base;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(base + caminho)).timeout(TEMPO_LIMITE).GET().build();
+    }
+
+    HttpRequest post(String caminho, String corpo) {
+        return HttpRequest.newBuilder(URI.create(base + caminho)).timeout(TEMPO_LIMITE)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    CompletableFuture<HttpResponse<Void>> enviar(HttpRequest req) {
+        return http.sendAsync(req, HttpResponse.BodyHandlers.discarding());
+    }
+
+    long criarMissao(String codigo, LocalDateTime inicio) {
+        return chamar(post("/api/missoes", "{\"codigo\":\"" + codigo + "\",\"nome\":\"Carga " + codigo
+                + "\",\"tipo\":\"ORBITAL\",\"dataInicioPlanejada\":\"" + inicio + "\"}")).path("id").asLong();
+    }
+
+    long criarAstronauta(String nome, int idade) {
+        return chamar(post("/api/astronautas", "{\"nome\":\"" + nome + "\",\"idade\":" + idade
+                + ",\"ativo\":true,\"nivelAptidaoMedica\":\"APTO\",\"missoesRealizadas\":0}")).path("id").asLong();
+    }
+
+    void adicionarTripulante(long missaoId, long astronautaId) {
+        chamar(post("/api/missoes/" + missaoId + "/tripulacao", "{\"astronautaId\":" + astronautaId + "}"));
+    }
+
+    // PLANEJAMENTO -> PRONTA -> EM_ANDAMENTO pelas transições, como um operador faria
+    void iniciarMissao(long missaoId) {
+        chamar(post("/api/missoes/" + missaoId + "/transicoes/PREPARAR", "{}"));
+        chamar(post("/api/missoes/" + missaoId + "/transicoes/INICIAR", "{}"));
+    }
+
+    private JsonNode chamar(HttpRequest req) {
+        HttpResponse<String> resp;
+        try {
+            resp = http.send(req, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha em " + req.method() + " " + req.uri() + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido em " + req.method() + " " + req.uri(), e);
+        }
+        if (resp.statusCode() / 100 != 2) {
+            throw new IllegalStateException(req.method() + " " + req.uri() + " respondeu " + resp.statusCode()
+                    + ": " + resp.body());
+        }
+        try {
+            return resp.body().isEmpty() ? json.nullNode() : json.readTree(resp.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Resposta inválida de " + req.uri(), e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.carga;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Parâmetros do gerador, lidos de argumentos chave=valor (com ou sem "--" na frente).
+// Taxas de escrita são por missão; a de leitura é global e dividida entre os endpoints de leitura
+record ConfiguracaoCarga(
+        String alvo,                // URL base; ausente = aplicação embutida sobre H2 (modo PostgreSQL)
+        int missoes,
+        int tripulantes,            // astronautas por missão
+        int duracaoSegundos,
+        int aquecimentoSegundos,    // carga aplicada mas não medida
+        double telemetriaPorSegundo,
+        int amostrasPorLote,
+        double biometriaPorSegundo,
+        int leiturasPorLote,        // leituras biométricas por requisição
+        double eventosPorSegundo,
+        double consultasPorSegundo,
+        int maxEmVoo,               // acima disso a requisição é descartada (e contada), não enfileirada
+        int threads,
+        long semente
+) {
+
+    static final String USO = """
+            Uso: GeradorCarga [chave=valor ...]
+              alvo=http://localhost:8080  API já em execução (ex.: docker compose up); sem alvo sobe a aplicação embutida sobre H2
+              missoes=10 tripulantes=3 duracao=60 aquecimento=10
+              telemetria=2 amostras=50        lotes de telemetria por missão por segundo e amostras por lote
+              biometria=1 leituras=10         lotes biométricos por missão por segundo e leituras por lote
+              eventos=0.2                     eventos por missão por segundo
+              consultas=20                    leituras por segundo (listagens, detalhe de missão, astronautas)
+              maxEmVoo=512 threads=16 semente=42""";
+
+    static ConfiguracaoCarga ler(String[] args) {
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (String arg : args) {
+            String a = arg.startsWith("--") ? arg.substring(2) : arg;
+            int igual = a.indexOf('=');
+            if (igual <= 0) throw new IllegalArgumentException("Argumento inválido (use chave=valor): " + arg);
+            valores.put(a.substring(0, igual).trim(), a.substring(igual + 1).trim());
+        }
+        ConfiguracaoCarga c = new ConfiguracaoCarga(
+                texto(valores.remove("alvo")),
+                inteiro(valores.remove("missoes"), 10),
+                inteiro(valores.remove("tripulantes"), 3),
+                inteiro(valores.remove("duracao"), 60),
+                inteiro(valores.remove("aquecimento"), 10),
+                decimal(valores.remove("telemetria"), 2),
+                inteiro(valores.remove("amostras"), 50),
+                decimal(valores.remove("biometria"), 1),
+                inteiro(valores.remove("leituras"), 10),
+                decimal(valores.remove("eventos"), 0.2),
+                decimal(valores.remove("consultas"), 20),
+                inteiro(valores.remove("maxEmVoo"), 512),
+                inteiro(valores.remove("threads"), 16),
+                inteiro(valores.remove("semente"), 42));
+        if (!valores.isEmpty()) throw new IllegalArgumentException("Parâmetros desconhecidos: " + valores.keySet());
+        if (c.missoes < 1 || c.tripulantes < 1 || c.duracaoSegundos < 1 || c.aquecimentoSegundos < 0
+                || c.amostrasPorLote < 1 || c.leiturasPorLote < 1 || c.maxEmVoo < 1 || c.threads < 1) {
+            throw new IllegalArgumentException("Quantidades devem ser positivas (aquecimento pode ser 0)");
+        }
+        if (c.telemetriaPorSegundo < 0 || c.biometriaPorSegundo < 0 || c.eventosPorSegundo < 0
+                || c.consultasPorSegundo < 0) {
+            throw new IllegalArgumentException("Taxas não podem ser negativas");
+        }
+        return c;
+    }
+
+    String descricao() {
+        return String.format(Locale.ROOT, "alvo=%s missoes=%d tripulantes=%d duracao=%ds aquecimento=%ds "
+                        + "telemetria=%.2f/s×%d biometria=%.2f/s×%d eventos=%.2f/s consultas=%.2f/s maxEmVoo=%d threads=%d",
+                alvo != null ? alvo : "embutido(H2)", missoes, tripulantes, duracaoSegundos, aquecimentoSegundos,
+                telemetriaPorSegundo, amostrasPorLote, biometriaPorSegundo, leiturasPorLote, eventosPorSegundo,
+                consultasPorSegundo, maxEmVoo, threads);
+    }
+
+    private static String texto(String v) {
+        if (v == null || v.isBlank()) return null;
+        return v.endsWith("/") ? v.substring(0, v.length() - 1) : v;
+    }
+
+    private static int inteiro(String v, int padrao) {
+        if (v == null) return padrao;
+        try {
+            return Integer.parseInt(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inteiro inválido: " + v);
+        }
+    }
+
+    private static double decimal(String v, double padrao) {
+        if (v == null) return padrao;
+        try {
+            return Double.parseDouble(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + v);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.demo.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Gerador de carga em malha aberta: N missões simuladas enviam telemetria, biometria e eventos em
+// taxas fixas e, em paralelo, uma taxa global de consultas percorre as leituras de missões e
+// astronautas. Cada fluxo é agendado em taxa fixa e não espera as respostas anteriores, então um
+// servidor lento acumula latência (medida desde o instante previsto) em vez de reduzir a carga.
+// Ao final imprime vazão e percentis por operação e grava o resumo em target/carga/<data-hora>.json
+public final class GeradorCarga {
+
+    private record Requisicao(Medicoes.Operacao operacao, HttpRequest http, int itens) {}
+
+    @FunctionalInterface
+    private interface Fonte {
+        Requisicao proxima();
+    }
+
+    private record MissaoSimulada(long id, long[] astronautas) {}
+
+    private final ConfiguracaoCarga config;
+    private final ClienteApi cliente;
+    private final Medicoes medicoes = new Medicoes();
+    private final Semaphore emVoo;
+    private final ScheduledExecutorService agenda = Executors.newScheduledThreadPool(2);
+    private long inicioMedicaoNs, fimNs;
+
+    private GeradorCarga(ConfiguracaoCarga config, String url, ExecutorService executor) {
+        this.config = config;
+        this.cliente = new ClienteApi(url, executor);
+        this.emVoo = new Semaphore(config.maxEmVoo());
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga config;
+        try {
+            config = ConfiguracaoCarga.ler(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ConfiguracaoCarga.USO);
+            System.exit(2);
+            return;
+        }
+        System.out.println("Configuração: " + config.descricao());
+        AplicacaoEmbutida embutida = config.alvo() == null ? new AplicacaoEmbutida() : null;
+        ExecutorService executor = Executors.newFixedThreadPool(config.threads());
+        try {
+            String url = embutida != null ? embutida.url() : config.alvo();
+            new GeradorCarga(config, url, executor).executar();
+        } finally {
+            executor.shutdownNow();
+            if (embutida != null) embutida.close();
+        }
+    }
+
+    private void executar() throws Exception {
+        List<MissaoSimulada> missoes = preparar();
+        SplittableRandom raiz = new SplittableRandom(config.semente());
+        long t0 = System.nanoTime();
+        inicioMedicaoNs = t0 + TimeUnit.SECONDS.toNanos(config.aquecimentoSegundos());
+        fimNs = inicioMedicaoNs + TimeUnit.SECONDS.toNanos(config.duracaoSegundos());
+
+        for (MissaoSimulada m : missoes) {
+            TrafegoSintetico.Telemetria telemetria = new TrafegoSintetico.Telemetria(raiz.split());
+            agendar(config.telemetriaPorSegundo(), raiz, () -> new Requisicao(Medicoes.Operacao.TELEMETRIA,
+                    cliente.post("/api/missoes/" + m.id() + "/telemetria/lote", telemetria.lote(config.amostrasPorLote())),
+                    config.amostrasPorLote()));
+
+            TrafegoSintetico.Biometria biometria = new TrafegoSintetico.Biometria(raiz.split(), m.astronautas());
+            agendar(config.biometriaPorSegundo(), raiz, () -> new Requisicao(Medicoes.Operacao.BIOMETRIA,
+                    cliente.post("/api/astronautas/" + biometria.astronauta() + "/biometria",
+                            biometria.leituras(config.leiturasPorLote())),
+                    config.leiturasPorLote()));
+
+            SplittableRandom rndEventos = raiz.split();
+            long[] sequencia = {0};
+            agendar(config.eventosPorSegundo(), raiz, () -> new Requisicao(Medicoes.Operacao.EVENTO,
+                    cliente.post("/api/missoes/" + m.id() + "/eventos", TrafegoSintetico.evento(rndEventos, ++sequencia[0])),
+                    1));
+        }
+        agendar(config.consultasPorSegundo(), raiz, consultas(missoes, raiz.split()));
+
+        System.out.printf(Locale.ROOT, "Aquecimento de %ds, medição de %ds...%n",
+                config.aquecimentoSegundos(), config.duracaoSegundos());
+        TimeUnit.NANOSECONDS.sleep(fimNs - System.nanoTime());
+        agenda.shutdownNow();
+        // Espera as requisições em voo (as previstas dentro da janela ainda contam)
+        if (!emVoo.tryAcquire(config.maxEmVoo(), 60, TimeUnit.SECONDS)) {
+            System.out.println("Aviso: requisições ainda em voo após 60s não entram no resultado");
+        }
+        relatar();
+    }
+
+    // Astronautas e missões próprios desta execução (códigos únicos permitem repetir contra o mesmo banco)
+    private List<MissaoSimulada> preparar() {
+        String execucao = Long.toString(System.currentTimeMillis(), 36).toUpperCase(Locale.ROOT);
+        LocalDateTime inicio = LocalDateTime.now().plusDays(1).withNano(0);
+        List<MissaoSimulada> missoes = new ArrayList<>(config.missoes());
+        for (int i = 0; i < config.missoes(); i++) {
+            long id = cliente.criarMissao(String.format(Locale.ROOT, "CARGA-%s-%04d", execucao, i), inicio);
+            long[] astronautas = new long[config.tripulantes()];
+            for (int t = 0; t < astronautas.length; t++) {
+                astronautas[t] = cliente.criarAstronauta("Tripulante " + execucao + "-" + i + "-" + t, 30 + (i + t) % 20);
+                cliente.adicionarTripulante(id, astronautas[t]);
+            }
+            cliente.iniciarMissao(id);
+            missoes.add(new MissaoSimulada(id, astronautas));
+        }
+        System.out.printf("Preparadas %d missões com %d tripulantes cada%n", missoes.size(), config.tripulantes());
+        return missoes;
+    }
+
+    // Leituras em rodízio: as páginas que o painel e o cadastro usam e o detalhe de uma missão qualquer
+    private Fonte consultas(List<MissaoSimulada> missoes, SplittableRandom rnd) {
+        int[] vez = {0};
+        return () -> {
+            MissaoSimulada m = missoes.get(rnd.nextInt(missoes.size()));
+            return switch (vez[0]++ % 4) {
+                case 0 -> new Requisicao(Medicoes.Operacao.LISTAR_MISSOES, cliente.get("/api/missoes?limite=50"), 1);
+                case 1 -> new Requisicao(Medicoes.Operacao.DETALHE_MISSAO,
+                        cliente.get("/api/missoes/" + m.id() + "/detalhe?incluir=tripulacao,eventos,estatisticas"), 1);
+                case 2 -> new Requisicao(Medicoes.Operacao.LISTAR_ASTRONAUTAS, cliente.get("/api/astronautas?limite=50"), 1);
+                default -> new Requisicao(Medicoes.Operacao.OBTER_ASTRONAUTA,
+                        cliente.get("/api/astronautas/" + m.astronautas()[rnd.nextInt(m.astronautas().length)]), 1);
+            };
+        };
+    }
+
+    // Taxa fixa com fase aleatória: fluxos de missões diferentes não disparam todos no mesmo instante
+    private void agendar(double porSegundo, SplittableRandom raiz, Fonte fonte) {
+        if (porSegundo <= 0) return;
+        long periodoNs = Math.max(1, Math.round(1e9 / porSegundo));
+        long atrasoNs = raiz.nextLong(periodoNs);
+        long primeiraNs = System.nanoTime() + atrasoNs;
+        long[] disparos = {0};
+        agenda.scheduleAtFixedRate(() -> {
+            long previstoNs = primeiraNs + disparos[0]++ * periodoNs;
+            if (previstoNs >= fimNs) return;
+            Requisicao r = fonte.proxima();
+            Medicoes.Medida medida = medicoes.de(r.operacao());
+            boolean medir = previstoNs >= inicioMedicaoNs;
+            if (!emVoo.tryAcquire()) {
+                if (medir) medida.descartada();
+                return;
+            }
+            cliente.enviar(r.http()).whenComplete((resp, erro) -> {
+                emVoo.release();
+                if (!medir) return;
+                if (erro != null) medida.falhou();
+                else medida.concluida(resp.statusCode(), (System.nanoTime() - previstoNs) / 1e6, r.itens());
+            });
+        }, atrasoNs, periodoNs, TimeUnit.NANOSECONDS);
+    }
+
+    private void relatar() throws Exception {
+        Map<Medicoes.Operacao, Medicoes.Resumo> resumos = medicoes.resumos(config.duracaoSegundos());
+        System.out.printf(Locale.ROOT, "%n%-20s %9s %6s %6s %6s %10s %12s %9s %9s %9s %9s %9s%n",
+                "operação", "ok", "erro", "503", "desc.", "req/s", "itens/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "máx ms");
+        long totalOk = 0, totalFalhas = 0;
+        for (Map.Entry<Medicoes.Operacao, Medicoes.Resumo> e : resumos.entrySet()) {
+            Medicoes.Resumo r = e.getValue();
+            if (r.sucesso() + r.erro() + r.rejeitadas() + r.descartadas() == 0) continue;
+            totalOk += r.sucesso();
+            totalFalhas += r.erro() + r.rejeitadas() + r.descartadas();
+            System.out.printf(Locale.ROOT, "%-20s %9d %6d %6d %6d %10.1f %12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getKey(), r.sucesso(), r.erro(), r.rejeitadas(), r.descartadas(), r.porSegundo(),
+                    r.itensPorSegundo(), r.p50Ms(), r.p90Ms(), r.p99Ms(), r.p999Ms(), r.maximoMs());
+        }
+        System.out.printf(Locale.ROOT, "Total: %.1f req/s com sucesso, %d falhas (erro, 503 ou descartadas)%n",
+                totalOk / (double) config.duracaoSegundos(), totalFalhas);
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("dataHora", LocalDateTime.now().toString());
+        resultado.put("configuracao", config);
+        resultado.put("operacoes", resumos);
+        Path dir = Files.createDirectories(Path.of("target", "carga"));
+        Path arquivo = dir.resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo.toFile(), resultado);
+        System.out.println("Resultado gravado em " + arquivo);
+    }
+}
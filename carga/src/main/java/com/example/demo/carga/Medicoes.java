@@ -0,0 +1,66 @@
+package com.example.demo.carga;
+
+import com.example.demo.domain.monitoring.HistogramaQuantis;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Latências e contadores por operação. A latência é contada a partir do instante em que a requisição
+// deveria ter saído (agenda de taxa fixa), não de quando saiu: atraso do próprio gerador ou fila no
+// servidor aparecem nos percentis em vez de sumirem (coordinated omission)
+final class Medicoes {
+
+    enum Operacao {
+        TELEMETRIA, BIOMETRIA, EVENTO, LISTAR_MISSOES, DETALHE_MISSAO, LISTAR_ASTRONAUTAS, OBTER_ASTRONAUTA
+    }
+
+    // Sketch com 1% de erro relativo, o mesmo usado nos percentis de biometria da aplicação
+    static final double ERRO_RELATIVO = 0.01;
+
+    static final class Medida {
+        private final HistogramaQuantis latenciasMs = new HistogramaQuantis(ERRO_RELATIVO);
+        private long sucesso, erro, rejeitadas, descartadas, itens;
+
+        synchronized void concluida(int status, double latenciaMs, int itensEnviados) {
+            if (status >= 200 && status < 300) {
+                sucesso++;
+                itens += itensEnviados;
+                latenciasMs.adicionar(latenciaMs);
+            } else if (status == 503 || status == 429) {
+                rejeitadas++; // controle de admissão
+            } else {
+                erro++;
+            }
+        }
+
+        synchronized void falhou() { erro++; }
+
+        synchronized void descartada() { descartadas++; }
+
+        synchronized Resumo resumo(double segundos) {
+            return new Resumo(sucesso, erro, rejeitadas, descartadas, itens, sucesso / segundos, itens / segundos,
+                    latenciasMs.quantil(0.50), latenciasMs.quantil(0.90), latenciasMs.quantil(0.99),
+                    latenciasMs.quantil(0.999), latenciasMs.getMaximo());
+        }
+    }
+
+    record Resumo(long sucesso, long erro, long rejeitadas, long descartadas, long itens,
+                  double porSegundo, double itensPorSegundo,
+                  double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maximoMs) {}
+
+    private final Map<Operacao, Medida> medidas = new EnumMap<>(Operacao.class);
+
+    Medicoes() {
+        for (Operacao o : Operacao.values()) medidas.put(o, new Medida());
+    }
+
+    Medida de(Operacao o) {
+        return medidas.get(o);
+    }
+
+    Map<Operacao, Resumo> resumos(double segundos) {
+        Map<Operacao, Resumo> r = new EnumMap<>(Operacao.class);
+        medidas.forEach((o, m) -> r.put(o, m.resumo(segundos)));
+        return r;
+    }
+}
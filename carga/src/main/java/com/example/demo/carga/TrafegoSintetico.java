@@ -0,0 +1,98 @@
+package com.example.demo.carga;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// Corpos das requisições de escrita de uma missão simulada. Cada fluxo (telemetria, biometria,
+// eventos) tem o seu gerador: um fluxo de taxa fixa nunca roda em paralelo consigo mesmo, então
+// o estado (passeio aleatório, relógio) não precisa de sincronização
+final class TrafegoSintetico {
+
+    static final String[] CANAIS = {"altitude", "velocidade", "temperatura_cabine", "pressao_cabine", "empuxo"};
+    private static final String[] UNIDADES = {"km", "km/s", "C", "kPa", "kN"};
+
+    // Leituras dentro da faixa normal: a carga mede a ingestão, não a ativação de emergências
+    private static final String[] TIPOS_BIOMETRIA = {"FREQUENCIA_CARDIACA", "SATURACAO_OXIGENIO", "TEMPERATURA_CORPORAL"};
+    private static final String[] UNIDADES_BIOMETRIA = {"bpm", "%", "C"};
+    private static final double[] MEDIAS_BIOMETRIA = {72, 98, 36.7};
+    private static final double[] DESVIOS_BIOMETRIA = {4, 0.5, 0.15};
+
+    private static final String[] TIPOS_EVENTO = {"CHECKLIST_CONCLUIDO", "AJUSTE_ORBITA", "COMUNICACAO_SOLO", "NOTA_OPERACIONAL"};
+
+    private TrafegoSintetico() {}
+
+    static final class Telemetria {
+        private final SplittableRandom rnd;
+        private final double[] atual = {400, 7.6, 22, 101.3, 0};
+        private long ultimoTs;
+
+        Telemetria(SplittableRandom rnd) { this.rnd = rnd; }
+
+        String lote(int amostras) {
+            long ts = proximoTs(amostras);
+            StringBuilder sb = new StringBuilder(amostras * 100).append('[');
+            for (int i = 0; i < amostras; i++) {
+                int c = i % CANAIS.length;
+                atual[c] += rnd.nextGaussian() * (0.01 + Math.abs(atual[c]) * 0.0005);
+                if (i > 0) sb.append(',');
+                sb.append("{\"canal\":\"").append(CANAIS[c])
+                        .append("\",\"valor\":").append(String.format(Locale.ROOT, "%.4f", atual[c]))
+                        .append(",\"unidade\":\"").append(UNIDADES[c])
+                        .append("\",\"dataHora\":\"").append(dataHora(ts + i)).append("\"}");
+            }
+            return sb.append(']').toString();
+        }
+
+        // Relógio da missão: acompanha o real, mas nunca repete instante entre lotes
+        private long proximoTs(int quantidade) {
+            long ts = Math.max(System.currentTimeMillis(), ultimoTs + 1);
+            ultimoTs = ts + quantidade - 1;
+            return ts;
+        }
+    }
+
+    static final class Biometria {
+        private final SplittableRandom rnd;
+        private final long[] astronautas;
+        private int proximo;
+
+        Biometria(SplittableRandom rnd, long[] astronautas) {
+            this.rnd = rnd;
+            this.astronautas = astronautas;
+        }
+
+        // Tripulantes em rodízio, um por requisição
+        long astronauta() {
+            long id = astronautas[proximo];
+            proximo = (proximo + 1) % astronautas.length;
+            return id;
+        }
+
+        String leituras(int quantidade) {
+            long ts = System.currentTimeMillis();
+            StringBuilder sb = new StringBuilder(quantidade * 100).append('[');
+            for (int i = 0; i < quantidade; i++) {
+                int t = i % TIPOS_BIOMETRIA.length;
+                double valor = MEDIAS_BIOMETRIA[t] + rnd.nextGaussian() * DESVIOS_BIOMETRIA[t];
+                if (i > 0) sb.append(',');
+                sb.append("{\"tipo\":\"").append(TIPOS_BIOMETRIA[t])
+                        .append("\",\"valor\":").append(String.format(Locale.ROOT, "%.2f", valor))
+                        .append(",\"unidade\":\"").append(UNIDADES_BIOMETRIA[t])
+                        .append("\",\"dataHora\":\"").append(dataHora(ts - quantidade + i)).append("\"}");
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    static String evento(SplittableRandom rnd, long sequencia) {
+        return "{\"tipo\":\"" + TIPOS_EVENTO[rnd.nextInt(TIPOS_EVENTO.length)]
+                + "\",\"descricao\":\"Evento sintético " + sequencia + "\",\"severidade\":\"INFO\"}";
+    }
+
+    private static LocalDateTime dataHora(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
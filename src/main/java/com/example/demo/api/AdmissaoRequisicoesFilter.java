@@ -0,0 +1,71 @@
+package com.example.demo.api;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Controle de admissão: no máximo max-concorrentes requisições em processamento. As demais
+// esperam até espera-ms por uma vaga e depois recebem 503 com Retry-After. Com virtual threads
+// o Tomcat não limita mais a concorrência, então é isto que impede uma fila sem fim no pool do
+// Hikari. Streams (SSE, exportações) só ocupam vaga até o processamento assíncrono começar.
+// Desligado com max-concorrentes=0; /actuator nunca passa pelo limite
+@Component
+public class AdmissaoRequisicoesFilter extends OncePerRequestFilter {
+
+    private final Semaphore vagas;
+    private final long esperaMs;
+    private final Counter rejeitadas;
+
+    public AdmissaoRequisicoesFilter(@Value("${servidor.admissao.max-concorrentes:0}") int maxConcorrentes,
+                                     @Value("${servidor.admissao.espera-ms:100}") long esperaMs,
+                                     MeterRegistry registry) {
+        this.vagas = maxConcorrentes > 0 ? new Semaphore(maxConcorrentes) : null;
+        this.esperaMs = esperaMs;
+        this.rejeitadas = Counter.builder("servidor.admissao.rejeitadas").register(registry);
+        if (vagas != null) {
+            Gauge.builder("servidor.admissao.em-uso", vagas, v -> maxConcorrentes - v.availablePermits())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return vagas == null || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean admitida;
+        try {
+            admitida = vagas.tryAcquire(esperaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitida = false;
+        }
+        if (!admitida) {
+            rejeitadas.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Servidor no limite de requisições simultâneas");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            vagas.release();
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.demo.api;
 
 import com.example.demo.api.dto.*;
+import com.example.demo.application.AgendaTripulacaoService;
 import com.example.demo.application.AstronautaService;
+import com.example.demo.application.BiometriaService;
+import com.example.demo.application.ImportacaoAstronautasService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -11,7 +23,16 @@ import java.util.List;
 public class AstronautaController {
 
     private final AstronautaService service;
-    public AstronautaController(AstronautaService service) { this.service = service; }
+    private final BiometriaService biometria;
+    private final ImportacaoAstronautasService importacao;
+    private final AgendaTripulacaoService agenda;
+    public AstronautaController(AstronautaService service, BiometriaService biometria,
+                                ImportacaoAstronautasService importacao, AgendaTripulacaoService agenda) {
+        this.service = service;
+        this.biometria = biometria;
+        this.importacao = importacao;
+        this.agenda = agenda;
+    }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -20,7 +41,40 @@ public class AstronautaController {
     }
 
     @GetMapping
-    public List<AstronautaDTO> listar(){ return service.listar(); }
+    public PaginaDTO<AstronautaDTO> listar(@RequestParam(required = false) Long cursor,
+                                           @RequestParam(required = false) Integer limite,
+                                           @RequestParam(required = false) Boolean ativo){
+        return service.listar(cursor, limite, ativo);
+    }
+
+    @PostMapping(value = "/importacao", consumes = "application/x-ndjson")
+    public ImportacaoAstronautasDTO importarNdjson(InputStream corpo) throws IOException {
+        return importacao.importarNdjson(corpo);
+    }
+
+    @PostMapping(value = "/importacao", consumes = "text/csv")
+    public ImportacaoAstronautasDTO importarCsv(InputStream corpo) throws IOException {
+        return importacao.importarCsv(corpo);
+    }
+
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(required = false) Boolean ativo,
+                                                          @RequestParam(required = false) String formato){
+        boolean csv = AstronautaService.formatoCsv(formato);
+        StreamingResponseBody corpo = saida -> service.exportar(ativo, csv, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=astronautas." + (csv ? "csv" : "ndjson"))
+                .body(corpo);
+    }
+
+    // Astronautas ativos sem missão planejada que cruze [inicio, fim); sem fim, de inicio em diante
+    @GetMapping("/disponiveis")
+    public List<AstronautaDTO> disponiveis(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim){
+        return agenda.disponiveis(inicio, fim);
+    }
 
     @GetMapping("/{id}")
     public AstronautaDTO obter(@PathVariable Long id){ return service.obter(id); }
@@ -33,4 +87,18 @@ public class AstronautaController {
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void remover(@PathVariable Long id){ service.remover(id); }
+
+    @PostMapping("/{id}/biometria")
+    @ResponseStatus(HttpStatus.CREATED)
+    public IngestaoBiometriaDTO registrarBiometria(@PathVariable Long id, @RequestBody List<DadosBiometricosDTO> leituras){
+        return biometria.registrar(id, leituras);
+    }
+
+    @GetMapping("/{id}/biometria/{tipo}/percentis")
+    public PercentisBiometriaDTO percentis(@PathVariable Long id, @PathVariable String tipo,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime de,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ate,
+                                           @RequestParam(required = false) List<Double> q){
+        return biometria.percentis(id, tipo, de, ate, q);
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.EstatisticaCacheDTO;
+import com.example.demo.application.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "Cache de segundo nível de astronautas e missões")
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    public CacheController(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Acertos, falhas e tamanho por região do cache")
+    public List<EstatisticaCacheDTO> estatisticas() {
+        return cacheService.estatisticas();
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Esvaziar todas as regiões do cache")
+    public void limpar() {
+        cacheService.limpar();
+    }
+}
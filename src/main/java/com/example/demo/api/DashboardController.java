@@ -0,0 +1,34 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.DashboardMissoesDTO;
+import com.example.demo.application.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Tag(name = "Dashboard", description = "Painel consolidado da frota de missões")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    // Com If-None-Match igual ao ETag atual o Spring responde 304 sem corpo
+    @GetMapping("/missoes")
+    @Operation(summary = "Contagens por status/tipo/prioridade, missões ativas, protocolos abertos e uso da tripulação")
+    public ResponseEntity<DashboardMissoesDTO> missoes() {
+        DashboardService.Painel painel = dashboardService.atual();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(painel.etag())
+                .body(painel.dados());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.*;
+import com.example.demo.application.EmergenciaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/missoes/{id}")
+@Tag(name = "Emergências", description = "Ativação de emergências e protocolos da missão")
+public class EmergenciaController {
+
+    private final EmergenciaService emergenciaService;
+
+    public EmergenciaController(EmergenciaService emergenciaService) {
+        this.emergenciaService = emergenciaService;
+    }
+
+    @PostMapping("/emergencia")
+    @Operation(summary = "Ativar emergência manualmente e os protocolos aplicáveis")
+    public EmergenciaDTO ativar(@PathVariable Long id, @Valid @RequestBody AtivarEmergenciaRequest request) {
+        return emergenciaService.ativar(id, request);
+    }
+
+    @PostMapping("/emergencia/resolver")
+    @Operation(summary = "Resolver a emergência: protocolos ativos são resolvidos e a missão volta ao andamento")
+    public EmergenciaDTO resolver(@PathVariable Long id, @RequestBody(required = false) ResolverEmergenciaRequest request) {
+        return emergenciaService.resolver(id, request);
+    }
+
+    @GetMapping("/protocolos")
+    @Operation(summary = "Listar protocolos de emergência da missão paginados por cursor")
+    public PaginaDTO<ProtocoloEmergenciaDTO> listarProtocolos(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite) {
+        return emergenciaService.listarProtocolos(id, cursor, limite);
+    }
+
+    @PostMapping("/protocolos")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Cadastrar protocolo de emergência")
+    public ProtocoloEmergenciaDTO criarProtocolo(@PathVariable Long id, @Valid @RequestBody CriarProtocoloRequest request) {
+        return emergenciaService.criarProtocolo(id, request);
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.demo.api;
 
 import com.example.demo.api.dto.*;
+import com.example.demo.application.ArquivamentoMissaoService;
+import com.example.demo.application.DetalheMissaoService;
 import com.example.demo.application.MissaoService;
+import com.example.demo.application.RelatorioMissaoService;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TipoMissao;
+import com.example.demo.domain.mission.TransicaoMissao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -9,17 +16,22 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/missoes")
 @Tag(name = "Missões", description = "API para gerenciamento de missões espaciais")
 public class MissaoController {
 
     private final MissaoService missaoService;
+    private final RelatorioMissaoService relatorioService;
+    private final ArquivamentoMissaoService arquivamentoService;
+    private final DetalheMissaoService detalheService;
 
-    public MissaoController(MissaoService missaoService) {
+    public MissaoController(MissaoService missaoService, RelatorioMissaoService relatorioService,
+                            ArquivamentoMissaoService arquivamentoService, DetalheMissaoService detalheService) {
         this.missaoService = missaoService;
+        this.detalheService = detalheService;
+        this.relatorioService = relatorioService;
+        this.arquivamentoService = arquivamentoService;
     }
 
     @PostMapping
@@ -30,9 +42,14 @@ public class MissaoController {
     }
 
     @GetMapping
-    @Operation(summary = "Listar todas as missões")
-    public List<MissaoDTO> listarMissoes() {
-        return missaoService.listarMissoes();
+    @Operation(summary = "Listar missões paginadas por cursor, com filtros opcionais")
+    public PaginaDTO<MissaoDTO> listarMissoes(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) StatusMissao status,
+            @RequestParam(required = false) TipoMissao tipo,
+            @RequestParam(required = false) NivelPrioridade prioridade) {
+        return missaoService.listarMissoes(cursor, limite, status, tipo, prioridade);
     }
 
     @GetMapping("/{id}")
@@ -41,12 +58,31 @@ public class MissaoController {
         return missaoService.obterMissao(id);
     }
 
+    @GetMapping("/{id}/detalhe")
+    @Operation(summary = "Detalhe da missão por seções (incluir=comandante,tripulacao,eventos,protocolos,estatisticas), com 'limite' itens por coleção")
+    public MissaoDetalhadaDTO detalharMissao(
+            @PathVariable Long id,
+            @RequestParam(required = false) String incluir,
+            @RequestParam(required = false) Integer limite) {
+        return detalheService.detalhar(id, incluir, limite);
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar missão por ID")
+    @Operation(summary = "Atualizar nome e tipo da missão por ID (status muda por /transicoes)")
     public MissaoDTO atualizarMissao(@PathVariable Long id, @Valid @RequestBody AtualizarMissaoRequest request) {
         return missaoService.atualizarMissao(id, request);
     }
 
+    @PostMapping("/{id}/transicoes/{transicao}")
+    @Operation(summary = "Transição de status condicional (PREPARAR, INICIAR, PAUSAR, RETOMAR, CONCLUIR, ABORTAR); "
+            + "falha se o status atual não permitir, sem sobrescrever alterações concorrentes")
+    public MissaoDTO transicionar(
+            @PathVariable Long id,
+            @PathVariable TransicaoMissao transicao,
+            @RequestBody(required = false) TransicaoStatusRequest request) {
+        return missaoService.transicionar(id, transicao, request);
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(summary = "Deletar missão por ID")
@@ -54,6 +90,15 @@ public class MissaoController {
         missaoService.deletarMissao(id);
     }
 
+    @GetMapping("/{id}/tripulacao")
+    @Operation(summary = "Listar a tripulação da missão paginada por cursor")
+    public PaginaDTO<AstronautaDTO> listarTripulacao(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite) {
+        return missaoService.listarTripulacao(id, cursor, limite);
+    }
+
     @PostMapping("/{id}/tripulacao")
     @Operation(summary = "Adicionar astronauta à missão")
     public ResponseEntity<Void> adicionarAstronauta(
@@ -72,11 +117,49 @@ public class MissaoController {
         missaoService.removerAstronauta(id, astronautaId);
     }
 
+    @GetMapping("/{id}/estatisticas")
+    @Operation(summary = "Estatísticas incrementais da missão (contagens, taxas e estatísticas por canal)")
+    public EstatisticasMissaoDTO obterEstatisticas(@PathVariable Long id) {
+        return missaoService.obterEstatisticas(id);
+    }
+
+    @PostMapping("/{id}/eventos")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Registrar evento na missão")
+    public void registrarEvento(
+            @PathVariable Long id,
+            @Valid @RequestBody RegistrarEventoRequest request) {
+        missaoService.registrarEvento(id, request);
+    }
+
+    @GetMapping("/{id}/eventos")
+    @Operation(summary = "Listar eventos da missão paginados por cursor (diário gravado em lote, leitura eventual)")
+    public PaginaDTO<EventoMissaoDTO> listarEventos(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) String tipo) {
+        return missaoService.listarEventos(id, cursor, limite, tipo);
+    }
+
     @PostMapping("/{id}/simular")
-    @Operation(summary = "Executar simulação simples da missão")
+    @Operation(summary = "Executar simulação de lançamento (RK45 em processo) com parâmetros da requisição ou da missão; "
+            + "Monte Carlo acima de simulacao.monte-carlo.max-execucoes-sincronas vai por /simulacoes")
     public SimulacaoResultadoDTO executarSimulacao(
             @PathVariable Long id,
             @Valid @RequestBody ExecutarSimulacaoRequest request) {
         return missaoService.executarSimulacao(id, request);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/relatorio")
+    @Operation(summary = "Relatório da missão (estatísticas por canal e eventos), reidratando o arquivo se a missão foi arquivada")
+    public RelatorioMissaoDTO obterRelatorio(@PathVariable Long id) {
+        return relatorioService.gerar(id);
+    }
+
+    @PostMapping("/{id}/arquivamento")
+    @Operation(summary = "Arquivar agora uma missão encerrada (telemetria e eventos comprimidos em disco)")
+    public RelatorioMissaoDTO.ArquivoDTO arquivar(@PathVariable Long id) {
+        return arquivamentoService.arquivar(id);
+    }
+}
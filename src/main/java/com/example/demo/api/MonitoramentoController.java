@@ -0,0 +1,45 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.MonitoramentoDTO;
+import com.example.demo.application.MonitoramentoService;
+import com.example.demo.application.MonitoramentoStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/missoes/{id}/monitoramento")
+@Tag(name = "Monitoramento", description = "Telemetria ao vivo das missões")
+public class MonitoramentoController {
+
+    private final MonitoramentoService monitoramentoService;
+    private final MonitoramentoStreamService streamService;
+
+    public MonitoramentoController(MonitoramentoService monitoramentoService,
+                                   MonitoramentoStreamService streamService) {
+        this.monitoramentoService = monitoramentoService;
+        this.streamService = streamService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Últimas amostras de telemetria por canal (servidas da memória)")
+    public MonitoramentoDTO obterMonitoramento(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer janelaSegundos,
+            @RequestParam(required = false) String canal) {
+        return monitoramentoService.obterMonitoramento(id, janelaSegundos, canal);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream SSE de telemetria (reduzida a maxHz quadros/s) e eventos da missão")
+    public SseEmitter stream(
+            @PathVariable Long id,
+            @RequestParam(required = false) Double maxHz,
+            @RequestParam(required = false) List<String> canais) {
+        return streamService.assinar(id, maxHz, canais);
+    }
+}
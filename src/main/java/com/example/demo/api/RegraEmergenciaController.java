@@ -0,0 +1,44 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.CriarRegraEmergenciaRequest;
+import com.example.demo.api.dto.RegraEmergenciaDTO;
+import com.example.demo.application.RegrasEmergenciaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/regras-emergencia")
+@Tag(name = "Regras de emergência", description = "Detecção automática sobre telemetria e biometria")
+public class RegraEmergenciaController {
+
+    private final RegrasEmergenciaService regrasService;
+
+    public RegraEmergenciaController(RegrasEmergenciaService regrasService) {
+        this.regrasService = regrasService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar regras")
+    public List<RegraEmergenciaDTO> listar() {
+        return regrasService.listar();
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Criar regra (passa a valer imediatamente para as próximas amostras)")
+    public RegraEmergenciaDTO criar(@Valid @RequestBody CriarRegraEmergenciaRequest request) {
+        return regrasService.criar(request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Remover regra")
+    public void remover(@PathVariable Long id) {
+        regrasService.remover(id);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.ExecutarSimulacaoRequest;
+import com.example.demo.api.dto.SimulacaoDTO;
+import com.example.demo.application.FilaSimulacaoService;
+import com.example.demo.application.SimulacaoService;
+import com.example.demo.domain.simulation.ParametrosFoguete;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/missoes/{id}/simulacoes")
+@Tag(name = "Simulações", description = "Simulações assíncronas com fila por prioridade da missão")
+public class SimulacaoController {
+
+    // Formato binário colunar descrito em EscritorTrajetoria
+    static final MediaType TRAJETORIA_BINARIA = MediaType.parseMediaType("application/vnd.monitoramento.trajetoria");
+
+    private final FilaSimulacaoService filaService;
+    private final SimulacaoService simulacaoService;
+
+    public SimulacaoController(FilaSimulacaoService filaService, SimulacaoService simulacaoService) {
+        this.filaService = filaService;
+        this.simulacaoService = simulacaoService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Enfileirar simulação (resultados idênticos já calculados retornam concluídos)")
+    public SimulacaoDTO submeter(@PathVariable Long id, @Valid @RequestBody ExecutarSimulacaoRequest request) {
+        return filaService.submeter(id, request);
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar simulações da missão (sem resultados)")
+    public List<SimulacaoDTO> listar(@PathVariable Long id) {
+        return filaService.listar(id);
+    }
+
+    @GetMapping("/{simulacaoId}")
+    @Operation(summary = "Consultar progresso e resultado de uma simulação")
+    public SimulacaoDTO obter(@PathVariable Long id, @PathVariable String simulacaoId) {
+        return filaService.obter(id, simulacaoId);
+    }
+
+    @DeleteMapping("/{simulacaoId}")
+    @Operation(summary = "Cancelar simulação na fila ou em execução")
+    public SimulacaoDTO cancelar(@PathVariable Long id, @PathVariable String simulacaoId) {
+        return filaService.cancelar(id, simulacaoId);
+    }
+
+    @GetMapping("/{simulacaoId}/trajetoria")
+    @Operation(summary = "Exportar a trajetória nominal em streaming (binario colunar ou csv), opcionalmente "
+            + "reamostrada em uma grade fixa de resolucao segundos")
+    public ResponseEntity<StreamingResponseBody> trajetoria(@PathVariable Long id, @PathVariable String simulacaoId,
+                                                            @RequestParam(required = false) String formato,
+                                                            @RequestParam(required = false) Double resolucao) {
+        boolean csv = SimulacaoService.formatoCsv(formato);
+        ParametrosFoguete p = filaService.parametrosTrajetoria(id, simulacaoId, resolucao);
+        StreamingResponseBody corpo = saida -> simulacaoService.exportarTrajetoria(p, csv, saida);
+        return ResponseEntity.ok()
+                .contentType(csv ? MediaType.parseMediaType("text/csv;charset=UTF-8") : TRAJETORIA_BINARIA)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=trajetoria-" + simulacaoId + (csv ? ".csv" : ".trj"))
+                .body(corpo);
+    }
+
+    @GetMapping(value = "/{simulacaoId}/grafico", produces = MediaType.IMAGE_PNG_VALUE)
+    @Operation(summary = "Gráfico PNG de altitude e velocidade da trajetória nominal")
+    public ResponseEntity<byte[]> grafico(@PathVariable Long id, @PathVariable String simulacaoId,
+                                          @RequestParam(defaultValue = "1000") int largura,
+                                          @RequestParam(defaultValue = "700") int altura) {
+        byte[] png = filaService.graficoTrajetoria(id, simulacaoId, largura, altura);
+        // A simulação concluída não muda mais: o navegador pode reaproveitar a imagem
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .body(png);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.api;
+
+import com.example.demo.api.dto.*;
+import com.example.demo.application.TelemetriaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/missoes/{id}/telemetria")
+@Tag(name = "Telemetria", description = "Ingestão de telemetria das missões")
+public class TelemetriaController {
+
+    private final TelemetriaService telemetriaService;
+
+    public TelemetriaController(TelemetriaService telemetriaService) {
+        this.telemetriaService = telemetriaService;
+    }
+
+    @PostMapping("/lote")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Registrar lote de amostras de telemetria")
+    public IngestaoTelemetriaDTO registrarLote(
+            @PathVariable Long id,
+            @RequestBody List<RegistrarTelemetriaRequest> amostras) {
+        return telemetriaService.registrarLote(id, amostras);
+    }
+
+    @PostMapping(value = "/stream", consumes = "application/x-ndjson")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Registrar telemetria em streaming (NDJSON, uma amostra por linha)")
+    public IngestaoTelemetriaDTO registrarStream(@PathVariable Long id, InputStream corpo) throws IOException {
+        return telemetriaService.registrarStream(id, corpo);
+    }
+
+    @GetMapping
+    @Operation(summary = "Consultar série de um intervalo reduzida a no máximo 'pontos' por canal (minmax ou lttb)")
+    public SerieTelemetriaDTO consultar(
+            @PathVariable Long id,
+            @RequestParam(required = false) String canal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ate,
+            @RequestParam(required = false) Integer pontos,
+            @RequestParam(required = false) String modo) {
+        return telemetriaService.consultar(id, canal, de, ate, pontos, modo);
+    }
+
+    @GetMapping("/bruta")
+    @Operation(summary = "Exportar amostras brutas de um intervalo em NDJSON (segmentos em disco + linhas recentes)")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @PathVariable Long id,
+            @RequestParam(required = false) String canal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime de,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ate) {
+        telemetriaService.verificarExistencia(id);
+        StreamingResponseBody corpo = saida -> telemetriaService.exportar(id, canal, de, ate, saida);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(corpo);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.api;
+
+import com.example.demo.application.FilaSimulacaoCheiaException;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// Exceções da aplicação traduzidas em respostas HTTP (corpo application/problem+json). Os serviços
+// sinalizam entrada inválida com IllegalArgumentException e operação incompatível com o estado atual
+// (transição não permitida, edição com versão antiga) com IllegalStateException ou falha otimista
+@RestControllerAdvice
+public class TratamentoErros {
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ProblemDetail naoEncontrado(EntityNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail invalido(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ProblemDetail conflito(IllegalStateException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    // Versão enviada (ou carregada) já superada por outra escrita: o cliente relê e tenta de novo
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail versaoDesatualizada(OptimisticLockingFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "O registro foi alterado por outra operação; releia e tente novamente");
+    }
+
+    // Mesmo contrato do controle de admissão: 503 com Retry-After
+    @ExceptionHandler(FilaSimulacaoCheiaException.class)
+    public ResponseEntity<ProblemDetail> filaCheia(FilaSimulacaoCheiaException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSegundos()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+}
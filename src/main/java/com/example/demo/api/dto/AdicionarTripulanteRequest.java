@@ -0,0 +1,5 @@
+package com.example.demo.api.dto;
+
+public record AdicionarTripulanteRequest(
+        Long astronautaId
+) {}
@@ -0,0 +1,9 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// tipoEmergencia (TipoEmergencia) restringe os protocolos ativados; omitido, ativa todos os prontos
+public record AtivarEmergenciaRequest(
+        @NotBlank String descricao,
+        String tipoEmergencia
+) {}
@@ -0,0 +1,10 @@
+package com.example.demo.api.dto;
+
+// versao (opcional): a atualização só é aplicada se a missão ainda estiver nessa versão.
+// status é recusado: mudanças de status vão por /transicoes/{transicao}
+public record AtualizarMissaoRequest(
+        String nome,
+        String tipo,
+        String status,
+        Long versao
+) {}
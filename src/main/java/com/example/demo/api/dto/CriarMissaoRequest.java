@@ -0,0 +1,15 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+public record CriarMissaoRequest(
+        @NotBlank String codigo,
+        @NotBlank String nome,
+        String descricao,
+        @NotBlank String tipo,
+        String prioridade,
+        @NotNull LocalDateTime dataInicioPlanejada,
+        LocalDateTime dataFimPlanejada
+) {}
@@ -0,0 +1,10 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+// tipoEmergencia omitido: o protocolo se aplica a qualquer emergência
+public record CriarProtocoloRequest(
+        @NotBlank String nome,
+        String descricao,
+        String tipoEmergencia
+) {}
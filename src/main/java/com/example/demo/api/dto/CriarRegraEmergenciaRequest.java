@@ -0,0 +1,19 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+// origem: TELEMETRIA (entidadeId = missão) ou BIOMETRIA (entidadeId = astronauta); sem entidadeId vale para todas.
+// tipo: LIMIAR, TAXA_VARIACAO (limite em unidades/s) ou N_DE_M (n violações nas últimas m amostras, m <= 64)
+public record CriarRegraEmergenciaRequest(
+        @NotBlank String nome,
+        @NotBlank String origem,
+        Long entidadeId,
+        @NotBlank String canal,
+        @NotBlank String tipo,
+        @NotBlank String comparacao,
+        @NotNull Double limite,
+        Integer n,
+        Integer m,
+        String tipoEmergencia
+) {}
@@ -0,0 +1,24 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Painel da frota; versao muda só quando algum número muda (é a base do ETag)
+public record DashboardMissoesDTO(
+        long totalMissoes,
+        Map<String, Long> porStatus,
+        Map<String, Long> porTipo,
+        Map<String, Long> porPrioridade,
+        long missoesAtivas,
+        long protocolosAbertos,
+        TripulacaoDTO tripulacao,
+        long versao,
+        LocalDateTime alteradoEm
+) {
+    // utilizacao: astronautas ativos alocados em missões ativas / astronautas ativos
+    public record TripulacaoDTO(
+            long astronautasAtivos,
+            long astronautasAlocados,
+            double utilizacao
+    ) {}
+}
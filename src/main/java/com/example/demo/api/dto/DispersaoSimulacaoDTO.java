@@ -0,0 +1,27 @@
+package com.example.demo.api.dto;
+
+import java.util.Map;
+
+// metricas: apogeu, tempoApogeu, velocidadeMaxima e maxQ, nas mesmas unidades do resultado nominal
+public record DispersaoSimulacaoDTO(
+        long execucoes,
+        long semente,
+        long falhas,
+        long parametrosInvalidos,
+        double probabilidadeFalha,
+        double apogeuMinimo,
+        Double maxQLimite,
+        int paralelismo,
+        double duracaoMs,
+        double execucoesPorSegundo,
+        Map<String, DistribuicaoDTO> metricas
+) {
+    // Percentis com erro relativo de 0,1%
+    public record DistribuicaoDTO(
+            double media,
+            double desvioPadrao,
+            double minimo,
+            double maximo,
+            Map<String, Double> percentis
+    ) {}
+}
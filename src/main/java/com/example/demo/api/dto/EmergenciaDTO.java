@@ -0,0 +1,15 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// origem: MANUAL ou o nome da regra que disparou; protocolos: os alterados nesta operação
+public record EmergenciaDTO(
+        Long missaoId,
+        String status,
+        String tipoEmergencia,
+        String descricao,
+        String origem,
+        LocalDateTime dataHora,
+        List<ProtocoloEmergenciaDTO> protocolos
+) {}
@@ -0,0 +1,10 @@
+package com.example.demo.api.dto;
+
+// Contadores acumulados desde a subida da aplicação
+public record EstatisticaCacheDTO(
+        String regiao,
+        long acertos,
+        long falhas,
+        long insercoes,
+        Double taxaAcerto
+) {}
@@ -0,0 +1,24 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record EstatisticasMissaoDTO(
+        Long missaoId,
+        long totalTelemetrias,
+        long totalEventos,
+        long totalEmergencias,
+        double telemetriasPorSegundo,
+        double eventosPorMinuto,
+        LocalDateTime ultimaTelemetria,
+        List<CanalDTO> canais
+) {
+    public record CanalDTO(
+            String canal,
+            long amostras,
+            double minimo,
+            double maximo,
+            double media,
+            double desvioPadrao
+    ) {}
+}
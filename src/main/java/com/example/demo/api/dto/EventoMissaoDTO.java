@@ -0,0 +1,13 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+
+// id é null enquanto o evento ainda não foi gravado pelo diário (ex.: no stream ao vivo)
+public record EventoMissaoDTO(
+        Long id,
+        Long missaoId,
+        String tipo,
+        String descricao,
+        String severidade,
+        LocalDateTime dataHora
+) {}
@@ -0,0 +1,34 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+// Parâmetros omitidos vêm da configuração da missão e, na falta dela, do padrão (Falcon 9).
+// Unidades SI: kg, N, s, m². Máximos iguais aos de ParametrosFoguete
+public record ExecutarSimulacaoRequest(
+        String descricao,
+        @Positive @DecimalMax("1e8") Double massaInicial,
+        @PositiveOrZero @DecimalMax("1e8") Double massaPropelente,
+        @PositiveOrZero @DecimalMax("1e9") Double empuxo,
+        @Positive @DecimalMax("10000") Double tempoQueima,
+        @PositiveOrZero @DecimalMax("10") Double coeficienteArrasto,
+        @PositiveOrZero @DecimalMax("10000") Double areaReferencia,
+        @Positive @DecimalMax("100000") Double tempoMaximo,
+        @Positive Double passo,
+        @Valid MonteCarlo monteCarlo
+) {
+    // Presente, ativa o modo Monte Carlo: dispersões são desvios-padrão relativos (0.02 = 2%).
+    // Falha: apogeu abaixo de apogeuMinimo (padrão 100 km) ou max-q acima de maxQLimite (Pa)
+    public record MonteCarlo(
+            @Positive Integer execucoes,
+            Long semente,
+            @PositiveOrZero Double dispersaoEmpuxo,
+            @PositiveOrZero Double dispersaoArrasto,
+            @PositiveOrZero Double dispersaoMassa,
+            @PositiveOrZero Double dispersaoQueima,
+            @PositiveOrZero Double apogeuMinimo,
+            @Positive Double maxQLimite
+    ) {}
+}
@@ -0,0 +1,16 @@
+package com.example.demo.api.dto;
+
+import java.util.List;
+
+public record ImportacaoAstronautasDTO(
+        int recebidas,
+        int importadas,
+        int rejeitadas,
+        List<ErroLinhaDTO> erros
+) {
+    // linha: número da linha no arquivo (1 = primeira, incluindo o cabeçalho do CSV)
+    public record ErroLinhaDTO(
+            long linha,
+            String mensagem
+    ) {}
+}
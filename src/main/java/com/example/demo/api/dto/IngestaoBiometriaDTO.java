@@ -0,0 +1,8 @@
+package com.example.demo.api.dto;
+
+public record IngestaoBiometriaDTO(
+        Long astronautaId,
+        int recebidas,
+        int gravadas,
+        int rejeitadas
+) {}
@@ -0,0 +1,8 @@
+package com.example.demo.api.dto;
+
+public record IngestaoTelemetriaDTO(
+        Long missaoId,
+        int recebidas,
+        int gravadas,
+        int rejeitadas
+) {}
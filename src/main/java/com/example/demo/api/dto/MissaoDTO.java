@@ -0,0 +1,34 @@
+package com.example.demo.api.dto;
+
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TipoMissao;
+
+import java.time.LocalDateTime;
+
+public record MissaoDTO(
+        Long id,
+        String codigo,
+        String nome,
+        String descricao,
+        String tipo,
+        String status,
+        String prioridade,
+        LocalDateTime dataInicioPlanejada,
+        LocalDateTime dataFimPlanejada,
+        LocalDateTime dataInicioReal,
+        LocalDateTime dataFimReal,
+        long versao
+) {
+    // Usado pelas projeções JPQL (select new ...) direto das colunas, sem carregar a entidade
+    public MissaoDTO(Long id, String codigo, String nome, String descricao,
+                     TipoMissao tipo, StatusMissao status, NivelPrioridade prioridade,
+                     LocalDateTime dataInicioPlanejada, LocalDateTime dataFimPlanejada,
+                     LocalDateTime dataInicioReal, LocalDateTime dataFimReal, long versao) {
+        this(id, codigo, nome, descricao,
+                tipo != null ? tipo.name() : null,
+                status != null ? status.name() : null,
+                prioridade != null ? prioridade.name() : null,
+                dataInicioPlanejada, dataFimPlanejada, dataInicioReal, dataFimReal, versao);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.api.dto;
+
+// Detalhe da missão montado por seções (?incluir=...); seção não pedida vem nula. As coleções são
+// a primeira página de cada listagem; o `proximoCursor` continua em GET /api/missoes/{id}/tripulacao,
+// /eventos e /protocolos (parâmetro cursor)
+public record MissaoDetalhadaDTO(
+        MissaoDTO missao,
+        AstronautaDTO comandante,
+        PaginaDTO<AstronautaDTO> tripulacao,
+        PaginaDTO<EventoMissaoDTO> eventos,
+        PaginaDTO<ProtocoloEmergenciaDTO> protocolos,
+        EstatisticasMissaoDTO estatisticas
+) {}
@@ -0,0 +1,20 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record MonitoramentoDTO(
+        Long missaoId,
+        LocalDateTime geradoEm,
+        List<CanalDTO> canais
+) {
+    // timestamps em epoch ms (UTC), paralelos a valores
+    public record CanalDTO(
+            String canal,
+            String unidade,
+            Double ultimoValor,
+            LocalDateTime ultimaLeitura,
+            long[] timestamps,
+            double[] valores
+    ) {}
+}
@@ -0,0 +1,9 @@
+package com.example.demo.api.dto;
+
+import java.util.List;
+
+// Página por cursor (keyset): proximoCursor é o último id da página, ou null se não há mais itens
+public record PaginaDTO<T>(
+        List<T> itens,
+        Long proximoCursor
+) {}
@@ -0,0 +1,16 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record PercentisBiometriaDTO(
+        Long astronautaId,
+        String tipo,
+        LocalDateTime de,
+        LocalDateTime ate,
+        long amostras,
+        Double minimo,
+        Double maximo,
+        double erroRelativo,
+        Map<String, Double> percentis
+) {}
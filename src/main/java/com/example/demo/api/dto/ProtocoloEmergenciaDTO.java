@@ -0,0 +1,13 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+
+public record ProtocoloEmergenciaDTO(
+        Long id,
+        String nome,
+        String descricao,
+        String tipoEmergencia,
+        String status,
+        LocalDateTime dataAtivacao,
+        LocalDateTime dataResolucao
+) {}
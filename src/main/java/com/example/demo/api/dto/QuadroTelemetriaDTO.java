@@ -0,0 +1,21 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Quadro enviado pelo stream de monitoramento: por canal, o último valor e o min/max
+// das amostras agregadas desde o quadro anterior
+public record QuadroTelemetriaDTO(
+        Long missaoId,
+        List<CanalDTO> canais
+) {
+    public record CanalDTO(
+            String canal,
+            String unidade,
+            double ultimoValor,
+            LocalDateTime dataHora,
+            double minimo,
+            double maximo,
+            long amostras
+    ) {}
+}
@@ -0,0 +1,9 @@
+package com.example.demo.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RegistrarEventoRequest(
+        @NotBlank String tipo,
+        String descricao,
+        String severidade
+) {}
@@ -0,0 +1,10 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+
+public record RegistrarTelemetriaRequest(
+        String canal,
+        Double valor,
+        String unidade,
+        LocalDateTime dataHora
+) {}
@@ -0,0 +1,16 @@
+package com.example.demo.api.dto;
+
+public record RegraEmergenciaDTO(
+        Long id,
+        String nome,
+        String origem,
+        Long entidadeId,
+        String canal,
+        String tipo,
+        String comparacao,
+        double limite,
+        Integer n,
+        Integer m,
+        String tipoEmergencia,
+        boolean ativa
+) {}
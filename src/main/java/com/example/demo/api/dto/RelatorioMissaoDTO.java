@@ -0,0 +1,41 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Relatório consolidado da missão: estatísticas por canal de toda a telemetria e contagens de
+// eventos, venham das tabelas quentes, dos segmentos ou do arquivo da missão encerrada.
+// ultimosEventos traz só os mais recentes (em ordem de tempo); os totais contam todos
+public record RelatorioMissaoDTO(
+        MissaoDTO missao,
+        long totalAmostras,
+        List<CanalDTO> canais,
+        long totalEventos,
+        Map<String, Long> eventosPorTipo,
+        Map<String, Long> eventosPorSeveridade,
+        List<EventoMissaoDTO> ultimosEventos,
+        ArquivoDTO arquivo,
+        LocalDateTime geradoEm
+) {
+    public record CanalDTO(
+            String canal,
+            long amostras,
+            LocalDateTime primeiraAmostra,
+            LocalDateTime ultimaAmostra,
+            double minimo,
+            double maximo,
+            double media,
+            double desvioPadrao,
+            double ultimoValor
+    ) {}
+
+    // null enquanto a missão não foi arquivada
+    public record ArquivoDTO(
+            long amostras,
+            long eventos,
+            long bytes,
+            double bytesPorAmostra,
+            LocalDateTime arquivadaEm
+    ) {}
+}
@@ -0,0 +1,21 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record SerieTelemetriaDTO(
+        Long missaoId,
+        LocalDateTime de,
+        LocalDateTime ate,
+        String modo,
+        int pontosMaximos,
+        List<CanalDTO> canais
+) {
+    // amostrasLidas: amostras do intervalo antes da redução; timestamps em epoch ms (UTC)
+    public record CanalDTO(
+            String canal,
+            long amostrasLidas,
+            long[] timestamps,
+            double[] valores
+    ) {}
+}
@@ -0,0 +1,19 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+
+// Estado de uma simulação assíncrona; resultado só é preenchido quando status = CONCLUIDA
+public record SimulacaoDTO(
+        String id,
+        Long missaoId,
+        String status,
+        String prioridade,
+        double progresso,
+        int execucoesConcluidas,
+        int execucoesTotais,
+        LocalDateTime criadaEm,
+        LocalDateTime iniciadaEm,
+        LocalDateTime concluidaEm,
+        String erro,
+        SimulacaoResultadoDTO resultado
+) {}
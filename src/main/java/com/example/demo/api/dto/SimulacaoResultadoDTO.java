@@ -0,0 +1,25 @@
+package com.example.demo.api.dto;
+
+// Altitudes em m, velocidades em m/s, pressão dinâmica em Pa, tempos em s.
+// Os campos de trajetória são da execução nominal; dispersao só vem no modo Monte Carlo.
+// emCache: resultado reaproveitado de uma execução anterior com os mesmos parâmetros (duracaoMs é a original)
+public record SimulacaoResultadoDTO(
+        Long missaoId,
+        String mensagem,
+        String status,
+        String descricao,
+        double apogeu,
+        double tempoApogeu,
+        double velocidadeMaxima,
+        double tempoVelocidadeMaxima,
+        double maxQ,
+        double tempoMaxQ,
+        double altitudeFimQueima,
+        double velocidadeFimQueima,
+        int pontos,
+        long passosIntegrador,
+        long avaliacoes,
+        double duracaoMs,
+        boolean emCache,
+        DispersaoSimulacaoDTO dispersao
+) {}
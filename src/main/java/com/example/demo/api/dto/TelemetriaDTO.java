@@ -0,0 +1,10 @@
+package com.example.demo.api.dto;
+
+import java.time.LocalDateTime;
+
+public record TelemetriaDTO(
+        String canal,
+        double valor,
+        String unidade,
+        LocalDateTime dataHora
+) {}
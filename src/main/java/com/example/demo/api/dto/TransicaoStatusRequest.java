@@ -0,0 +1,7 @@
+package com.example.demo.api.dto;
+
+// statusEsperado (opcional) restringe o compare-and-set a esse status de origem
+public record TransicaoStatusRequest(
+        String statusEsperado,
+        String motivo
+) {}
@@ -0,0 +1,210 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.AstronautaDTO;
+import com.example.demo.domain.mission.ArvoreIntervalos;
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TransicaoMissao;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.infra.repository.AstronautaLoteRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Agenda da tripulação em memória: uma árvore de intervalos por astronauta com o período planejado
+// [dataInicioPlanejada, dataFimPlanejada) das missões ainda não encerradas. "O astronauta está livre
+// nesse período?" custa O(log n) e não carrega a tripulação de nenhuma missão. Missão sem data de
+// fim ocupa o astronauta indefinidamente; sem data de início fica fora da agenda. Carregada na
+// inicialização e ressincronizada com o banco, por missão, ao fim de cada transação que a altera
+@Service
+public class AgendaTripulacaoService {
+
+    static final Set<StatusMissao> ENCERRADAS = EnumSet.of(StatusMissao.CONCLUIDA, StatusMissao.ABORTADA);
+
+    private static final Set<String> EVENTOS_ENCERRAMENTO = Set.of(TransicaoMissao.CONCLUIR.getTipoEvento(),
+            TransicaoMissao.ABORTAR.getTipoEvento());
+
+    // Período de uma missão e os astronautas em cujas árvores ele está
+    private record Alocacao(long inicio, long fim, Set<Long> astronautas) {}
+
+    private final MissaoRepository missaoRepo;
+    private final AstronautaLoteRepository loteRepo;
+    private final TransactionTemplate leitura;
+    private final Map<Long, ArvoreIntervalos> porAstronauta = new HashMap<>();
+    private final Map<Long, Alocacao> porMissao = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public AgendaTripulacaoService(MissaoRepository missaoRepo, AstronautaLoteRepository loteRepo,
+                                   PlatformTransactionManager txManager) {
+        this.missaoRepo = missaoRepo;
+        this.loteRepo = loteRepo;
+        // Os listeners rodam depois do commit/rollback: a leitura precisa de transação própria
+        this.leitura = new TransactionTemplate(txManager);
+        this.leitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leitura.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recarregar() {
+        List<Object[]> linhas = leitura.execute(s -> missaoRepo.listarAlocacoes(ENCERRADAS));
+        lock.writeLock().lock();
+        try {
+            porAstronauta.clear();
+            porMissao.clear();
+            for (Object[] linha : linhas) {
+                if (linha[1] == null) continue;
+                Long missaoId = (Long) linha[0];
+                Alocacao a = porMissao.computeIfAbsent(missaoId,
+                        id -> alocacao((LocalDateTime) linha[1], (LocalDateTime) linha[2]));
+                indexar(missaoId, a, (Long) linha[3]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Chamado na transação que adiciona o tripulante: verifica e já reserva o período sob o mesmo
+    // lock, para que duas alocações simultâneas do astronauta não passem ambas pela verificação.
+    // Se a transação não confirmar, o ressincronismo ao fim dela desfaz a reserva
+    public void reservar(Long astronautaId, Missao m) {
+        if (m.getDataInicioPlanejada() == null) return;
+        Alocacao nova = alocacao(m.getDataInicioPlanejada(), m.getDataFimPlanejada());
+        lock.writeLock().lock();
+        try {
+            Long conflito = conflito(astronautaId, nova.inicio(), nova.fim(), m.getId());
+            if (conflito != null) {
+                throw new IllegalStateException("Astronauta " + astronautaId + " já está alocado à missão "
+                        + conflito + " em período que se sobrepõe ao da missão " + m.getId());
+            }
+            Alocacao a = porMissao.get(m.getId());
+            if (a == null || a.inicio() != nova.inicio() || a.fim() != nova.fim()) {
+                desindexar(m.getId());
+                a = nova;
+                porMissao.put(m.getId(), a);
+            }
+            indexar(m.getId(), a, astronautaId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean disponivel(Long astronautaId, LocalDateTime inicio, LocalDateTime fim) {
+        Alocacao periodo = periodo(inicio, fim);
+        lock.readLock().lock();
+        try {
+            ArvoreIntervalos arvore = porAstronauta.get(astronautaId);
+            return arvore == null || !arvore.sobrepoe(periodo.inicio(), periodo.fim(), 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Astronautas ativos sem missão no período: os ocupados saem da agenda em O(astronautas × log n)
+    // e os ativos são percorridos direto do banco, sem passar pelas entidades
+    public List<AstronautaDTO> disponiveis(LocalDateTime inicio, LocalDateTime fim) {
+        Set<Long> ocupados = ocupados(periodo(inicio, fim));
+        List<AstronautaDTO> livres = new ArrayList<>();
+        loteRepo.percorrer(true, a -> {
+            if (!ocupados.contains(a.id())) livres.add(a);
+        });
+        return livres;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void aoAlterarMissao(MissaoAlterada e) {
+        sincronizar(e.missaoId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void aoRegistrarEvento(EventoMissaoRegistrado e) {
+        if (EVENTOS_ENCERRAMENTO.contains(e.tipo())) sincronizar(e.missaoId());
+    }
+
+    // Refaz a entrada da missão a partir do banco (missão removida ou encerrada sai da agenda)
+    void sincronizar(Long missaoId) {
+        List<Object[]> linhas = leitura.execute(s -> missaoRepo.listarAlocacoesDaMissao(missaoId));
+        lock.writeLock().lock();
+        try {
+            desindexar(missaoId);
+            if (linhas.isEmpty()) return;
+            Object[] primeira = linhas.get(0);
+            if (ENCERRADAS.contains((StatusMissao) primeira[0]) || primeira[1] == null) return;
+            Alocacao a = alocacao((LocalDateTime) primeira[1], (LocalDateTime) primeira[2]);
+            porMissao.put(missaoId, a);
+            for (Object[] linha : linhas) {
+                if (linha[3] != null) indexar(missaoId, a, (Long) linha[3]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<Long> ocupados(Alocacao periodo) {
+        Set<Long> ocupados = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            porAstronauta.forEach((astronautaId, arvore) -> {
+                if (arvore.sobrepoe(periodo.inicio(), periodo.fim(), 0)) ocupados.add(astronautaId);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ocupados;
+    }
+
+    private Long conflito(Long astronautaId, long inicio, long fim, Long missaoId) {
+        ArvoreIntervalos arvore = porAstronauta.get(astronautaId);
+        if (arvore == null || !arvore.sobrepoe(inicio, fim, missaoId)) return null;
+        List<Long> ids = new ArrayList<>();
+        arvore.sobrepostos(inicio, fim, id -> {
+            if (id != missaoId) ids.add(id);
+        });
+        return ids.get(0);
+    }
+
+    private void indexar(Long missaoId, Alocacao a, Long astronautaId) {
+        if (!a.astronautas().add(astronautaId)) return;
+        porAstronauta.computeIfAbsent(astronautaId, id -> new ArvoreIntervalos()).inserir(a.inicio(), a.fim(), missaoId);
+    }
+
+    private void desindexar(Long missaoId) {
+        Alocacao a = porMissao.remove(missaoId);
+        if (a == null) return;
+        for (Long astronautaId : a.astronautas()) {
+            ArvoreIntervalos arvore = porAstronauta.get(astronautaId);
+            arvore.remover(a.inicio(), missaoId);
+            if (arvore.vazia()) porAstronauta.remove(astronautaId);
+        }
+    }
+
+    private static Alocacao alocacao(LocalDateTime inicio, LocalDateTime fim) {
+        long i = Instantes.paraEpochMilli(inicio);
+        // Fim ausente ou não posterior ao início: período aberto
+        long f = fim != null ? Instantes.paraEpochMilli(fim) : Long.MAX_VALUE;
+        return new Alocacao(i, f > i ? f : Long.MAX_VALUE, new HashSet<>());
+    }
+
+    private static Alocacao periodo(LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio == null) throw new IllegalArgumentException("Informe o início do período");
+        if (fim != null && !fim.isAfter(inicio)) throw new IllegalArgumentException("O fim do período deve ser posterior ao início");
+        return alocacao(inicio, fim);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.RelatorioMissaoDTO;
+import com.example.demo.domain.mission.ArquivoMissao;
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.SegmentoTelemetria;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.infra.repository.ArquivoMissaoRepository;
+import com.example.demo.infra.repository.EventoLoteRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.SegmentoTelemetriaRepository;
+import com.example.demo.infra.repository.TelemetriaLoteRepository;
+import com.example.demo.infra.storage.ArmazemArquivosMissao;
+import com.example.demo.infra.storage.ArmazemSegmentos;
+import com.example.demo.infra.storage.EscritorArquivoMissao;
+import com.example.demo.infra.storage.SegmentoMapeado;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Arquivamento de missões encerradas: a telemetria (linhas e segmentos) e os eventos viram um único
+// arquivo colunar comprimido (séries Gorilla + eventos em deflate) e saem das tabelas quentes.
+// O relatório e a leitura de séries reidratam o arquivo sob demanda
+@Service
+public class ArquivamentoMissaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivamentoMissaoService.class);
+
+    private final MissaoRepository missaoRepo;
+    private final TelemetriaLoteRepository telemetriaRepo;
+    private final EventoLoteRepository eventoRepo;
+    private final SegmentoTelemetriaRepository segmentoRepo;
+    private final ArquivoMissaoRepository arquivoRepo;
+    private final ArmazemSegmentos segmentos;
+    private final ArmazemArquivosMissao arquivos;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate txNova;
+    private final int aposHoras;
+
+    public ArquivamentoMissaoService(MissaoRepository missaoRepo, TelemetriaLoteRepository telemetriaRepo,
+                                     EventoLoteRepository eventoRepo, SegmentoTelemetriaRepository segmentoRepo,
+                                     ArquivoMissaoRepository arquivoRepo, ArmazemSegmentos segmentos,
+                                     ArmazemArquivosMissao arquivos, PlatformTransactionManager txManager,
+                                     @Value("${missoes.arquivamento.apos-horas:24}") int aposHoras) {
+        this.missaoRepo = missaoRepo;
+        this.telemetriaRepo = telemetriaRepo;
+        this.eventoRepo = eventoRepo;
+        this.segmentoRepo = segmentoRepo;
+        this.arquivoRepo = arquivoRepo;
+        this.segmentos = segmentos;
+        this.arquivos = arquivos;
+        // Mesmo snapshot para o que é lido e o que é removido (como na segmentação)
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.txNova = new TransactionTemplate(txManager);
+        this.txNova.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.aposHoras = aposHoras;
+    }
+
+    @Scheduled(fixedDelayString = "${missoes.arquivamento.intervalo-ms:600000}",
+               initialDelayString = "${missoes.arquivamento.intervalo-ms:600000}")
+    public void arquivarEncerradas() {
+        LocalDateTime corte = LocalDateTime.now().minusHours(aposHoras);
+        for (Long id : missaoRepo.listarParaArquivar(SegmentacaoTelemetriaService.ENCERRADAS, corte)) {
+            try {
+                arquivar(id);
+            } catch (RuntimeException e) {
+                log.error("Falha ao arquivar a missão {}", id, e);
+            }
+        }
+    }
+
+    // Grava o arquivo, registra-o e remove linhas, eventos e registros de segmentos na mesma
+    // transação. O arquivo é publicado antes do commit e apagado se ele falhar; os arquivos de
+    // segmento só são apagados depois do commit
+    public RelatorioMissaoDTO.ArquivoDTO arquivar(Long missaoId) {
+        EscritorArquivoMissao[] escritor = {null};
+        List<String> segmentosRemovidos = new ArrayList<>();
+        try {
+            ArquivoMissao registro = tx.execute(status -> {
+                StatusMissao atual = missaoRepo.buscarStatus(missaoId)
+                        .orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+                if (!SegmentacaoTelemetriaService.ENCERRADAS.contains(atual)) {
+                    throw new IllegalStateException("Só missões encerradas podem ser arquivadas (status " + atual + ")");
+                }
+                if (arquivoRepo.findByMissaoId(missaoId).isPresent()) {
+                    throw new IllegalStateException("Missão " + missaoId + " já está arquivada");
+                }
+                EscritorArquivoMissao e = arquivos.novoEscritor(missaoId);
+                escritor[0] = e;
+
+                List<SegmentoTelemetria> registrados = segmentoRepo.findByMissaoIdOrderByTsInicio(missaoId);
+                for (SegmentoTelemetria s : registrados) {
+                    SegmentoMapeado seg = segmentos.abrir(s.getArquivo());
+                    seg.percorrer(null, Long.MIN_VALUE, Long.MAX_VALUE,
+                            (canal, ts, valor) -> e.adicionarAmostra(canal, seg.unidade(canal), ts, valor));
+                }
+                long[] linhas = {0};
+                telemetriaRepo.percorrerDaMissao(missaoId, (canal, unidade, ts, valor) -> {
+                    e.adicionarAmostra(canal, unidade, ts, valor);
+                    linhas[0]++;
+                });
+                eventoRepo.percorrerDaMissao(missaoId, ev -> e.adicionarEvento(ev.id(), ev.tipo(), ev.descricao(),
+                        ev.severidade(), Instantes.paraEpochMilli(ev.dataHora())));
+
+                long bytes;
+                try {
+                    bytes = e.finalizar();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                ArquivoMissao a = new ArquivoMissao();
+                a.setMissaoId(missaoId);
+                a.setArquivo(arquivos.nomeRelativo(e.getDestino()));
+                a.setAmostras(e.getAmostras());
+                a.setEventos(e.getEventos());
+                a.setBytes(bytes);
+                arquivoRepo.save(a);
+
+                int removidas = telemetriaRepo.removerDaMissao(missaoId);
+                int eventosRemovidos = eventoRepo.removerDaMissao(missaoId);
+                if (removidas != linhas[0] || eventosRemovidos != e.getEventos()) {
+                    throw new IllegalStateException("Divergência ao arquivar missão " + missaoId + ": "
+                            + linhas[0] + "/" + e.getEventos() + " gravadas, "
+                            + removidas + "/" + eventosRemovidos + " removidas");
+                }
+                segmentoRepo.removerDaMissao(missaoId);
+                registrados.forEach(s -> segmentosRemovidos.add(s.getArquivo()));
+                return a;
+            });
+            for (String arquivo : segmentosRemovidos) {
+                try {
+                    segmentos.remover(arquivo);
+                } catch (IOException ex) {
+                    log.warn("Não foi possível remover o segmento {}", arquivo, ex);
+                }
+            }
+            log.info("Missão {} arquivada: {} amostras e {} eventos em {} bytes", missaoId,
+                    registro.getAmostras(), registro.getEventos(), registro.getBytes());
+            return dto(registro);
+        } catch (RuntimeException e) {
+            if (escritor[0] != null) {
+                try {
+                    Files.deleteIfExists(escritor[0].getDestino());
+                } catch (IOException ex) {
+                    log.warn("Não foi possível descartar {}", escritor[0].getDestino(), ex);
+                }
+            }
+            throw e;
+        }
+    }
+
+    // Missão removida: o arquivo dela vai junto
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMissao(MissaoAlterada e) {
+        String arquivo = txNova.execute(s -> arquivoRepo.findByMissaoId(e.missaoId())
+                .filter(a -> !missaoRepo.existsById(e.missaoId()))
+                .map(a -> {
+                    arquivoRepo.delete(a);
+                    return a.getArquivo();
+                })
+                .orElse(null));
+        if (arquivo == null) return;
+        try {
+            arquivos.remover(arquivo);
+        } catch (IOException ex) {
+            log.warn("Não foi possível remover o arquivo {}", arquivo, ex);
+        }
+    }
+
+    static RelatorioMissaoDTO.ArquivoDTO dto(ArquivoMissao a) {
+        return new RelatorioMissaoDTO.ArquivoDTO(a.getAmostras(), a.getEventos(), a.getBytes(),
+                a.getAmostras() > 0 ? (double) a.getBytes() / a.getAmostras() : 0.0, a.getDataCriacao());
+    }
+}
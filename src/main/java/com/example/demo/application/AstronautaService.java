@@ -2,15 +2,37 @@ package com.example.demo.application;
 
 import com.example.demo.api.dto.*;
 import com.example.demo.domain.people.Astronauta;
+import com.example.demo.infra.repository.AstronautaLoteRepository;
 import com.example.demo.infra.repository.AstronautaRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
 
 @Service
+@Timed("astronauta.servico")
 public class AstronautaService {
     private final AstronautaRepository repo;
-    public AstronautaService(AstronautaRepository repo) { this.repo = repo; }
+    private final AstronautaLoteRepository loteRepo;
+    private final ObjectMapper mapper;
+
+    public AstronautaService(AstronautaRepository repo, AstronautaLoteRepository loteRepo, ObjectMapper mapper) {
+        this.repo = repo;
+        this.loteRepo = loteRepo;
+        this.mapper = mapper;
+    }
 
     @Transactional
     public AstronautaDTO criar(NovoAstronautaRequest req) {
@@ -24,8 +46,10 @@ public class AstronautaService {
     }
 
     @Transactional(readOnly = true)
-    public List<AstronautaDTO> listar() {
-        return repo.findAll().stream().map(this::toDTO).toList();
+    public PaginaDTO<AstronautaDTO> listar(Long cursor, Integer limite, Boolean ativo) {
+        int tamanho = Paginas.tamanho(limite);
+        List<AstronautaDTO> itens = repo.listarPagina(cursor != null ? cursor : 0L, ativo, PageRequest.ofSize(tamanho));
+        return Paginas.pagina(itens, tamanho, AstronautaDTO::id);
     }
 
     @Transactional(readOnly = true)
@@ -53,6 +77,46 @@ public class AstronautaService {
         repo.deleteById(id);
     }
 
+    // Exportação lida do cursor do banco e escrita direto na resposta, sem montar a lista.
+    // O CSV usa as mesmas colunas aceitas pela importação
+    @Transactional(readOnly = true)
+    public void exportar(Boolean ativo, boolean csv, OutputStream saida) throws IOException {
+        if (csv) {
+            Writer out = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+            out.write("id,nome,idade,ativo,nivelAptidaoMedica,missoesRealizadas\n");
+            loteRepo.percorrer(ativo, a -> {
+                try {
+                    out.write(a.id() + "," + Csv.escapar(a.nome()) + "," + Csv.escapar(a.idade()) + ","
+                            + Csv.escapar(a.ativo()) + "," + Csv.escapar(a.nivelAptidaoMedica()) + ","
+                            + Csv.escapar(a.missoesRealizadas()) + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            return;
+        }
+        try (JsonGenerator json = mapper.getFactory().createGenerator(saida)) {
+            json.setRootValueSeparator(null);
+            loteRepo.percorrer(ativo, a -> {
+                try {
+                    json.writeObject(a);
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    public static boolean formatoCsv(String formato) {
+        String f = formato == null ? "ndjson" : formato.trim().toLowerCase(Locale.ROOT);
+        if (!f.equals("csv") && !f.equals("ndjson")) {
+            throw new IllegalArgumentException("Formato inválido: " + formato + " (use ndjson ou csv)");
+        }
+        return f.equals("csv");
+    }
+
     private AstronautaDTO toDTO(Astronauta a){
         return new AstronautaDTO(
                 a.getId(), a.getNome(), a.getIdade(), a.getAtivo(),
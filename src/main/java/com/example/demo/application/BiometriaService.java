@@ -0,0 +1,152 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.DadosBiometricosDTO;
+import com.example.demo.api.dto.IngestaoBiometriaDTO;
+import com.example.demo.api.dto.PercentisBiometriaDTO;
+import com.example.demo.domain.monitoring.HistogramaQuantis;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.domain.monitoring.SerieQuantis;
+import com.example.demo.infra.repository.AstronautaRepository;
+import com.example.demo.infra.repository.BiometriaLoteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class BiometriaService {
+
+    static final List<Double> QUANTIS_PADRAO = List.of(0.5, 0.95, 0.99);
+    private static final long MINUTO_MS = 60_000L;
+    private static final long HORA_MS = 3_600_000L;
+
+    private final AstronautaRepository astronautaRepo;
+    private final BiometriaLoteRepository loteRepo;
+    private final TransactionTemplate tx;
+    private final RegrasEmergenciaService regras;
+    private final double erroRelativo;
+    private final long retencaoMinutosMs;
+    private final long retencaoHorasMs;
+    private final Timer tempoPersistencia;
+
+    // Leituras com dataHora a partir daqui estão nos sketches; antes disso a consulta recorre ao banco
+    private volatile long coberturaMs;
+
+    private final Map<ChaveSerie, SerieQuantis> series = new ConcurrentHashMap<>();
+
+    public BiometriaService(AstronautaRepository astronautaRepo, BiometriaLoteRepository loteRepo,
+                            TransactionTemplate tx, RegrasEmergenciaService regras,
+                            @Value("${biometria.sketch.erro-relativo:0.01}") double erroRelativo,
+                            @Value("${biometria.sketch.retencao-minutos:180}") int retencaoMinutos,
+                            @Value("${biometria.sketch.retencao-horas:336}") int retencaoHoras,
+                            MeterRegistry registry) {
+        this.astronautaRepo = astronautaRepo;
+        this.loteRepo = loteRepo;
+        this.tx = tx;
+        this.regras = regras;
+        this.erroRelativo = erroRelativo;
+        this.retencaoMinutosMs = retencaoMinutos * MINUTO_MS;
+        this.retencaoHorasMs = retencaoHoras * HORA_MS;
+        this.coberturaMs = Instantes.paraEpochMilli(LocalDateTime.now());
+        this.tempoPersistencia = Timer.builder("biometria.ingestao").tag("etapa", "persistencia").register(registry);
+    }
+
+    public IngestaoBiometriaDTO registrar(Long astronautaId, List<DadosBiometricosDTO> leituras) {
+        if (!astronautaRepo.existsById(astronautaId)) {
+            throw new EntityNotFoundException("Astronauta não encontrado com ID: " + astronautaId);
+        }
+        List<DadosBiometricosDTO> validas = new ArrayList<>(leituras.size());
+        for (DadosBiometricosDTO d : leituras) {
+            DadosBiometricosDTO n = normalizar(d);
+            if (n == null) continue;
+            regras.avaliarBiometria(astronautaId, n);
+            validas.add(n);
+        }
+        Integer gravadas = tempoPersistencia.record(() -> tx.execute(status -> loteRepo.inserirLote(astronautaId, validas)));
+        long cobertura = coberturaMs;
+        for (DadosBiometricosDTO d : validas) {
+            long ts = Instantes.paraEpochMilli(d.dataHora());
+            if (ts < cobertura) continue;
+            SerieQuantis s = series.computeIfAbsent(new ChaveSerie(astronautaId, d.tipo()),
+                    k -> new SerieQuantis(erroRelativo));
+            synchronized (s) {
+                s.adicionar(ts, d.valor());
+            }
+        }
+        int n = gravadas != null ? gravadas : 0;
+        return new IngestaoBiometriaDTO(astronautaId, leituras.size(), n, leituras.size() - n);
+    }
+
+    @Transactional(readOnly = true)
+    public PercentisBiometriaDTO percentis(Long astronautaId, String tipo, LocalDateTime de, LocalDateTime ate,
+                                           List<Double> quantis) {
+        String chaveTipo = normalizarTipo(tipo);
+        LocalDateTime fim = ate != null ? ate : LocalDateTime.now();
+        LocalDateTime inicio = de != null ? de : fim.minusHours(1);
+        if (!inicio.isBefore(fim)) throw new IllegalArgumentException("Intervalo inválido: de deve ser anterior a ate");
+
+        long deMs = Instantes.paraEpochMilli(inicio);
+        long ateMs = Instantes.paraEpochMilli(fim);
+        long cobertura = coberturaMs;
+        HistogramaQuantis h = new HistogramaQuantis(erroRelativo);
+        SerieQuantis s = series.get(new ChaveSerie(astronautaId, chaveTipo));
+        if (s != null && ateMs >= cobertura) {
+            synchronized (s) {
+                h.combinar(s.consultar(Math.max(deMs, cobertura), ateMs));
+            }
+        }
+        // Trecho anterior à cobertura em memória: valores lidos em streaming do banco
+        if (deMs < cobertura) {
+            LocalDateTime limite = Instantes.deEpochMilli(Math.min(ateMs, cobertura));
+            loteRepo.percorrerValores(astronautaId, chaveTipo, inicio, limite, h::adicionar);
+        }
+
+        Map<String, Double> valores = new LinkedHashMap<>();
+        for (double q : quantis == null || quantis.isEmpty() ? QUANTIS_PADRAO : quantis) {
+            valores.put("p" + BigDecimal.valueOf(q * 100).stripTrailingZeros().toPlainString(),
+                    h.getTotal() > 0 ? h.quantil(q) : null);
+        }
+        return new PercentisBiometriaDTO(astronautaId, chaveTipo, inicio, fim, h.getTotal(),
+                h.getTotal() > 0 ? h.getMinimo() : null, h.getTotal() > 0 ? h.getMaximo() : null,
+                erroRelativo, valores);
+    }
+
+    // Rollup: minutos antigos viram baldes horários; horas fora da retenção saem da memória
+    @Scheduled(fixedDelayString = "${biometria.sketch.consolidacao-ms:60000}")
+    public void consolidar() {
+        long agora = Instantes.paraEpochMilli(LocalDateTime.now());
+        long limiteMinutos = Math.floorDiv(agora - retencaoMinutosMs, HORA_MS) * HORA_MS;
+        long limiteHoras = Math.floorDiv(agora - retencaoHorasMs, HORA_MS) * HORA_MS;
+        if (limiteHoras > coberturaMs) coberturaMs = limiteHoras;
+        series.forEach((chave, s) -> {
+            synchronized (s) {
+                s.consolidar(limiteMinutos, limiteHoras);
+            }
+        });
+        series.values().removeIf(SerieQuantis::isVazia);
+    }
+
+    private DadosBiometricosDTO normalizar(DadosBiometricosDTO d) {
+        if (d == null || d.tipo() == null || d.tipo().isBlank() || d.valor() == null || d.valor().isNaN()) {
+            return null;
+        }
+        LocalDateTime dataHora = d.dataHora() != null ? d.dataHora() : LocalDateTime.now();
+        return new DadosBiometricosDTO(normalizarTipo(d.tipo()), d.valor(), d.unidade(), dataHora);
+    }
+
+    // Ex.: "frequencia cardiaca" -> "FREQUENCIA_CARDIACA"
+    static String normalizarTipo(String tipo) {
+        return tipo.trim().toUpperCase(Locale.ROOT).replace(' ', '_');
+    }
+
+    private record ChaveSerie(long astronautaId, String tipo) {}
+}
@@ -0,0 +1,41 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.EstatisticaCacheDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Acertos/falhas por região do cache de segundo nível (requer hibernate.generate_statistics)
+@Service
+public class CacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheService(EntityManagerFactory emf) {
+        this.sessionFactory = emf.unwrap(SessionFactory.class);
+    }
+
+    public List<EstatisticaCacheDTO> estatisticas() {
+        Statistics stats = sessionFactory.getStatistics();
+        return Arrays.stream(stats.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(regiao -> toDTO(regiao, stats.getCacheRegionStatistics(regiao)))
+                .toList();
+    }
+
+    // Esvazia todas as regiões (ex.: após correção de dados direto no banco)
+    public void limpar() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private static EstatisticaCacheDTO toDTO(String regiao, CacheRegionStatistics s) {
+        long consultas = s.getHitCount() + s.getMissCount();
+        return new EstatisticaCacheDTO(regiao, s.getHitCount(), s.getMissCount(), s.getPutCount(),
+                consultas > 0 ? (double) s.getHitCount() / consultas : null);
+    }
+}
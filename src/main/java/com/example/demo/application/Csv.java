@@ -0,0 +1,101 @@
+package com.example.demo.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// CSV separado por vírgula com aspas duplas (RFC 4180): campos entre aspas podem conter
+// vírgulas, aspas escapadas ("") e quebras de linha, como os que escapar() produz na exportação
+final class Csv {
+
+    // Limita o que uma aspa sem par consegue engolir do arquivo num único registro
+    static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024;
+
+    private Csv() {}
+
+    // Junta as linhas físicas de um registro: enquanto o número de aspas lidas for ímpar, a quebra
+    // de linha está dentro de um campo. Guarda a linha física em que o registro começou para as
+    // mensagens de erro. Um registro que passa de TAMANHO_MAXIMO_REGISTRO encerra a leitura: depois
+    // de uma aspa sem par não há como saber onde o próximo registro começa, e continuar leria o
+    // resto do arquivo com as aspas trocadas
+    static final class Leitor {
+        private final BufferedReader in;
+        private long linhas;
+        private long inicio;
+        private boolean interrompido;
+
+        Leitor(BufferedReader in) {
+            this.in = in;
+        }
+
+        // null no fim do arquivo
+        String proximo() throws IOException {
+            if (interrompido) return null;
+            String linha = in.readLine();
+            if (linha == null) return null;
+            inicio = ++linhas;
+            if (aspas(linha) % 2 == 0) return linha;
+            StringBuilder registro = new StringBuilder(linha);
+            long abertas = aspas(linha);
+            while (abertas % 2 != 0) {
+                linha = in.readLine();
+                if (linha == null) break; // campos() acusa as aspas não fechadas
+                linhas++;
+                registro.append('\n').append(linha);
+                if (registro.length() > TAMANHO_MAXIMO_REGISTRO) {
+                    interrompido = true;
+                    throw new IllegalArgumentException("Registro excede " + TAMANHO_MAXIMO_REGISTRO
+                            + " caracteres (aspas não fechadas?); leitura interrompida, as linhas seguintes não foram importadas");
+                }
+                abertas += aspas(linha);
+            }
+            return registro.toString();
+        }
+
+        long linhaInicial() {
+            return inicio;
+        }
+
+        private static long aspas(String linha) {
+            return linha.chars().filter(c -> c == '"').count();
+        }
+    }
+
+    static List<String> campos(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    atual.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else if (c != '\r') {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) throw new IllegalArgumentException("Aspas não fechadas no registro");
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    // null vira campo vazio; aspas só quando o valor exige
+    static String escapar(Object valor) {
+        if (valor == null) return "";
+        String s = valor.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
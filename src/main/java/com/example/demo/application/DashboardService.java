@@ -0,0 +1,136 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.DashboardMissoesDTO;
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.StatusProtocolo;
+import com.example.demo.domain.mission.TipoMissao;
+import com.example.demo.domain.mission.TransicaoMissao;
+import com.example.demo.infra.repository.AstronautaRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.ProtocoloEmergenciaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+// Painel da frota materializado em memória. Transições e alterações de missão só marcam o painel
+// como desatualizado; o agendador o recalcula com consultas agregadas (nunca carrega Missao) no
+// máximo a cada intervalo-ms, e a cada refresh-completo-ms mesmo sem aviso (cadastro de astronautas,
+// importações em lote). A leitura devolve sempre o mesmo objeto pronto, sem tocar o banco
+@Service
+public class DashboardService {
+
+    static final Set<StatusMissao> ATIVAS = EnumSet.of(StatusMissao.EM_ANDAMENTO, StatusMissao.PAUSADA,
+            StatusMissao.EMERGENCIA);
+
+    // Tipos de evento que mudam o status (os demais eventos de missão não afetam o painel)
+    private static final Set<String> EVENTOS_TRANSICAO = Arrays.stream(TransicaoMissao.values())
+            .map(TransicaoMissao::getTipoEvento).collect(Collectors.toUnmodifiableSet());
+
+    public record Painel(DashboardMissoesDTO dados, String etag) {}
+
+    private final MissaoRepository missaoRepo;
+    private final AstronautaRepository astronautaRepo;
+    private final ProtocoloEmergenciaRepository protocoloRepo;
+    private final long refreshCompletoMs;
+
+    // Prefixo do ETag: a versão recomeça a cada inicialização e não pode colidir com a anterior
+    private final String instancia = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicBoolean desatualizado = new AtomicBoolean(true);
+    private volatile Painel painel;
+    private long ultimoCalculoMs;
+
+    public DashboardService(MissaoRepository missaoRepo, AstronautaRepository astronautaRepo,
+                            ProtocoloEmergenciaRepository protocoloRepo,
+                            @Value("${dashboard.refresh-completo-ms:30000}") long refreshCompletoMs) {
+        this.missaoRepo = missaoRepo;
+        this.astronautaRepo = astronautaRepo;
+        this.protocoloRepo = protocoloRepo;
+        this.refreshCompletoMs = refreshCompletoMs;
+    }
+
+    public Painel atual() {
+        Painel p = painel;
+        if (p != null) return p;
+        synchronized (this) {
+            if (painel == null) recalcular();
+            return painel;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRegistrarEvento(EventoMissaoRegistrado e) {
+        if (EVENTOS_TRANSICAO.contains(e.tipo())) desatualizado.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMissao(MissaoAlterada e) {
+        desatualizado.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.intervalo-ms:500}")
+    public synchronized void atualizar() {
+        boolean vencido = System.currentTimeMillis() - ultimoCalculoMs >= refreshCompletoMs;
+        // Zera o aviso antes de consultar: o que chegar durante o cálculo vale para a próxima rodada
+        if (desatualizado.getAndSet(false) || vencido || painel == null) recalcular();
+    }
+
+    private void recalcular() {
+        ultimoCalculoMs = System.currentTimeMillis();
+        Map<String, Long> porStatus = zerado(StatusMissao.values());
+        Map<String, Long> porTipo = zerado(TipoMissao.values());
+        Map<String, Long> porPrioridade = zerado(NivelPrioridade.values());
+        long total = 0, ativas = 0;
+        for (Object[] linha : missaoRepo.contarPorStatusTipoPrioridade()) {
+            StatusMissao status = (StatusMissao) linha[0];
+            long n = (Long) linha[3];
+            total += n;
+            if (ATIVAS.contains(status)) ativas += n;
+            porStatus.merge(status.name(), n, Long::sum);
+            porTipo.merge(((TipoMissao) linha[1]).name(), n, Long::sum);
+            // Prioridade é opcional na tabela; sem valor conta como MEDIA, o padrão da entidade
+            NivelPrioridade prioridade = linha[2] != null ? (NivelPrioridade) linha[2] : NivelPrioridade.MEDIA;
+            porPrioridade.merge(prioridade.name(), n, Long::sum);
+        }
+        long astronautasAtivos = astronautaRepo.countByAtivoTrue();
+        long alocados = missaoRepo.contarTripulantesAtivos(ATIVAS);
+        DashboardMissoesDTO.TripulacaoDTO tripulacao = new DashboardMissoesDTO.TripulacaoDTO(astronautasAtivos,
+                alocados, astronautasAtivos > 0 ? (double) alocados / astronautasAtivos : 0.0);
+        long protocolosAbertos = protocoloRepo.countByStatus(StatusProtocolo.ATIVO);
+
+        Painel anterior = painel;
+        if (anterior != null) {
+            DashboardMissoesDTO a = anterior.dados();
+            if (a.totalMissoes() == total && a.missoesAtivas() == ativas && a.protocolosAbertos() == protocolosAbertos
+                    && a.porStatus().equals(porStatus) && a.porTipo().equals(porTipo)
+                    && a.porPrioridade().equals(porPrioridade) && Objects.equals(a.tripulacao(), tripulacao)) {
+                return;
+            }
+        }
+        long versao = anterior != null ? anterior.dados().versao() + 1 : 1;
+        DashboardMissoesDTO dados = new DashboardMissoesDTO(total, Collections.unmodifiableMap(porStatus),
+                Collections.unmodifiableMap(porTipo), Collections.unmodifiableMap(porPrioridade), ativas,
+                protocolosAbertos, tripulacao, versao, LocalDateTime.now());
+        painel = new Painel(dados, "\"" + instancia + "-" + versao + "\"");
+    }
+
+    private static Map<String, Long> zerado(Enum<?>[] valores) {
+        Map<String, Long> m = new LinkedHashMap<>();
+        for (Enum<?> v : valores) m.put(v.name(), 0L);
+        return m;
+    }
+}
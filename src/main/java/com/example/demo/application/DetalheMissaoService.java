@@ -0,0 +1,99 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.AstronautaDTO;
+import com.example.demo.api.dto.EstatisticasMissaoDTO;
+import com.example.demo.api.dto.EventoMissaoDTO;
+import com.example.demo.api.dto.MissaoDTO;
+import com.example.demo.api.dto.MissaoDetalhadaDTO;
+import com.example.demo.api.dto.PaginaDTO;
+import com.example.demo.api.dto.ProtocoloEmergenciaDTO;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.infra.repository.AstronautaRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.ProtocoloEmergenciaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Detalhe da missão sem navegar pelas associações da entidade: cada seção pedida é uma consulta
+// própria, limitada e projetada (uma por coleção, nunca uma por item nem junções que multiplicam
+// linhas). A telemetria não entra: as estatísticas vêm dos contadores em memória, então o custo
+// não cresce com o volume de amostras
+@Service
+public class DetalheMissaoService {
+
+    static final int LIMITE_SECAO = 20;
+
+    public enum Secao { COMANDANTE, TRIPULACAO, EVENTOS, PROTOCOLOS, ESTATISTICAS }
+
+    private final MissaoRepository missaoRepo;
+    private final AstronautaRepository astronautaRepo;
+    private final MissaoService missaoService;
+    private final ProtocoloEmergenciaRepository protocoloRepo;
+    private final MetricasService metricas;
+
+    public DetalheMissaoService(MissaoRepository missaoRepo, AstronautaRepository astronautaRepo,
+                                MissaoService missaoService, ProtocoloEmergenciaRepository protocoloRepo,
+                                MetricasService metricas) {
+        this.missaoRepo = missaoRepo;
+        this.astronautaRepo = astronautaRepo;
+        this.missaoService = missaoService;
+        this.protocoloRepo = protocoloRepo;
+        this.metricas = metricas;
+    }
+
+    // incluir nulo ou vazio traz todas as seções; limite vale para cada coleção
+    @Transactional(readOnly = true)
+    public MissaoDetalhadaDTO detalhar(Long id, String incluir, Integer limite) {
+        Set<Secao> secoes = secoes(incluir);
+        int tamanho = limite != null ? Paginas.tamanho(limite) : LIMITE_SECAO;
+        PageRequest pagina = PageRequest.ofSize(tamanho);
+
+        // Cabeçalho pelo cache de segundo nível; as coleções lazy da entidade não são tocadas
+        Missao m = missaoRepo.findById(id).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + id));
+        MissaoDTO missao = MissaoMapper.toDTO(m);
+
+        AstronautaDTO comandante = secoes.contains(Secao.COMANDANTE)
+                ? astronautaRepo.buscarComandante(id).orElse(null) : null;
+        PaginaDTO<AstronautaDTO> tripulacao = null;
+        if (secoes.contains(Secao.TRIPULACAO)) {
+            tripulacao = Paginas.pagina(astronautaRepo.listarTripulacao(id, 0L, pagina), tamanho, AstronautaDTO::id);
+        }
+        PaginaDTO<EventoMissaoDTO> eventos = null;
+        if (secoes.contains(Secao.EVENTOS)) {
+            // Missão arquivada: os eventos já saíram da tabela quente
+            eventos = missaoService.paginaEventos(id, 0L, tamanho, null);
+        }
+        PaginaDTO<ProtocoloEmergenciaDTO> protocolos = null;
+        if (secoes.contains(Secao.PROTOCOLOS)) {
+            List<ProtocoloEmergenciaDTO> itens = protocoloRepo.listarPagina(id, 0L, pagina).stream()
+                    .map(EmergenciaService::toDTO)
+                    .toList();
+            protocolos = Paginas.pagina(itens, tamanho, ProtocoloEmergenciaDTO::id);
+        }
+        EstatisticasMissaoDTO estatisticas = secoes.contains(Secao.ESTATISTICAS)
+                ? metricas.obterEstatisticas(id) : null;
+        return new MissaoDetalhadaDTO(missao, comandante, tripulacao, eventos, protocolos, estatisticas);
+    }
+
+    static Set<Secao> secoes(String incluir) {
+        if (incluir == null || incluir.isBlank()) return EnumSet.allOf(Secao.class);
+        Set<Secao> secoes = EnumSet.noneOf(Secao.class);
+        for (String nome : incluir.split(",")) {
+            if (nome.isBlank()) continue;
+            try {
+                secoes.add(Secao.valueOf(nome.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Seção inválida: " + nome.trim()
+                        + " (use comandante, tripulacao, eventos, protocolos ou estatisticas)");
+            }
+        }
+        return secoes;
+    }
+}
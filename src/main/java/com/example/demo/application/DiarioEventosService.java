@@ -0,0 +1,151 @@
+package com.example.demo.application;
+
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.infra.repository.EventoLoteRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Diário append-only dos eventos de missão (write-behind): os eventos chegam após o commit da
+// transação que os gerou e uma única thread os grava em lote (group commit), misturando missões.
+// A leitura é eventual: um evento pode levar até janela-ms para aparecer na consulta paginada.
+@Service
+public class DiarioEventosService {
+
+    private static final Logger log = LoggerFactory.getLogger(DiarioEventosService.class);
+    private static final long ESPERA_FILA_MS = 1000;
+    private static final long POLL_MS = 200;
+
+    private final EventoLoteRepository loteRepo;
+    private final TransactionTemplate tx;
+    private final BlockingQueue<EventoMissaoRegistrado> fila;
+    private final int loteMaximo;
+    private final long janelaNs;
+    private final Thread escritor;
+    private volatile boolean ativo = true;
+
+    private final AtomicLong gravados = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final Timer tempoGravacao;
+    private final DistributionSummary tamanhoLote;
+
+    public DiarioEventosService(EventoLoteRepository loteRepo, TransactionTemplate tx,
+                                @Value("${eventos.diario.capacidade:10000}") int capacidade,
+                                @Value("${eventos.diario.lote-maximo:500}") int loteMaximo,
+                                @Value("${eventos.diario.janela-ms:20}") long janelaMs,
+                                MeterRegistry registry) {
+        this.loteRepo = loteRepo;
+        this.tx = tx;
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.loteMaximo = loteMaximo;
+        this.janelaNs = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.tempoGravacao = Timer.builder("eventos.diario.gravacao").register(registry);
+        this.tamanhoLote = DistributionSummary.builder("eventos.diario.lote").baseUnit("eventos").register(registry);
+        Gauge.builder("eventos.diario.pendentes", this, DiarioEventosService::getPendentes).register(registry);
+        FunctionCounter.builder("eventos.diario.gravados", this, DiarioEventosService::getGravados).register(registry);
+        FunctionCounter.builder("eventos.diario.descartados", this, DiarioEventosService::getDescartados).register(registry);
+        this.escritor = new Thread(this::escrever, "diario-eventos");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    // Com a fila cheia o chamador espera o escritor por um tempo limitado antes de descartar
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRegistrarEvento(EventoMissaoRegistrado e) {
+        if (e.missaoId() == null) return;
+        try {
+            if (fila.offer(e, ESPERA_FILA_MS, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        descartados.incrementAndGet();
+        log.error("Fila do diário de eventos cheia; evento {} da missão {} descartado", e.tipo(), e.missaoId());
+    }
+
+    public int getPendentes() {
+        return fila.size();
+    }
+
+    public long getGravados() {
+        return gravados.get();
+    }
+
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    // Para de aceitar novos lotes e grava o que ainda está na fila
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        ativo = false;
+        escritor.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void escrever() {
+        List<EventoMissaoRegistrado> lote = new ArrayList<>(loteMaximo);
+        while (ativo || !fila.isEmpty()) {
+            try {
+                EventoMissaoRegistrado primeiro = fila.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) continue;
+                lote.add(primeiro);
+                // Janela de group commit: junta o que chegar de outras transações até encher o lote
+                long limite = System.nanoTime() + janelaNs;
+                while (lote.size() < loteMaximo) {
+                    fila.drainTo(lote, loteMaximo - lote.size());
+                    long resta = limite - System.nanoTime();
+                    if (lote.size() >= loteMaximo || resta <= 0) break;
+                    EventoMissaoRegistrado e = fila.poll(resta, TimeUnit.NANOSECONDS);
+                    if (e == null) break;
+                    lote.add(e);
+                }
+                gravar(lote);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<EventoMissaoRegistrado> lote) {
+        tamanhoLote.record(lote.size());
+        tempoGravacao.record(() -> gravarLote(lote));
+    }
+
+    private void gravarLote(List<EventoMissaoRegistrado> lote) {
+        try {
+            tx.executeWithoutResult(s -> loteRepo.inserirLote(lote));
+            gravados.addAndGet(lote.size());
+        } catch (DataAccessException ex) {
+            // Um evento inválido (ex.: missão excluída antes do flush) não pode derrubar o lote inteiro
+            log.warn("Falha ao gravar lote de {} eventos; regravando individualmente", lote.size(), ex);
+            for (EventoMissaoRegistrado e : lote) {
+                try {
+                    tx.executeWithoutResult(s -> loteRepo.inserirLote(List.of(e)));
+                    gravados.incrementAndGet();
+                } catch (DataAccessException exEvento) {
+                    descartados.incrementAndGet();
+                    log.error("Evento {} da missão {} descartado: {}", e.tipo(), e.missaoId(), exEvento.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.*;
+import com.example.demo.domain.mission.ProtocoloEmergencia;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.StatusProtocolo;
+import com.example.demo.domain.mission.TipoEmergencia;
+import com.example.demo.domain.mission.TransicaoMissao;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.ProtocoloEmergenciaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Ativação (manual ou por regra) e resolução de emergências, e cadastro dos protocolos da missão.
+// Nada aqui carrega o agregado Missao: o status muda por compare-and-set e os protocolos são
+// atualizados nas próprias linhas, então uma emergência nunca espera (nem perde para) uma edição
+// concorrente da tripulação
+@Service
+public class EmergenciaService {
+
+    private static final Set<StatusMissao> ORIGENS_AUTOMATICA =
+            EnumSet.of(StatusMissao.EM_ANDAMENTO, StatusMissao.PAUSADA);
+
+    private final MissaoRepository missaoRepo;
+    private final ProtocoloEmergenciaRepository protocoloRepo;
+    private final TransicaoMissaoService transicoes;
+
+    public EmergenciaService(MissaoRepository missaoRepo, ProtocoloEmergenciaRepository protocoloRepo,
+                             TransicaoMissaoService transicoes) {
+        this.missaoRepo = missaoRepo;
+        this.protocoloRepo = protocoloRepo;
+        this.transicoes = transicoes;
+    }
+
+    @Transactional
+    public EmergenciaDTO ativar(Long missaoId, AtivarEmergenciaRequest req) {
+        TipoEmergencia tipo = req.tipoEmergencia() != null ? tipoEmergencia(req.tipoEmergencia()) : null;
+        transicoes.exigir(missaoId, TransicaoMissao.ATIVAR_EMERGENCIA,
+                TransicaoMissao.ATIVAR_EMERGENCIA.getOrigens(), req.descricao());
+        List<ProtocoloEmergencia> ativados = ativarProtocolos(missaoId, tipo);
+        return new EmergenciaDTO(missaoId, StatusMissao.EMERGENCIA.name(), tipo != null ? tipo.name() : null,
+                req.descricao(), "MANUAL", LocalDateTime.now(), ativados.stream().map(EmergenciaService::toDTO).toList());
+    }
+
+    // Disparo de regra: só missões em andamento ou pausadas entram em emergência; se a missão
+    // já está em emergência (ou encerrada), o disparo é ignorado e retorna null
+    @Transactional
+    public EmergenciaDTO ativarAutomatica(Long missaoId, TipoEmergencia tipo, String descricao, String regra) {
+        if (!transicoes.tentar(missaoId, TransicaoMissao.ATIVAR_EMERGENCIA, ORIGENS_AUTOMATICA, descricao)) {
+            return null;
+        }
+        List<ProtocoloEmergencia> ativados = ativarProtocolos(missaoId, tipo);
+        return new EmergenciaDTO(missaoId, StatusMissao.EMERGENCIA.name(), tipo.name(), descricao, regra,
+                LocalDateTime.now(), ativados.stream().map(EmergenciaService::toDTO).toList());
+    }
+
+    @Transactional
+    public EmergenciaDTO resolver(Long missaoId, ResolverEmergenciaRequest req) {
+        String descricao = req != null && req.descricao() != null
+                ? req.descricao() : TransicaoMissao.RESOLVER_EMERGENCIA.getDescricaoPadrao();
+        transicoes.exigir(missaoId, TransicaoMissao.RESOLVER_EMERGENCIA,
+                TransicaoMissao.RESOLVER_EMERGENCIA.getOrigens(), descricao);
+        List<ProtocoloEmergencia> ativos = protocoloRepo.listarDaMissao(missaoId, StatusProtocolo.ATIVO);
+        ativos.forEach(ProtocoloEmergencia::resolver);
+        return new EmergenciaDTO(missaoId, StatusMissao.EM_ANDAMENTO.name(), null, descricao, "MANUAL",
+                LocalDateTime.now(), ativos.stream().map(EmergenciaService::toDTO).toList());
+    }
+
+    @Transactional
+    public ProtocoloEmergenciaDTO criarProtocolo(Long missaoId, CriarProtocoloRequest req) {
+        exigirMissao(missaoId);
+        ProtocoloEmergencia p = new ProtocoloEmergencia();
+        p.setMissao(missaoRepo.getReferenceById(missaoId));
+        p.setNome(req.nome());
+        p.setDescricao(req.descricao());
+        if (req.tipoEmergencia() != null) p.setTipoEmergencia(tipoEmergencia(req.tipoEmergencia()));
+        return toDTO(protocoloRepo.save(p));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<ProtocoloEmergenciaDTO> listarProtocolos(Long missaoId, Long cursor, Integer limite) {
+        exigirMissao(missaoId);
+        int tamanho = Paginas.tamanho(limite);
+        List<ProtocoloEmergenciaDTO> itens = protocoloRepo.listarPagina(missaoId, cursor != null ? cursor : 0L,
+                        PageRequest.ofSize(tamanho)).stream()
+                .map(EmergenciaService::toDTO)
+                .toList();
+        return Paginas.pagina(itens, tamanho, ProtocoloEmergenciaDTO::id);
+    }
+
+    static TipoEmergencia tipoEmergencia(String valor) {
+        try {
+            return TipoEmergencia.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de emergência inválido: " + valor);
+        }
+    }
+
+    private List<ProtocoloEmergencia> ativarProtocolos(Long missaoId, TipoEmergencia tipo) {
+        List<ProtocoloEmergencia> ativados = protocoloRepo.listarDaMissao(missaoId, StatusProtocolo.PRONTO).stream()
+                .filter(p -> p.isAplicavel(tipo))
+                .toList();
+        ativados.forEach(ProtocoloEmergencia::ativar);
+        return ativados;
+    }
+
+    private void exigirMissao(Long missaoId) {
+        if (!missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+    }
+
+    static ProtocoloEmergenciaDTO toDTO(ProtocoloEmergencia p) {
+        return new ProtocoloEmergenciaDTO(p.getId(), p.getNome(), p.getDescricao(),
+                p.getTipoEmergencia() != null ? p.getTipoEmergencia().name() : null, p.getStatus().name(),
+                p.getDataAtivacao(), p.getDataResolucao());
+    }
+}
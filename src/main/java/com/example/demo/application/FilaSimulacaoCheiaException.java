@@ -0,0 +1,14 @@
+package com.example.demo.application;
+
+// Fila de simulações na capacidade: o cliente deve tentar de novo após retryAfterSegundos
+public class FilaSimulacaoCheiaException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public FilaSimulacaoCheiaException(int capacidade, long retryAfterSegundos) {
+        super("Fila de simulações cheia (" + capacidade + "), tente novamente");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() { return retryAfterSegundos; }
+}
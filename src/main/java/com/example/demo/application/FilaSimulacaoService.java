@@ -0,0 +1,249 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.ExecutarSimulacaoRequest;
+import com.example.demo.api.dto.SimulacaoDTO;
+import com.example.demo.api.dto.SimulacaoResultadoDTO;
+import com.example.demo.domain.simulation.MonteCarloFoguete.Acompanhamento;
+import com.example.demo.domain.simulation.ParametrosFoguete;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Simulações assíncronas: poucos workers consomem uma fila por prioridade da missão (CRITICA
+// primeiro, FIFO dentro da mesma prioridade), fora das threads do Tomcat
+@Service
+public class FilaSimulacaoService {
+
+    public enum StatusSimulacao { NA_FILA, EXECUTANDO, CONCLUIDA, CANCELADA, FALHOU }
+
+    private final SimulacaoService simulacao;
+    private final ThreadPoolExecutor executor;
+    private final int capacidadeFila;
+    private final int maxJobs;
+    private final long retryAfterSegundos;
+    private final Duration retencao;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final Timer tempoNaFila;
+
+    public FilaSimulacaoService(SimulacaoService simulacao,
+                                @Value("${simulacao.fila.workers:2}") int workers,
+                                @Value("${simulacao.fila.capacidade:100}") int capacidadeFila,
+                                @Value("${simulacao.fila.max-jobs:1000}") int maxJobs,
+                                @Value("${simulacao.fila.retencao-minutos:60}") long retencaoMinutos,
+                                @Value("${simulacao.fila.retry-after-segundos:5}") long retryAfterSegundos,
+                                MeterRegistry registry) {
+        this.simulacao = simulacao;
+        this.capacidadeFila = capacidadeFila;
+        this.maxJobs = maxJobs;
+        this.retryAfterSegundos = retryAfterSegundos;
+        this.retencao = Duration.ofMinutes(retencaoMinutos);
+        // PriorityBlockingQueue não tem limite próprio: a capacidade é verificada em submeter.
+        // Só execute() (nunca submit(), que embrulharia o Job em um FutureTask não comparável)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "simulacao-worker");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.tempoNaFila = Timer.builder("simulacao.fila.espera").register(registry);
+        Gauge.builder("simulacao.fila.tamanho", this, FilaSimulacaoService::tamanhoFila).register(registry);
+        Gauge.builder("simulacao.fila.executando", executor, ThreadPoolExecutor::getActiveCount).register(registry);
+    }
+
+    // Parâmetros são validados antes de enfileirar; resultado em cache conclui o job na hora
+    public SimulacaoDTO submeter(Long missaoId, ExecutarSimulacaoRequest req) {
+        SimulacaoService.Plano plano = simulacao.preparar(missaoId, req);
+        Job job = new Job(plano, sequencia.incrementAndGet());
+        SimulacaoResultadoDTO pronto = simulacao.emCache(plano);
+        if (pronto != null) {
+            job.concluir(pronto);
+            synchronized (executor) {
+                registrar(job);
+            }
+            return job.toDTO(true);
+        }
+        synchronized (executor) {
+            if (executor.getQueue().size() >= capacidadeFila) {
+                throw new FilaSimulacaoCheiaException(capacidadeFila, retryAfterSegundos);
+            }
+            registrar(job);
+            executor.execute(job);
+        }
+        return job.toDTO(false);
+    }
+
+    public SimulacaoDTO obter(Long missaoId, String id) {
+        return buscar(missaoId, id).toDTO(true);
+    }
+
+    // Resultados ficam fora da listagem; consulte cada simulação para obtê-los
+    public List<SimulacaoDTO> listar(Long missaoId) {
+        return jobs.values().stream()
+                .filter(j -> j.plano.missaoId().equals(missaoId))
+                .sorted(Comparator.comparingLong((Job j) -> j.sequencia).reversed())
+                .map(j -> j.toDTO(false))
+                .toList();
+    }
+
+    // Na fila: sai dela imediatamente. Em execução: o Monte Carlo para na próxima execução.
+    // Já encerrada: nada muda
+    public SimulacaoDTO cancelar(Long missaoId, String id) {
+        Job job = buscar(missaoId, id);
+        job.cancelado = true;
+        if (executor.remove(job)) job.encerrar(StatusSimulacao.CANCELADA, null);
+        return job.toDTO(true);
+    }
+
+    // Parâmetros para reconstruir a trajetória nominal de uma simulação concluída; resolucao (s)
+    // troca o passo de saída do plano por uma grade fixa, mais grossa ou mais fina
+    public ParametrosFoguete parametrosTrajetoria(Long missaoId, String id, Double resolucao) {
+        return SimulacaoService.comResolucao(concluida(missaoId, id).plano.parametros(), resolucao);
+    }
+
+    public byte[] graficoTrajetoria(Long missaoId, String id, int largura, int altura) {
+        Job job = concluida(missaoId, id);
+        return simulacao.graficoTrajetoria(job.plano.parametros(), largura, altura, job.plano.descricao());
+    }
+
+    public int tamanhoFila() {
+        return executor.getQueue().size();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void descartarEncerradas() {
+        LocalDateTime limite = LocalDateTime.now().minus(retencao);
+        jobs.values().removeIf(j -> j.concluidaEm != null && j.concluidaEm.isBefore(limite));
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    // jobs tem tamanho máximo, inclusive para acertos de cache que não passam pela fila: no limite
+    // descarta a simulação encerrada mais antiga antes da retenção; sem nenhuma encerrada, recusa
+    private void registrar(Job job) {
+        if (jobs.size() >= maxJobs) {
+            Job maisAntiga = null;
+            for (Job j : jobs.values()) {
+                if (j.concluidaEm != null && (maisAntiga == null || j.sequencia < maisAntiga.sequencia)) {
+                    maisAntiga = j;
+                }
+            }
+            if (maisAntiga == null) throw new FilaSimulacaoCheiaException(maxJobs, retryAfterSegundos);
+            jobs.remove(maisAntiga.id);
+        }
+        jobs.put(job.id, job);
+    }
+
+    private Job concluida(Long missaoId, String id) {
+        Job job = buscar(missaoId, id);
+        if (job.status != StatusSimulacao.CONCLUIDA) {
+            throw new IllegalStateException("Simulação " + id + " não está concluída (status " + job.status + ")");
+        }
+        return job;
+    }
+
+    private Job buscar(Long missaoId, String id) {
+        Job job = jobs.get(id);
+        if (job == null || !job.plano.missaoId().equals(missaoId)) {
+            throw new EntityNotFoundException("Simulação não encontrada: " + id);
+        }
+        return job;
+    }
+
+    private final class Job implements Runnable, Comparable<Job>, Acompanhamento {
+
+        final String id = UUID.randomUUID().toString();
+        final SimulacaoService.Plano plano;
+        final long sequencia;
+        final LocalDateTime criadaEm = LocalDateTime.now();
+        final long criadaNs = System.nanoTime();
+        final AtomicInteger concluidas = new AtomicInteger();
+        volatile StatusSimulacao status = StatusSimulacao.NA_FILA;
+        volatile boolean cancelado;
+        volatile LocalDateTime iniciadaEm, concluidaEm;
+        volatile SimulacaoResultadoDTO resultado;
+        volatile String erro;
+
+        Job(SimulacaoService.Plano plano, long sequencia) {
+            this.plano = plano;
+            this.sequencia = sequencia;
+        }
+
+        @Override
+        public void run() {
+            if (cancelado) {
+                encerrar(StatusSimulacao.CANCELADA, null);
+                return;
+            }
+            iniciadaEm = LocalDateTime.now();
+            tempoNaFila.record(System.nanoTime() - criadaNs, TimeUnit.NANOSECONDS);
+            status = StatusSimulacao.EXECUTANDO;
+            try {
+                concluir(simulacao.executar(plano, this));
+            } catch (CancellationException e) {
+                encerrar(StatusSimulacao.CANCELADA, null);
+            } catch (RuntimeException e) {
+                encerrar(StatusSimulacao.FALHOU, e.getMessage());
+            }
+        }
+
+        void concluir(SimulacaoResultadoDTO r) {
+            resultado = r;
+            concluidas.set(plano.totalExecucoes());
+            encerrar(StatusSimulacao.CONCLUIDA, null);
+        }
+
+        void encerrar(StatusSimulacao s, String mensagem) {
+            erro = mensagem;
+            concluidaEm = LocalDateTime.now();
+            status = s;
+        }
+
+        @Override
+        public void concluida() {
+            concluidas.incrementAndGet();
+        }
+
+        @Override
+        public boolean cancelado() {
+            return cancelado;
+        }
+
+        // Maior prioridade primeiro (o enum vai de BAIXA a CRITICA), depois ordem de chegada
+        @Override
+        public int compareTo(Job outro) {
+            int c = Integer.compare(outro.plano.prioridade().ordinal(), plano.prioridade().ordinal());
+            return c != 0 ? c : Long.compare(sequencia, outro.sequencia);
+        }
+
+        SimulacaoDTO toDTO(boolean comResultado) {
+            int total = plano.totalExecucoes();
+            int feitas = Math.min(concluidas.get(), total);
+            return new SimulacaoDTO(id, plano.missaoId(), status.name(), plano.prioridade().name(),
+                    (double) feitas / total, feitas, total, criadaEm, iniciadaEm, concluidaEm, erro,
+                    comResultado ? resultado : null);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.application;
+
+import com.example.demo.domain.monitoring.ReducaoMinMax;
+import com.example.demo.domain.monitoring.ReducaoSerie;
+import com.example.demo.domain.simulation.SimuladorFoguete;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+// Gráfico PNG da trajetória (altitude e velocidade no tempo) desenhado com Java2D, no lugar do
+// matplotlib do serviço Python. Cada série passa por uma redução min/max com dois pontos por
+// pixel da área útil, então o custo do desenho não depende do passo de saída
+final class GraficoTrajetoria implements SimuladorFoguete.ObservadorTrajetoria {
+
+    private static final int MARGEM_ESQUERDA = 70, MARGEM_DIREITA = 20, MARGEM_TOPO = 30, MARGEM_BASE = 40;
+    private static final int DIVISOES = 5;
+    private static final Color FUNDO = Color.WHITE, GRADE = new Color(225, 225, 225), EIXO = Color.DARK_GRAY;
+    private static final Color COR_ALTITUDE = new Color(31, 119, 180), COR_VELOCIDADE = new Color(214, 39, 40);
+
+    private final int largura, altura;
+    private final double tempoMaximo;
+    private final ReducaoSerie altitude, velocidade;
+
+    GraficoTrajetoria(int largura, int altura, double tempoMaximo) {
+        this.largura = largura;
+        this.altura = altura;
+        this.tempoMaximo = tempoMaximo;
+        int pontos = 2 * Math.max(1, largura - MARGEM_ESQUERDA - MARGEM_DIREITA);
+        long fimMs = (long) Math.ceil(tempoMaximo * 1000) + 1;
+        this.altitude = new ReducaoMinMax(0, fimMs, pontos);
+        this.velocidade = new ReducaoMinMax(0, fimMs, pontos);
+    }
+
+    @Override
+    public void aceitar(double t, double altitude, double velocidade) {
+        long ms = Math.round(t * 1000);
+        this.altitude.aceitar(ms, altitude / 1000);
+        this.velocidade.aceitar(ms, velocidade / 1000);
+    }
+
+    byte[] png(String titulo) {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagem.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setColor(FUNDO);
+            g.fillRect(0, 0, largura, altura);
+            g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 14));
+            g.setColor(EIXO);
+            g.drawString(titulo, MARGEM_ESQUERDA, 20);
+
+            // Dois painéis empilhados com o mesmo eixo de tempo
+            int alturaPainel = (altura - 2 * MARGEM_TOPO - 2 * MARGEM_BASE) / 2;
+            int topo1 = MARGEM_TOPO + 10;
+            int topo2 = topo1 + alturaPainel + MARGEM_BASE + MARGEM_TOPO / 2;
+            g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
+            painel(g, topo1, alturaPainel, altitude, COR_ALTITUDE, "Altitude (km)");
+            painel(g, topo2, alturaPainel, velocidade, COR_VELOCIDADE, "Velocidade (km/s)");
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try {
+            ImageIO.write(imagem, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private void painel(Graphics2D g, int topo, int alturaPainel, ReducaoSerie serie, Color cor, String rotulo) {
+        int esquerda = MARGEM_ESQUERDA;
+        int larguraPainel = largura - MARGEM_ESQUERDA - MARGEM_DIREITA;
+        long[] ts = serie.timestamps();
+        double[] vs = serie.valores();
+        double min = 0, max = 0;
+        for (double v : vs) {
+            if (v < min) min = v;
+            if (v > max) max = v;
+        }
+        if (max - min < 1e-9) max = min + 1;
+        FontMetrics fm = g.getFontMetrics();
+
+        for (int i = 0; i <= DIVISOES; i++) {
+            int y = topo + alturaPainel - i * alturaPainel / DIVISOES;
+            int x = esquerda + i * larguraPainel / DIVISOES;
+            g.setColor(GRADE);
+            g.drawLine(esquerda, y, esquerda + larguraPainel, y);
+            g.drawLine(x, topo, x, topo + alturaPainel);
+            g.setColor(EIXO);
+            String valor = numero(min + i * (max - min) / DIVISOES);
+            g.drawString(valor, esquerda - 6 - fm.stringWidth(valor), y + fm.getAscent() / 2);
+            String tempo = numero(i * tempoMaximo / DIVISOES);
+            g.drawString(tempo, x - fm.stringWidth(tempo) / 2, topo + alturaPainel + fm.getHeight() + 2);
+        }
+        g.setColor(EIXO);
+        g.drawRect(esquerda, topo, larguraPainel, alturaPainel);
+        g.drawString(rotulo, esquerda + 6, topo + fm.getAscent() + 4);
+        String eixoTempo = "Tempo (s)";
+        g.drawString(eixoTempo, esquerda + larguraPainel - fm.stringWidth(eixoTempo),
+                topo + alturaPainel + 2 * fm.getHeight() + 2);
+
+        if (ts.length == 0) return;
+        Path2D.Double linha = new Path2D.Double(Path2D.WIND_NON_ZERO, ts.length);
+        for (int i = 0; i < ts.length; i++) {
+            double x = esquerda + (ts[i] / 1000.0) / tempoMaximo * larguraPainel;
+            double y = topo + alturaPainel - (vs[i] - min) / (max - min) * alturaPainel;
+            if (i == 0) linha.moveTo(x, y);
+            else linha.lineTo(x, y);
+        }
+        g.setColor(cor);
+        g.setStroke(new BasicStroke(1.5f));
+        g.draw(linha);
+        g.setStroke(new BasicStroke(1f));
+    }
+
+    private static String numero(double v) {
+        double abs = Math.abs(v);
+        return String.format(Locale.ROOT, abs >= 100 || abs == 0 ? "%.0f" : abs >= 10 ? "%.1f" : "%.2f", v);
+    }
+}
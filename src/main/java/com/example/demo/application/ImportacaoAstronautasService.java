@@ -0,0 +1,220 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.ImportacaoAstronautasDTO;
+import com.example.demo.api.dto.NovoAstronautaRequest;
+import com.example.demo.infra.repository.AstronautaLoteRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Importação em massa de astronautas: o arquivo é lido registro a registro e gravado em lotes JDBC,
+// cada lote na sua transação. Linhas inválidas são rejeitadas sem interromper a importação,
+// e uma falha no meio do arquivo mantém os lotes já gravados
+@Service
+public class ImportacaoAstronautasService {
+
+    private static final int TAMANHO_MAXIMO_TEXTO = 255;
+    private static final int IDADE_MAXIMA = 150;
+
+    // Colunas aceitas no CSV (sem diferenciar maiúsculas); "id" é ignorada para aceitar a exportação
+    private static final List<String> COLUNAS = List.of("nome", "idade", "ativo", "nivelaptidaomedica", "missoesrealizadas");
+
+    private final AstronautaLoteRepository loteRepo;
+    private final TransactionTemplate tx;
+    private final ObjectReader leitorJson;
+    private final int tamanhoLote;
+    private final int maxErros;
+
+    public ImportacaoAstronautasService(AstronautaLoteRepository loteRepo, TransactionTemplate tx, ObjectMapper mapper,
+                                        @Value("${astronautas.importacao.lote:1000}") int tamanhoLote,
+                                        @Value("${astronautas.importacao.max-erros:1000}") int maxErros) {
+        this.loteRepo = loteRepo;
+        this.tx = tx;
+        this.leitorJson = mapper.readerFor(NovoAstronautaRequest.class);
+        this.tamanhoLote = tamanhoLote;
+        this.maxErros = maxErros;
+    }
+
+    // NDJSON: um astronauta por linha, no formato de POST /api/astronautas
+    public ImportacaoAstronautasDTO importarNdjson(InputStream corpo) throws IOException {
+        Importacao importacao = new Importacao();
+        try (BufferedReader in = leitor(corpo)) {
+            String linha;
+            long numero = 0;
+            while ((linha = in.readLine()) != null) {
+                numero++;
+                if (linha.isBlank()) continue;
+                NovoAstronautaRequest req;
+                try {
+                    req = leitorJson.readValue(linha);
+                } catch (JsonProcessingException e) {
+                    importacao.rejeitar(numero, "JSON inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+                importacao.aceitar(numero, req);
+            }
+        }
+        return importacao.concluir();
+    }
+
+    // CSV com cabeçalho; as colunas podem vir em qualquer ordem e só "nome" é obrigatória. Os erros
+    // apontam a linha física em que o registro começa, mesmo quando um campo tem quebras de linha.
+    // Um registro grande demais (aspas sem par) é o último erro: o leitor para ali e o que já foi
+    // aceito é gravado normalmente
+    public ImportacaoAstronautasDTO importarCsv(InputStream corpo) throws IOException {
+        Importacao importacao = new Importacao();
+        try (BufferedReader in = leitor(corpo)) {
+            Csv.Leitor csv = new Csv.Leitor(in);
+            String registro = csv.proximo();
+            if (registro == null) throw new IllegalArgumentException("CSV vazio: o cabeçalho é obrigatório");
+            Map<String, Integer> colunas = cabecalho(registro.startsWith("\uFEFF") ? registro.substring(1) : registro);
+            while (true) {
+                NovoAstronautaRequest req;
+                try {
+                    registro = csv.proximo();
+                    if (registro == null) break;
+                    if (registro.isBlank()) continue;
+                    req = registro(colunas, Csv.campos(registro));
+                } catch (IllegalArgumentException e) {
+                    importacao.rejeitar(csv.linhaInicial(), e.getMessage());
+                    continue;
+                }
+                importacao.aceitar(csv.linhaInicial(), req);
+            }
+        }
+        return importacao.concluir();
+    }
+
+    private static BufferedReader leitor(InputStream corpo) {
+        return new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Integer> cabecalho(String linha) {
+        Map<String, Integer> colunas = new HashMap<>();
+        List<String> nomes = Csv.campos(linha);
+        for (int i = 0; i < nomes.size(); i++) {
+            String nome = nomes.get(i).trim().toLowerCase(Locale.ROOT);
+            if (nome.equals("id")) continue;
+            if (!COLUNAS.contains(nome)) {
+                throw new IllegalArgumentException("Coluna desconhecida no cabeçalho do CSV: " + nomes.get(i));
+            }
+            if (colunas.put(nome, i) != null) {
+                throw new IllegalArgumentException("Coluna repetida no cabeçalho do CSV: " + nomes.get(i));
+            }
+        }
+        if (!colunas.containsKey("nome")) throw new IllegalArgumentException("O CSV precisa da coluna nome");
+        return colunas;
+    }
+
+    private static NovoAstronautaRequest registro(Map<String, Integer> colunas, List<String> campos) {
+        return new NovoAstronautaRequest(
+                texto(colunas, campos, "nome"),
+                inteiro(texto(colunas, campos, "idade"), "idade"),
+                booleano(texto(colunas, campos, "ativo"), "ativo"),
+                texto(colunas, campos, "nivelaptidaomedica"),
+                inteiro(texto(colunas, campos, "missoesrealizadas"), "missoesRealizadas"));
+    }
+
+    // Coluna ausente, linha curta ou campo vazio: null
+    private static String texto(Map<String, Integer> colunas, List<String> campos, String coluna) {
+        Integer i = colunas.get(coluna);
+        if (i == null || i >= campos.size()) return null;
+        String valor = campos.get(i).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static Integer inteiro(String valor, String campo) {
+        if (valor == null) return null;
+        try {
+            return Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(campo + " deve ser um número inteiro: " + valor);
+        }
+    }
+
+    private static Boolean booleano(String valor, String campo) {
+        if (valor == null) return null;
+        if (valor.equalsIgnoreCase("true")) return true;
+        if (valor.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException(campo + " deve ser true ou false: " + valor);
+    }
+
+    private static String validar(NovoAstronautaRequest a) {
+        if (a == null) return "Registro vazio";
+        if (a.nome() == null || a.nome().isBlank()) return "nome é obrigatório";
+        if (a.nome().length() > TAMANHO_MAXIMO_TEXTO) return "nome excede " + TAMANHO_MAXIMO_TEXTO + " caracteres";
+        if (a.idade() != null && (a.idade() < 0 || a.idade() > IDADE_MAXIMA)) {
+            return "idade deve estar entre 0 e " + IDADE_MAXIMA;
+        }
+        if (a.nivelAptidaoMedica() != null && a.nivelAptidaoMedica().length() > TAMANHO_MAXIMO_TEXTO) {
+            return "nivelAptidaoMedica excede " + TAMANHO_MAXIMO_TEXTO + " caracteres";
+        }
+        if (a.missoesRealizadas() != null && a.missoesRealizadas() < 0) return "missoesRealizadas não pode ser negativo";
+        return null;
+    }
+
+    // Estado de uma importação: só o lote corrente e no máximo maxErros erros ficam em memória
+    private final class Importacao {
+        final List<NovoAstronautaRequest> lote = new ArrayList<>(tamanhoLote);
+        final long[] linhas = new long[tamanhoLote];
+        final List<ImportacaoAstronautasDTO.ErroLinhaDTO> erros = new ArrayList<>();
+        int importadas, rejeitadas;
+
+        void aceitar(long linha, NovoAstronautaRequest req) {
+            String erro = validar(req);
+            if (erro != null) {
+                rejeitar(linha, erro);
+                return;
+            }
+            linhas[lote.size()] = linha;
+            lote.add(req);
+            if (lote.size() == tamanhoLote) gravar();
+        }
+
+        void rejeitar(long linha, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < maxErros) erros.add(new ImportacaoAstronautasDTO.ErroLinhaDTO(linha, mensagem));
+        }
+
+        ImportacaoAstronautasDTO concluir() {
+            gravar();
+            return new ImportacaoAstronautasDTO(importadas + rejeitadas, importadas, rejeitadas, erros);
+        }
+
+        private void gravar() {
+            if (lote.isEmpty()) return;
+            try {
+                tx.executeWithoutResult(s -> loteRepo.inserirLote(lote));
+                importadas += lote.size();
+            } catch (DataAccessException ex) {
+                // Lote recusado pelo banco: regrava linha a linha para apontar só as linhas com problema
+                for (int i = 0; i < lote.size(); i++) {
+                    NovoAstronautaRequest req = lote.get(i);
+                    try {
+                        tx.executeWithoutResult(s -> loteRepo.inserirLote(List.of(req)));
+                        importadas++;
+                    } catch (DataAccessException exLinha) {
+                        rejeitar(linhas[i], "Falha ao gravar: " + exLinha.getMostSpecificCause().getMessage());
+                    }
+                }
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+}
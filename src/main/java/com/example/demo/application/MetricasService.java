@@ -0,0 +1,148 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.EstatisticasMissaoDTO;
+import com.example.demo.api.dto.TelemetriaDTO;
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.mission.MetricasMissao;
+import com.example.demo.domain.monitoring.EstatisticaIncremental;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.domain.monitoring.TaxaJanela;
+import com.example.demo.infra.repository.MetricasMissaoRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class MetricasService {
+
+    static final int JANELA_TAXA_SEGUNDOS = 60;
+    static final String EVENTO_EMERGENCIA = "EMERGENCIA_ATIVADA";
+
+    private final MissaoRepository missaoRepo;
+    private final MetricasMissaoRepository metricasRepo;
+
+    // Agregadores atualizados a cada amostra/evento; consultas não varrem telemetria nem eventos
+    private final Map<Long, AgregadorMissao> agregadores = new ConcurrentHashMap<>();
+
+    public MetricasService(MissaoRepository missaoRepo, MetricasMissaoRepository metricasRepo) {
+        this.missaoRepo = missaoRepo;
+        this.metricasRepo = metricasRepo;
+    }
+
+    public void registrarTelemetria(Long missaoId, List<TelemetriaDTO> lote) {
+        if (lote.isEmpty()) return;
+        AgregadorMissao a = agregador(missaoId);
+        long agora = System.currentTimeMillis();
+        synchronized (a) {
+            for (TelemetriaDTO t : lote) {
+                a.canais.computeIfAbsent(t.canal(), c -> new EstatisticaIncremental()).adicionar(t.valor());
+                a.canaisAlterados.add(t.canal());
+                if (a.ultimaTelemetria == null || t.dataHora().isAfter(a.ultimaTelemetria)) {
+                    a.ultimaTelemetria = t.dataHora();
+                }
+            }
+            a.totalTelemetrias += lote.size();
+            a.taxaTelemetria.registrar(agora, lote.size());
+            a.alterado = true;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRegistrarEvento(EventoMissaoRegistrado e) {
+        if (e.missaoId() == null) return;
+        AgregadorMissao a = agregador(e.missaoId());
+        synchronized (a) {
+            a.totalEventos++;
+            if (EVENTO_EMERGENCIA.equals(e.tipo())) a.totalEmergencias++;
+            a.taxaEventos.registrar(System.currentTimeMillis(), 1);
+            a.alterado = true;
+        }
+    }
+
+    public EstatisticasMissaoDTO obterEstatisticas(Long missaoId) {
+        AgregadorMissao a = agregador(missaoId);
+        long agora = System.currentTimeMillis();
+        synchronized (a) {
+            List<EstatisticasMissaoDTO.CanalDTO> canais = new ArrayList<>(a.canais.size());
+            a.canais.forEach((nome, e) -> canais.add(new EstatisticasMissaoDTO.CanalDTO(nome,
+                    e.getContagem(), e.getMinimo(), e.getMaximo(), e.getMedia(), e.getDesvioPadrao())));
+            canais.sort(Comparator.comparing(EstatisticasMissaoDTO.CanalDTO::canal));
+            return new EstatisticasMissaoDTO(missaoId, a.totalTelemetrias, a.totalEventos, a.totalEmergencias,
+                    a.taxaTelemetria.porSegundo(agora), a.taxaEventos.porSegundo(agora) * 60,
+                    a.ultimaTelemetria, canais);
+        }
+    }
+
+    // Persiste os contadores das missões alteradas desde o último snapshot (tabela metricas_missao,
+    // fora da Missao em cache) e o estado de Welford dos canais que receberam amostras (metricas_canal).
+    // As taxas são janelas de 60 s e não sobrevivem a um restart
+    @Scheduled(fixedDelayString = "${metricas.snapshot-ms:10000}")
+    public void persistirSnapshots() {
+        LocalDateTime agora = LocalDateTime.now();
+        agregadores.forEach((id, a) -> {
+            long telemetrias, eventos, emergencias;
+            LocalDateTime ultima;
+            Map<String, EstatisticaIncremental> canais = new HashMap<>();
+            synchronized (a) {
+                if (!a.alterado) return;
+                a.alterado = false;
+                telemetrias = a.totalTelemetrias;
+                eventos = a.totalEventos;
+                emergencias = a.totalEmergencias;
+                ultima = a.ultimaTelemetria;
+                for (String canal : a.canaisAlterados) canais.put(canal, a.canais.get(canal).copia());
+                a.canaisAlterados.clear();
+            }
+            if (metricasRepo.salvar(id, telemetrias, eventos, emergencias, ultima, agora, canais) == 0) {
+                agregadores.remove(id); // missão removida
+            }
+        });
+    }
+
+    public void descartar(Long missaoId) {
+        agregadores.remove(missaoId);
+        metricasRepo.remover(missaoId);
+    }
+
+    // Na primeira referência após o start, parte do último snapshot persistido (totais e canais)
+    private AgregadorMissao agregador(Long missaoId) {
+        AgregadorMissao a = agregadores.get(missaoId);
+        if (a != null) return a;
+        MetricasMissao salvo = metricasRepo.buscar(missaoId).orElse(null);
+        if (salvo == null && !missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+        AgregadorMissao novo = new AgregadorMissao(salvo,
+                salvo != null ? metricasRepo.buscarCanais(missaoId) : Map.of());
+        a = agregadores.putIfAbsent(missaoId, novo);
+        return a != null ? a : novo;
+    }
+
+    private static final class AgregadorMissao {
+        final Map<String, EstatisticaIncremental> canais = new HashMap<>();
+        final Set<String> canaisAlterados = new HashSet<>();
+        final TaxaJanela taxaTelemetria = new TaxaJanela(JANELA_TAXA_SEGUNDOS);
+        final TaxaJanela taxaEventos = new TaxaJanela(JANELA_TAXA_SEGUNDOS);
+        long totalTelemetrias;
+        long totalEventos;
+        long totalEmergencias;
+        LocalDateTime ultimaTelemetria;
+        boolean alterado;
+
+        AgregadorMissao(MetricasMissao salvo, Map<String, EstatisticaIncremental> canaisSalvos) {
+            canais.putAll(canaisSalvos);
+            if (salvo != null) {
+                totalTelemetrias = salvo.getTotalTelemetrias();
+                totalEventos = salvo.getTotalEventos();
+                totalEmergencias = salvo.getTotalEmergencias();
+                ultimaTelemetria = salvo.getUltimaTelemetria();
+            }
+        }
+    }
+}
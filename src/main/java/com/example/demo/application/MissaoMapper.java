@@ -0,0 +1,31 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.EventoMissaoDTO;
+import com.example.demo.api.dto.MissaoDTO;
+import com.example.demo.domain.mission.EventoMissao;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.monitoring.Instantes;
+
+// Conversão de missões e eventos para os DTOs da API, compartilhada pelos serviços que montam
+// respostas de missão e pelos benchmarks de mapeamento (módulo benchmarks/)
+public final class MissaoMapper {
+
+    private MissaoMapper() {}
+
+    public static MissaoDTO toDTO(Missao m) {
+        return new MissaoDTO(m.getId(), m.getCodigo(), m.getNome(), m.getDescricao(), m.getTipo(), m.getStatus(),
+                m.getPrioridade(), m.getDataInicioPlanejada(), m.getDataFimPlanejada(), m.getDataInicioReal(),
+                m.getDataFimReal(), m.getVersao());
+    }
+
+    public static EventoMissaoDTO toDTO(Long missaoId, EventoMissao e) {
+        return new EventoMissaoDTO(e.getId(), missaoId, e.getTipo(), e.getDescricao(),
+                e.getSeveridade() != null ? e.getSeveridade().name() : null, e.getDataHora());
+    }
+
+    // Evento lido do arquivo de uma missão arquivada (ArquivoMissaoAberto.percorrerEventos)
+    public static EventoMissaoDTO toDTO(Long missaoId, long id, String tipo, String descricao, String severidade,
+                                        long timestampMs) {
+        return new EventoMissaoDTO(id, missaoId, tipo, descricao, severidade, Instantes.deEpochMilli(timestampMs));
+    }
+}
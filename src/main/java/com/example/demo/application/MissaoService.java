@@ -2,81 +2,250 @@ package com.example.demo.application;
 
 import com.example.demo.api.dto.*;
 import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.SeveridadeEvento;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TipoMissao;
+import com.example.demo.domain.mission.TransicaoMissao;
 import com.example.demo.domain.people.Astronauta;
 import com.example.demo.infra.repository.AstronautaRepository;
+import com.example.demo.infra.repository.EventoLoteRepository;
+import com.example.demo.infra.repository.EventoMissaoRepository;
 import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.TelemetriaLoteRepository;
+import com.example.demo.infra.storage.ArquivoMissaoAberto;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
+// Tempo de cada operação (inclui a transação) por método, via @Timed
 @Service
+@Timed("missao.servico")
 public class MissaoService {
 
     private final MissaoRepository missaoRepo;
     private final AstronautaRepository astronautaRepo;
+    private final MetricasService metricas;
+    private final SimulacaoService simulacao;
+    private final RegrasEmergenciaService regras;
+    private final EventoMissaoRepository eventoRepo;
+    private final EventoLoteRepository eventoLoteRepo;
+    private final TelemetriaLoteRepository telemetriaLoteRepo;
+    private final TransicaoMissaoService transicoes;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventos;
+    private final AgendaTripulacaoService agenda;
+    private final TelemetriaLeituraService leitura;
 
-    public MissaoService(MissaoRepository missaoRepo, AstronautaRepository astronautaRepo) {
+    public MissaoService(MissaoRepository missaoRepo, AstronautaRepository astronautaRepo, MetricasService metricas,
+                         SimulacaoService simulacao, RegrasEmergenciaService regras,
+                         EventoMissaoRepository eventoRepo, EventoLoteRepository eventoLoteRepo,
+                         TelemetriaLoteRepository telemetriaLoteRepo,
+                         TransicaoMissaoService transicoes, TransactionTemplate tx,
+                         ApplicationEventPublisher eventos, AgendaTripulacaoService agenda,
+                         TelemetriaLeituraService leitura) {
         this.missaoRepo = missaoRepo;
+        this.leitura = leitura;
+        this.agenda = agenda;
+        this.eventos = eventos;
+        this.transicoes = transicoes;
+        this.tx = tx;
         this.astronautaRepo = astronautaRepo;
+        this.eventoRepo = eventoRepo;
+        this.eventoLoteRepo = eventoLoteRepo;
+        this.telemetriaLoteRepo = telemetriaLoteRepo;
+        this.metricas = metricas;
+        this.simulacao = simulacao;
+        this.regras = regras;
     }
 
     @Transactional
     public MissaoDTO criarMissao(CriarMissaoRequest req) {
         Missao m = new Missao();
+        m.setCodigo(req.codigo());
         m.setNome(req.nome());
+        m.setDescricao(req.descricao());
         m.setTipo(req.tipo());
+        if (req.prioridade() != null) m.setPrioridade(req.prioridade());
+        m.setDataInicioPlanejada(req.dataInicioPlanejada());
+        m.setDataFimPlanejada(req.dataFimPlanejada());
         m.setStatus("PLANEJAMENTO");
-        return toDTO(missaoRepo.save(m));
+        MissaoDTO criada = MissaoMapper.toDTO(missaoRepo.save(m));
+        eventos.publishEvent(new MissaoAlterada(criada.id()));
+        return criada;
     }
 
-    public List<MissaoDTO> listarMissoes() {
-        return missaoRepo.findAll().stream().map(this::toDTO).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PaginaDTO<MissaoDTO> listarMissoes(Long cursor, Integer limite, StatusMissao status,
+                                              TipoMissao tipo, NivelPrioridade prioridade) {
+        int tamanho = Paginas.tamanho(limite);
+        List<MissaoDTO> itens = missaoRepo.listarPagina(cursor != null ? cursor : 0L, status, tipo, prioridade,
+                PageRequest.ofSize(tamanho));
+        return Paginas.pagina(itens, tamanho, MissaoDTO::id);
     }
 
+    @Transactional(readOnly = true)
     public MissaoDTO obterMissao(Long id) {
         Missao m = missaoRepo.findById(id).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + id));
-        return toDTO(m);
+        return MissaoMapper.toDTO(m);
     }
 
     @Transactional
     public MissaoDTO atualizarMissao(Long id, AtualizarMissaoRequest req) {
+        // Status só muda pela máquina de estados (CAS no banco e evento da transição)
+        if (req.status() != null) {
+            throw new IllegalArgumentException("Status não é editável; use POST /api/missoes/" + id
+                    + "/transicoes/{transicao} (PREPARAR leva de PLANEJAMENTO a PRONTA)");
+        }
         Missao m = missaoRepo.findById(id).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + id));
+        // Sem retentativa: uma edição feita sobre uma versão antiga é rejeitada, não reaplicada
+        if (req.versao() != null && req.versao() != m.getVersao()) {
+            throw new ObjectOptimisticLockingFailureException(Missao.class, id);
+        }
         if (req.nome() != null) m.setNome(req.nome());
         if (req.tipo() != null) m.setTipo(req.tipo());
-        if (req.status() != null) m.setStatus(req.status());
-        return toDTO(m);
+        eventos.publishEvent(new MissaoAlterada(id));
+        return MissaoMapper.toDTO(missaoRepo.saveAndFlush(m));
+    }
+
+    // Transição condicional de status: não carrega o agregado nem espera edições em andamento
+    @Transactional
+    public MissaoDTO transicionar(Long id, TransicaoMissao transicao, TransicaoStatusRequest req) {
+        if (transicao.isEmergencia()) {
+            throw new IllegalArgumentException("Use os endpoints de emergência para " + transicao);
+        }
+        Set<StatusMissao> origens = transicao.getOrigens();
+        if (req != null && req.statusEsperado() != null) {
+            StatusMissao esperado = statusMissao(req.statusEsperado());
+            if (!transicao.permite(esperado)) {
+                throw new IllegalStateException("Transição " + transicao + " não permitida a partir do status " + esperado);
+            }
+            origens = EnumSet.of(esperado);
+        }
+        transicoes.exigir(id, transicao, origens, req != null ? req.motivo() : null);
+        return obterMissao(id);
     }
 
     @Transactional
     public void deletarMissao(Long id) {
+        // Eventos e telemetria ficam fora do agregado (sem cascade): removidos direto pela missao_id,
+        // em um comando cada, sem carregar as linhas no contexto de persistência
+        eventoLoteRepo.removerDaMissao(id);
+        telemetriaLoteRepo.removerDaMissao(id);
         missaoRepo.deleteById(id);
+        metricas.descartar(id);
+        regras.descartarMissao(id);
+        eventos.publishEvent(new MissaoAlterada(id));
     }
 
-    @Transactional
+    // Adicionar/remover tripulante é idempotente: em conflito de versão a transação é refeita
     public void adicionarAstronauta(Long missaoId, Long astronautaId) {
-        Missao m = missaoRepo.findById(missaoId).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
-        Astronauta a = astronautaRepo.findById(astronautaId).orElseThrow(() -> new EntityNotFoundException("Astronauta não encontrado com ID: " + astronautaId));
-        m.adicionarTripulante(a);
+        Retentativas.otimista(tx, status -> {
+            Missao m = missaoRepo.findById(missaoId).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+            Astronauta a = astronautaRepo.findById(astronautaId).orElseThrow(() -> new EntityNotFoundException("Astronauta não encontrado com ID: " + astronautaId));
+            m.adicionarTripulante(a);
+            // Recusa astronauta já alocado a outra missão no mesmo período, sem carregar as demais missões
+            agenda.reservar(astronautaId, m);
+            eventos.publishEvent(new MissaoAlterada(missaoId));
+            return missaoRepo.save(m);
+        });
     }
 
-    @Transactional
     public void removerAstronauta(Long missaoId, Long astronautaId) {
+        Retentativas.otimista(tx, status -> {
+            Missao m = missaoRepo.findById(missaoId).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+            Astronauta a = astronautaRepo.findById(astronautaId).orElseThrow(() -> new EntityNotFoundException("Astronauta não encontrado com ID: " + astronautaId));
+            m.removerTripulante(a);
+            eventos.publishEvent(new MissaoAlterada(missaoId));
+            return missaoRepo.save(m);
+        });
+    }
+
+    @Transactional
+    public void registrarEvento(Long missaoId, RegistrarEventoRequest req) {
         Missao m = missaoRepo.findById(missaoId).orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
-        Astronauta a = astronautaRepo.findById(astronautaId).orElseThrow(() -> new EntityNotFoundException("Astronauta não encontrado com ID: " + astronautaId));
-        m.removerTripulante(a);
+        SeveridadeEvento severidade = SeveridadeEvento.INFO;
+        if (req.severidade() != null) {
+            try {
+                severidade = SeveridadeEvento.valueOf(req.severidade().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Severidade do evento inválida: " + req.severidade());
+            }
+        }
+        m.registrarEvento(req.tipo(), req.descricao(), severidade);
+        missaoRepo.save(m);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaDTO<AstronautaDTO> listarTripulacao(Long missaoId, Long cursor, Integer limite) {
+        if (!missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+        int tamanho = Paginas.tamanho(limite);
+        return Paginas.pagina(astronautaRepo.listarTripulacao(missaoId, cursor != null ? cursor : 0L,
+                PageRequest.ofSize(tamanho)), tamanho, AstronautaDTO::id);
+    }
+
+    // Missão arquivada: os eventos arquivados vêm primeiro (ids menores), depois os gravados após o
+    // arquivamento. REPEATABLE_READ: um arquivamento concorrente não faz eventos sumirem nem repetirem
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public PaginaDTO<EventoMissaoDTO> listarEventos(Long missaoId, Long cursor, Integer limite, String tipo) {
+        if (!missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+        return paginaEventos(missaoId, cursor != null ? cursor : 0L, Paginas.tamanho(limite), tipo);
+    }
+
+    // Arquivo da missão (já em ordem de id) primeiro, depois a tabela quente; também usada pela seção
+    // de eventos de DetalheMissaoService
+    PaginaDTO<EventoMissaoDTO> paginaEventos(Long missaoId, long aPartirDe, int tamanho, String tipo) {
+        List<EventoMissaoDTO> itens = new ArrayList<>(tamanho);
+        Optional<ArquivoMissaoAberto> arquivo = leitura.arquivo(missaoId);
+        if (arquivo.isPresent()) {
+            try {
+                arquivo.get().percorrerEventos(aPartirDe, tipo, tamanho, (id, t, descricao, severidade, ts) ->
+                        itens.add(MissaoMapper.toDTO(missaoId, id, t, descricao, severidade, ts)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (itens.size() < tamanho) {
+            long desde = itens.isEmpty() ? aPartirDe : itens.get(itens.size() - 1).id();
+            eventoRepo.listarPagina(missaoId, desde, tipo, PageRequest.ofSize(tamanho - itens.size()))
+                    .forEach(e -> itens.add(MissaoMapper.toDTO(missaoId, e)));
+        }
+        return Paginas.pagina(itens, tamanho, EventoMissaoDTO::id);
+    }
+
+    public EstatisticasMissaoDTO obterEstatisticas(Long missaoId) {
+        return metricas.obterEstatisticas(missaoId);
     }
 
     public SimulacaoResultadoDTO executarSimulacao(Long missaoId, ExecutarSimulacaoRequest req) {
-        return new SimulacaoResultadoDTO(missaoId, "Simulação executada com sucesso", "SUCESSO");
+        return simulacao.executar(missaoId, req);
     }
 
-    private MissaoDTO toDTO(Missao m) {
-        String tipo = m.getTipo() != null ? m.getTipo().name() : null;
-        String status = m.getStatus() != null ? m.getStatus().name() : null;
-        String prioridade = m.getPrioridade() != null ? m.getPrioridade().name() : null;
-        return new MissaoDTO(m.getId(), m.getCodigo(), m.getNome(), m.getDescricao(), tipo, status, prioridade, m.getDataInicioPlanejada(), m.getDataFimPlanejada(), m.getDataInicioReal(), m.getDataFimReal());
+    private static StatusMissao statusMissao(String valor) {
+        try {
+            return StatusMissao.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Status de missão inválido: " + valor);
+        }
     }
-}
\ No newline at end of file
+}
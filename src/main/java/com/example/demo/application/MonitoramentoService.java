@@ -0,0 +1,103 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.MonitoramentoDTO;
+import com.example.demo.api.dto.TelemetriaDTO;
+import com.example.demo.domain.monitoring.BufferCircularTelemetria;
+import com.example.demo.domain.monitoring.Instantes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class MonitoramentoService {
+
+    private final int capacidade;
+    private final long janelaMs;
+
+    // missaoId -> canal -> buffer; nada aqui passa pelo contexto de persistência
+    private final Map<Long, BuffersMissao> buffers = new ConcurrentHashMap<>();
+
+    public MonitoramentoService(
+            @Value("${monitoramento.buffer.capacidade:8192}") int capacidade,
+            @Value("${monitoramento.buffer.janela-minutos:10}") int janelaMinutos) {
+        this.capacidade = capacidade;
+        this.janelaMs = janelaMinutos * 60_000L;
+    }
+
+    public void publicar(Long missaoId, List<TelemetriaDTO> amostras) {
+        while (true) {
+            BuffersMissao b = buffers.computeIfAbsent(missaoId, id -> new BuffersMissao());
+            // Serializa apenas escritores da mesma missão; leitores nunca bloqueiam
+            synchronized (b) {
+                // Descartado pela limpeza entre o computeIfAbsent e o lock: escreve no substituto
+                if (b.descartado) continue;
+                for (TelemetriaDTO t : amostras) {
+                    long ts = Instantes.paraEpochMilli(t.dataHora());
+                    b.canais.computeIfAbsent(t.canal(), c -> new BufferCircularTelemetria(capacidade))
+                            .adicionar(ts, t.valor(), t.unidade());
+                    if (ts > b.ultimaAmostraMs) b.ultimaAmostraMs = ts;
+                }
+                b.ultimaEscritaMs = System.currentTimeMillis();
+                return;
+            }
+        }
+    }
+
+    public MonitoramentoDTO obterMonitoramento(Long missaoId, Integer janelaSegundos, String canal) {
+        BuffersMissao b = buffers.get(missaoId);
+        List<MonitoramentoDTO.CanalDTO> canais = new ArrayList<>();
+        if (b != null) {
+            long janela = janelaSegundos != null ? Math.min(janelaSegundos * 1000L, janelaMs) : janelaMs;
+            long desde = b.ultimaAmostraMs - janela;
+            b.canais.forEach((nome, buffer) -> {
+                if (canal != null && !canal.equals(nome)) return;
+                BufferCircularTelemetria.Leitura l = buffer.ler(desde);
+                int n = l.tamanho();
+                canais.add(new MonitoramentoDTO.CanalDTO(nome, l.unidade(),
+                        n > 0 ? l.valores()[n - 1] : null,
+                        n > 0 ? Instantes.deEpochMilli(l.timestamps()[n - 1]) : null,
+                        l.timestamps(), l.valores()));
+            });
+            canais.sort(Comparator.comparing(MonitoramentoDTO.CanalDTO::canal));
+        }
+        return new MonitoramentoDTO(missaoId, LocalDateTime.now(), canais);
+    }
+
+    // Buffers ao vivo da missão, para leitores que acompanham os canais incrementalmente
+    public Map<String, BufferCircularTelemetria> canais(Long missaoId) {
+        BuffersMissao b = buffers.get(missaoId);
+        return b != null ? b.canais : Map.of();
+    }
+
+    // Libera os buffers de missões que não recebem escritas há mais de duas janelas. Conta pelo relógio
+    // do servidor, não pelo timestamp das amostras: telemetria atrasada ou reenviada continua ativa
+    @Scheduled(fixedDelayString = "${monitoramento.buffer.limpeza-ms:60000}")
+    public void descartarInativos() {
+        long limite = System.currentTimeMillis() - 2 * janelaMs;
+        for (Long id : buffers.keySet()) {
+            buffers.computeIfPresent(id, (k, b) -> {
+                synchronized (b) {
+                    if (b.ultimaEscritaMs >= limite) return b;
+                    b.descartado = true;
+                    return null;
+                }
+            });
+        }
+    }
+
+    private static final class BuffersMissao {
+        final Map<String, BufferCircularTelemetria> canais = new ConcurrentHashMap<>();
+        volatile long ultimaAmostraMs = Long.MIN_VALUE;
+        // Relógio do servidor na última escrita (inatividade)
+        volatile long ultimaEscritaMs = System.currentTimeMillis();
+        // Removido do mapa: escritores que ainda o seguram devem buscar o novo
+        boolean descartado;
+    }
+}
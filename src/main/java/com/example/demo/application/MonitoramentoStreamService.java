@@ -0,0 +1,222 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.EventoMissaoDTO;
+import com.example.demo.api.dto.QuadroTelemetriaDTO;
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.monitoring.BufferCircularTelemetria;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.infra.repository.MissaoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class MonitoramentoStreamService {
+
+    static final double MAX_HZ_PADRAO = 2.0;
+    private static final double MAX_HZ_LIMITE = 50.0;
+    private static final double MIN_HZ_LIMITE = 0.1;
+
+    private final MonitoramentoService monitoramento;
+    private final MissaoRepository missaoRepo;
+    private final int tamanhoFilaEventos;
+    private final long timeoutMs;
+
+    // Relógio só agenda; o envio (que pode bloquear num cliente lento) roda em outro pool
+    private final ScheduledExecutorService relogio;
+    private final ThreadPoolExecutor envio;
+
+    private final Map<Long, Set<Assinante>> assinantes = new ConcurrentHashMap<>();
+
+    private final Timer tempoEnvio;
+    private final Counter quadrosCoalescidos;
+    private final Counter eventosDescartados;
+
+    public MonitoramentoStreamService(
+            MonitoramentoService monitoramento,
+            MissaoRepository missaoRepo,
+            @Value("${monitoramento.stream.fila-eventos:256}") int tamanhoFilaEventos,
+            @Value("${monitoramento.stream.threads-envio:8}") int threadsEnvio,
+            @Value("${monitoramento.stream.timeout-ms:1800000}") long timeoutMs,
+            MeterRegistry registry) {
+        this.monitoramento = monitoramento;
+        this.missaoRepo = missaoRepo;
+        this.tamanhoFilaEventos = tamanhoFilaEventos;
+        this.timeoutMs = timeoutMs;
+        this.relogio = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "monitoramento-relogio"));
+        this.envio = new ThreadPoolExecutor(threadsEnvio, threadsEnvio, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threadsEnvio * 64), r -> daemon(r, "monitoramento-envio"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.tempoEnvio = Timer.builder("monitoramento.stream.envio").register(registry);
+        this.quadrosCoalescidos = Counter.builder("monitoramento.stream.quadros.coalescidos").register(registry);
+        this.eventosDescartados = Counter.builder("monitoramento.stream.eventos.descartados").register(registry);
+        Gauge.builder("monitoramento.stream.assinantes", this, MonitoramentoStreamService::totalAssinantes).register(registry);
+        Gauge.builder("monitoramento.stream.envios.pendentes", envio, e -> e.getQueue().size()).register(registry);
+    }
+
+    public SseEmitter assinar(Long missaoId, Double maxHz, Collection<String> canais) {
+        if (!missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+        double hz = Math.max(MIN_HZ_LIMITE, Math.min(MAX_HZ_LIMITE, maxHz != null ? maxHz : MAX_HZ_PADRAO));
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante a = new Assinante(missaoId, emitter, canais, tamanhoFilaEventos);
+        long periodoMs = Math.max(1, Math.round(1000 / hz));
+        a.tarefa = relogio.scheduleAtFixedRate(() -> agendarEnvio(a), periodoMs, periodoMs, TimeUnit.MILLISECONDS);
+        assinantes.computeIfAbsent(missaoId, id -> ConcurrentHashMap.newKeySet()).add(a);
+        emitter.onCompletion(() -> remover(a));
+        emitter.onTimeout(() -> remover(a));
+        emitter.onError(e -> remover(a));
+        return emitter;
+    }
+
+    // Apenas enfileira: nunca bloqueia quem registrou o evento
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRegistrarEvento(EventoMissaoRegistrado e) {
+        Set<Assinante> lista = assinantes.get(e.missaoId());
+        if (lista == null || lista.isEmpty()) return;
+        EventoMissaoDTO dto = new EventoMissaoDTO(null, e.missaoId(), e.tipo(), e.descricao(),
+                e.severidade() != null ? e.severidade().name() : null, e.dataHora());
+        for (Assinante a : lista) {
+            if (!a.enfileirar(dto)) eventosDescartados.increment();
+        }
+    }
+
+    public int totalAssinantes() {
+        return assinantes.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void agendarEnvio(Assinante a) {
+        // Envio anterior ainda em curso (cliente lento): este quadro é coalescido no próximo
+        if (!a.enviando.compareAndSet(false, true)) {
+            quadrosCoalescidos.increment();
+            return;
+        }
+        try {
+            envio.execute(() -> {
+                try {
+                    tempoEnvio.record(() -> enviar(a));
+                } finally {
+                    a.enviando.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            a.enviando.set(false);
+            quadrosCoalescidos.increment();
+        }
+    }
+
+    private void enviar(Assinante a) {
+        try {
+            EventoMissaoDTO ev;
+            while ((ev = a.eventos.poll()) != null) {
+                a.emitter.send(SseEmitter.event().name("evento").data(ev));
+            }
+            long descartados = a.eventosDescartados.getAndSet(0);
+            if (descartados > 0) {
+                a.emitter.send(SseEmitter.event().name("descarte").data(Map.of("eventosDescartados", descartados)));
+            }
+            QuadroTelemetriaDTO quadro = montarQuadro(a);
+            if (!quadro.canais().isEmpty()) {
+                a.emitter.send(SseEmitter.event().name("telemetria").data(quadro));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            remover(a);
+            a.emitter.completeWithError(ex);
+        }
+    }
+
+    // Downsampling no servidor: agrega tudo que chegou desde o último quadro em último/min/max
+    private QuadroTelemetriaDTO montarQuadro(Assinante a) {
+        List<QuadroTelemetriaDTO.CanalDTO> canais = new ArrayList<>();
+        monitoramento.canais(a.missaoId).forEach((nome, buffer) -> {
+            if (a.canais != null && !a.canais.contains(nome)) return;
+            Visto visto = a.vistos.get(nome);
+            long escritos = buffer.getEscritos();
+            // Primeiro quadro do canal, ou buffer descartado e recriado por MonitoramentoService (outra
+            // instância ou contador que voltou atrás): só a amostra mais recente
+            boolean continua = visto != null && visto.buffer() == buffer && visto.fim() <= escritos;
+            long inicio = continua ? visto.fim() : Math.max(0, escritos - 1);
+            if (escritos <= inicio) return;
+            // A faixa (visto, fim] vem da própria leitura: escritas durante a cópia ficam para o próximo quadro
+            BufferCircularTelemetria.Leitura l = buffer.lerAPartirDe(inicio);
+            long novos = l.fim() - inicio;
+            a.vistos.put(nome, new Visto(buffer, l.fim()));
+            int n = l.tamanho();
+            if (n == 0) return;
+            double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+            for (double v : l.valores()) {
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            canais.add(new QuadroTelemetriaDTO.CanalDTO(nome, l.unidade(), l.valores()[n - 1],
+                    Instantes.deEpochMilli(l.timestamps()[n - 1]), min, max, novos));
+        });
+        return new QuadroTelemetriaDTO(a.missaoId, canais);
+    }
+
+    private void remover(Assinante a) {
+        if (a.tarefa != null) a.tarefa.cancel(false);
+        Set<Assinante> lista = assinantes.get(a.missaoId);
+        if (lista != null) lista.remove(a);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        relogio.shutdownNow();
+        envio.shutdownNow();
+    }
+
+    private static Thread daemon(Runnable r, String nome) {
+        Thread t = new Thread(r, nome);
+        t.setDaemon(true);
+        return t;
+    }
+
+    private record Visto(BufferCircularTelemetria buffer, long fim) {}
+
+    private static final class Assinante {
+        final Long missaoId;
+        final SseEmitter emitter;
+        final Set<String> canais;
+        final ArrayBlockingQueue<EventoMissaoDTO> eventos;
+        final AtomicLong eventosDescartados = new AtomicLong();
+        final AtomicBoolean enviando = new AtomicBoolean();
+        // Último contador de escrita já enviado por canal, com o buffer a que se refere (só acessado
+        // pela thread de envio em curso)
+        final Map<String, Visto> vistos = new HashMap<>();
+        volatile ScheduledFuture<?> tarefa;
+
+        Assinante(Long missaoId, SseEmitter emitter, Collection<String> canais, int tamanhoFila) {
+            this.missaoId = missaoId;
+            this.emitter = emitter;
+            this.canais = canais == null || canais.isEmpty() ? null : Set.copyOf(canais);
+            this.eventos = new ArrayBlockingQueue<>(tamanhoFila);
+        }
+
+        // Fila cheia: descarta o evento mais antigo para manter o mais recente (devolve false)
+        boolean enfileirar(EventoMissaoDTO dto) {
+            boolean semDescarte = true;
+            while (!eventos.offer(dto)) {
+                if (eventos.poll() != null) {
+                    eventosDescartados.incrementAndGet();
+                    semDescarte = false;
+                }
+            }
+            return semDescarte;
+        }
+    }
+}
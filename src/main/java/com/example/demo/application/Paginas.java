@@ -0,0 +1,26 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.PaginaDTO;
+
+import java.util.List;
+import java.util.function.Function;
+
+// Regras comuns de paginação por cursor usadas pelos serviços
+final class Paginas {
+
+    static final int LIMITE_PADRAO = 50;
+    static final int LIMITE_MAXIMO = 500;
+
+    private Paginas() {}
+
+    static int tamanho(Integer limite) {
+        if (limite == null) return LIMITE_PADRAO;
+        if (limite < 1) throw new IllegalArgumentException("Limite deve ser positivo");
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+
+    static <T> PaginaDTO<T> pagina(List<T> itens, int tamanho, Function<T, Long> id) {
+        Long proximo = itens.size() == tamanho ? id.apply(itens.get(itens.size() - 1)) : null;
+        return new PaginaDTO<>(itens, proximo);
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.*;
+import com.example.demo.domain.mission.TipoEmergencia;
+import com.example.demo.domain.monitoring.Comparacao;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.domain.monitoring.MotorRegras;
+import com.example.demo.domain.monitoring.OrigemRegra;
+import com.example.demo.domain.monitoring.RegraCompilada;
+import com.example.demo.domain.monitoring.RegraEmergencia;
+import com.example.demo.domain.monitoring.TipoRegra;
+import com.example.demo.infra.repository.AstronautaRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.RegraEmergenciaRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Detecção de emergências na ingestão: as regras ficam compiladas em memória e cada amostra é
+// avaliada na própria thread de ingestão, sem acesso ao banco. Só o disparo (raro, na borda de
+// subida da violação) vai para a thread de ativação, que abre a transação e ativa os protocolos
+@Service
+public class RegrasEmergenciaService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegrasEmergenciaService.class);
+
+    private final RegraEmergenciaRepository regraRepo;
+    private final MissaoRepository missaoRepo;
+    private final AstronautaRepository astronautaRepo;
+    private final EmergenciaService emergencias;
+    private final MotorRegras telemetria = new MotorRegras();
+    private final MotorRegras biometria = new MotorRegras();
+    private final ThreadPoolExecutor ativacao;
+    private final AtomicLong disparosDescartados = new AtomicLong();
+    // Da detecção pela regra até a emergência ativada no banco
+    private final Timer latenciaAtivacao;
+    // No máximo uma ativação pendente por missão/astronauta e tipo de emergência: disparos em rajada
+    // do mesmo tipo são coalescidos, mas uma regra de outro tipo ativa os seus próprios protocolos
+    private final Set<Pendente> pendentesMissao = ConcurrentHashMap.newKeySet();
+    private final Set<Pendente> pendentesAstronauta = ConcurrentHashMap.newKeySet();
+    // Referências fixas: um method reference capturando this alocaria a cada amostra
+    private final MotorRegras.Disparo disparoTelemetria = this::dispararTelemetria;
+    private final MotorRegras.Disparo disparoBiometria = this::dispararBiometria;
+
+    private record Pendente(long entidadeId, TipoEmergencia tipo) {}
+
+    public RegrasEmergenciaService(RegraEmergenciaRepository regraRepo, MissaoRepository missaoRepo,
+                                   AstronautaRepository astronautaRepo, EmergenciaService emergencias,
+                                   @Value("${emergencia.regras.fila-ativacao:1024}") int filaAtivacao,
+                                   MeterRegistry registry) {
+        this.regraRepo = regraRepo;
+        this.missaoRepo = missaoRepo;
+        this.astronautaRepo = astronautaRepo;
+        this.emergencias = emergencias;
+        // Uma thread: ativações da mesma missão não disputam a linha; fila limitada para não
+        // acumular disparos se o banco travar
+        this.ativacao = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(filaAtivacao), r -> {
+                    Thread t = new Thread(r, "emergencia-ativacao");
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.latenciaAtivacao = Timer.builder("emergencia.ativacao.latencia").register(registry);
+        Gauge.builder("emergencia.ativacao.pendentes", ativacao, e -> e.getQueue().size()).register(registry);
+        FunctionCounter.builder("emergencia.disparos.descartados", this, RegrasEmergenciaService::getDisparosDescartados)
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recarregar() {
+        List<RegraEmergencia> regras = regraRepo.findAll();
+        telemetria.carregar(regras.stream().filter(r -> r.getOrigem() == OrigemRegra.TELEMETRIA).toList());
+        biometria.carregar(regras.stream().filter(r -> r.getOrigem() == OrigemRegra.BIOMETRIA).toList());
+    }
+
+    public void avaliarTelemetria(Long missaoId, TelemetriaDTO t) {
+        telemetria.avaliar(missaoId, t.canal(), Instantes.paraEpochMilli(t.dataHora()), t.valor(),
+                disparoTelemetria);
+    }
+
+    public void avaliarBiometria(Long astronautaId, DadosBiometricosDTO d) {
+        biometria.avaliar(astronautaId, d.tipo(), Instantes.paraEpochMilli(d.dataHora()), d.valor(),
+                disparoBiometria);
+    }
+
+    public void descartarMissao(Long missaoId) {
+        telemetria.descartar(missaoId);
+    }
+
+    public List<RegraEmergenciaDTO> listar() {
+        return regraRepo.findAll().stream().map(this::toDTO).toList();
+    }
+
+    public RegraEmergenciaDTO criar(CriarRegraEmergenciaRequest req) {
+        RegraEmergencia r = new RegraEmergencia();
+        r.setNome(req.nome());
+        r.setOrigem(valorEnum(OrigemRegra.class, req.origem(), "Origem"));
+        r.setTipo(valorEnum(TipoRegra.class, req.tipo(), "Tipo de regra"));
+        r.setComparacao(valorEnum(Comparacao.class, req.comparacao(), "Comparação"));
+        r.setLimite(req.limite());
+        r.setEntidadeId(req.entidadeId());
+        r.setCanal(r.getOrigem() == OrigemRegra.BIOMETRIA ? BiometriaService.normalizarTipo(req.canal()) : req.canal());
+        if (req.tipoEmergencia() != null) r.setTipoEmergencia(EmergenciaService.tipoEmergencia(req.tipoEmergencia()));
+        if (r.getTipo() == TipoRegra.N_DE_M) {
+            if (req.n() == null || req.m() == null || req.n() < 1 || req.n() > req.m()
+                    || req.m() > RegraCompilada.M_MAXIMO) {
+                throw new IllegalArgumentException("N_DE_M exige 1 <= n <= m <= " + RegraCompilada.M_MAXIMO);
+            }
+            r.setN(req.n());
+            r.setM(req.m());
+        }
+        if (req.entidadeId() != null) verificarEntidade(r.getOrigem(), req.entidadeId());
+        r = regraRepo.save(r);
+        recarregar();
+        return toDTO(r);
+    }
+
+    public void remover(Long id) {
+        if (!regraRepo.existsById(id)) {
+            throw new EntityNotFoundException("Regra não encontrada com ID: " + id);
+        }
+        regraRepo.deleteById(id);
+        recarregar();
+    }
+
+    public long getDisparosDescartados() {
+        return disparosDescartados.get();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        ativacao.shutdownNow();
+    }
+
+    private void dispararTelemetria(long missaoId, RegraCompilada regra, long timestampMs, double valor) {
+        long detectadoEm = System.nanoTime();
+        Pendente pendente = new Pendente(missaoId, regra.tipoEmergencia());
+        if (!pendentesMissao.add(pendente)) return;
+        agendar(pendente, pendentesMissao, () -> {
+            pendentesMissao.remove(pendente);
+            ativar(missaoId, regra, valor, detectadoEm);
+        });
+    }
+
+    // A biometria chega por astronauta: a emergência vai para as missões em curso dele
+    private void dispararBiometria(long astronautaId, RegraCompilada regra, long timestampMs, double valor) {
+        long detectadoEm = System.nanoTime();
+        Pendente pendente = new Pendente(astronautaId, regra.tipoEmergencia());
+        if (!pendentesAstronauta.add(pendente)) return;
+        agendar(pendente, pendentesAstronauta, () -> {
+            pendentesAstronauta.remove(pendente);
+            for (Long missaoId : missaoRepo.listarEmCursoDoAstronauta(astronautaId)) {
+                ativar(missaoId, regra, valor, detectadoEm);
+            }
+        });
+    }
+
+    private void agendar(Pendente pendente, Set<Pendente> pendentes, Runnable tarefa) {
+        try {
+            ativacao.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            pendentes.remove(pendente);
+            disparosDescartados.incrementAndGet();
+            log.error("Fila de ativação de emergências cheia; disparo descartado");
+        }
+    }
+
+    private void ativar(Long missaoId, RegraCompilada regra, double valor, long detectadoEm) {
+        String descricao = String.format(Locale.ROOT, "Regra '%s': %s = %s (%s %s %s)", regra.nome(), regra.canal(),
+                valor, regra.tipo(), regra.comparacao(), regra.limite());
+        try {
+            EmergenciaDTO e = emergencias.ativarAutomatica(missaoId, regra.tipoEmergencia(), descricao, regra.nome());
+            if (e != null) {
+                latenciaAtivacao.record(System.nanoTime() - detectadoEm, TimeUnit.NANOSECONDS);
+                log.warn("Emergência {} ativada na missão {} pela regra '{}' em {} ms ({} protocolos)",
+                        regra.tipoEmergencia(), missaoId, regra.nome(),
+                        String.format(Locale.ROOT, "%.2f", (System.nanoTime() - detectadoEm) / 1e6),
+                        e.protocolos().size());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Falha ao ativar emergência na missão {} pela regra '{}'", missaoId, regra.nome(), ex);
+        }
+    }
+
+    private void verificarEntidade(OrigemRegra origem, Long entidadeId) {
+        boolean existe = origem == OrigemRegra.TELEMETRIA ? missaoRepo.existsById(entidadeId)
+                : astronautaRepo.existsById(entidadeId);
+        if (!existe) {
+            throw new EntityNotFoundException((origem == OrigemRegra.TELEMETRIA ? "Missão" : "Astronauta")
+                    + " não encontrado(a) com ID: " + entidadeId);
+        }
+    }
+
+    private static <E extends Enum<E>> E valorEnum(Class<E> tipo, String valor, String campo) {
+        try {
+            return Enum.valueOf(tipo, valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(campo + " inválido(a): " + valor);
+        }
+    }
+
+    private RegraEmergenciaDTO toDTO(RegraEmergencia r) {
+        return new RegraEmergenciaDTO(r.getId(), r.getNome(), r.getOrigem().name(), r.getEntidadeId(), r.getCanal(),
+                r.getTipo().name(), r.getComparacao().name(), r.getLimite(), r.getN(), r.getM(),
+                r.getTipoEmergencia().name(), Boolean.TRUE.equals(r.getAtiva()));
+    }
+}
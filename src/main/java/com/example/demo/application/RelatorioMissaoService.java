@@ -0,0 +1,123 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.EventoMissaoDTO;
+import com.example.demo.api.dto.RelatorioMissaoDTO;
+import com.example.demo.domain.mission.ArquivoMissao;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.monitoring.EstatisticaIncremental;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.infra.repository.ArquivoMissaoRepository;
+import com.example.demo.infra.repository.EventoLoteRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.storage.ArmazemArquivosMissao;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+// Relatório da missão montado em uma varredura da telemetria e dos eventos, sem materializar
+// amostras: estatísticas incrementais por canal e só os últimos eventos ficam em memória
+@Service
+public class RelatorioMissaoService {
+
+    static final int ULTIMOS_EVENTOS = 100;
+
+    // Limites do Timestamp do JDBC que cobrem qualquer amostra gravada
+    private static final LocalDateTime INICIO = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FIM = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final MissaoRepository missaoRepo;
+    private final TelemetriaLeituraService telemetria;
+    private final EventoLoteRepository eventoRepo;
+    private final ArquivoMissaoRepository arquivoRepo;
+    private final ArmazemArquivosMissao arquivos;
+
+    public RelatorioMissaoService(MissaoRepository missaoRepo, TelemetriaLeituraService telemetria,
+                                  EventoLoteRepository eventoRepo, ArquivoMissaoRepository arquivoRepo,
+                                  ArmazemArquivosMissao arquivos) {
+        this.missaoRepo = missaoRepo;
+        this.telemetria = telemetria;
+        this.eventoRepo = eventoRepo;
+        this.arquivoRepo = arquivoRepo;
+        this.arquivos = arquivos;
+    }
+
+    // REPEATABLE_READ: um arquivamento concorrente não faz dados sumirem nem aparecerem duas vezes
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public RelatorioMissaoDTO gerar(Long missaoId) {
+        Missao m = missaoRepo.findById(missaoId)
+                .orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+        ArquivoMissao arquivo = arquivoRepo.findByMissaoId(missaoId).orElse(null);
+
+        Map<String, Canal> canais = new TreeMap<>();
+        telemetria.percorrer(missaoId, null, INICIO, FIM,
+                (canal, ts, valor) -> canais.computeIfAbsent(canal, c -> new Canal()).aceitar(ts, valor));
+
+        Eventos eventos = new Eventos();
+        if (arquivo != null) {
+            try {
+                arquivos.abrir(arquivo.getArquivo()).percorrerEventos((id, tipo, descricao, severidade, ts) ->
+                        eventos.accept(MissaoMapper.toDTO(missaoId, id, tipo, descricao, severidade, ts)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        eventoRepo.percorrerDaMissao(missaoId, eventos);
+
+        List<RelatorioMissaoDTO.CanalDTO> porCanal = new ArrayList<>(canais.size());
+        long totalAmostras = 0;
+        for (Map.Entry<String, Canal> e : canais.entrySet()) {
+            Canal c = e.getValue();
+            EstatisticaIncremental est = c.estatistica;
+            totalAmostras += est.getContagem();
+            porCanal.add(new RelatorioMissaoDTO.CanalDTO(e.getKey(), est.getContagem(),
+                    Instantes.deEpochMilli(c.primeira), Instantes.deEpochMilli(c.ultima), est.getMinimo(),
+                    est.getMaximo(), est.getMedia(), est.getDesvioPadrao(), c.ultimoValor));
+        }
+        return new RelatorioMissaoDTO(MissaoMapper.toDTO(m), totalAmostras, porCanal, eventos.total,
+                eventos.porTipo, eventos.porSeveridade, new ArrayList<>(eventos.ultimos),
+                arquivo != null ? ArquivamentoMissaoService.dto(arquivo) : null, LocalDateTime.now());
+    }
+
+    private static final class Canal {
+        final EstatisticaIncremental estatistica = new EstatisticaIncremental();
+        long primeira = Long.MAX_VALUE, ultima = Long.MIN_VALUE;
+        double ultimoValor;
+
+        void aceitar(long ts, double valor) {
+            estatistica.adicionar(valor);
+            if (ts < primeira) primeira = ts;
+            if (ts >= ultima) {
+                ultima = ts;
+                ultimoValor = valor;
+            }
+        }
+    }
+
+    // Eventos chegam em ordem de tempo (primeiro os arquivados, depois os das tabelas quentes)
+    private static final class Eventos implements Consumer<EventoMissaoDTO> {
+        final Map<String, Long> porTipo = new TreeMap<>();
+        final Map<String, Long> porSeveridade = new TreeMap<>();
+        final ArrayDeque<EventoMissaoDTO> ultimos = new ArrayDeque<>(ULTIMOS_EVENTOS);
+        long total;
+
+        @Override
+        public void accept(EventoMissaoDTO e) {
+            total++;
+            porTipo.merge(e.tipo(), 1L, Long::sum);
+            if (e.severidade() != null) porSeveridade.merge(e.severidade(), 1L, Long::sum);
+            if (ultimos.size() == ULTIMOS_EVENTOS) ultimos.removeFirst();
+            ultimos.addLast(e);
+        }
+    }
+}
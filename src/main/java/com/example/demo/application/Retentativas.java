@@ -0,0 +1,32 @@
+package com.example.demo.application;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+// Reexecuta a transação inteira quando a verificação de @Version falha. Só para operações
+// idempotentes, que reaplicadas sobre o estado mais novo produzem o mesmo resultado
+final class Retentativas {
+
+    static final int MAX_TENTATIVAS = 10;
+    private static final long ESPERA_BASE_NS = 5_000_000L;
+    private static final long ESPERA_MAXIMA_NS = 200_000_000L;
+
+    private Retentativas() {}
+
+    static <T> T otimista(TransactionTemplate tx, TransactionCallback<T> acao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return tx.execute(acao);
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= MAX_TENTATIVAS) throw e;
+                // Backoff exponencial com jitter para que as escritas concorrentes não colidam de novo
+                long teto = Math.min(ESPERA_MAXIMA_NS, ESPERA_BASE_NS << tentativa);
+                LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(teto));
+            }
+        }
+    }
+}
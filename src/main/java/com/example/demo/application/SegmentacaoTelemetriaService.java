@@ -0,0 +1,170 @@
+package com.example.demo.application;
+
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.SegmentoTelemetria;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.SegmentoTelemetriaRepository;
+import com.example.demo.infra.repository.TelemetriaLoteRepository;
+import com.example.demo.infra.storage.ArmazemSegmentos;
+import com.example.demo.infra.storage.EscritorSegmento;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// Move telemetria envelhecida (ou de missões encerradas) das linhas em telemetrias para
+// segmentos append-only em disco
+@Service
+public class SegmentacaoTelemetriaService {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentacaoTelemetriaService.class);
+
+    static final Set<StatusMissao> ENCERRADAS = EnumSet.of(StatusMissao.CONCLUIDA, StatusMissao.ABORTADA);
+
+    private final MissaoRepository missaoRepo;
+    private final TelemetriaLoteRepository loteRepo;
+    private final SegmentoTelemetriaRepository segmentoRepo;
+    private final ArmazemSegmentos armazem;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate txNova;
+    private final int idadeHoras;
+    private final long maxRegistrosPorSegmento;
+
+    public SegmentacaoTelemetriaService(MissaoRepository missaoRepo, TelemetriaLoteRepository loteRepo,
+                                        SegmentoTelemetriaRepository segmentoRepo, ArmazemSegmentos armazem,
+                                        PlatformTransactionManager txManager,
+                                        @Value("${telemetria.segmentos.idade-horas:6}") int idadeHoras,
+                                        @Value("${telemetria.segmentos.max-registros:10000000}") long maxRegistrosPorSegmento) {
+        this.missaoRepo = missaoRepo;
+        this.loteRepo = loteRepo;
+        this.segmentoRepo = segmentoRepo;
+        this.armazem = armazem;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.txNova = new TransactionTemplate(txManager);
+        this.txNova.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.idadeHoras = idadeHoras;
+        this.maxRegistrosPorSegmento = maxRegistrosPorSegmento;
+    }
+
+    @Scheduled(fixedDelayString = "${telemetria.segmentos.intervalo-ms:300000}",
+               initialDelayString = "${telemetria.segmentos.intervalo-ms:300000}")
+    public void segmentarEnvelhecida() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime corteAtivas = agora.minusHours(idadeHoras);
+        for (Object[] m : missaoRepo.listarComTelemetria()) {
+            Long id = (Long) m[0];
+            LocalDateTime corte = ENCERRADAS.contains((StatusMissao) m[1]) ? agora : corteAtivas;
+            try {
+                if (loteRepo.existeAnterior(id, corte)) segmentar(id, corte);
+            } catch (RuntimeException e) {
+                log.error("Falha ao segmentar telemetria da missão {}", id, e);
+            }
+        }
+    }
+
+    // Grava as linhas anteriores ao corte em segmentos, registra-os e remove as linhas na mesma
+    // transação. Os arquivos só são publicados antes do commit; se ele falhar, são apagados
+    public long segmentar(Long missaoId, LocalDateTime corte) {
+        List<EscritorSegmento> escritores = new ArrayList<>();
+        try {
+            Long total = tx.execute(status -> {
+                long[] contagem = {0};
+                loteRepo.percorrerAnteriores(missaoId, corte, (canal, unidade, ts, valor) -> {
+                    try {
+                        EscritorSegmento atual = escritores.isEmpty() ? null : escritores.get(escritores.size() - 1);
+                        if (atual == null || atual.getRegistros() >= maxRegistrosPorSegmento) {
+                            atual = armazem.novoEscritor(missaoId);
+                            escritores.add(atual);
+                        }
+                        atual.adicionar(canal, unidade, ts, valor);
+                        contagem[0]++;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                for (EscritorSegmento e : escritores) registrar(missaoId, e);
+                int removidas = loteRepo.removerAnteriores(missaoId, corte);
+                if (removidas != contagem[0]) {
+                    throw new IllegalStateException("Divergência ao segmentar missão " + missaoId
+                            + ": " + contagem[0] + " gravadas, " + removidas + " removidas");
+                }
+                return contagem[0];
+            });
+            log.info("Missão {}: {} amostras movidas para {} segmento(s)", missaoId, total, escritores.size());
+            return total != null ? total : 0;
+        } catch (RuntimeException e) {
+            descartar(escritores);
+            throw e;
+        }
+    }
+
+    // Missão removida: os segmentos dela vão junto (registros e arquivos, após o commit da exclusão)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMissao(MissaoAlterada e) {
+        List<String> arquivos = txNova.execute(s -> {
+            if (missaoRepo.existsById(e.missaoId())) return List.<String>of();
+            List<String> nomes = segmentoRepo.findByMissaoIdOrderByTsInicio(e.missaoId()).stream()
+                    .map(SegmentoTelemetria::getArquivo)
+                    .toList();
+            if (!nomes.isEmpty()) segmentoRepo.removerDaMissao(e.missaoId());
+            return nomes;
+        });
+        if (arquivos == null || arquivos.isEmpty()) return;
+        for (String arquivo : arquivos) {
+            try {
+                armazem.remover(arquivo);
+            } catch (IOException ex) {
+                log.warn("Não foi possível remover o segmento {}", arquivo, ex);
+            }
+        }
+        try {
+            armazem.removerDiretorioVazio(e.missaoId());
+        } catch (IOException ex) {
+            log.warn("Não foi possível remover o diretório de segmentos da missão {}", e.missaoId(), ex);
+        }
+        log.info("Missão {} removida: {} segmento(s) apagados", e.missaoId(), arquivos.size());
+    }
+
+    private void registrar(Long missaoId, EscritorSegmento e) {
+        try {
+            long bytes = e.finalizar();
+            SegmentoTelemetria s = new SegmentoTelemetria();
+            s.setMissaoId(missaoId);
+            s.setArquivo(armazem.nomeRelativo(e.getDestino()));
+            s.setTsInicio(e.getTsMin());
+            s.setTsFim(e.getTsMax());
+            s.setRegistros(e.getRegistros());
+            s.setBytes(bytes);
+            segmentoRepo.save(s);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void descartar(List<EscritorSegmento> escritores) {
+        for (EscritorSegmento e : escritores) {
+            try {
+                e.close();
+                Files.deleteIfExists(e.getDestino());
+            } catch (IOException ex) {
+                log.warn("Não foi possível descartar {}", e.getDestino(), ex);
+            }
+        }
+    }
+}
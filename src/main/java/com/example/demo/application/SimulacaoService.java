@@ -0,0 +1,350 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.DispersaoSimulacaoDTO;
+import com.example.demo.api.dto.ExecutarSimulacaoRequest;
+import com.example.demo.api.dto.SimulacaoResultadoDTO;
+import com.example.demo.domain.mission.ConfiguracaoMissao;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.monitoring.EstatisticaIncremental;
+import com.example.demo.domain.monitoring.HistogramaQuantis;
+import com.example.demo.domain.simulation.AcumuladorMonteCarlo;
+import com.example.demo.domain.simulation.AcumuladorMonteCarlo.Metrica;
+import com.example.demo.domain.simulation.Dispersao;
+import com.example.demo.domain.simulation.EscritorTrajetoria;
+import com.example.demo.domain.simulation.MonteCarloFoguete;
+import com.example.demo.domain.simulation.MonteCarloFoguete.Acompanhamento;
+import com.example.demo.domain.simulation.ParametrosFoguete;
+import com.example.demo.domain.simulation.ResultadoSimulacao;
+import com.example.demo.domain.simulation.SimuladorFoguete;
+import com.example.demo.infra.repository.MissaoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Simulação de lançamento executada em processo (antes delegada ao serviço Python)
+@Service
+public class SimulacaoService {
+
+    static final int EXECUCOES_PADRAO = 1000;
+    static final double[] PERCENTIS = {0.01, 0.05, 0.5, 0.95, 0.99};
+    static final int DIMENSAO_MINIMA_GRAFICO = 200;
+    static final int DIMENSAO_MAXIMA_GRAFICO = 4000;
+
+    // Dispersões padrão (1σ relativo) e critério de sucesso: cruzar a linha de Kármán
+    static final Dispersao DISPERSAO_PADRAO = new Dispersao(0.02, 0.10, 0.01, 0.02, 100_000, Double.POSITIVE_INFINITY);
+
+    // Requisição já resolvida contra a missão. chave nula: resultado não reaproveitável
+    // (Monte Carlo sem semente informada)
+    record Plano(Long missaoId, NivelPrioridade prioridade, String descricao, ParametrosFoguete parametros,
+                 Dispersao dispersao, int execucoes, long semente, String chave) {
+
+        // Execução nominal + execuções de Monte Carlo, para o progresso
+        int totalExecucoes() {
+            return 1 + (dispersao != null ? execucoes : 0);
+        }
+    }
+
+    // O que é caro de recalcular; descrição e missão entram só na montagem do DTO
+    private record Calculo(ResultadoSimulacao nominal, double duracaoMs, DispersaoSimulacaoDTO dispersao) {}
+
+    private final MissaoRepository missaoRepo;
+    private final SimuladorFoguete simulador = new SimuladorFoguete();
+    private final MonteCarloFoguete monteCarlo = new MonteCarloFoguete();
+    private final ForkJoinPool pool;
+    private final int maxExecucoes;
+    private final int maxExecucoesSincronas;
+    private final Map<String, Calculo> cache;
+    private final Timer tempoNominal;
+    private final Timer tempoMonteCarlo;
+    private final Counter acertosCache;
+    private final Counter falhasCache;
+
+    // Pool próprio para não disputar o commonPool com parallel streams e CompletableFutures da aplicação
+    public SimulacaoService(MissaoRepository missaoRepo,
+                            @Value("${simulacao.monte-carlo.paralelismo:0}") int paralelismo,
+                            @Value("${simulacao.monte-carlo.max-execucoes:100000}") int maxExecucoes,
+                            @Value("${simulacao.monte-carlo.max-execucoes-sincronas:1000}") int maxExecucoesSincronas,
+                            @Value("${simulacao.cache.max-entradas:256}") int maxEntradasCache,
+                            MeterRegistry registry) {
+        this.missaoRepo = missaoRepo;
+        this.pool = new ForkJoinPool(paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors());
+        this.maxExecucoes = maxExecucoes;
+        this.maxExecucoesSincronas = maxExecucoesSincronas;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Calculo> maisAntiga) {
+                return size() > maxEntradasCache;
+            }
+        };
+        this.tempoNominal = Timer.builder("simulacao.execucao").tag("etapa", "nominal").register(registry);
+        this.tempoMonteCarlo = Timer.builder("simulacao.execucao").tag("etapa", "monte-carlo").register(registry);
+        this.acertosCache = Counter.builder("simulacao.cache").tag("resultado", "acerto").register(registry);
+        this.falhasCache = Counter.builder("simulacao.cache").tag("resultado", "falha").register(registry);
+    }
+
+    // Sem transação: a missão só fornece a configuração, e a integração não deve segurar conexão.
+    // Roda na thread da requisição, então o Monte Carlo tem um teto baixo; análises maiores vão pela fila
+    public SimulacaoResultadoDTO executar(Long missaoId, ExecutarSimulacaoRequest req) {
+        Plano plano = preparar(missaoId, req);
+        if (plano.dispersao() != null && plano.execucoes() > maxExecucoesSincronas) {
+            throw new IllegalArgumentException("Monte Carlo síncrono limitado a " + maxExecucoesSincronas
+                    + " execuções; use POST /api/missoes/" + missaoId + "/simulacoes para até " + maxExecucoes);
+        }
+        return executar(plano, Acompanhamento.NENHUM);
+    }
+
+    // Valida e resolve a requisição; erros de parâmetro aparecem aqui, antes de qualquer enfileiramento
+    Plano preparar(Long missaoId, ExecutarSimulacaoRequest req) {
+        Missao m = missaoRepo.findById(missaoId)
+                .orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+        ParametrosFoguete p = parametros(m.getConfiguracao(), req);
+        NivelPrioridade prioridade = m.getPrioridade() != null ? m.getPrioridade() : NivelPrioridade.MEDIA;
+        String descricao = req != null && req.descricao() != null ? req.descricao()
+                : "Simulação de Lançamento de Foguete";
+        ExecutarSimulacaoRequest.MonteCarlo mc = req != null ? req.monteCarlo() : null;
+        if (mc == null) {
+            return new Plano(missaoId, prioridade, descricao, p, null, 0, 0, chave(p, null, 0, 0));
+        }
+
+        int execucoes = mc.execucoes() != null ? mc.execucoes() : EXECUCOES_PADRAO;
+        if (execucoes < 1 || execucoes > maxExecucoes) {
+            throw new IllegalArgumentException("Execuções de Monte Carlo devem estar entre 1 e " + maxExecucoes);
+        }
+        Dispersao d = DISPERSAO_PADRAO;
+        Dispersao dispersao = new Dispersao(
+                valor(mc.dispersaoEmpuxo(), d.sigmaEmpuxo()),
+                valor(mc.dispersaoArrasto(), d.sigmaArrasto()),
+                valor(mc.dispersaoMassa(), d.sigmaMassa()),
+                valor(mc.dispersaoQueima(), d.sigmaQueima()),
+                valor(mc.apogeuMinimo(), d.apogeuMinimo()),
+                valor(mc.maxQLimite(), d.maxQLimite()));
+        // Sem semente informada, sorteia uma e a devolve para que a análise possa ser repetida
+        long semente = mc.semente() != null ? mc.semente() : ThreadLocalRandom.current().nextLong();
+        String chave = mc.semente() != null ? chave(p, dispersao, execucoes, semente) : null;
+        return new Plano(missaoId, prioridade, descricao, p, dispersao, execucoes, semente, chave);
+    }
+
+    SimulacaoResultadoDTO emCache(Plano plano) {
+        if (plano.chave() == null) return null;
+        Calculo c;
+        synchronized (cache) {
+            c = cache.get(plano.chave());
+        }
+        if (c == null) return null;
+        acertosCache.increment();
+        return montar(plano, c, true);
+    }
+
+    SimulacaoResultadoDTO executar(Plano plano, Acompanhamento acompanhamento) {
+        SimulacaoResultadoDTO pronto = emCache(plano);
+        if (pronto != null) return pronto;
+        falhasCache.increment();
+
+        if (acompanhamento.cancelado()) throw new CancellationException("Simulação cancelada");
+        long inicio = System.nanoTime();
+        ResultadoSimulacao r = simulador.simular(plano.parametros());
+        long duracaoNs = System.nanoTime() - inicio;
+        tempoNominal.record(duracaoNs, TimeUnit.NANOSECONDS);
+        double duracaoMs = duracaoNs / 1e6;
+        acompanhamento.concluida();
+
+        DispersaoSimulacaoDTO dispersao = plano.dispersao() != null ? executarMonteCarlo(plano, acompanhamento) : null;
+        Calculo c = new Calculo(r, duracaoMs, dispersao);
+        if (plano.chave() != null) {
+            synchronized (cache) {
+                cache.put(plano.chave(), c);
+            }
+        }
+        return montar(plano, c, false);
+    }
+
+    private SimulacaoResultadoDTO montar(Plano plano, Calculo c, boolean emCache) {
+        ResultadoSimulacao r = c.nominal();
+        DispersaoSimulacaoDTO dispersao = c.dispersao();
+        String mensagem = String.format(Locale.ROOT,
+                "Simulação de foguete concluída. Apogeu: %.2f km, Velocidade máxima: %.2f km/s",
+                r.apogeu() / 1000, r.velocidadeMaxima() / 1000);
+        if (dispersao != null) {
+            mensagem += String.format(Locale.ROOT, ". Monte Carlo: %d execuções, probabilidade de falha %.2f%%",
+                    dispersao.execucoes(), dispersao.probabilidadeFalha() * 100);
+        }
+        return new SimulacaoResultadoDTO(plano.missaoId(), mensagem, "SUCESSO", plano.descricao(),
+                r.apogeu(), r.tempoApogeu(), r.velocidadeMaxima(), r.tempoVelocidadeMaxima(),
+                r.maxQ(), r.tempoMaxQ(), r.altitudeFimQueima(), r.velocidadeFimQueima(),
+                r.pontos(), r.passosAceitos() + r.passosRejeitados(), r.avaliacoes(), c.duracaoMs(), emCache,
+                dispersao);
+    }
+
+    private DispersaoSimulacaoDTO executarMonteCarlo(Plano plano, Acompanhamento acompanhamento) {
+        Dispersao dispersao = plano.dispersao();
+        long inicio = System.nanoTime();
+        AcumuladorMonteCarlo a = monteCarlo.executar(pool, plano.parametros(), dispersao, plano.execucoes(),
+                plano.semente(), acompanhamento);
+        long duracaoNs = System.nanoTime() - inicio;
+        tempoMonteCarlo.record(duracaoNs, TimeUnit.NANOSECONDS);
+        double duracaoMs = duracaoNs / 1e6;
+
+        Map<String, DispersaoSimulacaoDTO.DistribuicaoDTO> metricas = new LinkedHashMap<>();
+        metricas.put("apogeu", distribuicao(a, Metrica.APOGEU));
+        metricas.put("tempoApogeu", distribuicao(a, Metrica.TEMPO_APOGEU));
+        metricas.put("velocidadeMaxima", distribuicao(a, Metrica.VELOCIDADE_MAXIMA));
+        metricas.put("maxQ", distribuicao(a, Metrica.MAX_Q));
+        return new DispersaoSimulacaoDTO(a.getExecucoes(), plano.semente(), a.getFalhas(), a.getInvalidas(),
+                a.getProbabilidadeFalha(), dispersao.apogeuMinimo(),
+                Double.isInfinite(dispersao.maxQLimite()) ? null : dispersao.maxQLimite(),
+                pool.getParallelism(), duracaoMs, plano.execucoes() / (duracaoMs / 1000), metricas);
+    }
+
+    private static DispersaoSimulacaoDTO.DistribuicaoDTO distribuicao(AcumuladorMonteCarlo a, Metrica m) {
+        EstatisticaIncremental e = a.estatistica(m);
+        HistogramaQuantis h = a.histograma(m);
+        Map<String, Double> percentis = new LinkedHashMap<>();
+        for (double q : PERCENTIS) {
+            percentis.put("p" + BigDecimal.valueOf(q * 100).stripTrailingZeros().toPlainString(),
+                    h.getTotal() > 0 ? h.quantil(q) : null);
+        }
+        return new DispersaoSimulacaoDTO.DistribuicaoDTO(e.getMedia(), e.getDesvioPadrao(), e.getMinimo(),
+                e.getMaximo(), percentis);
+    }
+
+    // Trajetória nominal recalculada sob demanda: a integração é determinística e leva milissegundos,
+    // então não vale guardar os pontos de cada simulação. O passo de saída dos parâmetros define a
+    // resolução (o integrador amostra a solução contínua nesses instantes)
+    public void exportarTrajetoria(ParametrosFoguete p, boolean csv, OutputStream saida) throws IOException {
+        if (!csv) {
+            EscritorTrajetoria escritor = new EscritorTrajetoria(saida, p.passoSaida());
+            simulador.simular(p, escritor);
+            escritor.finalizar();
+            return;
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        out.write("t,altitude,velocidade\n");
+        simulador.simular(p, (t, altitude, velocidade) -> {
+            try {
+                out.write(t + "," + altitude + "," + velocidade + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+    }
+
+    public byte[] graficoTrajetoria(ParametrosFoguete p, int largura, int altura, String titulo) {
+        if (largura < DIMENSAO_MINIMA_GRAFICO || largura > DIMENSAO_MAXIMA_GRAFICO
+                || altura < DIMENSAO_MINIMA_GRAFICO || altura > DIMENSAO_MAXIMA_GRAFICO) {
+            throw new IllegalArgumentException("Dimensões do gráfico devem estar entre "
+                    + DIMENSAO_MINIMA_GRAFICO + " e " + DIMENSAO_MAXIMA_GRAFICO + " pixels");
+        }
+        GraficoTrajetoria grafico = new GraficoTrajetoria(largura, altura, p.tempoMaximo());
+        simulador.simular(p, grafico);
+        return grafico.png(titulo);
+    }
+
+    // Mesmos parâmetros com outro passo de saída; null mantém o passo do plano
+    static ParametrosFoguete comResolucao(ParametrosFoguete p, Double resolucao) {
+        if (resolucao == null) return p;
+        return new ParametrosFoguete(p.massaInicial(), p.massaPropelente(), p.empuxo(), p.tempoQueima(),
+                p.coeficienteArrasto(), p.areaReferencia(), p.tempoMaximo(), resolucao);
+    }
+
+    public static boolean formatoCsv(String formato) {
+        String f = formato == null ? "binario" : formato.trim().toLowerCase(Locale.ROOT);
+        if (!f.equals("csv") && !f.equals("binario")) {
+            throw new IllegalArgumentException("Formato inválido: " + formato + " (use binario ou csv)");
+        }
+        return f.equals("csv");
+    }
+
+    // Precedência: requisição > configuração da missão > padrão. A frequência de telemetria
+    // configurada define o passo de saída da trajetória
+    ParametrosFoguete parametros(ConfiguracaoMissao config, ExecutarSimulacaoRequest req) {
+        ParametrosFoguete d = ParametrosFoguete.PADRAO;
+        double passo = d.passoSaida();
+        if (config != null && config.getFrequenciaTelemetriaHz() != null && config.getFrequenciaTelemetriaHz() > 0) {
+            passo = 1.0 / config.getFrequenciaTelemetriaHz();
+        }
+        if (req == null) {
+            return new ParametrosFoguete(d.massaInicial(), d.massaPropelente(), d.empuxo(), d.tempoQueima(),
+                    d.coeficienteArrasto(), d.areaReferencia(), d.tempoMaximo(), passo);
+        }
+        return new ParametrosFoguete(
+                valor(req.massaInicial(), d.massaInicial()),
+                valor(req.massaPropelente(), d.massaPropelente()),
+                valor(req.empuxo(), d.empuxo()),
+                valor(req.tempoQueima(), d.tempoQueima()),
+                valor(req.coeficienteArrasto(), d.coeficienteArrasto()),
+                valor(req.areaReferencia(), d.areaReferencia()),
+                valor(req.tempoMaximo(), d.tempoMaximo()),
+                valor(req.passo(), passo));
+    }
+
+    // Versão da codificação abaixo: muda se campos forem acrescentados ou reordenados
+    private static final byte VERSAO_CHAVE = 1;
+
+    // SHA-256 dos parâmetros já resolvidos, em codificação binária explícita (campo a campo, ordem
+    // fixa, bits do double com -0.0 normalizado para 0.0) e não no toString() dos records.
+    // Requisições equivalentes (campos omitidos vs. padrão explícito, mesma configuração de missão)
+    // caem na mesma entrada
+    private static String chave(ParametrosFoguete p, Dispersao d, int execucoes, long semente) {
+        ByteBuffer b = ByteBuffer.allocate(2 + 8 * 8 + 6 * 8 + 4 + 8);
+        b.put(VERSAO_CHAVE);
+        b.putDouble(canonico(p.massaInicial())).putDouble(canonico(p.massaPropelente()))
+                .putDouble(canonico(p.empuxo())).putDouble(canonico(p.tempoQueima()))
+                .putDouble(canonico(p.coeficienteArrasto())).putDouble(canonico(p.areaReferencia()))
+                .putDouble(canonico(p.tempoMaximo())).putDouble(canonico(p.passoSaida()));
+        b.put((byte) (d != null ? 1 : 0));
+        if (d != null) {
+            b.putDouble(canonico(d.sigmaEmpuxo())).putDouble(canonico(d.sigmaArrasto()))
+                    .putDouble(canonico(d.sigmaMassa())).putDouble(canonico(d.sigmaQueima()))
+                    .putDouble(canonico(d.apogeuMinimo())).putDouble(canonico(d.maxQLimite()));
+            b.putInt(execucoes).putLong(semente);
+        }
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(b.array(), 0, b.position());
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // -0.0 e 0.0 são o mesmo parâmetro; putDouble grava os bits crus, então todo NaN vira o canônico
+    private static double canonico(double v) {
+        if (Double.isNaN(v)) return Double.NaN;
+        return v == 0.0 ? 0.0 : v;
+    }
+
+    private static double valor(Double informado, double padrao) {
+        return informado != null ? informado : padrao;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.demo.application;
+
+import com.example.demo.domain.mission.ArquivoMissao;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.MissaoAlterada;
+import com.example.demo.domain.mission.SegmentoTelemetria;
+import com.example.demo.domain.monitoring.ConsumidorAmostras;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.infra.repository.ArquivoMissaoRepository;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.SegmentoTelemetriaRepository;
+import com.example.demo.infra.repository.TelemetriaLoteRepository;
+import com.example.demo.infra.storage.ArmazemArquivosMissao;
+import com.example.demo.infra.storage.ArmazemSegmentos;
+import com.example.demo.infra.storage.ArquivoMissaoAberto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Leitura de telemetria por intervalo combinando o arquivo da missão encerrada, os segmentos em
+// disco (histórico envelhecido) e as linhas ainda em telemetrias
+@Service
+public class TelemetriaLeituraService {
+
+    static final int MAX_ARQUIVADAS = 1024;
+
+    private final MissaoRepository missaoRepo;
+    private final SegmentoTelemetriaRepository segmentoRepo;
+    private final TelemetriaLoteRepository loteRepo;
+    private final ArmazemSegmentos armazem;
+    private final ArquivoMissaoRepository arquivoRepo;
+    private final ArmazemArquivosMissao arquivos;
+
+    // missaoId -> arquivo, só de missões já arquivadas: o registro não muda até a missão ser removida
+    private final Map<Long, String> arquivadas = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> maisAntiga) {
+            return size() > MAX_ARQUIVADAS;
+        }
+    };
+
+    public TelemetriaLeituraService(MissaoRepository missaoRepo, SegmentoTelemetriaRepository segmentoRepo,
+                                    TelemetriaLoteRepository loteRepo, ArmazemSegmentos armazem,
+                                    ArquivoMissaoRepository arquivoRepo, ArmazemArquivosMissao arquivos) {
+        this.missaoRepo = missaoRepo;
+        this.segmentoRepo = segmentoRepo;
+        this.arquivoRepo = arquivoRepo;
+        this.arquivos = arquivos;
+        this.loteRepo = loteRepo;
+        this.armazem = armazem;
+    }
+
+    // REPEATABLE_READ: o registro de segmentos e as linhas vêm do mesmo snapshot, então uma
+    // segmentação concorrente não faz amostras sumirem nem aparecerem duas vezes
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void percorrer(Long missaoId, String canal, LocalDateTime de, LocalDateTime ate,
+                          ConsumidorAmostras consumidor) {
+        long deMs = Instantes.paraEpochMilli(de);
+        long ateMs = Instantes.paraEpochMilli(ate) - 1;
+        Optional<ArquivoMissaoAberto> arquivo = arquivo(missaoId);
+        if (arquivo.isPresent()) {
+            try {
+                arquivo.get().percorrer(canal, deMs, ateMs, consumidor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        for (SegmentoTelemetria s : segmentoRepo.buscarNoIntervalo(missaoId, deMs, ateMs)) {
+            armazem.abrir(s.getArquivo()).percorrer(canal, deMs, ateMs, consumidor);
+        }
+        loteRepo.percorrer(missaoId, canal, de, ate, consumidor);
+    }
+
+    // Arquivo da missão, se ela já foi arquivada. Só missões encerradas podem ter arquivo, e o status
+    // vem do cache de segundo nível: leituras de missões em curso não consultam o registro. Para uma
+    // encerrada, a consulta é a primeira do snapshot da transação, como antes; depois de achado, o
+    // arquivo fica aqui e o cabeçalho já lido fica em ArmazemArquivosMissao
+    public Optional<ArquivoMissaoAberto> arquivo(Long missaoId) {
+        String nome;
+        synchronized (arquivadas) {
+            nome = arquivadas.get(missaoId);
+        }
+        if (nome == null) {
+            boolean encerrada = missaoRepo.findById(missaoId).map(Missao::getStatus)
+                    .filter(SegmentacaoTelemetriaService.ENCERRADAS::contains).isPresent();
+            if (!encerrada) return Optional.empty();
+            nome = arquivoRepo.findByMissaoId(missaoId).map(ArquivoMissao::getArquivo).orElse(null);
+            if (nome == null) return Optional.empty();
+            synchronized (arquivadas) {
+                arquivadas.put(missaoId, nome);
+            }
+        }
+        return Optional.of(arquivos.abrir(nome));
+    }
+
+    // Missão removida (o arquivo vai junto) ou alterada: a próxima leitura consulta o registro de novo
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarMissao(MissaoAlterada e) {
+        synchronized (arquivadas) {
+            arquivadas.remove(e.missaoId());
+        }
+    }
+}
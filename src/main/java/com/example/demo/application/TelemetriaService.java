@@ -0,0 +1,205 @@
+package com.example.demo.application;
+
+import com.example.demo.api.dto.*;
+import com.example.demo.domain.monitoring.Instantes;
+import com.example.demo.domain.monitoring.ReducaoLttb;
+import com.example.demo.domain.monitoring.ReducaoMinMax;
+import com.example.demo.domain.monitoring.ReducaoSerie;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.TelemetriaLoteRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class TelemetriaService {
+
+    // Quantidade de amostras gravadas por transação/lote JDBC
+    static final int TAMANHO_LOTE = 1000;
+
+    // Limites de pontos por canal na consulta reduzida
+    static final int PONTOS_PADRAO = 1000;
+    static final int PONTOS_MAXIMO = 10_000;
+
+    private final MissaoRepository missaoRepo;
+    private final TelemetriaLoteRepository loteRepo;
+    private final TransactionTemplate tx;
+    private final ObjectMapper mapper;
+    private final MonitoramentoService monitoramento;
+    private final MetricasService metricas;
+    private final TelemetriaLeituraService leitura;
+    private final RegrasEmergenciaService regras;
+
+    // Etapas da ingestão medidas por lote: gravação no banco e publicação (buffer ao vivo + métricas)
+    private final Timer tempoPersistencia;
+    private final Timer tempoPublicacao;
+    private final Counter amostrasGravadas;
+    private final Counter amostrasRejeitadas;
+
+    public TelemetriaService(MissaoRepository missaoRepo, TelemetriaLoteRepository loteRepo,
+                             TransactionTemplate tx, ObjectMapper mapper,
+                             MonitoramentoService monitoramento, MetricasService metricas,
+                             TelemetriaLeituraService leitura, RegrasEmergenciaService regras,
+                             MeterRegistry registry) {
+        this.missaoRepo = missaoRepo;
+        this.loteRepo = loteRepo;
+        this.tx = tx;
+        this.mapper = mapper;
+        this.monitoramento = monitoramento;
+        this.metricas = metricas;
+        this.leitura = leitura;
+        this.regras = regras;
+        this.tempoPersistencia = Timer.builder("telemetria.ingestao").tag("etapa", "persistencia").register(registry);
+        this.tempoPublicacao = Timer.builder("telemetria.ingestao").tag("etapa", "publicacao").register(registry);
+        this.amostrasGravadas = Counter.builder("telemetria.amostras").tag("resultado", "gravada").register(registry);
+        this.amostrasRejeitadas = Counter.builder("telemetria.amostras").tag("resultado", "rejeitada").register(registry);
+    }
+
+    public IngestaoTelemetriaDTO registrarLote(Long missaoId, List<RegistrarTelemetriaRequest> amostras) {
+        verificarMissao(missaoId);
+        int gravadas = 0;
+        List<TelemetriaDTO> lote = new ArrayList<>(Math.min(amostras.size(), TAMANHO_LOTE));
+        for (RegistrarTelemetriaRequest req : amostras) {
+            TelemetriaDTO t = normalizar(req);
+            if (t != null) aceitar(missaoId, t, lote);
+            if (lote.size() == TAMANHO_LOTE) {
+                gravadas += gravar(missaoId, lote);
+                lote.clear();
+            }
+        }
+        gravadas += gravar(missaoId, lote);
+        amostrasRejeitadas.increment(amostras.size() - gravadas);
+        return new IngestaoTelemetriaDTO(missaoId, amostras.size(), gravadas, amostras.size() - gravadas);
+    }
+
+    // NDJSON: uma amostra por linha, lida e gravada incrementalmente sem materializar o corpo inteiro
+    public IngestaoTelemetriaDTO registrarStream(Long missaoId, InputStream ndjson) throws IOException {
+        verificarMissao(missaoId);
+        int recebidas = 0, gravadas = 0;
+        List<TelemetriaDTO> lote = new ArrayList<>(TAMANHO_LOTE);
+        try (MappingIterator<RegistrarTelemetriaRequest> it =
+                     mapper.readerFor(RegistrarTelemetriaRequest.class).readValues(ndjson)) {
+            while (it.hasNextValue()) {
+                recebidas++;
+                TelemetriaDTO t = normalizar(it.nextValue());
+                if (t != null) aceitar(missaoId, t, lote);
+                if (lote.size() == TAMANHO_LOTE) {
+                    gravadas += gravar(missaoId, lote);
+                    lote.clear();
+                }
+            }
+        }
+        gravadas += gravar(missaoId, lote);
+        amostrasRejeitadas.increment(recebidas - gravadas);
+        return new IngestaoTelemetriaDTO(missaoId, recebidas, gravadas, recebidas - gravadas);
+    }
+
+    // Exporta as amostras brutas do intervalo em NDJSON, lidas em streaming de segmentos e linhas
+    public void exportar(Long missaoId, String canal, LocalDateTime de, LocalDateTime ate, OutputStream saida)
+            throws IOException {
+        if (!de.isBefore(ate)) throw new IllegalArgumentException("Intervalo inválido: de deve ser anterior a ate");
+        try (JsonGenerator json = mapper.getFactory().createGenerator(saida)) {
+            json.setRootValueSeparator(null);
+            leitura.percorrer(missaoId, canal, de, ate, (c, ts, valor) -> {
+                try {
+                    json.writeStartObject();
+                    json.writeStringField("canal", c);
+                    json.writeNumberField("timestamp", ts);
+                    json.writeNumberField("valor", valor);
+                    json.writeEndObject();
+                    json.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    // Série reduzida por canal em uma passagem sobre segmentos e linhas: só os baldes de cada
+    // canal ficam em memória, nunca o intervalo inteiro. Sem "de", cobre a última hora até "ate"
+    public SerieTelemetriaDTO consultar(Long missaoId, String canal, LocalDateTime de, LocalDateTime ate,
+                                        Integer pontos, String modo) {
+        verificarMissao(missaoId);
+        LocalDateTime fim = ate != null ? ate : LocalDateTime.now();
+        LocalDateTime inicio = de != null ? de : fim.minusHours(1);
+        if (!inicio.isBefore(fim)) throw new IllegalArgumentException("Intervalo inválido: de deve ser anterior a ate");
+        // Abaixo de 3 nenhuma redução preserva início, fim e forma; acima do máximo só limita, como em Paginas
+        if (pontos != null && pontos < 3) throw new IllegalArgumentException("Pontos deve ser pelo menos 3: " + pontos);
+        int maximo = pontos != null ? Math.min(pontos, PONTOS_MAXIMO) : PONTOS_PADRAO;
+        boolean lttb = modo != null && modo.equalsIgnoreCase("lttb");
+        if (modo != null && !lttb && !modo.equalsIgnoreCase("minmax")) {
+            throw new IllegalArgumentException("Modo inválido: " + modo + " (use minmax ou lttb)");
+        }
+
+        long deMs = Instantes.paraEpochMilli(inicio);
+        long ateMs = Instantes.paraEpochMilli(fim);
+        Map<String, ReducaoSerie> reducoes = new TreeMap<>();
+        leitura.percorrer(missaoId, canal, inicio, fim, (c, ts, valor) ->
+                reducoes.computeIfAbsent(c, k -> lttb
+                        ? new ReducaoLttb(deMs, ateMs, maximo)
+                        : new ReducaoMinMax(deMs, ateMs, maximo)).aceitar(ts, valor));
+
+        List<SerieTelemetriaDTO.CanalDTO> canais = new ArrayList<>(reducoes.size());
+        reducoes.forEach((c, r) -> canais.add(
+                new SerieTelemetriaDTO.CanalDTO(c, r.amostrasLidas(), r.timestamps(), r.valores())));
+        return new SerieTelemetriaDTO(missaoId, inicio, fim, lttb ? "lttb" : "minmax", maximo, canais);
+    }
+
+    public void verificarExistencia(Long missaoId) {
+        verificarMissao(missaoId);
+    }
+
+    // Regras de emergência avaliadas na chegada da amostra, antes de esperar o lote encher e ser gravado
+    private void aceitar(Long missaoId, TelemetriaDTO t, List<TelemetriaDTO> lote) {
+        regras.avaliarTelemetria(missaoId, t);
+        lote.add(t);
+    }
+
+    private int gravar(Long missaoId, List<TelemetriaDTO> lote) {
+        if (lote.isEmpty()) return 0;
+        long inicio = System.nanoTime();
+        Integer n = tx.execute(status -> loteRepo.inserirLote(missaoId, lote));
+        long gravado = System.nanoTime();
+        tempoPersistencia.record(gravado - inicio, TimeUnit.NANOSECONDS);
+        // Publica no buffer ao vivo só depois do commit do lote
+        monitoramento.publicar(missaoId, lote);
+        metricas.registrarTelemetria(missaoId, lote);
+        tempoPublicacao.record(System.nanoTime() - gravado, TimeUnit.NANOSECONDS);
+        int gravadas = n != null ? n : 0;
+        amostrasGravadas.increment(gravadas);
+        return gravadas;
+    }
+
+    private void verificarMissao(Long missaoId) {
+        if (!missaoRepo.existsById(missaoId)) {
+            throw new EntityNotFoundException("Missão não encontrada com ID: " + missaoId);
+        }
+    }
+
+    // Amostras sem canal ou valor são descartadas e contabilizadas como rejeitadas
+    private TelemetriaDTO normalizar(RegistrarTelemetriaRequest req) {
+        if (req == null || req.canal() == null || req.canal().isBlank() || req.valor() == null
+                || req.valor().isNaN()) {
+            return null;
+        }
+        LocalDateTime dataHora = req.dataHora() != null ? req.dataHora() : LocalDateTime.now();
+        return new TelemetriaDTO(req.canal(), req.valor(), req.unidade(), dataHora);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.application;
+
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TransicaoMissao;
+import com.example.demo.infra.repository.MissaoRepository;
+import com.example.demo.infra.repository.TransicaoMissaoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// Transições de status como compare-and-set no banco (UPDATE ... WHERE status IN origens).
+// Quem perde a corrida recebe 0 linhas em vez de sobrescrever o status vencedor.
+// O update vai por JDBC, fora do Hibernate, então o cache de segundo nível é despejado à mão: só a
+// entrada da missão alterada e os resultados de consulta (que dependem do status)
+@Service
+public class TransicaoMissaoService {
+
+    private final MissaoRepository missaoRepo;
+    private final TransicaoMissaoRepository transicaoRepo;
+    private final EntityManager em;
+    private final ApplicationEventPublisher eventos;
+
+    public TransicaoMissaoService(MissaoRepository missaoRepo, TransicaoMissaoRepository transicaoRepo,
+                                  EntityManager em, ApplicationEventPublisher eventos) {
+        this.missaoRepo = missaoRepo;
+        this.transicaoRepo = transicaoRepo;
+        this.em = em;
+        this.eventos = eventos;
+    }
+
+    // Retorna false se a missão não existe ou não está em nenhuma das origens
+    @Transactional
+    public boolean tentar(Long missaoId, TransicaoMissao t, Set<StatusMissao> origens, String descricao) {
+        LocalDateTime agora = LocalDateTime.now();
+        em.flush(); // edições pendentes vão antes do UPDATE, como num update JPQL
+        int alteradas = transicaoRepo.transicionar(missaoId, origens, t.getDestino(),
+                t == TransicaoMissao.INICIAR ? agora : null,
+                t == TransicaoMissao.CONCLUIR || t == TransicaoMissao.ABORTAR ? agora : null,
+                agora);
+        if (alteradas == 0) return false;
+        em.clear(); // instâncias carregadas nesta transação estão com status e versão antigos
+        despejar(missaoId);
+        // Mesmo evento de domínio emitido por Missao: entregue aos listeners após o commit
+        eventos.publishEvent(new EventoMissaoRegistrado(missaoId, t.getTipoEvento(),
+                descricao != null ? descricao : t.getDescricaoPadrao(), t.getSeveridade(), agora));
+        return true;
+    }
+
+    @Transactional
+    public void exigir(Long missaoId, TransicaoMissao t, Set<StatusMissao> origens, String descricao) {
+        if (tentar(missaoId, t, origens, descricao)) return;
+        StatusMissao atual = missaoRepo.buscarStatus(missaoId)
+                .orElseThrow(() -> new EntityNotFoundException("Missão não encontrada com ID: " + missaoId));
+        throw new IllegalStateException("Transição " + t + " não permitida a partir do status " + atual);
+    }
+
+    // Agora e de novo após o commit: uma leitura concorrente pode ter recolocado a versão antiga no
+    // cache entre o UPDATE e o commit
+    private void despejar(Long missaoId) {
+        Cache cache = em.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        Runnable despejo = () -> {
+            cache.evictEntityData(Missao.class, missaoId);
+            cache.evictDefaultQueryRegion();
+        };
+        despejo.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() { despejo.run(); }
+            });
+        }
+    }
+}
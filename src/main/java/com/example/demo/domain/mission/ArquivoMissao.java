@@ -0,0 +1,43 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Registro do arquivo comprimido de uma missão encerrada, gravado na mesma transação que remove
+// a telemetria, os segmentos e os eventos correspondentes das tabelas quentes
+@Entity
+@Table(name = "arquivos_missao")
+public class ArquivoMissao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "missao_id", nullable = false, unique = true)
+    private Long missaoId;
+
+    @Column(nullable = false, unique = true)
+    private String arquivo;
+
+    private long amostras;
+
+    private long eventos;
+
+    private long bytes;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    public Long getId() { return id; }
+    public Long getMissaoId() { return missaoId; }
+    public void setMissaoId(Long missaoId) { this.missaoId = missaoId; }
+    public String getArquivo() { return arquivo; }
+    public void setArquivo(String arquivo) { this.arquivo = arquivo; }
+    public long getAmostras() { return amostras; }
+    public void setAmostras(long amostras) { this.amostras = amostras; }
+    public long getEventos() { return eventos; }
+    public void setEventos(long eventos) { this.eventos = eventos; }
+    public long getBytes() { return bytes; }
+    public void setBytes(long bytes) { this.bytes = bytes; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.domain.mission;
+
+import java.util.function.LongConsumer;
+
+// Árvore de intervalos semiabertos [inicio, fim) identificados por um id: AVL ordenada por
+// (inicio, id), cada nó guardando o maior fim da sua subárvore. Inserção, remoção e a pergunta
+// "algum intervalo cruza [de, ate)?" custam O(log n); listar os k que cruzam, O(k + log n).
+// Sem sincronização: o chamador protege acessos concorrentes
+public final class ArvoreIntervalos {
+
+    private static final class No {
+        final long inicio, fim, id;
+        long maiorFim;
+        int altura = 1;
+        No esquerda, direita;
+
+        No(long inicio, long fim, long id) {
+            this.inicio = inicio;
+            this.fim = fim;
+            this.id = id;
+            this.maiorFim = fim;
+        }
+    }
+
+    private No raiz;
+    private int tamanho;
+
+    public int tamanho() { return tamanho; }
+
+    public boolean vazia() { return tamanho == 0; }
+
+    public void inserir(long inicio, long fim, long id) {
+        if (fim <= inicio) throw new IllegalArgumentException("Intervalo vazio: [" + inicio + ", " + fim + ")");
+        raiz = inserir(raiz, new No(inicio, fim, id));
+        tamanho++;
+    }
+
+    // Remove o intervalo pela chave (inicio, id); devolve false se não existia
+    public boolean remover(long inicio, long id) {
+        int antes = tamanho;
+        raiz = remover(raiz, inicio, id);
+        return tamanho < antes;
+    }
+
+    // Existe intervalo que cruze [de, ate) com id diferente de ignorar?
+    public boolean sobrepoe(long de, long ate, long ignorar) {
+        return sobrepoe(raiz, de, ate, ignorar);
+    }
+
+    // Ids de todos os intervalos que cruzam [de, ate), em ordem de início
+    public void sobrepostos(long de, long ate, LongConsumer consumidor) {
+        sobrepostos(raiz, de, ate, consumidor);
+    }
+
+    private static boolean sobrepoe(No n, long de, long ate, long ignorar) {
+        // Nada nesta subárvore termina depois de "de"; à direita só há inícios maiores
+        if (n == null || n.maiorFim <= de) return false;
+        if (sobrepoe(n.esquerda, de, ate, ignorar)) return true;
+        if (n.inicio >= ate) return false;
+        if (n.fim > de && n.id != ignorar) return true;
+        return sobrepoe(n.direita, de, ate, ignorar);
+    }
+
+    private static void sobrepostos(No n, long de, long ate, LongConsumer consumidor) {
+        if (n == null || n.maiorFim <= de) return;
+        sobrepostos(n.esquerda, de, ate, consumidor);
+        if (n.inicio >= ate) return;
+        if (n.fim > de) consumidor.accept(n.id);
+        sobrepostos(n.direita, de, ate, consumidor);
+    }
+
+    private static int comparar(long inicio, long id, No n) {
+        int c = Long.compare(inicio, n.inicio);
+        return c != 0 ? c : Long.compare(id, n.id);
+    }
+
+    private static No inserir(No n, No novo) {
+        if (n == null) return novo;
+        if (comparar(novo.inicio, novo.id, n) < 0) n.esquerda = inserir(n.esquerda, novo);
+        else n.direita = inserir(n.direita, novo);
+        return balancear(n);
+    }
+
+    private No remover(No n, long inicio, long id) {
+        if (n == null) return null;
+        int c = comparar(inicio, id, n);
+        if (c < 0) {
+            n.esquerda = remover(n.esquerda, inicio, id);
+        } else if (c > 0) {
+            n.direita = remover(n.direita, inicio, id);
+        } else {
+            tamanho--;
+            if (n.esquerda == null) return n.direita;
+            if (n.direita == null) return n.esquerda;
+            // Sucessor sobe para o lugar do nó removido
+            No sucessor = n.direita;
+            while (sucessor.esquerda != null) sucessor = sucessor.esquerda;
+            sucessor.direita = removerMenor(n.direita);
+            sucessor.esquerda = n.esquerda;
+            return balancear(sucessor);
+        }
+        return balancear(n);
+    }
+
+    private static No removerMenor(No n) {
+        if (n.esquerda == null) return n.direita;
+        n.esquerda = removerMenor(n.esquerda);
+        return balancear(n);
+    }
+
+    private static int altura(No n) { return n != null ? n.altura : 0; }
+
+    private static void atualizar(No n) {
+        n.altura = 1 + Math.max(altura(n.esquerda), altura(n.direita));
+        long maior = n.fim;
+        if (n.esquerda != null && n.esquerda.maiorFim > maior) maior = n.esquerda.maiorFim;
+        if (n.direita != null && n.direita.maiorFim > maior) maior = n.direita.maiorFim;
+        n.maiorFim = maior;
+    }
+
+    private static No balancear(No n) {
+        atualizar(n);
+        int fator = altura(n.esquerda) - altura(n.direita);
+        if (fator > 1) {
+            if (altura(n.esquerda.esquerda) < altura(n.esquerda.direita)) n.esquerda = girarEsquerda(n.esquerda);
+            return girarDireita(n);
+        }
+        if (fator < -1) {
+            if (altura(n.direita.direita) < altura(n.direita.esquerda)) n.direita = girarDireita(n.direita);
+            return girarEsquerda(n);
+        }
+        return n;
+    }
+
+    private static No girarDireita(No n) {
+        No e = n.esquerda;
+        n.esquerda = e.direita;
+        e.direita = n;
+        atualizar(n);
+        atualizar(e);
+        return e;
+    }
+
+    private static No girarEsquerda(No n) {
+        No d = n.direita;
+        n.direita = d.esquerda;
+        d.esquerda = n;
+        atualizar(n);
+        atualizar(d);
+        return d;
+    }
+}
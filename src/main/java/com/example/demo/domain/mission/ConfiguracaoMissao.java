@@ -0,0 +1,15 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class ConfiguracaoMissao {
+
+    private Integer frequenciaTelemetriaHz;
+    private Boolean monitoramentoBiometricoAtivo;
+
+    public Integer getFrequenciaTelemetriaHz() { return frequenciaTelemetriaHz; }
+    public void setFrequenciaTelemetriaHz(Integer v) { this.frequenciaTelemetriaHz = v; }
+    public Boolean getMonitoramentoBiometricoAtivo() { return monitoramentoBiometricoAtivo; }
+    public void setMonitoramentoBiometricoAtivo(Boolean v) { this.monitoramentoBiometricoAtivo = v; }
+}
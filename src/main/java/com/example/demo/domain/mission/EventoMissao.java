@@ -0,0 +1,46 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "eventos_missao", indexes = {
+    // Leitura paginada por cursor dentro da missão
+    @Index(name = "idx_eventos_missao_missao_id", columnList = "missao_id, id")
+})
+public class EventoMissao {
+
+    // Append-only: gravado em lote pelo diário de eventos, que reserva blocos de IDs da sequence (pooled-lo)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_missao_seq")
+    @SequenceGenerator(name = "eventos_missao_seq", sequenceName = "eventos_missao_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "missao_id")
+    private Missao missao;
+
+    @Column(nullable = false)
+    private String tipo; // Ex: "MISSAO_INICIADA"
+
+    @Column(length = 2000)
+    private String descricao;
+
+    @Enumerated(EnumType.STRING)
+    private SeveridadeEvento severidade = SeveridadeEvento.INFO;
+
+    @Column(nullable = false)
+    private LocalDateTime dataHora;
+
+    public Long getId() { return id; }
+    public Missao getMissao() { return missao; }
+    public void setMissao(Missao missao) { this.missao = missao; }
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+    public String getDescricao() { return descricao; }
+    public void setDescricao(String descricao) { this.descricao = descricao; }
+    public SeveridadeEvento getSeveridade() { return severidade; }
+    public void setSeveridade(SeveridadeEvento severidade) { this.severidade = severidade; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public void setDataHora(LocalDateTime dataHora) { this.dataHora = dataHora; }
+}
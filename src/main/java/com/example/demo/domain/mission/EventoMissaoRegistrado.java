@@ -0,0 +1,12 @@
+package com.example.demo.domain.mission;
+
+import java.time.LocalDateTime;
+
+// Evento de domínio emitido por Missao a cada EventoMissao registrado
+public record EventoMissaoRegistrado(
+        Long missaoId,
+        String tipo,
+        String descricao,
+        SeveridadeEvento severidade,
+        LocalDateTime dataHora
+) {}
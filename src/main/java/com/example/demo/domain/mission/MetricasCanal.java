@@ -0,0 +1,63 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+// Snapshot do estado de Welford de um canal (EstatisticaIncremental), gravado junto com
+// MetricasMissao: após um restart as estatísticas por canal continuam coerentes com os totais
+@Entity
+@Table(name = "metricas_canal")
+@IdClass(MetricasCanal.Chave.class)
+public class MetricasCanal {
+
+    @Id
+    @Column(name = "missao_id")
+    private Long missaoId;
+
+    @Id
+    private String canal;
+
+    private long contagem;
+    private double media;
+    private double m2;
+    private double minimo;
+    private double maximo;
+
+    public MetricasCanal() {}
+
+    public Long getMissaoId() { return missaoId; }
+    public String getCanal() { return canal; }
+    public long getContagem() { return contagem; }
+    public double getMedia() { return media; }
+    public double getM2() { return m2; }
+    public double getMinimo() { return minimo; }
+    public double getMaximo() { return maximo; }
+
+    public static class Chave implements Serializable {
+        private Long missaoId;
+        private String canal;
+
+        public Chave() {}
+
+        public Chave(Long missaoId, String canal) {
+            this.missaoId = missaoId;
+            this.canal = canal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Chave c && Objects.equals(missaoId, c.missaoId) && Objects.equals(canal, c.canal);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(missaoId, canal);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+// Snapshot periódico dos contadores mantidos em memória por MetricasService. Fica em tabela própria,
+// fora da Missao em cache: o snapshot regravado a cada poucos segundos não invalida a região missoes
+@Entity
+@Table(name = "metricas_missao")
+public class MetricasMissao {
+
+    @Id
+    @Column(name = "missao_id")
+    private Long missaoId;
+
+    private long totalTelemetrias;
+    private long totalEventos;
+    private long totalEmergencias;
+    private LocalDateTime ultimaTelemetria;
+    private LocalDateTime dataSnapshot;
+
+    public MetricasMissao() {}
+
+    public MetricasMissao(Long missaoId, long totalTelemetrias, long totalEventos, long totalEmergencias,
+                          LocalDateTime ultimaTelemetria, LocalDateTime dataSnapshot) {
+        this.missaoId = missaoId;
+        this.totalTelemetrias = totalTelemetrias;
+        this.totalEventos = totalEventos;
+        this.totalEmergencias = totalEmergencias;
+        this.ultimaTelemetria = ultimaTelemetria;
+        this.dataSnapshot = dataSnapshot;
+    }
+
+    public Long getMissaoId() { return missaoId; }
+    public long getTotalTelemetrias() { return totalTelemetrias; }
+    public void setTotalTelemetrias(long v) { this.totalTelemetrias = v; }
+    public long getTotalEventos() { return totalEventos; }
+    public void setTotalEventos(long v) { this.totalEventos = v; }
+    public long getTotalEmergencias() { return totalEmergencias; }
+    public void setTotalEmergencias(long v) { this.totalEmergencias = v; }
+    public LocalDateTime getUltimaTelemetria() { return ultimaTelemetria; }
+    public void setUltimaTelemetria(LocalDateTime v) { this.ultimaTelemetria = v; }
+    public LocalDateTime getDataSnapshot() { return dataSnapshot; }
+    public void setDataSnapshot(LocalDateTime v) { this.dataSnapshot = v; }
+}
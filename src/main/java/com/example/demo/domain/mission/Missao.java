@@ -2,17 +2,30 @@ package com.example.demo.domain.mission;
 
 import com.example.demo.domain.people.Astronauta;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.AbstractAggregateRoot;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "missoes")
-public class Missao {
+@Table(name = "missoes", indexes = {
+    @Index(name = "idx_missoes_status", columnList = "status, id"),
+    @Index(name = "idx_missoes_tipo", columnList = "tipo, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "missoes")
+public class Missao extends AbstractAggregateRoot<Missao> {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // Concorrência otimista: edições que carregam o agregado falham se outra escrita venceu antes.
+    // Transições de status condicionais (TransicaoMissaoRepository) também incrementam a versão
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long versao;
+    
     @Column(nullable = false, unique = true)
     private String codigo; // Ex: "MARS-2025-001"
     
@@ -44,6 +57,7 @@ public class Missao {
     
     // Relacionamento com astronautas
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "missoes-tripulacao")
     @JoinTable(
         name = "missao_astronauta",
         joinColumns = @JoinColumn(name = "missao_id"),
@@ -51,24 +65,14 @@ public class Missao {
     )
     private Set<Astronauta> tripulacao = new HashSet<>();
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "comandante_id")
     private Astronauta comandante;
     
-    // Dados de telemetria e monitoramento
-    @OneToMany(mappedBy = "missao", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Telemetria> telemetrias = new ArrayList<>();
-    
-    @OneToMany(mappedBy = "missao", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<EventoMissao> eventos = new ArrayList<>();
-    
+    // Telemetria fica fora do agregado: gravada e removida em lote via JDBC (TelemetriaLoteRepository)
     @OneToMany(mappedBy = "missao", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProtocoloEmergencia> protocolosEmergencia = new ArrayList<>();
     
-    // Métricas e KPIs
-    @Embedded
-    private MetricasMissao metricas = new MetricasMissao();
-    
     // Configurações da missão
     @Embedded
     private ConfiguracaoMissao configuracao = new ConfiguracaoMissao();
@@ -86,7 +90,7 @@ public class Missao {
     
     // Métodos de negócio
     public void iniciarMissao() {
-        if (status != StatusMissao.PRONTA) {
+        if (!TransicaoMissao.INICIAR.permite(status)) {
             throw new IllegalStateException("Missão não está pronta para iniciar");
         }
         this.status = StatusMissao.EM_ANDAMENTO;
@@ -95,7 +99,7 @@ public class Missao {
     }
     
     public void pausarMissao(String motivo) {
-        if (status != StatusMissao.EM_ANDAMENTO) {
+        if (!TransicaoMissao.PAUSAR.permite(status)) {
             throw new IllegalStateException("Apenas missões em andamento podem ser pausadas");
         }
         this.status = StatusMissao.PAUSADA;
@@ -103,7 +107,7 @@ public class Missao {
     }
     
     public void retomarMissao() {
-        if (status != StatusMissao.PAUSADA) {
+        if (!TransicaoMissao.RETOMAR.permite(status)) {
             throw new IllegalStateException("Apenas missões pausadas podem ser retomadas");
         }
         this.status = StatusMissao.EM_ANDAMENTO;
@@ -111,7 +115,7 @@ public class Missao {
     }
     
     public void finalizarMissao(boolean sucesso) {
-        if (status != StatusMissao.EM_ANDAMENTO && status != StatusMissao.EMERGENCIA) {
+        if (!TransicaoMissao.CONCLUIR.permite(status)) {
             throw new IllegalStateException("Estado inválido para finalização");
         }
         this.status = sucesso ? StatusMissao.CONCLUIDA : StatusMissao.ABORTADA;
@@ -121,13 +125,21 @@ public class Missao {
     }
     
     public void ativarEmergencia(String descricao) {
+        ativarEmergencia(descricao, null);
+    }
+    
+    // Ativa os protocolos prontos do tipo informado (ou sem tipo); tipo nulo ativa todos os prontos.
+    // Retorna os protocolos ativados
+    public List<ProtocoloEmergencia> ativarEmergencia(String descricao, TipoEmergencia tipo) {
         this.status = StatusMissao.EMERGENCIA;
-        registrarEvento("EMERGENCIA_ATIVADA", descricao);
+        registrarEvento("EMERGENCIA_ATIVADA", descricao, SeveridadeEvento.CRITICO);
         
         // Ativar protocolos de emergência relevantes
-        protocolosEmergencia.stream()
-            .filter(p -> p.isAplicavel())
-            .forEach(ProtocoloEmergencia::ativar);
+        List<ProtocoloEmergencia> ativados = protocolosEmergencia.stream()
+            .filter(p -> p.isAplicavel(tipo))
+            .toList();
+        ativados.forEach(ProtocoloEmergencia::ativar);
+        return ativados;
     }
     
     public void adicionarTripulante(Astronauta astronauta) {
@@ -158,12 +170,13 @@ public class Missao {
     }
     
     private void registrarEvento(String tipo, String descricao) {
-        EventoMissao evento = new EventoMissao();
-        evento.setMissao(this);
-        evento.setTipo(tipo);
-        evento.setDescricao(descricao);
-        evento.setDataHora(LocalDateTime.now());
-        eventos.add(evento);
+        registrarEvento(tipo, descricao, SeveridadeEvento.INFO);
+    }
+    
+    // O evento não entra no agregado: publicado pelo repositório no save() e gravado após o commit
+    // pelo diário de eventos (DiarioEventosService), em lotes com eventos de outras missões
+    public void registrarEvento(String tipo, String descricao, SeveridadeEvento severidade) {
+        registerEvent(new EventoMissaoRegistrado(id, tipo, descricao, severidade, LocalDateTime.now()));
     }
     
     public boolean isAtiva() {
@@ -178,6 +191,7 @@ public class Missao {
     
     // Get e Sey
     public Long getId() { return id; }
+    public long getVersao() { return versao; }
     public void setId(Long id) { this.id = id; }
     
     public String getCodigo() { return codigo; }
@@ -216,8 +230,6 @@ public class Missao {
     public Astronauta getComandante() { return comandante; }
     public void setComandante(Astronauta comandante) { this.comandante = comandante; }
     
-    public List<Telemetria> getTelemetrias() { return telemetrias; }
-    public List<EventoMissao> getEventos() { return eventos; }
     public List<ProtocoloEmergencia> getProtocolosEmergencia() { return protocolosEmergencia; }
     
     public void setTipo(String tipoStr) {
@@ -232,6 +244,18 @@ public class Missao {
     }
 }
 
+public void setPrioridade(String prioridadeStr) {
+    if (prioridadeStr == null) {
+        this.prioridade = null;
+        return;
+    }
+    try {
+        this.prioridade = NivelPrioridade.valueOf(prioridadeStr.toUpperCase());
+    } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Prioridade da missão inválida: " + prioridadeStr);
+    }
+}
+
 public void setStatus(String statusStr) {
     if (statusStr == null) {
         this.status = null;
@@ -246,9 +270,6 @@ public void setStatus(String statusStr) {
 
 
 
-    public MetricasMissao getMetricas() { return metricas; }
-    public void setMetricas(MetricasMissao metricas) { this.metricas = metricas; }
-    
     public ConfiguracaoMissao getConfiguracao() { return configuracao; }
     public void setConfiguracao(ConfiguracaoMissao config) { this.configuracao = config; }
     
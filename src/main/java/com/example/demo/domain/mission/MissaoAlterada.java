@@ -0,0 +1,5 @@
+package com.example.demo.domain.mission;
+
+// Evento de aplicação: missão criada, editada, excluída ou com tripulação alterada
+// (as transições de status já são avisadas por EventoMissaoRegistrado)
+public record MissaoAlterada(Long missaoId) {}
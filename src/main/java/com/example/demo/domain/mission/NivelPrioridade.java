@@ -0,0 +1,8 @@
+package com.example.demo.domain.mission;
+
+public enum NivelPrioridade {
+    BAIXA,
+    MEDIA,
+    ALTA,
+    CRITICA
+}
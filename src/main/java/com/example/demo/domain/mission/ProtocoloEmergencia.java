@@ -0,0 +1,74 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "protocolos_emergencia")
+public class ProtocoloEmergencia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "missao_id")
+    private Missao missao;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Column(length = 2000)
+    private String descricao;
+
+    @Enumerated(EnumType.STRING)
+    private TipoEmergencia tipoEmergencia;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusProtocolo status = StatusProtocolo.PRONTO;
+
+    private LocalDateTime dataAtivacao;
+
+    private LocalDateTime dataResolucao;
+
+    // Métodos de negócio
+    public boolean isAplicavel() {
+        return status == StatusProtocolo.PRONTO;
+    }
+
+    // Protocolo sem tipo vale para qualquer emergência; tipo nulo aceita todos
+    public boolean isAplicavel(TipoEmergencia tipo) {
+        return isAplicavel() && (tipo == null || tipoEmergencia == null || tipoEmergencia == tipo);
+    }
+
+    public void ativar() {
+        if (!isAplicavel()) {
+            throw new IllegalStateException("Protocolo não pode ser ativado neste estado");
+        }
+        this.status = StatusProtocolo.ATIVO;
+        this.dataAtivacao = LocalDateTime.now();
+    }
+
+    public void resolver() {
+        if (status != StatusProtocolo.ATIVO) {
+            throw new IllegalStateException("Apenas protocolos ativos podem ser resolvidos");
+        }
+        this.status = StatusProtocolo.RESOLVIDO;
+        this.dataResolucao = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public Missao getMissao() { return missao; }
+    public void setMissao(Missao missao) { this.missao = missao; }
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+    public String getDescricao() { return descricao; }
+    public void setDescricao(String descricao) { this.descricao = descricao; }
+    public TipoEmergencia getTipoEmergencia() { return tipoEmergencia; }
+    public void setTipoEmergencia(TipoEmergencia tipoEmergencia) { this.tipoEmergencia = tipoEmergencia; }
+    public StatusProtocolo getStatus() { return status; }
+    public void setStatus(StatusProtocolo status) { this.status = status; }
+    public LocalDateTime getDataAtivacao() { return dataAtivacao; }
+    public LocalDateTime getDataResolucao() { return dataResolucao; }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Registro de um arquivo de segmento com telemetria envelhecida, gravado na mesma transação
+// que remove as linhas correspondentes de telemetrias
+@Entity
+@Table(name = "segmentos_telemetria", indexes =
+    @Index(name = "idx_segmentos_missao_inicio", columnList = "missao_id, ts_inicio"))
+public class SegmentoTelemetria {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "missao_id", nullable = false)
+    private Long missaoId;
+
+    @Column(nullable = false, unique = true)
+    private String arquivo;
+
+    // epoch ms (UTC), igual ao cabeçalho do arquivo
+    @Column(name = "ts_inicio", nullable = false)
+    private long tsInicio;
+
+    @Column(name = "ts_fim", nullable = false)
+    private long tsFim;
+
+    private long registros;
+
+    private long bytes;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    public Long getId() { return id; }
+    public Long getMissaoId() { return missaoId; }
+    public void setMissaoId(Long missaoId) { this.missaoId = missaoId; }
+    public String getArquivo() { return arquivo; }
+    public void setArquivo(String arquivo) { this.arquivo = arquivo; }
+    public long getTsInicio() { return tsInicio; }
+    public void setTsInicio(long tsInicio) { this.tsInicio = tsInicio; }
+    public long getTsFim() { return tsFim; }
+    public void setTsFim(long tsFim) { this.tsFim = tsFim; }
+    public long getRegistros() { return registros; }
+    public void setRegistros(long registros) { this.registros = registros; }
+    public long getBytes() { return bytes; }
+    public void setBytes(long bytes) { this.bytes = bytes; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.domain.mission;
+
+public enum SeveridadeEvento {
+    INFO,
+    ALERTA,
+    CRITICO
+}
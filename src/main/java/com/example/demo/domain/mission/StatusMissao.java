@@ -0,0 +1,11 @@
+package com.example.demo.domain.mission;
+
+public enum StatusMissao {
+    PLANEJAMENTO,
+    PRONTA,
+    EM_ANDAMENTO,
+    PAUSADA,
+    EMERGENCIA,
+    CONCLUIDA,
+    ABORTADA
+}
@@ -0,0 +1,8 @@
+package com.example.demo.domain.mission;
+
+public enum StatusProtocolo {
+    PRONTO,
+    ATIVO,
+    RESOLVIDO,
+    DESATIVADO
+}
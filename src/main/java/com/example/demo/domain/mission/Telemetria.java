@@ -0,0 +1,47 @@
+package com.example.demo.domain.mission;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "telemetrias", indexes = {
+    @Index(name = "idx_telemetrias_missao_data", columnList = "missao_id, data_hora"),
+    // Consultas por intervalo filtradas por canal
+    @Index(name = "idx_telemetrias_missao_canal_data", columnList = "missao_id, canal, data_hora")
+})
+public class Telemetria {
+
+    // Sequence com incremento 50 (pooled-lo): a ingestão em lote reserva blocos de IDs
+    // da mesma sequence usada pelo Hibernate, sem um round-trip por linha
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "telemetrias_seq")
+    @SequenceGenerator(name = "telemetrias_seq", sequenceName = "telemetrias_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "missao_id")
+    private Missao missao;
+
+    @Column(nullable = false)
+    private String canal; // Ex: "altitude", "temperatura_cabine"
+
+    @Column(nullable = false)
+    private Double valor;
+
+    private String unidade;
+
+    @Column(nullable = false)
+    private LocalDateTime dataHora;
+
+    public Long getId() { return id; }
+    public Missao getMissao() { return missao; }
+    public void setMissao(Missao missao) { this.missao = missao; }
+    public String getCanal() { return canal; }
+    public void setCanal(String canal) { this.canal = canal; }
+    public Double getValor() { return valor; }
+    public void setValor(Double valor) { this.valor = valor; }
+    public String getUnidade() { return unidade; }
+    public void setUnidade(String unidade) { this.unidade = unidade; }
+    public LocalDateTime getDataHora() { return dataHora; }
+    public void setDataHora(LocalDateTime dataHora) { this.dataHora = dataHora; }
+}
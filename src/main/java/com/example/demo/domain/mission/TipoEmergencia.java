@@ -0,0 +1,11 @@
+package com.example.demo.domain.mission;
+
+public enum TipoEmergencia {
+    FALHA_PROPULSAO,
+    DESPRESSURIZACAO,
+    INCENDIO,
+    FALHA_COMUNICACAO,
+    EMERGENCIA_MEDICA,
+    FALHA_SUPORTE_VIDA,
+    OUTRA
+}
@@ -0,0 +1,10 @@
+package com.example.demo.domain.mission;
+
+public enum TipoMissao {
+    ORBITAL,
+    SUBORBITAL,
+    LUNAR,
+    MARTE,
+    ESTACAO_ESPACIAL,
+    PESQUISA
+}
@@ -0,0 +1,54 @@
+package com.example.demo.domain.mission;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.example.demo.domain.mission.StatusMissao.*;
+
+// Máquina de estados da missão: status de origem aceitos, destino e evento registrado.
+// Usada tanto pelos métodos de Missao quanto pelas transições condicionais (UPDATE ... WHERE status)
+public enum TransicaoMissao {
+
+    PREPARAR(EnumSet.of(PLANEJAMENTO), PRONTA, "MISSAO_PRONTA", SeveridadeEvento.INFO, "Missão pronta para lançamento"),
+    INICIAR(EnumSet.of(PRONTA), EM_ANDAMENTO, "MISSAO_INICIADA", SeveridadeEvento.INFO, "Missão iniciada com sucesso"),
+    PAUSAR(EnumSet.of(EM_ANDAMENTO), PAUSADA, "MISSAO_PAUSADA", SeveridadeEvento.INFO, "Missão pausada"),
+    RETOMAR(EnumSet.of(PAUSADA), EM_ANDAMENTO, "MISSAO_RETOMADA", SeveridadeEvento.INFO, "Missão retomada"),
+    CONCLUIR(EnumSet.of(EM_ANDAMENTO, EMERGENCIA), CONCLUIDA, "MISSAO_CONCLUIDA", SeveridadeEvento.INFO,
+            "Missão concluída com sucesso"),
+    ABORTAR(EnumSet.of(EM_ANDAMENTO, EMERGENCIA), ABORTADA, "MISSAO_ABORTADA", SeveridadeEvento.INFO, "Missão abortada"),
+    ATIVAR_EMERGENCIA(EnumSet.of(PLANEJAMENTO, PRONTA, EM_ANDAMENTO, PAUSADA, EMERGENCIA), EMERGENCIA,
+            "EMERGENCIA_ATIVADA", SeveridadeEvento.CRITICO, "Emergência ativada"),
+    RESOLVER_EMERGENCIA(EnumSet.of(EMERGENCIA), EM_ANDAMENTO, "EMERGENCIA_RESOLVIDA", SeveridadeEvento.ALERTA,
+            "Emergência resolvida");
+
+    private final Set<StatusMissao> origens;
+    private final StatusMissao destino;
+    private final String tipoEvento;
+    private final SeveridadeEvento severidade;
+    private final String descricaoPadrao;
+
+    TransicaoMissao(Set<StatusMissao> origens, StatusMissao destino, String tipoEvento,
+                    SeveridadeEvento severidade, String descricaoPadrao) {
+        this.origens = Collections.unmodifiableSet(origens);
+        this.destino = destino;
+        this.tipoEvento = tipoEvento;
+        this.severidade = severidade;
+        this.descricaoPadrao = descricaoPadrao;
+    }
+
+    public boolean permite(StatusMissao atual) {
+        return origens.contains(atual);
+    }
+
+    // Emergências passam pelos endpoints próprios, que também ativam/resolvem os protocolos
+    public boolean isEmergencia() {
+        return this == ATIVAR_EMERGENCIA || this == RESOLVER_EMERGENCIA;
+    }
+
+    public Set<StatusMissao> getOrigens() { return origens; }
+    public StatusMissao getDestino() { return destino; }
+    public String getTipoEvento() { return tipoEvento; }
+    public SeveridadeEvento getSeveridade() { return severidade; }
+    public String getDescricaoPadrao() { return descricaoPadrao; }
+}
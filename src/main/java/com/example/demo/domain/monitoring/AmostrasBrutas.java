@@ -0,0 +1,71 @@
+package com.example.demo.domain.monitoring;
+
+import java.util.Arrays;
+
+// Amostras guardadas sem redução enquanto couberem no limite de pontos: uma série com até `limite`
+// amostras sai inteira, em ordem de tempo. Ao passar do limite, o redutor as reenvia uma única vez
+// pelo caminho normal e descarta este buffer, então a memória continua O(pontos)
+final class AmostrasBrutas {
+
+    @FunctionalInterface
+    interface Destino {
+        void aceitar(long timestampMs, double valor);
+    }
+
+    private final int limite;
+    private long[] ts;
+    private double[] vs;
+    private int n;
+    private boolean ordenadas = true;
+
+    AmostrasBrutas(int limite) {
+        this.limite = limite;
+        this.ts = new long[Math.min(limite, 64)];
+        this.vs = new double[ts.length];
+    }
+
+    // false: limite atingido, a amostra não foi guardada
+    boolean guardar(long timestampMs, double valor) {
+        if (n == limite) return false;
+        if (n == ts.length) {
+            ts = Arrays.copyOf(ts, Math.min(limite, n * 2));
+            vs = Arrays.copyOf(vs, ts.length);
+        }
+        if (n > 0 && timestampMs < ts[n - 1]) ordenadas = false;
+        ts[n] = timestampMs;
+        vs[n++] = valor;
+        return true;
+    }
+
+    // Na ordem de chegada, como se tivessem ido direto para a redução
+    void reenviar(Destino destino) {
+        for (int i = 0; i < n; i++) destino.aceitar(ts[i], vs[i]);
+    }
+
+    long[] timestamps() {
+        ordenar();
+        return Arrays.copyOf(ts, n);
+    }
+
+    double[] valores() {
+        ordenar();
+        return Arrays.copyOf(vs, n);
+    }
+
+    private void ordenar() {
+        if (ordenadas) return;
+        Integer[] ordem = new Integer[n];
+        for (int i = 0; i < n; i++) ordem[i] = i;
+        long[] t = ts;
+        Arrays.sort(ordem, (a, b) -> Long.compare(t[a], t[b]));
+        long[] novosTs = new long[n];
+        double[] novosVs = new double[n];
+        for (int i = 0; i < n; i++) {
+            novosTs[i] = ts[ordem[i]];
+            novosVs[i] = vs[ordem[i]];
+        }
+        ts = novosTs;
+        vs = novosVs;
+        ordenadas = true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.domain.monitoring;
+
+// Estado de uma regra para um canal de uma missão/astronauta. Só campos primitivos: avaliar
+// uma amostra não aloca. Dispara na borda de subida (a violação começa), não a cada amostra
+// enquanto a condição persiste. Não é thread-safe: o chamador serializa por entidade
+public abstract sealed class AvaliadorRegra {
+
+    protected final RegraCompilada regra;
+    private boolean violando;
+
+    AvaliadorRegra(RegraCompilada regra) {
+        this.regra = regra;
+    }
+
+    public RegraCompilada getRegra() { return regra; }
+
+    // true quando esta amostra inicia uma violação
+    public final boolean avaliar(long timestampMs, double valor) {
+        if (ignora(timestampMs)) return false;
+        boolean viola = viola(timestampMs, valor);
+        if (viola && !violando) {
+            violando = true;
+            return true;
+        }
+        if (!viola && rearmada()) violando = false;
+        return false;
+    }
+
+    protected abstract boolean viola(long timestampMs, double valor);
+
+    // Amostra sem veredito: não dispara nem rearma a regra
+    protected boolean ignora(long timestampMs) {
+        return false;
+    }
+
+    // Quando a condição deixa de valer, a regra volta a poder disparar
+    protected boolean rearmada() {
+        return true;
+    }
+
+    static final class Limiar extends AvaliadorRegra {
+        Limiar(RegraCompilada regra) { super(regra); }
+
+        @Override
+        protected boolean viola(long timestampMs, double valor) {
+            return regra.comparacao().viola(valor, regra.limite());
+        }
+    }
+
+    // Amostras fora de ordem ou com o mesmo timestamp não geram taxa e são ignoradas: tratá-las
+    // como "sem violação" rearmaria a regra e a próxima amostra em ordem dispararia de novo
+    static final class TaxaVariacao extends AvaliadorRegra {
+        private long tsAnterior = Long.MIN_VALUE;
+        private double valorAnterior;
+
+        TaxaVariacao(RegraCompilada regra) { super(regra); }
+
+        @Override
+        protected boolean ignora(long timestampMs) {
+            return timestampMs <= tsAnterior;
+        }
+
+        @Override
+        protected boolean viola(long timestampMs, double valor) {
+            boolean viola = tsAnterior != Long.MIN_VALUE && regra.comparacao().viola(
+                    (valor - valorAnterior) * 1000.0 / (timestampMs - tsAnterior), regra.limite());
+            tsAnterior = timestampMs;
+            valorAnterior = valor;
+            return viola;
+        }
+    }
+
+    // Janela das últimas m amostras como bits de um long (1 = violou)
+    static final class NdeM extends AvaliadorRegra {
+        private final long mascara;
+        private long janela;
+
+        NdeM(RegraCompilada regra) {
+            super(regra);
+            this.mascara = regra.m() >= 64 ? -1L : (1L << regra.m()) - 1;
+        }
+
+        @Override
+        protected boolean viola(long timestampMs, double valor) {
+            janela = ((janela << 1) | (regra.comparacao().viola(valor, regra.limite()) ? 1 : 0)) & mascara;
+            return Long.bitCount(janela) >= regra.n();
+        }
+
+        // Histerese: um sinal oscilando em torno de n violações dispararia a cada oscilação;
+        // só rearma depois de uma janela inteira limpa
+        @Override
+        protected boolean rearmada() {
+            return janela == 0;
+        }
+    }
+}
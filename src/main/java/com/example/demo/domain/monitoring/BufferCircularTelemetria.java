@@ -0,0 +1,85 @@
+package com.example.demo.domain.monitoring;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Buffer circular de capacidade fixa com as últimas amostras de um canal de telemetria,
+// em arrays primitivos paralelos (timestamp em epoch ms e valor). Um único escritor por vez;
+// leitores não usam lock: copiam a faixa publicada e descartam o que foi sobrescrito na cópia
+public final class BufferCircularTelemetria {
+
+    private final long[] timestamps;
+    private final double[] valores;
+    private final int mascara;
+
+    // Total de amostras já escritas; a escrita volátil publica o slot preenchido
+    private volatile long escritos;
+    private volatile String unidade;
+
+    public BufferCircularTelemetria(int capacidade) {
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser potência de 2: " + capacidade);
+        }
+        this.timestamps = new long[capacidade];
+        this.valores = new double[capacidade];
+        this.mascara = capacidade - 1;
+    }
+
+    // Deve ser chamado por um único escritor (o chamador serializa escritas concorrentes)
+    public void adicionar(long timestampMs, double valor, String unidade) {
+        long seq = escritos;
+        int i = (int) (seq & mascara);
+        timestamps[i] = timestampMs;
+        valores[i] = valor;
+        if (unidade != null && !unidade.equals(this.unidade)) this.unidade = unidade;
+        escritos = seq + 1;
+    }
+
+    // Copia as amostras com timestamp >= desdeMs, da mais antiga para a mais recente
+    public Leitura ler(long desdeMs) {
+        return ler(desdeMs, timestamps.length);
+    }
+
+    // Idem, limitado às `maximo` amostras mais recentes
+    public Leitura ler(long desdeMs, int maximo) {
+        long fim = escritos;
+        return copiar(Math.max(0, fim - Math.min(maximo, timestamps.length)), fim, desdeMs);
+    }
+
+    // Amostras de sequência em [inicio, escritos): quem acompanha o buffer continua de Leitura.fim()
+    // sem perder nem repetir amostras escritas durante a cópia
+    public Leitura lerAPartirDe(long inicio) {
+        long fim = escritos;
+        return copiar(Math.max(inicio, fim - timestamps.length), fim, Long.MIN_VALUE);
+    }
+
+    private Leitura copiar(long inicio, long fim, long desdeMs) {
+        int capacidade = timestamps.length;
+        int n = (int) Math.max(0, fim - inicio);
+        long[] ts = new long[n];
+        double[] vs = new double[n];
+        for (int k = 0; k < n; k++) {
+            int i = (int) ((inicio + k) & mascara);
+            ts[k] = timestamps[i];
+            vs[k] = valores[i];
+        }
+        // Garante que as leituras dos arrays acontecem antes de reler o contador
+        VarHandle.loadLoadFence();
+        long fimDepois = escritos;
+        // O escritor pode estar preenchendo o slot da sequência fimDepois, que sobrescreve
+        // fimDepois - capacidade; tudo anterior a isso na cópia é inválido
+        long primeiroValido = Math.max(inicio, fimDepois + 1 - capacidade);
+        int descartar = (int) Math.min(n, Math.max(0, primeiroValido - inicio));
+        int de = descartar;
+        while (de < n && ts[de] < desdeMs) de++;
+        return new Leitura(unidade, Arrays.copyOfRange(ts, de, n), Arrays.copyOfRange(vs, de, n), fim);
+    }
+
+    public long getEscritos() { return escritos; }
+    public int getCapacidade() { return timestamps.length; }
+
+    // fim: sequência seguinte à última amostra copiada (o contador de escrita no momento da cópia)
+    public record Leitura(String unidade, long[] timestamps, double[] valores, long fim) {
+        public int tamanho() { return timestamps.length; }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.domain.monitoring;
+
+public enum Comparacao {
+    MAIOR_QUE,
+    MENOR_QUE;
+
+    public boolean viola(double valor, double limite) {
+        return this == MAIOR_QUE ? valor > limite : valor < limite;
+    }
+}
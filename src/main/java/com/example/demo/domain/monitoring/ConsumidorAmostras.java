@@ -0,0 +1,7 @@
+package com.example.demo.domain.monitoring;
+
+// Recebe amostras de telemetria uma a uma durante uma varredura, sem materializar objetos
+@FunctionalInterface
+public interface ConsumidorAmostras {
+    void aceitar(String canal, long timestampMs, double valor);
+}
@@ -5,7 +5,8 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "dados_biometricos")
+@Table(name = "dados_biometricos", indexes =
+    @Index(name = "idx_biometria_astronauta_tipo_data", columnList = "astronauta_id, tipo, data_hora"))
 public class DadosBiometricos {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,72 @@
+package com.example.demo.domain.monitoring;
+
+// Contagem, mínimo, máximo, média e variância acumulados em O(1) por amostra (algoritmo de Welford).
+// Duas instâncias podem ser combinadas (Chan et al.), o que permite agregar por canal e por frota
+public final class EstatisticaIncremental {
+
+    private long contagem;
+    private double media;
+    private double m2;
+    private double minimo = Double.POSITIVE_INFINITY;
+    private double maximo = Double.NEGATIVE_INFINITY;
+
+    // Estado salvo por getContagem/getMedia/getM2/getMinimo/getMaximo (snapshot em metricas_canal)
+    public static EstatisticaIncremental restaurar(long contagem, double media, double m2, double minimo,
+                                                   double maximo) {
+        EstatisticaIncremental e = new EstatisticaIncremental();
+        if (contagem > 0) {
+            e.contagem = contagem;
+            e.media = media;
+            e.m2 = m2;
+            e.minimo = minimo;
+            e.maximo = maximo;
+        }
+        return e;
+    }
+
+    public EstatisticaIncremental copia() {
+        EstatisticaIncremental c = new EstatisticaIncremental();
+        c.combinar(this);
+        return c;
+    }
+
+    public void adicionar(double valor) {
+        contagem++;
+        double delta = valor - media;
+        media += delta / contagem;
+        m2 += delta * (valor - media);
+        if (valor < minimo) minimo = valor;
+        if (valor > maximo) maximo = valor;
+    }
+
+    public void combinar(EstatisticaIncremental outra) {
+        if (outra.contagem == 0) return;
+        if (contagem == 0) {
+            contagem = outra.contagem;
+            media = outra.media;
+            m2 = outra.m2;
+            minimo = outra.minimo;
+            maximo = outra.maximo;
+            return;
+        }
+        long total = contagem + outra.contagem;
+        double delta = outra.media - media;
+        media += delta * outra.contagem / total;
+        m2 += outra.m2 + delta * delta * ((double) contagem * outra.contagem / total);
+        contagem = total;
+        minimo = Math.min(minimo, outra.minimo);
+        maximo = Math.max(maximo, outra.maximo);
+    }
+
+    public long getContagem() { return contagem; }
+    public double getMedia() { return contagem > 0 ? media : Double.NaN; }
+    public double getMinimo() { return contagem > 0 ? minimo : Double.NaN; }
+    public double getMaximo() { return contagem > 0 ? maximo : Double.NaN; }
+
+    // Soma dos quadrados dos desvios em relação à média
+    public double getM2() { return m2; }
+
+    // Variância amostral (n - 1)
+    public double getVariancia() { return contagem > 1 ? m2 / (contagem - 1) : 0.0; }
+    public double getDesvioPadrao() { return Math.sqrt(getVariancia()); }
+}
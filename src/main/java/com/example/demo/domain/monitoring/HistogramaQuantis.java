@@ -0,0 +1,137 @@
+package com.example.demo.domain.monitoring;
+
+// Sketch de quantis com erro relativo limitado (baldes logarítmicos, no estilo DDSketch):
+// o valor v cai no balde ceil(log_gamma(|v|)), com gamma = (1 + erro) / (1 - erro).
+// Negativos ficam num conjunto espelhado de baldes (pelo módulo) e valores com módulo abaixo
+// de MENOR_POSITIVO contam como zero. Memória proporcional à faixa dinâmica dos valores, não ao
+// número de amostras, e dois sketches com o mesmo erro podem ser combinados somando os baldes
+public final class HistogramaQuantis {
+
+    private static final double MENOR_POSITIVO = 1e-9;
+
+    private final double erroRelativo;
+    private final double logGamma;
+
+    private final Baldes positivos = new Baldes();
+    private final Baldes negativos = new Baldes();
+    private long zeros;
+    private long total;
+    private double minimo = Double.POSITIVE_INFINITY;
+    private double maximo = Double.NEGATIVE_INFINITY;
+
+    public HistogramaQuantis(double erroRelativo) {
+        if (erroRelativo <= 0 || erroRelativo >= 1) {
+            throw new IllegalArgumentException("Erro relativo deve estar em (0, 1): " + erroRelativo);
+        }
+        this.erroRelativo = erroRelativo;
+        this.logGamma = Math.log((1 + erroRelativo) / (1 - erroRelativo));
+    }
+
+    public void adicionar(double valor) {
+        total++;
+        if (valor < minimo) minimo = valor;
+        if (valor > maximo) maximo = valor;
+        if (valor >= MENOR_POSITIVO) positivos.adicionar(indice(valor));
+        else if (valor <= -MENOR_POSITIVO) negativos.adicionar(indice(-valor));
+        else zeros++;
+    }
+
+    public void combinar(HistogramaQuantis outro) {
+        if (outro.erroRelativo != erroRelativo) {
+            throw new IllegalArgumentException("Sketches com erros relativos diferentes");
+        }
+        if (outro.total == 0) return;
+        positivos.combinar(outro.positivos);
+        negativos.combinar(outro.negativos);
+        zeros += outro.zeros;
+        total += outro.total;
+        minimo = Math.min(minimo, outro.minimo);
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    public double quantil(double q) {
+        if (q < 0 || q > 1) throw new IllegalArgumentException("Quantil deve estar em [0, 1]: " + q);
+        if (total == 0) return Double.NaN;
+        long posicao = Math.max(1, (long) Math.ceil(q * total));
+        // Extremos são guardados exatos
+        if (posicao == 1) return minimo;
+        if (posicao == total) return maximo;
+
+        long acumulado = 0;
+        // Negativos em ordem crescente de valor = módulo decrescente
+        for (int k = negativos.contagens.length - 1; k >= 0; k--) {
+            acumulado += negativos.contagens[k];
+            if (acumulado >= posicao) return limitar(-ponto(negativos.base + k));
+        }
+        acumulado += zeros;
+        if (acumulado >= posicao) return limitar(0.0);
+        for (int k = 0; k < positivos.contagens.length; k++) {
+            acumulado += positivos.contagens[k];
+            if (acumulado >= posicao) return limitar(ponto(positivos.base + k));
+        }
+        return maximo;
+    }
+
+    public HistogramaQuantis copia() {
+        HistogramaQuantis c = new HistogramaQuantis(erroRelativo);
+        c.combinar(this);
+        return c;
+    }
+
+    public long getTotal() { return total; }
+    public double getMinimo() { return total > 0 ? minimo : Double.NaN; }
+    public double getMaximo() { return total > 0 ? maximo : Double.NaN; }
+    public double getErroRelativo() { return erroRelativo; }
+
+    private int indice(double modulo) {
+        return (int) Math.ceil(Math.log(modulo) / logGamma);
+    }
+
+    // Ponto do balde com erro relativo <= erroRelativo para qualquer módulo nele
+    private double ponto(int indice) {
+        return 2 * Math.exp(indice * logGamma) / (1 + Math.exp(logGamma));
+    }
+
+    private double limitar(double estimado) {
+        return Math.max(minimo, Math.min(maximo, estimado));
+    }
+
+    // Contagens por índice logarítmico num array denso que cresce conforme a faixa observada
+    private static final class Baldes {
+        private long[] contagens = new long[0];
+        private int base; // índice logarítmico de contagens[0]
+
+        void adicionar(int i) {
+            garantir(i, i);
+            contagens[i - base]++;
+        }
+
+        void combinar(Baldes outro) {
+            if (outro.contagens.length == 0) return;
+            garantir(outro.base, outro.base + outro.contagens.length - 1);
+            for (int k = 0; k < outro.contagens.length; k++) {
+                contagens[outro.base + k - base] += outro.contagens[k];
+            }
+        }
+
+        // Amplia o array denso para cobrir os índices [de, ate]
+        private void garantir(int de, int ate) {
+            if (contagens.length == 0) {
+                base = de;
+                contagens = new long[Math.max(8, ate - de + 1)];
+                return;
+            }
+            int fim = base + contagens.length - 1;
+            if (de >= base && ate <= fim) return;
+            int novaBase = Math.min(base, de);
+            int novoFim = Math.max(fim, ate);
+            int folga = (novoFim - novaBase + 1) / 4;
+            if (de < base) novaBase -= folga;
+            if (ate > fim) novoFim += folga;
+            long[] novo = new long[novoFim - novaBase + 1];
+            System.arraycopy(contagens, 0, novo, base - novaBase, contagens.length);
+            contagens = novo;
+            base = novaBase;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.domain.monitoring;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Conversão entre as datas do domínio (LocalDateTime, tratadas como UTC) e epoch em milissegundos,
+// usada pelas estruturas em memória que guardam tempo em long[]
+public final class Instantes {
+
+    private Instantes() {}
+
+    public static long paraEpochMilli(LocalDateTime dataHora) {
+        return dataHora.toEpochSecond(ZoneOffset.UTC) * 1000L + dataHora.getNano() / 1_000_000;
+    }
+
+    public static LocalDateTime deEpochMilli(long epochMilli) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+}
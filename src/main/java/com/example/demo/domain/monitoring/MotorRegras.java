@@ -0,0 +1,91 @@
+package com.example.demo.domain.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Avalia as regras de uma origem (telemetria ou biometria) em memória. O conjunto de regras
+// é um snapshot imutável trocado atomicamente; cada entidade (missão/astronauta) guarda seus
+// avaliadores por canal, recriados quando o snapshot muda
+public final class MotorRegras {
+
+    @FunctionalInterface
+    public interface Disparo {
+        void disparar(long entidadeId, RegraCompilada regra, long timestampMs, double valor);
+    }
+
+    private static final AvaliadorRegra[] NENHUM = new AvaliadorRegra[0];
+
+    private record Snapshot(long versao, Map<String, List<RegraCompilada>> globais,
+                            Map<Long, Map<String, List<RegraCompilada>>> porEntidade) {}
+
+    private volatile Snapshot snapshot = new Snapshot(0, Map.of(), Map.of());
+    private final Map<Long, EstadoEntidade> estados = new ConcurrentHashMap<>();
+
+    // entidadeId nulo = regra aplicada a todas as entidades
+    public synchronized void carregar(Collection<RegraEmergencia> regras) {
+        Map<String, List<RegraCompilada>> globais = new HashMap<>();
+        Map<Long, Map<String, List<RegraCompilada>>> porEntidade = new HashMap<>();
+        for (RegraEmergencia r : regras) {
+            if (!Boolean.TRUE.equals(r.getAtiva())) continue;
+            Map<String, List<RegraCompilada>> destino = r.getEntidadeId() == null ? globais
+                    : porEntidade.computeIfAbsent(r.getEntidadeId(), k -> new HashMap<>());
+            destino.computeIfAbsent(r.getCanal(), k -> new ArrayList<>()).add(RegraCompilada.de(r));
+        }
+        snapshot = new Snapshot(snapshot.versao() + 1, globais, porEntidade);
+    }
+
+    public int totalRegras() {
+        Snapshot s = snapshot;
+        return s.globais().values().stream().mapToInt(List::size).sum()
+                + s.porEntidade().values().stream().flatMap(m -> m.values().stream()).mapToInt(List::size).sum();
+    }
+
+    // Caminho quente: uma busca em mapa por amostra e avaliadores só de campos primitivos.
+    // Retorna quantas regras dispararam
+    public int avaliar(Long entidadeId, String canal, long timestampMs, double valor, Disparo disparo) {
+        Snapshot s = snapshot;
+        if (s.globais().isEmpty() && s.porEntidade().isEmpty()) return 0;
+        EstadoEntidade estado = estados.computeIfAbsent(entidadeId, k -> new EstadoEntidade());
+        synchronized (estado) {
+            AvaliadorRegra[] avaliadores = estado.avaliadores(s, entidadeId, canal);
+            int disparos = 0;
+            for (AvaliadorRegra a : avaliadores) {
+                if (a.avaliar(timestampMs, valor)) {
+                    disparos++;
+                    disparo.disparar(entidadeId, a.getRegra(), timestampMs, valor);
+                }
+            }
+            return disparos;
+        }
+    }
+
+    public void descartar(Long entidadeId) {
+        estados.remove(entidadeId);
+    }
+
+    private static final class EstadoEntidade {
+        long versao = -1;
+        final Map<String, AvaliadorRegra[]> porCanal = new HashMap<>();
+
+        AvaliadorRegra[] avaliadores(Snapshot s, long entidadeId, String canal) {
+            if (versao != s.versao()) {
+                porCanal.clear();
+                versao = s.versao();
+            }
+            AvaliadorRegra[] a = porCanal.get(canal);
+            if (a != null) return a;
+            // Primeira amostra do canal desde a última troca de regras: compila os avaliadores
+            List<RegraCompilada> regras = new ArrayList<>(s.globais().getOrDefault(canal, List.of()));
+            Map<String, List<RegraCompilada>> especificas = s.porEntidade().get(entidadeId);
+            if (especificas != null) regras.addAll(especificas.getOrDefault(canal, List.of()));
+            a = regras.isEmpty() ? NENHUM : regras.stream().map(RegraCompilada::novoAvaliador)
+                    .toArray(AvaliadorRegra[]::new);
+            porCanal.put(canal, a);
+            return a;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.demo.domain.monitoring;
+
+public enum OrigemRegra {
+    TELEMETRIA, // canal de telemetria de uma missão
+    BIOMETRIA   // tipo de dado biométrico de um astronauta
+}
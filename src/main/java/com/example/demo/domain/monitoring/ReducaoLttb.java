@@ -0,0 +1,162 @@
+package com.example.demo.domain.monitoring;
+
+import java.util.Arrays;
+
+// Largest-Triangle-Three-Buckets em passagem única: baldes de tempo fixos em [deMs, ateMs),
+// mantendo em memória apenas o balde pendente e o seguinte (necessário para a média de LTTB).
+// Amostras atrasadas que caem antes do balde pendente já não podem ser consideradas e são descartadas
+public final class ReducaoLttb implements ReducaoSerie {
+
+    private final long deMs;
+    private final double larguraBalde;
+    private final int baldes;
+
+    private final long[] saidaTs;
+    private final double[] saidaVs;
+    private int n;
+    private boolean finalizado;
+
+    private Balde pendente = new Balde();
+    private Balde seguinte = new Balde();
+    private boolean temPrimeiro;
+    private long ultimoTs = Long.MIN_VALUE;
+    private double ultimoValor;
+    private long lidas, descartadas;
+    // Até `pontos` amostras a série passa inteira; null depois que a redução assumiu
+    private AmostrasBrutas brutas;
+
+    // Primeiro e último pontos são sempre mantidos; os demais pontos - 2 saem um por balde
+    public ReducaoLttb(long deMs, long ateMs, int pontos) {
+        this.baldes = Math.max(1, pontos - 2);
+        this.deMs = deMs;
+        this.larguraBalde = (double) Math.max(1, ateMs - deMs) / baldes;
+        this.saidaTs = new long[baldes + 2];
+        this.saidaVs = new double[baldes + 2];
+        this.brutas = new AmostrasBrutas(pontos);
+    }
+
+    @Override
+    public void aceitar(long timestampMs, double valor) {
+        // Antes de deMs o cast truncaria em direção a zero e cairia no balde 0
+        if (timestampMs < deMs) return;
+        int b = (int) ((timestampMs - deMs) / larguraBalde);
+        if (b >= baldes) return;
+        lidas++;
+        if (brutas != null) {
+            if (brutas.guardar(timestampMs, valor)) return;
+            AmostrasBrutas guardadas = brutas;
+            brutas = null;
+            guardadas.reenviar(this::reduzir);
+        }
+        reduzir(timestampMs, valor);
+    }
+
+    private void reduzir(long timestampMs, double valor) {
+        int b = (int) ((timestampMs - deMs) / larguraBalde);
+        if (timestampMs >= ultimoTs) { ultimoTs = timestampMs; ultimoValor = valor; }
+        if (!temPrimeiro) {
+            temPrimeiro = true;
+            emitir(timestampMs, valor);
+            return;
+        }
+        if (pendente.vazio() || b == pendente.indice) { pendente.adicionar(b, timestampMs, valor); return; }
+        if (b < pendente.indice) { descartadas++; return; }
+        if (seguinte.vazio() || b == seguinte.indice) { seguinte.adicionar(b, timestampMs, valor); return; }
+        if (b < seguinte.indice) {
+            // Amostra atrasada entre os dois baldes abertos: fecha o pendente e o balde dela assume o lugar
+            fechar(pendente, Balde.media(b, timestampMs, valor));
+            pendente.reiniciar().adicionar(b, timestampMs, valor);
+            return;
+        }
+        fechar(pendente, seguinte);
+        Balde livre = pendente.reiniciar();
+        pendente = seguinte;
+        seguinte = livre;
+        seguinte.adicionar(b, timestampMs, valor);
+    }
+
+    public long getDescartadas() { return descartadas; }
+
+    @Override
+    public long[] timestamps() {
+        if (brutas != null) return brutas.timestamps();
+        finalizar();
+        return Arrays.copyOf(saidaTs, n);
+    }
+
+    @Override
+    public double[] valores() {
+        if (brutas != null) return brutas.valores();
+        finalizar();
+        return Arrays.copyOf(saidaVs, n);
+    }
+
+    @Override
+    public long amostrasLidas() { return lidas; }
+
+    private void finalizar() {
+        if (finalizado) return;
+        finalizado = true;
+        if (!pendente.vazio()) fechar(pendente, seguinte.vazio() ? Balde.media(-1, ultimoTs, ultimoValor) : seguinte);
+        if (!seguinte.vazio()) fechar(seguinte, Balde.media(-1, ultimoTs, ultimoValor));
+        if (temPrimeiro && (n == 0 || saidaTs[n - 1] != ultimoTs)) emitir(ultimoTs, ultimoValor);
+    }
+
+    // Escolhe o ponto do balde que forma o maior triângulo com o último ponto emitido e a média do próximo
+    private void fechar(Balde balde, Balde proximo) {
+        double ax = saidaTs[n - 1], ay = saidaVs[n - 1];
+        double cx = proximo.mediaTs(), cy = proximo.mediaValor();
+        double maiorArea = -1;
+        int escolhido = 0;
+        for (int i = 0; i < balde.tamanho; i++) {
+            double area = Math.abs((ax - cx) * (balde.vs[i] - ay) - (ax - balde.ts[i]) * (cy - ay));
+            if (area > maiorArea) { maiorArea = area; escolhido = i; }
+        }
+        emitir(balde.ts[escolhido], balde.vs[escolhido]);
+    }
+
+    private void emitir(long ts, double valor) {
+        if (n == saidaTs.length) return;
+        saidaTs[n] = ts;
+        saidaVs[n++] = valor;
+    }
+
+    private static final class Balde {
+        int indice = -1;
+        int tamanho;
+        long[] ts = new long[64];
+        double[] vs = new double[64];
+        double somaTs, somaVs;
+
+        static Balde media(int indice, long ts, double valor) {
+            Balde b = new Balde();
+            b.adicionar(indice, ts, valor);
+            return b;
+        }
+
+        boolean vazio() { return tamanho == 0; }
+
+        void adicionar(int indice, long t, double v) {
+            this.indice = indice;
+            if (tamanho == ts.length) {
+                ts = Arrays.copyOf(ts, tamanho * 2);
+                vs = Arrays.copyOf(vs, tamanho * 2);
+            }
+            ts[tamanho] = t;
+            vs[tamanho++] = v;
+            somaTs += t;
+            somaVs += v;
+        }
+
+        double mediaTs() { return somaTs / tamanho; }
+
+        double mediaValor() { return somaVs / tamanho; }
+
+        Balde reiniciar() {
+            indice = -1;
+            tamanho = 0;
+            somaTs = somaVs = 0;
+            return this;
+        }
+    }
+}
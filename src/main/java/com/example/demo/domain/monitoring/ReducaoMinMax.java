@@ -0,0 +1,95 @@
+package com.example.demo.domain.monitoring;
+
+import java.util.Arrays;
+
+// Divide [deMs, ateMs) em baldes de tempo iguais e mantém o mínimo e o máximo de cada um.
+// Memória O(baldes) e independente da ordem de chegada das amostras
+public final class ReducaoMinMax implements ReducaoSerie {
+
+    private final long deMs;
+    private final double larguraBalde;
+    private final long[] tsMin, tsMax;
+    private final double[] min, max;
+    private final boolean[] ocupado;
+    private long lidas;
+    private Pontos cache;
+    // Até `pontos` amostras a série passa inteira; null depois que a redução assumiu
+    private AmostrasBrutas brutas;
+
+    // Cada balde gera até dois pontos, então usa pontos / 2 baldes
+    public ReducaoMinMax(long deMs, long ateMs, int pontos) {
+        int baldes = Math.max(1, pontos / 2);
+        this.deMs = deMs;
+        this.larguraBalde = (double) Math.max(1, ateMs - deMs) / baldes;
+        this.tsMin = new long[baldes];
+        this.tsMax = new long[baldes];
+        this.min = new double[baldes];
+        this.max = new double[baldes];
+        this.ocupado = new boolean[baldes];
+        this.brutas = new AmostrasBrutas(pontos);
+    }
+
+    @Override
+    public void aceitar(long timestampMs, double valor) {
+        // Antes de deMs o cast truncaria em direção a zero e cairia no balde 0
+        if (timestampMs < deMs) return;
+        int b = (int) ((timestampMs - deMs) / larguraBalde);
+        if (b >= ocupado.length) return;
+        lidas++;
+        if (brutas != null) {
+            if (brutas.guardar(timestampMs, valor)) return;
+            AmostrasBrutas guardadas = brutas;
+            brutas = null;
+            guardadas.reenviar(this::reduzir);
+        }
+        reduzir(timestampMs, valor);
+    }
+
+    private void reduzir(long timestampMs, double valor) {
+        int b = (int) ((timestampMs - deMs) / larguraBalde);
+        if (!ocupado[b]) {
+            ocupado[b] = true;
+            tsMin[b] = tsMax[b] = timestampMs;
+            min[b] = max[b] = valor;
+            return;
+        }
+        if (valor < min[b]) { min[b] = valor; tsMin[b] = timestampMs; }
+        if (valor > max[b]) { max[b] = valor; tsMax[b] = timestampMs; }
+    }
+
+    @Override
+    public long[] timestamps() {
+        return brutas != null ? brutas.timestamps() : montar().ts;
+    }
+
+    @Override
+    public double[] valores() {
+        return brutas != null ? brutas.valores() : montar().vs;
+    }
+
+    @Override
+    public long amostrasLidas() { return lidas; }
+
+    // Por balde, emite min e max na ordem em que ocorreram (um só ponto se coincidem)
+    private Pontos montar() {
+        if (cache != null) return cache;
+        long[] ts = new long[ocupado.length * 2];
+        double[] vs = new double[ocupado.length * 2];
+        int n = 0;
+        for (int b = 0; b < ocupado.length; b++) {
+            if (!ocupado[b]) continue;
+            boolean minPrimeiro = tsMin[b] <= tsMax[b];
+            long t1 = minPrimeiro ? tsMin[b] : tsMax[b];
+            double v1 = minPrimeiro ? min[b] : max[b];
+            ts[n] = t1; vs[n++] = v1;
+            if (tsMin[b] != tsMax[b] || min[b] != max[b]) {
+                ts[n] = minPrimeiro ? tsMax[b] : tsMin[b];
+                vs[n++] = minPrimeiro ? max[b] : min[b];
+            }
+        }
+        cache = new Pontos(Arrays.copyOf(ts, n), Arrays.copyOf(vs, n));
+        return cache;
+    }
+
+    private record Pontos(long[] ts, double[] vs) {}
+}
@@ -0,0 +1,13 @@
+package com.example.demo.domain.monitoring;
+
+// Redução de uma série temporal a um número máximo de pontos, alimentada amostra a amostra
+public interface ReducaoSerie {
+
+    void aceitar(long timestampMs, double valor);
+
+    long[] timestamps();
+
+    double[] valores();
+
+    long amostrasLidas();
+}
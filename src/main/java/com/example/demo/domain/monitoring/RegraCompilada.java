@@ -0,0 +1,34 @@
+package com.example.demo.domain.monitoring;
+
+import com.example.demo.domain.mission.TipoEmergencia;
+
+// Cópia imutável de uma RegraEmergencia, desacoplada da entidade JPA; gera o avaliador
+// (com estado próprio) para cada missão/astronauta e canal
+public record RegraCompilada(
+        Long id,
+        String nome,
+        String canal,
+        TipoRegra tipo,
+        Comparacao comparacao,
+        double limite,
+        int n,
+        int m,
+        TipoEmergencia tipoEmergencia
+) {
+    public static final int M_MAXIMO = 64; // janela de N_DE_M cabe em um long
+
+    public static RegraCompilada de(RegraEmergencia r) {
+        int n = r.getN() != null ? r.getN() : 1;
+        int m = r.getM() != null ? r.getM() : 1;
+        return new RegraCompilada(r.getId(), r.getNome(), r.getCanal(), r.getTipo(), r.getComparacao(),
+                r.getLimite(), n, m, r.getTipoEmergencia());
+    }
+
+    public AvaliadorRegra novoAvaliador() {
+        return switch (tipo) {
+            case LIMIAR -> new AvaliadorRegra.Limiar(this);
+            case TAXA_VARIACAO -> new AvaliadorRegra.TaxaVariacao(this);
+            case N_DE_M -> new AvaliadorRegra.NdeM(this);
+        };
+    }
+}
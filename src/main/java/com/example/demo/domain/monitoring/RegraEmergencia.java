@@ -0,0 +1,77 @@
+package com.example.demo.domain.monitoring;
+
+import com.example.demo.domain.mission.TipoEmergencia;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "regras_emergencia")
+public class RegraEmergencia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String nome;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrigemRegra origem;
+
+    // Missão (telemetria) ou astronauta (biometria) monitorado; nulo = todos
+    private Long entidadeId;
+
+    @Column(nullable = false)
+    private String canal; // canal de telemetria ou tipo biométrico (ex.: "FREQUENCIA_CARDIACA")
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TipoRegra tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Comparacao comparacao;
+
+    @Column(nullable = false)
+    private Double limite;
+
+    // Apenas N_DE_M
+    private Integer n;
+    private Integer m;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TipoEmergencia tipoEmergencia = TipoEmergencia.OUTRA;
+
+    @Column(nullable = false)
+    private Boolean ativa = true;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    public Long getId() { return id; }
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+    public OrigemRegra getOrigem() { return origem; }
+    public void setOrigem(OrigemRegra origem) { this.origem = origem; }
+    public Long getEntidadeId() { return entidadeId; }
+    public void setEntidadeId(Long entidadeId) { this.entidadeId = entidadeId; }
+    public String getCanal() { return canal; }
+    public void setCanal(String canal) { this.canal = canal; }
+    public TipoRegra getTipo() { return tipo; }
+    public void setTipo(TipoRegra tipo) { this.tipo = tipo; }
+    public Comparacao getComparacao() { return comparacao; }
+    public void setComparacao(Comparacao comparacao) { this.comparacao = comparacao; }
+    public Double getLimite() { return limite; }
+    public void setLimite(Double limite) { this.limite = limite; }
+    public Integer getN() { return n; }
+    public void setN(Integer n) { this.n = n; }
+    public Integer getM() { return m; }
+    public void setM(Integer m) { this.m = m; }
+    public TipoEmergencia getTipoEmergencia() { return tipoEmergencia; }
+    public void setTipoEmergencia(TipoEmergencia tipoEmergencia) { this.tipoEmergencia = tipoEmergencia; }
+    public Boolean getAtiva() { return ativa; }
+    public void setAtiva(Boolean ativa) { this.ativa = ativa; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.domain.monitoring;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Sketches de quantis particionados no tempo: um por minuto recente e, após a consolidação,
+// um por hora. Uma consulta por janela combina só os baldes que a intersectam.
+// Não é thread-safe; o chamador sincroniza
+public final class SerieQuantis {
+
+    private static final long MINUTO_MS = 60_000L;
+    private static final long HORA_MS = 3_600_000L;
+
+    private final double erroRelativo;
+    private final TreeMap<Long, HistogramaQuantis> minutos = new TreeMap<>();
+    private final TreeMap<Long, HistogramaQuantis> horas = new TreeMap<>();
+
+    public SerieQuantis(double erroRelativo) {
+        this.erroRelativo = erroRelativo;
+    }
+
+    public void adicionar(long epochMs, double valor) {
+        long minuto = Math.floorDiv(epochMs, MINUTO_MS) * MINUTO_MS;
+        minutos.computeIfAbsent(minuto, m -> new HistogramaQuantis(erroRelativo)).adicionar(valor);
+    }
+
+    // Janela [deMs, ateMs]; baldes horários parcialmente dentro da janela entram inteiros
+    public HistogramaQuantis consultar(long deMs, long ateMs) {
+        HistogramaQuantis resultado = new HistogramaQuantis(erroRelativo);
+        long deHora = Math.floorDiv(deMs, HORA_MS) * HORA_MS;
+        for (HistogramaQuantis h : horas.subMap(deHora, true, ateMs, true).values()) resultado.combinar(h);
+        long deMinuto = Math.floorDiv(deMs, MINUTO_MS) * MINUTO_MS;
+        for (HistogramaQuantis h : minutos.subMap(deMinuto, true, ateMs, true).values()) resultado.combinar(h);
+        return resultado;
+    }
+
+    // Move minutos anteriores a limiteMinutosMs para o balde da hora e descarta horas anteriores a limiteHorasMs
+    public void consolidar(long limiteMinutosMs, long limiteHorasMs) {
+        Map<Long, HistogramaQuantis> antigos = minutos.headMap(limiteMinutosMs, false);
+        for (Map.Entry<Long, HistogramaQuantis> e : antigos.entrySet()) {
+            long hora = Math.floorDiv(e.getKey(), HORA_MS) * HORA_MS;
+            horas.computeIfAbsent(hora, h -> new HistogramaQuantis(erroRelativo)).combinar(e.getValue());
+        }
+        antigos.clear();
+        horas.headMap(limiteHorasMs, false).clear();
+    }
+
+    public boolean isVazia() {
+        return minutos.isEmpty() && horas.isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.domain.monitoring;
+
+// Taxa de ocorrências numa janela deslizante de N segundos, com um balde por segundo.
+// Registrar e consultar são O(1) e O(N), sem guardar as ocorrências individuais
+public final class TaxaJanela {
+
+    private final long[] segundos;
+    private final long[] contagens;
+
+    public TaxaJanela(int janelaSegundos) {
+        this.segundos = new long[janelaSegundos];
+        this.contagens = new long[janelaSegundos];
+        java.util.Arrays.fill(segundos, Long.MIN_VALUE);
+    }
+
+    public void registrar(long agoraMs, long quantidade) {
+        long s = Math.floorDiv(agoraMs, 1000L);
+        int i = (int) Math.floorMod(s, (long) segundos.length);
+        if (segundos[i] != s) {
+            segundos[i] = s;
+            contagens[i] = 0;
+        }
+        contagens[i] += quantidade;
+    }
+
+    public double porSegundo(long agoraMs) {
+        long s = Math.floorDiv(agoraMs, 1000L);
+        long limite = s - segundos.length;
+        long total = 0;
+        for (int i = 0; i < segundos.length; i++) {
+            if (segundos[i] > limite && segundos[i] <= s) total += contagens[i];
+        }
+        return (double) total / segundos.length;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.domain.monitoring;
+
+public enum TipoRegra {
+    LIMIAR,         // valor comparado ao limite
+    TAXA_VARIACAO,  // variação por segundo entre amostras consecutivas comparada ao limite
+    N_DE_M          // ao menos n das últimas m amostras violam o limite
+}
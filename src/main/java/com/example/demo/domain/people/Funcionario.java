@@ -1,10 +1,13 @@
 package com.example.demo.domain.people;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "funcionarios")
 @Inheritance(strategy = InheritanceType.JOINED)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "funcionarios")
 public class Funcionario {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
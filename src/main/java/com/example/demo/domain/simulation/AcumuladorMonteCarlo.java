@@ -0,0 +1,63 @@
+package com.example.demo.domain.simulation;
+
+import com.example.demo.domain.monitoring.EstatisticaIncremental;
+import com.example.demo.domain.monitoring.HistogramaQuantis;
+
+// Estatísticas combináveis das execuções: cada tarefa acumula as suas e o resultado é a
+// combinação, sem guardar trajetórias nem a lista de resultados
+public final class AcumuladorMonteCarlo {
+
+    public enum Metrica { APOGEU, TEMPO_APOGEU, VELOCIDADE_MAXIMA, MAX_Q }
+
+    // Erro relativo dos percentis (0,1%)
+    static final double ERRO_QUANTIS = 0.001;
+
+    private final EstatisticaIncremental[] estatisticas = new EstatisticaIncremental[Metrica.values().length];
+    private final HistogramaQuantis[] histogramas = new HistogramaQuantis[Metrica.values().length];
+    private long execucoes, falhas, invalidas;
+
+    public AcumuladorMonteCarlo() {
+        for (int i = 0; i < estatisticas.length; i++) {
+            estatisticas[i] = new EstatisticaIncremental();
+            histogramas[i] = new HistogramaQuantis(ERRO_QUANTIS);
+        }
+    }
+
+    void adicionar(ResultadoSimulacao r, boolean falhou) {
+        execucoes++;
+        if (falhou) falhas++;
+        registrar(Metrica.APOGEU, r.apogeu());
+        registrar(Metrica.TEMPO_APOGEU, r.tempoApogeu());
+        registrar(Metrica.VELOCIDADE_MAXIMA, r.velocidadeMaxima());
+        registrar(Metrica.MAX_Q, r.maxQ());
+    }
+
+    // Parâmetros perturbados fisicamente inválidos contam como falha
+    void adicionarInvalida() {
+        execucoes++;
+        falhas++;
+        invalidas++;
+    }
+
+    void combinar(AcumuladorMonteCarlo outro) {
+        execucoes += outro.execucoes;
+        falhas += outro.falhas;
+        invalidas += outro.invalidas;
+        for (int i = 0; i < estatisticas.length; i++) {
+            estatisticas[i].combinar(outro.estatisticas[i]);
+            histogramas[i].combinar(outro.histogramas[i]);
+        }
+    }
+
+    private void registrar(Metrica m, double valor) {
+        estatisticas[m.ordinal()].adicionar(valor);
+        histogramas[m.ordinal()].adicionar(valor);
+    }
+
+    public EstatisticaIncremental estatistica(Metrica m) { return estatisticas[m.ordinal()]; }
+    public HistogramaQuantis histograma(Metrica m) { return histogramas[m.ordinal()]; }
+    public long getExecucoes() { return execucoes; }
+    public long getFalhas() { return falhas; }
+    public long getInvalidas() { return invalidas; }
+    public double getProbabilidadeFalha() { return execucoes > 0 ? (double) falhas / execucoes : Double.NaN; }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.domain.simulation;
+
+import java.util.random.RandomGenerator;
+
+// Desvios-padrão relativos (0.02 = 2%) aplicados aos parâmetros nominais em cada execução de
+// Monte Carlo, e os critérios que classificam uma execução como falha
+public record Dispersao(
+        double sigmaEmpuxo,
+        double sigmaArrasto,
+        double sigmaMassa,
+        double sigmaQueima,
+        double apogeuMinimo,
+        double maxQLimite
+) {
+    // Perturbações gaussianas truncadas em ±4σ, para nunca gerar fatores negativos com σ pequenos
+    private static final double TRUNCAMENTO = 4;
+
+    public Dispersao {
+        if (sigmaEmpuxo < 0 || sigmaArrasto < 0 || sigmaMassa < 0 || sigmaQueima < 0) {
+            throw new IllegalArgumentException("Dispersões devem ser não negativas");
+        }
+    }
+
+    // A massa perturbada é a seca (estrutura), mantendo o propelente nominal
+    public ParametrosFoguete perturbar(ParametrosFoguete n, RandomGenerator rnd) {
+        double massaSeca = (n.massaInicial() - n.massaPropelente()) * fator(rnd, sigmaMassa);
+        return new ParametrosFoguete(
+                massaSeca + n.massaPropelente(),
+                n.massaPropelente(),
+                n.empuxo() * fator(rnd, sigmaEmpuxo),
+                n.tempoQueima() * fator(rnd, sigmaQueima),
+                n.coeficienteArrasto() * fator(rnd, sigmaArrasto),
+                n.areaReferencia(),
+                n.tempoMaximo(),
+                n.passoSaida());
+    }
+
+    public boolean falhou(ResultadoSimulacao r) {
+        return r.apogeu() < apogeuMinimo || r.maxQ() > maxQLimite;
+    }
+
+    private static double fator(RandomGenerator rnd, double sigma) {
+        if (sigma == 0) return 1;
+        double z = Math.max(-TRUNCAMENTO, Math.min(TRUNCAMENTO, rnd.nextGaussian()));
+        return Math.max(0, 1 + sigma * z);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.domain.simulation;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+// Trajetória em formato binário colunar, escrita à medida que o integrador produz os pontos.
+// Layout (big-endian):
+//   cabeçalho: magic "TRJC" (int), versão (int), passo de saída em s (double)
+//   blocos: n (int), n altitudes em m (float), n velocidades em m/s (float)
+//   fim: bloco com n = 0
+// O tempo não é gravado: o ponto de índice i (contando todos os blocos) está em t = i * passo.
+// float32 dá resolução de centímetros até milhares de km, 8 bytes por ponto contra ~60 em JSON
+public final class EscritorTrajetoria implements SimuladorFoguete.ObservadorTrajetoria {
+
+    public static final int MAGIC = 0x54524A43; // "TRJC"
+    public static final int VERSAO = 1;
+    static final int PONTOS_POR_BLOCO = 4096;
+
+    private final DataOutputStream out;
+    private final float[] altitudes = new float[PONTOS_POR_BLOCO];
+    private final float[] velocidades = new float[PONTOS_POR_BLOCO];
+    private int n;
+    private long pontos;
+
+    public EscritorTrajetoria(OutputStream destino, double passo) throws IOException {
+        this.out = new DataOutputStream(destino);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSAO);
+        out.writeDouble(passo);
+    }
+
+    // Chamado de dentro do integrador, que não propaga IOException
+    @Override
+    public void aceitar(double t, double altitude, double velocidade) {
+        altitudes[n] = (float) altitude;
+        velocidades[n] = (float) velocidade;
+        pontos++;
+        if (++n == PONTOS_POR_BLOCO) {
+            try {
+                descarregar();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Grava o bloco parcial e o marcador de fim; não fecha o destino
+    public long finalizar() throws IOException {
+        descarregar();
+        out.writeInt(0);
+        out.flush();
+        return pontos;
+    }
+
+    private void descarregar() throws IOException {
+        if (n == 0) return;
+        out.writeInt(n);
+        for (int i = 0; i < n; i++) out.writeFloat(altitudes[i]);
+        for (int i = 0; i < n; i++) out.writeFloat(velocidades[i]);
+        n = 0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.domain.simulation;
+
+// RK45 adaptativo (Dormand–Prince 5(4)) sobre arrays primitivos, com FSAL e controle de erro na
+// norma RMS como o solve_ivp(method="RK45") do SciPy. Os passos são cortados para cair exatamente
+// em cada instante de saída e nas descontinuidades informadas (ex.: fim da queima).
+// Sistema que diverge (estado ou erro não finito, passo abaixo da resolução de t, passos demais)
+// falha com IllegalStateException em vez de encolher o passo indefinidamente
+public final class IntegradorDormandPrince {
+
+    private static final double C2 = 1.0 / 5, C3 = 3.0 / 10, C4 = 4.0 / 5, C5 = 8.0 / 9;
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561,
+            A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247,
+            A64 = 49.0 / 176, A65 = -5103.0 / 18656;
+    private static final double B1 = 35.0 / 384, B3 = 500.0 / 1113, B4 = 125.0 / 192,
+            B5 = -2187.0 / 6784, B6 = 11.0 / 84;
+    // Diferença entre as soluções de ordem 5 e 4
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920,
+            E5 = -17253.0 / 339200, E6 = 22.0 / 525, E7 = -1.0 / 40;
+
+    private static final double SEGURANCA = 0.9, FATOR_MIN = 0.2, FATOR_MAX = 10;
+    // Tentativas (aceitas + rejeitadas) por integração: folga sobre o 1e6 de saídas que ParametrosFoguete admite
+    static final long MAX_PASSOS = 5_000_000;
+
+    // Recebe cada instante de saída com o estado correspondente (o array é reutilizado)
+    @FunctionalInterface
+    public interface Observador {
+        void aceitar(double t, double[] y);
+    }
+
+    private final double rtol;
+    private final double atol;
+    private long passosAceitos, passosRejeitados, avaliacoes;
+
+    public IntegradorDormandPrince(double rtol, double atol) {
+        this.rtol = rtol;
+        this.atol = atol;
+    }
+
+    // Integra de t0 até tFim emitindo o estado em t0, t0 + passoSaida, ... (< tFim)
+    public void integrar(SistemaEdo sistema, double t0, double[] estadoInicial, double tFim, double passoSaida,
+                         double[] descontinuidades, Observador observador) {
+        int n = estadoInicial.length;
+        double[] y = estadoInicial.clone(), yNovo = new double[n], tmp = new double[n];
+        double[] k1 = new double[n], k2 = new double[n], k3 = new double[n], k4 = new double[n],
+                k5 = new double[n], k6 = new double[n], k7 = new double[n];
+
+        double t = t0;
+        sistema.derivadas(t, y, k1);
+        avaliacoes++;
+        if (!finitos(y) || !finitos(k1)) {
+            throw new IllegalStateException("Estado inicial ou derivadas não finitos em t=" + t0);
+        }
+        double h = passoInicial(sistema, t, y, k1, tmp, yNovo, tFim - t0);
+        if (!(h > 0)) throw new IllegalStateException("Passo inicial inválido: " + h);
+        long saida = 0;
+        double proximaSaida = t0;
+
+        while (true) {
+            // Emite todos os instantes de saída já alcançados
+            while (proximaSaida <= t && proximaSaida < tFim) {
+                observador.aceitar(proximaSaida, y);
+                proximaSaida = t0 + (++saida) * passoSaida;
+            }
+            if (proximaSaida >= tFim) return;
+
+            double limite = proximaSaida;
+            for (double d : descontinuidades) {
+                if (d > t && d < limite) limite = d;
+            }
+            boolean aceito = false;
+            while (!aceito) {
+                double hPasso = Math.min(h, limite - t);
+                // Mesmo piso do SciPy: abaixo de alguns ulps t + h não avança
+                double hMin = 10 * Math.ulp(t);
+                if (!(hPasso >= hMin || hPasso == limite - t)) {
+                    throw new IllegalStateException("Passo de integração abaixo do mínimo em t=" + t
+                            + " (sistema divergente ou rígido demais)");
+                }
+                if (passosAceitos + passosRejeitados >= MAX_PASSOS) {
+                    throw new IllegalStateException("Limite de " + MAX_PASSOS + " passos de integração excedido em t=" + t);
+                }
+                for (int i = 0; i < n; i++) tmp[i] = y[i] + hPasso * A21 * k1[i];
+                sistema.derivadas(t + C2 * hPasso, tmp, k2);
+                for (int i = 0; i < n; i++) tmp[i] = y[i] + hPasso * (A31 * k1[i] + A32 * k2[i]);
+                sistema.derivadas(t + C3 * hPasso, tmp, k3);
+                for (int i = 0; i < n; i++) tmp[i] = y[i] + hPasso * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+                sistema.derivadas(t + C4 * hPasso, tmp, k4);
+                for (int i = 0; i < n; i++) {
+                    tmp[i] = y[i] + hPasso * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+                }
+                sistema.derivadas(t + C5 * hPasso, tmp, k5);
+                for (int i = 0; i < n; i++) {
+                    tmp[i] = y[i] + hPasso * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+                }
+                sistema.derivadas(t + hPasso, tmp, k6);
+                for (int i = 0; i < n; i++) {
+                    yNovo[i] = y[i] + hPasso * (B1 * k1[i] + B3 * k3[i] + B4 * k4[i] + B5 * k5[i] + B6 * k6[i]);
+                }
+                sistema.derivadas(t + hPasso, yNovo, k7);
+                avaliacoes += 6;
+
+                double soma = 0;
+                for (int i = 0; i < n; i++) {
+                    double erro = hPasso * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i]
+                            + E7 * k7[i]);
+                    double escala = atol + rtol * Math.max(Math.abs(y[i]), Math.abs(yNovo[i]));
+                    soma += (erro / escala) * (erro / escala);
+                }
+                double norma = Math.sqrt(soma / n);
+                if (!finitos(yNovo) || !finitos(k7)) norma = Double.NaN;
+
+                // Erro não finito (overflow no estágio) é rejeição: o passo encolhe até o piso e falha
+                if (norma <= 1) {
+                    aceito = true;
+                    passosAceitos++;
+                    double fator = norma == 0 ? FATOR_MAX
+                            : Math.min(FATOR_MAX, SEGURANCA * Math.pow(norma, -0.2));
+                    // Passo encurtado só para alcançar um limite não deve reduzir o próximo
+                    h = Math.max(h, hPasso) * fator;
+                    t = hPasso == limite - t ? limite : t + hPasso;
+                    // FSAL: a última avaliação do passo é a primeira do seguinte
+                    double[] troca = y; y = yNovo; yNovo = troca;
+                    troca = k1; k1 = k7; k7 = troca;
+                } else {
+                    passosRejeitados++;
+                    h = Double.isFinite(norma)
+                            ? hPasso * Math.max(FATOR_MIN, SEGURANCA * Math.pow(norma, -0.2))
+                            : hPasso * FATOR_MIN;
+                }
+            }
+        }
+    }
+
+    private static boolean finitos(double[] v) {
+        for (double x : v) {
+            if (!Double.isFinite(x)) return false;
+        }
+        return true;
+    }
+
+    public long getPassosAceitos() { return passosAceitos; }
+    public long getPassosRejeitados() { return passosRejeitados; }
+    public long getAvaliacoes() { return avaliacoes; }
+
+    // Estimativa do primeiro passo (Hairer, Nørsett & Wanner, II.4), a mesma usada pelo SciPy
+    private double passoInicial(SistemaEdo sistema, double t, double[] y, double[] f0, double[] y1, double[] f1,
+                                double intervalo) {
+        int n = y.length;
+        double d0 = 0, d1 = 0;
+        for (int i = 0; i < n; i++) {
+            double escala = atol + rtol * Math.abs(y[i]);
+            d0 += (y[i] / escala) * (y[i] / escala);
+            d1 += (f0[i] / escala) * (f0[i] / escala);
+        }
+        d0 = Math.sqrt(d0 / n);
+        d1 = Math.sqrt(d1 / n);
+        double h0 = (d0 < 1e-5 || d1 < 1e-5) ? 1e-6 : 0.01 * d0 / d1;
+        h0 = Math.min(h0, intervalo);
+
+        for (int i = 0; i < n; i++) y1[i] = y[i] + h0 * f0[i];
+        sistema.derivadas(t + h0, y1, f1);
+        avaliacoes++;
+        double d2 = 0;
+        for (int i = 0; i < n; i++) {
+            double escala = atol + rtol * Math.abs(y[i]);
+            double d = (f1[i] - f0[i]) / escala;
+            d2 += d * d;
+        }
+        d2 = Math.sqrt(d2 / n) / h0;
+        double h1 = (d1 <= 1e-15 && d2 <= 1e-15)
+                ? Math.max(1e-6, h0 * 1e-3)
+                : Math.pow(0.01 / Math.max(d1, d2), 1.0 / 5);
+        return Math.min(Math.min(100 * h0, h1), intervalo);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.domain.simulation;
+
+// Equações do movimento de simulacao-python/core/main.py (RocketSimulation), estado [altitude, velocidade].
+// Mantém as simplificações do original: gravidade calculada com a massa inicial e atmosfera
+// exponencial truncada em 80 km
+public final class ModeloFoguete implements SistemaEdo {
+
+    static final double G = 6.67430e-11;
+    static final double MASSA_TERRA = 5.972e24;
+    static final double RAIO_TERRA = 6_371_000;
+    static final double DENSIDADE_NIVEL_MAR = 1.225;
+    static final double ESCALA_ALTURA = 8500;
+    static final double LIMITE_ATMOSFERA = 80_000;
+
+    private final ParametrosFoguete p;
+    private final double vazaoMassica;
+
+    public ModeloFoguete(ParametrosFoguete p) {
+        this.p = p;
+        this.vazaoMassica = p.massaPropelente() / p.tempoQueima();
+    }
+
+    public double massa(double t) {
+        return t < p.tempoQueima() ? p.massaInicial() - vazaoMassica * t : p.massaInicial() - p.massaPropelente();
+    }
+
+    public double empuxo(double t) {
+        return t < p.tempoQueima() ? p.empuxo() : 0;
+    }
+
+    public static double densidadeAr(double altitude) {
+        return altitude > LIMITE_ATMOSFERA ? 0 : DENSIDADE_NIVEL_MAR * Math.exp(-altitude / ESCALA_ALTURA);
+    }
+
+    // Pressão dinâmica q = ½ρv²
+    public static double pressaoDinamica(double altitude, double velocidade) {
+        return 0.5 * densidadeAr(altitude) * velocidade * velocidade;
+    }
+
+    @Override
+    public void derivadas(double t, double[] estado, double[] dydt) {
+        double y = estado[0], v = estado[1];
+        double r = RAIO_TERRA + y;
+        double gravidade = G * MASSA_TERRA * p.massaInicial() / (r * r);
+        double arrasto = 0.5 * densidadeAr(y) * v * Math.abs(v) * p.coeficienteArrasto() * p.areaReferencia();
+        double resultante = empuxo(t) - gravidade - arrasto;
+        // No solo, sem força resultante para cima, o foguete não se move
+        if (y <= 0 && resultante < 0) {
+            dydt[0] = 0;
+            dydt[1] = 0;
+            return;
+        }
+        dydt[0] = v;
+        dydt[1] = resultante / massa(t);
+    }
+}
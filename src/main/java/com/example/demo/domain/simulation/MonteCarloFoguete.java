@@ -0,0 +1,86 @@
+package com.example.demo.domain.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Monte Carlo em fork/join: o intervalo de execuções é dividido ao meio até o limiar, e cada
+// divisão faz split() do gerador. Como a árvore de divisões só depende de (execucoes, semente),
+// a mesma semente reproduz o mesmo resultado independente do número de threads
+public final class MonteCarloFoguete {
+
+    // Execuções por tarefa folha: grande o bastante para amortizar o fork, pequeno para balancear
+    private static final int LIMIAR = 8;
+
+    private final SimuladorFoguete simulador = new SimuladorFoguete();
+
+    // Notificado a cada execução concluída; cancelado() é consultado entre execuções
+    public interface Acompanhamento {
+        Acompanhamento NENHUM = new Acompanhamento() {};
+
+        default void concluida() {}
+
+        default boolean cancelado() { return false; }
+    }
+
+    public AcumuladorMonteCarlo executar(ForkJoinPool pool, ParametrosFoguete nominal, Dispersao dispersao,
+                                         int execucoes, long semente) {
+        return executar(pool, nominal, dispersao, execucoes, semente, Acompanhamento.NENHUM);
+    }
+
+    // Cancelamento interrompe as folhas e é propagado como CancellationException
+    public AcumuladorMonteCarlo executar(ForkJoinPool pool, ParametrosFoguete nominal, Dispersao dispersao,
+                                         int execucoes, long semente, Acompanhamento acompanhamento) {
+        return pool.invoke(new Tarefa(nominal, dispersao, 0, execucoes, new SplittableRandom(semente), acompanhamento));
+    }
+
+    private final class Tarefa extends RecursiveTask<AcumuladorMonteCarlo> {
+
+        private final ParametrosFoguete nominal;
+        private final Dispersao dispersao;
+        private final int inicio, fim;
+        private final SplittableRandom rnd;
+        private final Acompanhamento acompanhamento;
+
+        Tarefa(ParametrosFoguete nominal, Dispersao dispersao, int inicio, int fim, SplittableRandom rnd,
+               Acompanhamento acompanhamento) {
+            this.nominal = nominal;
+            this.dispersao = dispersao;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.rnd = rnd;
+            this.acompanhamento = acompanhamento;
+        }
+
+        @Override
+        protected AcumuladorMonteCarlo compute() {
+            if (fim - inicio <= LIMIAR) return executarFaixa();
+            int meio = (inicio + fim) >>> 1;
+            Tarefa direita = new Tarefa(nominal, dispersao, meio, fim, rnd.split(), acompanhamento);
+            direita.fork();
+            AcumuladorMonteCarlo acumulado = new Tarefa(nominal, dispersao, inicio, meio, rnd, acompanhamento).compute();
+            acumulado.combinar(direita.join());
+            return acumulado;
+        }
+
+        private AcumuladorMonteCarlo executarFaixa() {
+            AcumuladorMonteCarlo acumulado = new AcumuladorMonteCarlo();
+            for (int i = inicio; i < fim; i++) {
+                if (acompanhamento.cancelado()) throw new CancellationException("Simulação cancelada");
+                ResultadoSimulacao r;
+                try {
+                    r = simulador.simular(dispersao.perturbar(nominal, rnd));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    // Parâmetros sorteados fora dos limites ou integração que divergiu
+                    acumulado.adicionarInvalida();
+                    acompanhamento.concluida();
+                    continue;
+                }
+                acumulado.adicionar(r, dispersao.falhou(r));
+                acompanhamento.concluida();
+            }
+            return acumulado;
+        }
+    }
+}
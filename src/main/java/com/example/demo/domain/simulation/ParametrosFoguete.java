@@ -0,0 +1,41 @@
+package com.example.demo.domain.simulation;
+
+// Parâmetros do lançamento vertical; unidades SI (kg, N, s, m²)
+public record ParametrosFoguete(
+        double massaInicial,
+        double massaPropelente,
+        double empuxo,
+        double tempoQueima,
+        double coeficienteArrasto,
+        double areaReferencia,
+        double tempoMaximo,
+        double passoSaida
+) {
+    // Mesmos valores do serviço Python (baseados no Falcon 9)
+    public static final ParametrosFoguete PADRAO =
+            new ParametrosFoguete(549_000, 507_000, 7_607_000, 162, 0.5, 10.0, 600, 0.1);
+
+    // Limites físicos (folga larga sobre o Saturn V: 2,9e6 kg, 3,5e7 N). Também em ExecutarSimulacaoRequest
+    public static final double MASSA_MAXIMA = 1e8, EMPUXO_MAXIMO = 1e9, TEMPO_QUEIMA_MAXIMO = 10_000,
+            COEFICIENTE_ARRASTO_MAXIMO = 10, AREA_MAXIMA = 10_000, TEMPO_MAXIMO = 100_000;
+
+    public ParametrosFoguete {
+        if (!(massaInicial > 0) || !(empuxo >= 0) || !(tempoQueima > 0) || !(coeficienteArrasto >= 0)
+                || !(areaReferencia >= 0) || !(tempoMaximo > 0) || !(passoSaida > 0)) {
+            throw new IllegalArgumentException("Parâmetros de simulação devem ser positivos");
+        }
+        if (!(massaPropelente >= 0) || massaPropelente >= massaInicial) {
+            throw new IllegalArgumentException("Massa de propelente deve ser menor que a massa inicial");
+        }
+        if (massaInicial > MASSA_MAXIMA || empuxo > EMPUXO_MAXIMO || tempoQueima > TEMPO_QUEIMA_MAXIMO
+                || coeficienteArrasto > COEFICIENTE_ARRASTO_MAXIMO || areaReferencia > AREA_MAXIMA
+                || tempoMaximo > TEMPO_MAXIMO) {
+            throw new IllegalArgumentException("Parâmetros de simulação acima dos limites (massa " + MASSA_MAXIMA
+                    + " kg, empuxo " + EMPUXO_MAXIMO + " N, queima " + TEMPO_QUEIMA_MAXIMO + " s, arrasto "
+                    + COEFICIENTE_ARRASTO_MAXIMO + ", área " + AREA_MAXIMA + " m², tempo " + TEMPO_MAXIMO + " s)");
+        }
+        if (tempoMaximo / passoSaida > 1_000_000) {
+            throw new IllegalArgumentException("Passo de saída muito pequeno para o tempo máximo");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.domain.simulation;
+
+// Resumo de uma execução; tempos em s, altitudes em m, velocidades em m/s e pressão em Pa.
+// Extremos avaliados nos instantes de saída, como no serviço Python; maxQ considera só a subida
+public record ResultadoSimulacao(
+        double apogeu,
+        double tempoApogeu,
+        double velocidadeMaxima,
+        double tempoVelocidadeMaxima,
+        double maxQ,
+        double tempoMaxQ,
+        double altitudeFimQueima,
+        double velocidadeFimQueima,
+        int pontos,
+        long passosAceitos,
+        long passosRejeitados,
+        long avaliacoes
+) {}
@@ -0,0 +1,59 @@
+package com.example.demo.domain.simulation;
+
+// Executa o modelo com as mesmas tolerâncias do solve_ivp do serviço Python (rtol 1e-6, atol 1e-9)
+public final class SimuladorFoguete {
+
+    public static final double RTOL = 1e-6;
+    public static final double ATOL = 1e-9;
+
+    // Recebe a trajetória nos instantes de saída, se o chamador quiser os pontos
+    @FunctionalInterface
+    public interface ObservadorTrajetoria {
+        void aceitar(double t, double altitude, double velocidade);
+    }
+
+    public ResultadoSimulacao simular(ParametrosFoguete p) {
+        return simular(p, null);
+    }
+
+    public ResultadoSimulacao simular(ParametrosFoguete p, ObservadorTrajetoria trajetoria) {
+        ModeloFoguete modelo = new ModeloFoguete(p);
+        IntegradorDormandPrince integrador = new IntegradorDormandPrince(RTOL, ATOL);
+        Extremos ex = new Extremos(p.tempoQueima());
+        integrador.integrar(modelo, 0, new double[]{0, 0}, p.tempoMaximo(), p.passoSaida(),
+                new double[]{p.tempoQueima()}, (t, y) -> {
+                    ex.aceitar(t, y[0], y[1]);
+                    if (trajetoria != null) trajetoria.aceitar(t, y[0], y[1]);
+                });
+        return new ResultadoSimulacao(ex.apogeu, ex.tempoApogeu, ex.vMax, ex.tempoVMax, ex.maxQ, ex.tempoMaxQ,
+                ex.altitudeFimQueima, ex.velocidadeFimQueima, ex.pontos,
+                integrador.getPassosAceitos(), integrador.getPassosRejeitados(), integrador.getAvaliacoes());
+    }
+
+    private static final class Extremos {
+        final double tempoQueima;
+        double apogeu = Double.NEGATIVE_INFINITY, tempoApogeu;
+        double vMax = Double.NEGATIVE_INFINITY, tempoVMax;
+        double maxQ, tempoMaxQ;
+        double altitudeFimQueima = Double.NaN, velocidadeFimQueima = Double.NaN;
+        int pontos;
+
+        Extremos(double tempoQueima) {
+            this.tempoQueima = tempoQueima;
+        }
+
+        void aceitar(double t, double y, double v) {
+            pontos++;
+            if (y > apogeu) { apogeu = y; tempoApogeu = t; }
+            if (v > vMax) { vMax = v; tempoVMax = t; }
+            // Max-q da subida; na queda livre sem recuperação o modelo atinge pressões sem sentido operacional
+            double q = ModeloFoguete.pressaoDinamica(y, v);
+            if (v > 0 && q > maxQ) { maxQ = q; tempoMaxQ = t; }
+            // Primeiro ponto de saída em ou após o fim da queima, como o burnout_index do Python
+            if (Double.isNaN(altitudeFimQueima) && t >= tempoQueima) {
+                altitudeFimQueima = y;
+                velocidadeFimQueima = v;
+            }
+        }
+    }
+}
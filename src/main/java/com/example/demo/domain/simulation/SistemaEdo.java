@@ -0,0 +1,8 @@
+package com.example.demo.domain.simulation;
+
+// Sistema de EDOs dy/dt = f(t, y); escreve as derivadas em dydt para não alocar por avaliação
+@FunctionalInterface
+public interface SistemaEdo {
+
+    void derivadas(double t, double[] y, double[] dydt);
+}
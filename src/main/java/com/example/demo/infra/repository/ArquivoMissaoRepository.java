@@ -0,0 +1,11 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.ArquivoMissao;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ArquivoMissaoRepository extends JpaRepository<ArquivoMissao, Long> {
+
+    Optional<ArquivoMissao> findByMissaoId(Long missaoId);
+}
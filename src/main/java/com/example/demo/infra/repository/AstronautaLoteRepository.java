@@ -0,0 +1,88 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.api.dto.AstronautaDTO;
+import com.example.demo.api.dto.NovoAstronautaRequest;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class AstronautaLoteRepository {
+
+    // Herança JOINED: a linha de funcionarios gera o id (identity) usado em astronautas
+    private static final String INSERT_FUNCIONARIO =
+            "insert into funcionarios (nome, idade, ativo) values (?, ?, ?)";
+    private static final String INSERT_ASTRONAUTA =
+            "insert into astronautas (funcionario_id, nivel_aptidao_medica, missoes_realizadas) values (?, ?, ?)";
+
+    private static final int TAMANHO_FETCH = 1000;
+
+    private final JdbcTemplate jdbc;
+
+    public AstronautaLoteRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    public int inserirLote(List<NovoAstronautaRequest> astronautas) {
+        if (astronautas.isEmpty()) return 0;
+        long[] ids = jdbc.execute((ConnectionCallback<long[]>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_FUNCIONARIO, new String[]{"id"})) {
+                for (NovoAstronautaRequest a : astronautas) {
+                    ps.setString(1, a.nome());
+                    ps.setObject(2, a.idade(), Types.INTEGER);
+                    ps.setObject(3, a.ativo(), Types.BOOLEAN);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                return idsGerados(ps, astronautas.size());
+            }
+        });
+        jdbc.batchUpdate(INSERT_ASTRONAUTA, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NovoAstronautaRequest a = astronautas.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setString(2, a.nivelAptidaoMedica());
+                ps.setObject(3, a.missoesRealizadas(), Types.INTEGER);
+            }
+
+            @Override
+            public int getBatchSize() { return astronautas.size(); }
+        });
+        return astronautas.size();
+    }
+
+    // Varredura em streaming por id; só usa cursor no servidor dentro de uma transação
+    public void percorrer(Boolean ativo, Consumer<AstronautaDTO> consumidor) {
+        String sql = "select f.id, f.nome, f.idade, f.ativo, a.nivel_aptidao_medica, a.missoes_realizadas "
+                + "from astronautas a join funcionarios f on f.id = a.funcionario_id "
+                + (ativo != null ? "where f.ativo = ? " : "")
+                + "order by f.id";
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(TAMANHO_FETCH);
+            if (ativo != null) ps.setBoolean(1, ativo);
+            return ps;
+        }, rs -> {
+            consumidor.accept(new AstronautaDTO(rs.getLong(1), rs.getString(2), rs.getObject(3, Integer.class),
+                    rs.getObject(4, Boolean.class), rs.getString(5), rs.getObject(6, Integer.class)));
+        });
+    }
+
+    private static long[] idsGerados(PreparedStatement ps, int esperados) throws SQLException {
+        long[] ids = new long[esperados];
+        int n = 0;
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next() && n < esperados) ids[n++] = rs.getLong(1);
+        }
+        if (n != esperados) throw new IncorrectResultSizeDataAccessException(esperados, n);
+        return ids;
+    }
+}
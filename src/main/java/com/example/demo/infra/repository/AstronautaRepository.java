@@ -1,8 +1,48 @@
 package com.example.demo.infra.repository;
 
+import com.example.demo.api.dto.AstronautaDTO;
 import com.example.demo.domain.people.Astronauta;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface AstronautaRepository extends JpaRepository<Astronauta, Long> {
-    
+
+    @Query("""
+            select new com.example.demo.api.dto.AstronautaDTO(
+                a.id, a.nome, a.idade, a.ativo, a.nivelAptidaoMedica, a.missoesRealizadas)
+            from Astronauta a
+            where a.id > :cursor
+              and (:ativo is null or a.ativo = :ativo)
+            order by a.id
+            """)
+    List<AstronautaDTO> listarPagina(@Param("cursor") long cursor,
+                                     @Param("ativo") Boolean ativo,
+                                     Pageable limite);
+
+    // Tripulação e comandante projetados pela tabela de junção, sem inicializar as coleções da Missao
+    @Query("""
+            select new com.example.demo.api.dto.AstronautaDTO(
+                a.id, a.nome, a.idade, a.ativo, a.nivelAptidaoMedica, a.missoesRealizadas)
+            from Missao m join m.tripulacao a
+            where m.id = :missaoId and a.id > :cursor
+            order by a.id
+            """)
+    List<AstronautaDTO> listarTripulacao(@Param("missaoId") Long missaoId,
+                                         @Param("cursor") long cursor,
+                                         Pageable limite);
+
+    @Query("""
+            select new com.example.demo.api.dto.AstronautaDTO(
+                a.id, a.nome, a.idade, a.ativo, a.nivelAptidaoMedica, a.missoesRealizadas)
+            from Missao m join m.comandante a
+            where m.id = :missaoId
+            """)
+    Optional<AstronautaDTO> buscarComandante(@Param("missaoId") Long missaoId);
+
+    long countByAtivoTrue();
 }
@@ -0,0 +1,62 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.api.dto.DadosBiometricosDTO;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+
+@Repository
+public class BiometriaLoteRepository {
+
+    private static final String INSERT =
+            "insert into dados_biometricos (astronauta_id, tipo, valor, unidade, data_hora) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+
+    public BiometriaLoteRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    public int inserirLote(long astronautaId, List<DadosBiometricosDTO> leituras) {
+        if (leituras.isEmpty()) return 0;
+        jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DadosBiometricosDTO d = leituras.get(i);
+                ps.setLong(1, astronautaId);
+                ps.setString(2, d.tipo());
+                ps.setDouble(3, d.valor());
+                ps.setString(4, d.unidade());
+                ps.setTimestamp(5, Timestamp.valueOf(d.dataHora()));
+            }
+
+            @Override
+            public int getBatchSize() { return leituras.size(); }
+        });
+        return leituras.size();
+    }
+
+    // Percorre os valores de uma janela [de, ate) linha a linha, sem materializar entidades
+    public void percorrerValores(long astronautaId, String tipo, LocalDateTime de, LocalDateTime ate,
+                                 DoubleConsumer consumidor) {
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "select valor from dados_biometricos "
+                            + "where astronauta_id = ? and tipo = ? and data_hora >= ? and data_hora < ?");
+            ps.setFetchSize(5000);
+            ps.setLong(1, astronautaId);
+            ps.setString(2, tipo);
+            ps.setTimestamp(3, Timestamp.valueOf(de));
+            ps.setTimestamp(4, Timestamp.valueOf(ate));
+            return ps;
+        }, rs -> {
+            double valor = rs.getDouble(1);
+            if (!rs.wasNull()) consumidor.accept(valor);
+        });
+    }
+}
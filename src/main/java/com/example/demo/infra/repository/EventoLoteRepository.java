@@ -0,0 +1,83 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.api.dto.EventoMissaoDTO;
+import com.example.demo.domain.mission.EventoMissaoRegistrado;
+import com.example.demo.domain.mission.SeveridadeEvento;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class EventoLoteRepository {
+
+    // Deve acompanhar o allocationSize de EventoMissao (otimizador pooled-lo)
+    static final int BLOCO_IDS = 50;
+
+    private static final String INSERT =
+            "insert into eventos_missao (id, missao_id, tipo, descricao, severidade, data_hora) values (?, ?, ?, ?, ?, ?)";
+
+    private static final int TAMANHO_FETCH = 1000;
+
+    private final JdbcTemplate jdbc;
+
+    public EventoLoteRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    // Um único batch pode misturar eventos de várias missões
+    public int inserirLote(List<EventoMissaoRegistrado> eventos) {
+        if (eventos.isEmpty()) return 0;
+        long[] ids = reservarIds(eventos.size());
+        jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EventoMissaoRegistrado e = eventos.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, e.missaoId());
+                ps.setString(3, e.tipo());
+                ps.setString(4, e.descricao());
+                ps.setString(5, (e.severidade() != null ? e.severidade() : SeveridadeEvento.INFO).name());
+                ps.setTimestamp(6, Timestamp.valueOf(e.dataHora()));
+            }
+
+            @Override
+            public int getBatchSize() { return eventos.size(); }
+        });
+        return eventos.size();
+    }
+
+    // Eventos da missão em ordem de tempo, direto das colunas (relatório e arquivamento)
+    public void percorrerDaMissao(long missaoId, Consumer<EventoMissaoDTO> consumidor) {
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement("select id, tipo, descricao, severidade, data_hora "
+                    + "from eventos_missao where missao_id = ? order by data_hora, id");
+            ps.setFetchSize(TAMANHO_FETCH);
+            ps.setLong(1, missaoId);
+            return ps;
+        }, rs -> {
+            consumidor.accept(new EventoMissaoDTO(rs.getLong(1), missaoId, rs.getString(2), rs.getString(3),
+                    rs.getString(4), rs.getObject(5, LocalDateTime.class)));
+        });
+    }
+
+    public int removerDaMissao(long missaoId) {
+        return jdbc.update("delete from eventos_missao where missao_id = ?", missaoId);
+    }
+
+    // Cada nextval reserva BLOCO_IDS ids consecutivos a partir do valor retornado
+    private long[] reservarIds(int quantidade) {
+        int blocos = (quantidade + BLOCO_IDS - 1) / BLOCO_IDS;
+        List<Long> inicios = jdbc.queryForList(
+                "select nextval('eventos_missao_seq') from generate_series(1, ?)", Long.class, blocos);
+        long[] ids = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            ids[i] = inicios.get(i / BLOCO_IDS) + (i % BLOCO_IDS);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.EventoMissao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EventoMissaoRepository extends JpaRepository<EventoMissao, Long> {
+
+    // Filtra pela coluna missao_id sem carregar a Missao
+    @Query("""
+            select e from EventoMissao e
+            where e.missao.id = :missaoId
+              and e.id > :cursor
+              and (:tipo is null or e.tipo = :tipo)
+            order by e.id
+            """)
+    List<EventoMissao> listarPagina(@Param("missaoId") Long missaoId,
+                                    @Param("cursor") long cursor,
+                                    @Param("tipo") String tipo,
+                                    Pageable limite);
+}
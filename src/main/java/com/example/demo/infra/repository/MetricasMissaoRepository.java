@@ -0,0 +1,105 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.MetricasMissao;
+import com.example.demo.domain.monitoring.EstatisticaIncremental;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Snapshots de métricas por JDBC direto: a tabela não tem cache de segundo nível e nenhuma escrita
+// aqui passa pelo Hibernate (que invalidaria regiões de cache em updates em massa)
+@Repository
+public class MetricasMissaoRepository {
+
+    private static final String ATUALIZAR = """
+            update metricas_missao set total_telemetrias = ?, total_eventos = ?, total_emergencias = ?,
+                ultima_telemetria = ?, data_snapshot = ?
+            where missao_id = ?""";
+
+    // Só insere se a missão ainda existe: 0 linhas = missão removida
+    private static final String INSERIR = """
+            insert into metricas_missao (missao_id, total_telemetrias, total_eventos, total_emergencias,
+                ultima_telemetria, data_snapshot)
+            select m.id, ?, ?, ?, ?, ? from missoes m where m.id = ?""";
+
+    private static final String ATUALIZAR_CANAL = """
+            update metricas_canal set contagem = ?, media = ?, m2 = ?, minimo = ?, maximo = ?
+            where missao_id = ? and canal = ?""";
+
+    private static final String INSERIR_CANAL = """
+            insert into metricas_canal (missao_id, canal, contagem, media, m2, minimo, maximo)
+            values (?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbc;
+
+    public MetricasMissaoRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    public Optional<MetricasMissao> buscar(long missaoId) {
+        return jdbc.query("""
+                        select total_telemetrias, total_eventos, total_emergencias, ultima_telemetria, data_snapshot
+                        from metricas_missao where missao_id = ?""",
+                (rs, i) -> new MetricasMissao(missaoId, rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                        data(rs.getTimestamp(4)), data(rs.getTimestamp(5))),
+                missaoId).stream().findFirst();
+    }
+
+    public Map<String, EstatisticaIncremental> buscarCanais(long missaoId) {
+        Map<String, EstatisticaIncremental> canais = new HashMap<>();
+        jdbc.query("select canal, contagem, media, m2, minimo, maximo from metricas_canal where missao_id = ?",
+                rs -> {
+                    canais.put(rs.getString(1), EstatisticaIncremental.restaurar(rs.getLong(2), rs.getDouble(3),
+                            rs.getDouble(4), rs.getDouble(5), rs.getDouble(6)));
+                },
+                missaoId);
+        return canais;
+    }
+
+    // Totais e canais alterados na mesma transação: depois de um restart os totais não contradizem
+    // as estatísticas por canal. Retorna 0 se a missão não existe mais
+    @Transactional
+    public int salvar(long missaoId, long telemetrias, long eventos, long emergencias,
+                      LocalDateTime ultimaTelemetria, LocalDateTime dataSnapshot,
+                      Map<String, EstatisticaIncremental> canais) {
+        Timestamp ultima = ultimaTelemetria != null ? Timestamp.valueOf(ultimaTelemetria) : null;
+        Timestamp snapshot = Timestamp.valueOf(dataSnapshot);
+        int n = jdbc.update(ATUALIZAR, telemetrias, eventos, emergencias, ultima, snapshot, missaoId);
+        if (n == 0) n = jdbc.update(INSERIR, telemetrias, eventos, emergencias, ultima, snapshot, missaoId);
+        if (n == 0 || canais.isEmpty()) return n;
+
+        List<String> nomes = new ArrayList<>(canais.keySet());
+        List<Object[]> valores = new ArrayList<>(nomes.size());
+        for (String canal : nomes) {
+            EstatisticaIncremental e = canais.get(canal);
+            valores.add(new Object[]{e.getContagem(), e.getMedia(), e.getM2(), e.getMinimo(), e.getMaximo(),
+                    missaoId, canal});
+        }
+        int[] atualizados = jdbc.batchUpdate(ATUALIZAR_CANAL, valores);
+        List<Object[]> novos = new ArrayList<>();
+        for (int i = 0; i < atualizados.length; i++) {
+            if (atualizados[i] != 0) continue;
+            Object[] v = valores.get(i);
+            novos.add(new Object[]{missaoId, nomes.get(i), v[0], v[1], v[2], v[3], v[4]});
+        }
+        // A linha de metricas_missao já garante que a missão existe nesta transação
+        if (!novos.isEmpty()) jdbc.batchUpdate(INSERIR_CANAL, novos);
+        return n;
+    }
+
+    @Transactional
+    public int remover(long missaoId) {
+        jdbc.update("delete from metricas_canal where missao_id = ?", missaoId);
+        return jdbc.update("delete from metricas_missao where missao_id = ?", missaoId);
+    }
+
+    private static LocalDateTime data(Timestamp t) {
+        return t != null ? t.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.api.dto.MissaoDTO;
+import com.example.demo.domain.mission.Missao;
+import com.example.demo.domain.mission.NivelPrioridade;
+import com.example.demo.domain.mission.StatusMissao;
+import com.example.demo.domain.mission.TipoMissao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MissaoRepository extends JpaRepository<Missao, Long> {
+
+    // Keyset: custo limitado ao tamanho da página (usa a PK), projetado direto em MissaoDTO
+    @Query("""
+            select new com.example.demo.api.dto.MissaoDTO(
+                m.id, m.codigo, m.nome, m.descricao, m.tipo, m.status, m.prioridade,
+                m.dataInicioPlanejada, m.dataFimPlanejada, m.dataInicioReal, m.dataFimReal, m.versao)
+            from Missao m
+            where m.id > :cursor
+              and (:status is null or m.status = :status)
+              and (:tipo is null or m.tipo = :tipo)
+              and (:prioridade is null or m.prioridade = :prioridade)
+            order by m.id
+            """)
+    List<MissaoDTO> listarPagina(@Param("cursor") long cursor,
+                                 @Param("status") StatusMissao status,
+                                 @Param("tipo") TipoMissao tipo,
+                                 @Param("prioridade") NivelPrioridade prioridade,
+                                 Pageable limite);
+
+    @Query("select m.status from Missao m where m.id = :id")
+    Optional<StatusMissao> buscarStatus(@Param("id") Long id);
+
+    // Missões que podem ter telemetria a segmentar: em curso ou já encerradas (e ainda não arquivadas)
+    @Query("""
+            select m.id, m.status from Missao m
+            where m.status not in (com.example.demo.domain.mission.StatusMissao.PLANEJAMENTO,
+                                   com.example.demo.domain.mission.StatusMissao.PRONTA)
+              and not exists (select 1 from ArquivoMissao a where a.missaoId = m.id)
+            """)
+    List<Object[]> listarComTelemetria();
+
+    // Missões em curso de que o astronauta participa (destino de emergências biométricas).
+    // No cache de consultas: invalidado quando missoes ou missao_astronauta mudam
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select m.id from Missao m join m.tripulacao a
+            where a.id = :astronautaId
+              and m.status in (com.example.demo.domain.mission.StatusMissao.EM_ANDAMENTO,
+                               com.example.demo.domain.mission.StatusMissao.PAUSADA)
+            """)
+    List<Long> listarEmCursoDoAstronauta(@Param("astronautaId") Long astronautaId);
+
+    // Encerradas sem alteração desde o corte e ainda não arquivadas
+    @Query("""
+            select m.id from Missao m
+            where m.status in :encerradas and coalesce(m.dataUltimaAtualizacao, m.dataCriacao) < :corte
+              and not exists (select 1 from ArquivoMissao a where a.missaoId = m.id)
+            order by m.id
+            """)
+    List<Long> listarParaArquivar(@Param("encerradas") Collection<StatusMissao> encerradas,
+                                  @Param("corte") LocalDateTime corte);
+
+    // Painel da frota: uma linha por combinação existente de status, tipo e prioridade
+    @Query("select m.status, m.tipo, m.prioridade, count(m) from Missao m group by m.status, m.tipo, m.prioridade")
+    List<Object[]> contarPorStatusTipoPrioridade();
+
+    @Query("""
+            select count(distinct a.id) from Missao m join m.tripulacao a
+            where m.status in :status and a.ativo = true
+            """)
+    long contarTripulantesAtivos(@Param("status") Collection<StatusMissao> status);
+
+    // Agenda de tripulação: uma linha (missão, início, fim, astronauta) por tripulante das missões
+    // que ainda ocupam a tripulação
+    @Query("""
+            select m.id, m.dataInicioPlanejada, m.dataFimPlanejada, a.id from Missao m join m.tripulacao a
+            where m.status not in :encerradas
+            """)
+    List<Object[]> listarAlocacoes(@Param("encerradas") Collection<StatusMissao> encerradas);
+
+    // Mesma projeção para uma missão, com status; sem tripulantes vem uma linha com astronauta nulo
+    @Query("""
+            select m.status, m.dataInicioPlanejada, m.dataFimPlanejada, a.id from Missao m left join m.tripulacao a
+            where m.id = :id
+            """)
+    List<Object[]> listarAlocacoesDaMissao(@Param("id") Long id);
+}
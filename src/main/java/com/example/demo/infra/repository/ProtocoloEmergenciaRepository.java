@@ -0,0 +1,28 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.ProtocoloEmergencia;
+import com.example.demo.domain.mission.StatusProtocolo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+// Protocolos acessados direto pela missao_id: ativar/resolver não carrega nem versiona a Missao
+public interface ProtocoloEmergenciaRepository extends JpaRepository<ProtocoloEmergencia, Long> {
+
+    @Query("select p from ProtocoloEmergencia p where p.missao.id = :missaoId and p.status = :status order by p.id")
+    List<ProtocoloEmergencia> listarDaMissao(@Param("missaoId") Long missaoId, @Param("status") StatusProtocolo status);
+
+    @Query("""
+            select p from ProtocoloEmergencia p
+            where p.missao.id = :missaoId and p.id > :cursor
+            order by p.id
+            """)
+    List<ProtocoloEmergencia> listarPagina(@Param("missaoId") Long missaoId,
+                                           @Param("cursor") long cursor,
+                                           Pageable limite);
+
+    long countByStatus(StatusProtocolo status);
+}
@@ -0,0 +1,7 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.monitoring.RegraEmergencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RegraEmergenciaRepository extends JpaRepository<RegraEmergencia, Long> {
+}
@@ -0,0 +1,27 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.SegmentoTelemetria;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SegmentoTelemetriaRepository extends JpaRepository<SegmentoTelemetria, Long> {
+
+    @Query("""
+            select s from SegmentoTelemetria s
+            where s.missaoId = :missaoId and s.tsFim >= :deMs and s.tsInicio <= :ateMs
+            order by s.tsInicio
+            """)
+    List<SegmentoTelemetria> buscarNoIntervalo(@Param("missaoId") Long missaoId,
+                                               @Param("deMs") long deMs,
+                                               @Param("ateMs") long ateMs);
+
+    List<SegmentoTelemetria> findByMissaoIdOrderByTsInicio(Long missaoId);
+
+    @Modifying
+    @Query("delete from SegmentoTelemetria s where s.missaoId = :missaoId")
+    int removerDaMissao(@Param("missaoId") Long missaoId);
+}
@@ -0,0 +1,135 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.api.dto.TelemetriaDTO;
+import com.example.demo.domain.monitoring.ConsumidorAmostras;
+import com.example.demo.domain.monitoring.Instantes;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class TelemetriaLoteRepository {
+
+    // Deve acompanhar o allocationSize de Telemetria (otimizador pooled-lo)
+    static final int BLOCO_IDS = 50;
+
+    private static final String INSERT =
+            "insert into telemetrias (id, missao_id, canal, valor, unidade, data_hora) values (?, ?, ?, ?, ?, ?)";
+
+    private static final int TAMANHO_FETCH = 10_000;
+
+    private final JdbcTemplate jdbc;
+
+    public TelemetriaLoteRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    public int inserirLote(long missaoId, List<TelemetriaDTO> amostras) {
+        if (amostras.isEmpty()) return 0;
+        long[] ids = reservarIds(amostras.size());
+        jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                TelemetriaDTO t = amostras.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, missaoId);
+                ps.setString(3, t.canal());
+                ps.setDouble(4, t.valor());
+                ps.setString(5, t.unidade());
+                ps.setTimestamp(6, Timestamp.valueOf(t.dataHora()));
+            }
+
+            @Override
+            public int getBatchSize() { return amostras.size(); }
+        });
+        return amostras.size();
+    }
+
+    // Varredura em streaming por intervalo [de, ate), em ordem de tempo; canal null = todos
+    public void percorrer(long missaoId, String canal, LocalDateTime de, LocalDateTime ate,
+                          ConsumidorAmostras consumidor) {
+        String sql = "select canal, data_hora, valor from telemetrias where missao_id = ? "
+                + (canal != null ? "and canal = ? " : "")
+                + "and data_hora >= ? and data_hora < ? order by data_hora";
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setFetchSize(TAMANHO_FETCH);
+            int i = 1;
+            ps.setLong(i++, missaoId);
+            if (canal != null) ps.setString(i++, canal);
+            ps.setTimestamp(i++, Timestamp.valueOf(de));
+            ps.setTimestamp(i, Timestamp.valueOf(ate));
+            return ps;
+        }, rs -> {
+            consumidor.aceitar(rs.getString(1),
+                    Instantes.paraEpochMilli(rs.getObject(2, LocalDateTime.class)), rs.getDouble(3));
+        });
+    }
+
+    // Linhas anteriores ao corte, em ordem de tempo, para gravação em segmento
+    public void percorrerAnteriores(long missaoId, LocalDateTime corte, LinhaTelemetria consumidor) {
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "select canal, unidade, data_hora, valor from telemetrias "
+                            + "where missao_id = ? and data_hora < ? order by data_hora");
+            ps.setFetchSize(TAMANHO_FETCH);
+            ps.setLong(1, missaoId);
+            ps.setTimestamp(2, Timestamp.valueOf(corte));
+            return ps;
+        }, rs -> {
+            consumidor.aceitar(rs.getString(1), rs.getString(2),
+                    Instantes.paraEpochMilli(rs.getObject(3, LocalDateTime.class)), rs.getDouble(4));
+        });
+    }
+
+    // Todas as linhas da missão, em ordem de tempo, para o arquivamento
+    public void percorrerDaMissao(long missaoId, LinhaTelemetria consumidor) {
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "select canal, unidade, data_hora, valor from telemetrias where missao_id = ? order by data_hora");
+            ps.setFetchSize(TAMANHO_FETCH);
+            ps.setLong(1, missaoId);
+            return ps;
+        }, rs -> {
+            consumidor.aceitar(rs.getString(1), rs.getString(2),
+                    Instantes.paraEpochMilli(rs.getObject(3, LocalDateTime.class)), rs.getDouble(4));
+        });
+    }
+
+    public int removerDaMissao(long missaoId) {
+        return jdbc.update("delete from telemetrias where missao_id = ?", missaoId);
+    }
+
+    public boolean existeAnterior(long missaoId, LocalDateTime corte) {
+        Boolean existe = jdbc.queryForObject(
+                "select exists (select 1 from telemetrias where missao_id = ? and data_hora < ?)",
+                Boolean.class, missaoId, Timestamp.valueOf(corte));
+        return Boolean.TRUE.equals(existe);
+    }
+
+    public int removerAnteriores(long missaoId, LocalDateTime corte) {
+        return jdbc.update("delete from telemetrias where missao_id = ? and data_hora < ?",
+                missaoId, Timestamp.valueOf(corte));
+    }
+
+    // Cada nextval reserva BLOCO_IDS ids consecutivos a partir do valor retornado
+    private long[] reservarIds(int quantidade) {
+        int blocos = (quantidade + BLOCO_IDS - 1) / BLOCO_IDS;
+        List<Long> inicios = jdbc.queryForList(
+                "select nextval('telemetrias_seq') from generate_series(1, ?)", Long.class, blocos);
+        long[] ids = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            ids[i] = inicios.get(i / BLOCO_IDS) + (i % BLOCO_IDS);
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    public interface LinhaTelemetria {
+        void aceitar(String canal, String unidade, long timestampMs, double valor);
+    }
+}
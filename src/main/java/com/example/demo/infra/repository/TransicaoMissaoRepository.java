@@ -0,0 +1,43 @@
+package com.example.demo.infra.repository;
+
+import com.example.demo.domain.mission.StatusMissao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// Compare-and-set de status por JDBC direto. Um update em massa JPQL faria o Hibernate esvaziar a
+// região missoes inteira a cada transição; aqui quem chama despeja só a missão alterada
+@Repository
+public class TransicaoMissaoRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public TransicaoMissaoRepository(JdbcTemplate jdbc) { this.jdbc = jdbc; }
+
+    // Só altera se o status atual estiver entre as origens (retorna 0 caso contrário). Incrementa a
+    // versão para que edições que carregaram o agregado antes falhem na verificação otimista
+    public int transicionar(long id, Collection<StatusMissao> origens, StatusMissao destino,
+                            LocalDateTime inicioReal, LocalDateTime fimReal, LocalDateTime agora) {
+        if (origens.isEmpty()) return 0;
+        String sql = """
+                update missoes set status = ?, versao = versao + 1,
+                    data_inicio_real = coalesce(?, data_inicio_real),
+                    data_fim_real = coalesce(?, data_fim_real),
+                    data_ultima_atualizacao = ?
+                where id = ? and status in (%s)""".formatted(String.join(", ", Collections.nCopies(origens.size(), "?")));
+        List<Object> args = new ArrayList<>(5 + origens.size());
+        args.add(destino.name());
+        args.add(inicioReal != null ? Timestamp.valueOf(inicioReal) : null);
+        args.add(fimReal != null ? Timestamp.valueOf(fimReal) : null);
+        args.add(Timestamp.valueOf(agora));
+        args.add(id);
+        for (StatusMissao s : origens) args.add(s.name());
+        return jdbc.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.infra.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Diretório local dos arquivos de missões encerradas (um arquivo por missão), com cache LRU dos
+// cabeçalhos já lidos (diretório de canais e blocos): leituras repetidas não relêem o cabeçalho
+@Component
+public class ArmazemArquivosMissao {
+
+    private static final Logger log = LoggerFactory.getLogger(ArmazemArquivosMissao.class);
+
+    private final Path diretorio;
+    private final Map<String, ArquivoMissaoAberto> abertos;
+
+    public ArmazemArquivosMissao(@Value("${missoes.arquivamento.diretorio:./dados/arquivo}") String diretorio,
+                                 @Value("${missoes.arquivamento.max-abertos:32}") int maxAbertos) {
+        if (maxAbertos < 1) throw new IllegalArgumentException("max-abertos deve ser positivo: " + maxAbertos);
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        this.abertos = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ArquivoMissaoAberto> maisAntigo) {
+                return size() > maxAbertos;
+            }
+        };
+    }
+
+    // Remove .tmp de arquivamentos interrompidos
+    @PostConstruct
+    public void limparTemporarios() throws IOException {
+        Files.createDirectories(diretorio);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.filter(p -> p.getFileName().toString().endsWith(".tmp")).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover {}", p, e);
+                }
+            });
+        }
+    }
+
+    public EscritorArquivoMissao novoEscritor(long missaoId) {
+        String nome = "missao-" + missaoId + "-" + UUID.randomUUID().toString().substring(0, 8) + ".arq";
+        return new EscritorArquivoMissao(diretorio.resolve(nome), missaoId);
+    }
+
+    // Nome relativo ao diretório do armazém, que é o que fica registrado no banco
+    public String nomeRelativo(Path arquivo) {
+        return diretorio.relativize(arquivo).toString().replace('\\', '/');
+    }
+
+    public ArquivoMissaoAberto abrir(String arquivo) {
+        synchronized (abertos) {
+            ArquivoMissaoAberto a = abertos.get(arquivo);
+            if (a != null) return a;
+        }
+        ArquivoMissaoAberto novo;
+        try {
+            novo = ArquivoMissaoAberto.abrir(diretorio.resolve(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir arquivo da missão " + arquivo, e);
+        }
+        synchronized (abertos) {
+            ArquivoMissaoAberto a = abertos.putIfAbsent(arquivo, novo);
+            return a != null ? a : novo;
+        }
+    }
+
+    public void remover(String arquivo) throws IOException {
+        synchronized (abertos) {
+            abertos.remove(arquivo);
+        }
+        Files.deleteIfExists(diretorio.resolve(arquivo));
+    }
+}
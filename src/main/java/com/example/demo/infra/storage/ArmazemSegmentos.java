@@ -0,0 +1,103 @@
+package com.example.demo.infra.storage;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Diretório local dos segmentos de telemetria, organizado por missão, com cache LRU dos segmentos
+// mapeados. Um segmento despejado deixa de ser referenciado aqui e o mapeamento é liberado pelo GC
+// quando as leituras em curso terminam (Java não expõe unmap explícito)
+@Component
+public class ArmazemSegmentos {
+
+    private static final Logger log = LoggerFactory.getLogger(ArmazemSegmentos.class);
+
+    private final Path diretorio;
+    private final Map<String, SegmentoMapeado> abertos;
+
+    public ArmazemSegmentos(@Value("${telemetria.segmentos.diretorio:./dados/segmentos}") String diretorio,
+                            @Value("${telemetria.segmentos.max-abertos:64}") int maxAbertos) {
+        if (maxAbertos < 1) throw new IllegalArgumentException("max-abertos deve ser positivo: " + maxAbertos);
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        this.abertos = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SegmentoMapeado> maisAntigo) {
+                return size() > maxAbertos;
+            }
+        };
+    }
+
+    // Remove .tmp de gravações interrompidas; eles nunca chegaram a ser registrados no banco
+    @PostConstruct
+    public void limparTemporarios() throws IOException {
+        Files.createDirectories(diretorio);
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.filter(p -> p.getFileName().toString().endsWith(".tmp")).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover {}", p, e);
+                }
+            });
+        }
+    }
+
+    public EscritorSegmento novoEscritor(long missaoId) throws IOException {
+        String nome = "missao-" + missaoId + "/" + System.currentTimeMillis() + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + ".seg";
+        return new EscritorSegmento(diretorio.resolve(nome), missaoId);
+    }
+
+    // Nome relativo ao diretório do armazém, que é o que fica registrado no banco
+    public String nomeRelativo(Path arquivo) {
+        return diretorio.relativize(arquivo).toString().replace('\\', '/');
+    }
+
+    // Abre fora do lock: dois leitores do mesmo segmento novo podem mapeá-lo ao mesmo tempo, e fica
+    // o primeiro a registrar
+    public SegmentoMapeado abrir(String arquivo) {
+        synchronized (abertos) {
+            SegmentoMapeado s = abertos.get(arquivo);
+            if (s != null) return s;
+        }
+        SegmentoMapeado novo;
+        try {
+            novo = SegmentoMapeado.abrir(diretorio.resolve(arquivo));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir segmento " + arquivo, e);
+        }
+        synchronized (abertos) {
+            SegmentoMapeado s = abertos.putIfAbsent(arquivo, novo);
+            return s != null ? s : novo;
+        }
+    }
+
+    public void remover(String arquivo) throws IOException {
+        synchronized (abertos) {
+            abertos.remove(arquivo);
+        }
+        Files.deleteIfExists(diretorio.resolve(arquivo));
+    }
+
+    // Diretório da missão, se já não restar nenhum segmento nele
+    public void removerDiretorioVazio(long missaoId) throws IOException {
+        try {
+            Files.deleteIfExists(diretorio.resolve("missao-" + missaoId));
+        } catch (DirectoryNotEmptyException e) {
+            // ainda há segmentos (ou gravação em curso)
+        }
+    }
+}
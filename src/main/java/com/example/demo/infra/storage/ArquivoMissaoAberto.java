@@ -0,0 +1,241 @@
+package com.example.demo.infra.storage;
+
+import com.example.demo.domain.monitoring.ConsumidorAmostras;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+// Leitura de um arquivo gravado por EscritorArquivoMissao. abrir() lê só o cabeçalho e o
+// diretório de canais e blocos; os blocos e os eventos são lidos e descomprimidos sob demanda.
+// Imutável: uma instância aberta pode ser reaproveitada entre leituras (ArmazemArquivosMissao)
+public final class ArquivoMissaoAberto {
+
+    public record Bloco(int amostras, long tsMin, long tsMax, long offset, int bytes) {}
+
+    public record Canal(String nome, String unidade, int amostras, long tsMin, long tsMax, List<Bloco> blocos) {}
+
+    @FunctionalInterface
+    public interface ConsumidorEventos {
+        void aceitar(long id, String tipo, String descricao, String severidade, long timestampMs);
+    }
+
+    private final Path arquivo;
+    private final long missaoId;
+    private final List<Canal> canais;
+    private final int eventos;
+    private final long offsetEventos;
+    private final int bytesEventos;
+
+    private ArquivoMissaoAberto(Path arquivo, long missaoId, List<Canal> canais, int eventos, long offsetEventos,
+                                int bytesEventos) {
+        this.arquivo = arquivo;
+        this.missaoId = missaoId;
+        this.canais = canais;
+        this.eventos = eventos;
+        this.offsetEventos = offsetEventos;
+        this.bytesEventos = bytesEventos;
+    }
+
+    public static ArquivoMissaoAberto abrir(Path arquivo) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(arquivo.toFile(), "r")) {
+            if (in.readInt() != EscritorArquivoMissao.MAGIC) throw new IOException("Arquivo de missão inválido: " + arquivo);
+            int versao = in.readInt();
+            if (versao < 1 || versao > EscritorArquivoMissao.VERSAO) {
+                throw new IOException("Versão " + versao + " de arquivo de missão não suportada: " + arquivo);
+            }
+            long missaoId = in.readLong();
+            int totalCanais = in.readInt();
+            int eventos = in.readInt();
+            List<Canal> canais = new ArrayList<>(totalCanais);
+            for (int i = 0; i < totalCanais; i++) {
+                String nome = in.readUTF();
+                String unidade = in.readUTF();
+                int amostras = in.readInt();
+                long tsMin = in.readLong();
+                long tsMax = in.readLong();
+                List<Bloco> blocos;
+                if (versao == 1) {
+                    // Versão 1: a série inteira do canal num bloco só
+                    int bytes = in.readInt();
+                    blocos = List.of(new Bloco(amostras, tsMin, tsMax, in.getFilePointer(), bytes));
+                    in.seek(in.getFilePointer() + bytes);
+                } else {
+                    int totalBlocos = in.readInt();
+                    int[] amostrasBloco = new int[totalBlocos];
+                    long[] minimos = new long[totalBlocos], maximos = new long[totalBlocos];
+                    int[] tamanhos = new int[totalBlocos];
+                    for (int b = 0; b < totalBlocos; b++) {
+                        amostrasBloco[b] = in.readInt();
+                        minimos[b] = in.readLong();
+                        maximos[b] = in.readLong();
+                        tamanhos[b] = in.readInt();
+                    }
+                    List<Bloco> lidos = new ArrayList<>(totalBlocos);
+                    long offset = in.getFilePointer();
+                    for (int b = 0; b < totalBlocos; b++) {
+                        lidos.add(new Bloco(amostrasBloco[b], minimos[b], maximos[b], offset, tamanhos[b]));
+                        offset += tamanhos[b];
+                    }
+                    blocos = Collections.unmodifiableList(lidos);
+                    in.seek(offset);
+                }
+                canais.add(new Canal(nome, unidade.isEmpty() ? null : unidade, amostras, tsMin, tsMax, blocos));
+            }
+            int bytesEventos = in.readInt();
+            return new ArquivoMissaoAberto(arquivo, missaoId, Collections.unmodifiableList(canais), eventos,
+                    in.getFilePointer(), bytesEventos);
+        }
+    }
+
+    // Amostras de [deMs, ateMs], canal a canal; canal null = todos
+    public void percorrer(String canal, long deMs, long ateMs, ConsumidorAmostras consumidor) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(arquivo.toFile(), "r")) {
+            for (Canal c : canais) {
+                if (canal != null && !c.nome().equals(canal)) continue;
+                if (c.tsMax() < deMs || c.tsMin() > ateMs) continue;
+                for (Bloco b : c.blocos()) {
+                    if (b.tsMax() < deMs || b.tsMin() > ateMs) continue;
+                    DecodificadorGorilla d = new DecodificadorGorilla(ler(in, b.offset(), b.bytes()), b.amostras());
+                    while (d.proxima()) {
+                        long ts = d.timestamp();
+                        if (ts >= deMs && ts <= ateMs) consumidor.aceitar(c.nome(), ts, d.valor());
+                    }
+                }
+            }
+        }
+    }
+
+    public void percorrerEventos(ConsumidorEventos consumidor) throws IOException {
+        percorrerEventos(Long.MIN_VALUE, null, Integer.MAX_VALUE, consumidor);
+    }
+
+    // Página por cursor: eventos com id > aposId, em ordem de id, até limite aceitos (tipo null = todos).
+    // O escritor grava os eventos ordenados por id: o início sai de uma busca binária na coluna de ids,
+    // as descrições anteriores são puladas e a descompressão para no último evento aceito. Arquivos
+    // antigos, fora de ordem, são lidos inteiros e ordenados aqui
+    public void percorrerEventos(long aposId, String tipo, int limite, ConsumidorEventos consumidor)
+            throws IOException {
+        byte[] comprimidos;
+        try (RandomAccessFile in = new RandomAccessFile(arquivo.toFile(), "r")) {
+            comprimidos = ler(in, offsetEventos, bytesEventos);
+        }
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(comprimidos)))) {
+            long[] ids = lerDeltas(in, eventos);
+            long[] ts = lerDeltas(in, eventos);
+            String[] tipos = lerDicionario(in, eventos);
+            String[] severidades = lerDicionario(in, eventos);
+            if (!ordenados(ids)) {
+                percorrerForaDeOrdem(in, ids, ts, tipos, severidades, aposId, tipo, limite, consumidor);
+                return;
+            }
+            int inicio = primeiroApos(ids, aposId);
+            for (int i = 0; i < inicio; i++) {
+                if (in.readBoolean()) pular(in, in.readUnsignedShort());
+            }
+            int aceitos = 0;
+            for (int i = inicio; i < eventos && aceitos < limite; i++) {
+                String descricao = in.readBoolean() ? in.readUTF() : null;
+                if (tipo != null && !tipo.equals(tipos[i])) continue;
+                consumidor.aceitar(ids[i], tipos[i], descricao, severidades[i].isEmpty() ? null : severidades[i], ts[i]);
+                aceitos++;
+            }
+        }
+    }
+
+    private void percorrerForaDeOrdem(DataInput in, long[] ids, long[] ts, String[] tipos, String[] severidades,
+                                      long aposId, String tipo, int limite, ConsumidorEventos consumidor)
+            throws IOException {
+        String[] descricoes = new String[eventos];
+        for (int i = 0; i < eventos; i++) descricoes[i] = in.readBoolean() ? in.readUTF() : null;
+        Integer[] ordem = new Integer[eventos];
+        for (int i = 0; i < eventos; i++) ordem[i] = i;
+        Arrays.sort(ordem, Comparator.comparingLong(i -> ids[i]));
+        int aceitos = 0;
+        for (int k = 0; k < eventos && aceitos < limite; k++) {
+            int i = ordem[k];
+            if (ids[i] <= aposId || (tipo != null && !tipo.equals(tipos[i]))) continue;
+            consumidor.aceitar(ids[i], tipos[i], descricoes[i], severidades[i].isEmpty() ? null : severidades[i], ts[i]);
+            aceitos++;
+        }
+    }
+
+    private static void pular(DataInput in, int bytes) throws IOException {
+        if (in.skipBytes(bytes) != bytes) throw new EOFException("Bloco de eventos truncado");
+    }
+
+    private static boolean ordenados(long[] ids) {
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] < ids[i - 1]) return false;
+        }
+        return true;
+    }
+
+    // Índice do primeiro id maior que aposId (ids.length se nenhum)
+    private static int primeiroApos(long[] ids, long aposId) {
+        int lo = 0, hi = ids.length;
+        while (lo < hi) {
+            int meio = (lo + hi) >>> 1;
+            if (ids[meio] <= aposId) lo = meio + 1;
+            else hi = meio;
+        }
+        return lo;
+    }
+
+    public long getMissaoId() { return missaoId; }
+    public List<Canal> getCanais() { return canais; }
+    public int getEventos() { return eventos; }
+
+    public long getAmostras() {
+        long total = 0;
+        for (Canal c : canais) total += c.amostras();
+        return total;
+    }
+
+    private static byte[] ler(RandomAccessFile in, long offset, int bytes) throws IOException {
+        byte[] dados = new byte[bytes];
+        in.seek(offset);
+        in.readFully(dados);
+        return dados;
+    }
+
+    private static long[] lerDeltas(DataInput in, int n) throws IOException {
+        long[] valores = new long[n];
+        long anterior = 0;
+        for (int i = 0; i < n; i++) {
+            anterior += lerVarLong(in);
+            valores[i] = anterior;
+        }
+        return valores;
+    }
+
+    private static String[] lerDicionario(DataInput in, int n) throws IOException {
+        String[] distintos = new String[in.readInt()];
+        for (int i = 0; i < distintos.length; i++) distintos[i] = in.readUTF();
+        String[] valores = new String[n];
+        for (int i = 0; i < n; i++) valores[i] = distintos[(int) lerVarLong(in)];
+        return valores;
+    }
+
+    static long lerVarLong(DataInput in) throws IOException {
+        long v = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            v |= (long) (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
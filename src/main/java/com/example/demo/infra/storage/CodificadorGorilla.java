@@ -0,0 +1,83 @@
+package com.example.demo.infra.storage;
+
+// Compressão de uma série (timestamp epoch ms, valor) no esquema do Gorilla (Facebook, VLDB 2015).
+// Timestamps: o primeiro em 64 bits, depois a diferença entre deltas consecutivos (delta-of-delta)
+// em faixas de tamanho variável: amostragem regular custa 1 bit por amostra.
+// Valores: o primeiro em 64 bits, depois o XOR com o anterior. Valor repetido custa 1 bit; senão
+// só os bits significativos do XOR, reaproveitando a janela de zeros à esquerda/direita anterior.
+// Timestamps fora de ordem são aceitos (caem na faixa de 64 bits)
+public final class CodificadorGorilla {
+
+    private final SaidaBits saida = new SaidaBits();
+    private int amostras;
+    private long tsAnterior, deltaAnterior;
+    private long bitsAnterior;
+    private int zerosEsquerda = -1, zerosDireita;
+    private long tsMin = Long.MAX_VALUE, tsMax = Long.MIN_VALUE;
+
+    public void adicionar(long timestampMs, double valor) {
+        long bits = Double.doubleToRawLongBits(valor);
+        if (amostras == 0) {
+            saida.escrever(timestampMs, 64);
+            saida.escrever(bits, 64);
+        } else {
+            long delta = timestampMs - tsAnterior;
+            escreverDeltaDeDelta(delta - deltaAnterior);
+            deltaAnterior = delta;
+            escreverXor(bits ^ bitsAnterior);
+        }
+        tsAnterior = timestampMs;
+        bitsAnterior = bits;
+        amostras++;
+        if (timestampMs < tsMin) tsMin = timestampMs;
+        if (timestampMs > tsMax) tsMax = timestampMs;
+    }
+
+    private void escreverDeltaDeDelta(long dod) {
+        if (dod == 0) {
+            saida.escreverBit(false);
+        } else if (dod >= -64 && dod <= 63) {
+            saida.escrever(0b10, 2);
+            saida.escrever(dod, 7);
+        } else if (dod >= -256 && dod <= 255) {
+            saida.escrever(0b110, 3);
+            saida.escrever(dod, 9);
+        } else if (dod >= -2048 && dod <= 2047) {
+            saida.escrever(0b1110, 4);
+            saida.escrever(dod, 12);
+        } else {
+            saida.escrever(0b1111, 4);
+            saida.escrever(dod, 64);
+        }
+    }
+
+    private void escreverXor(long xor) {
+        if (xor == 0) {
+            saida.escreverBit(false);
+            return;
+        }
+        saida.escreverBit(true);
+        int esquerda = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int direita = Long.numberOfTrailingZeros(xor);
+        if (zerosEsquerda >= 0 && esquerda >= zerosEsquerda && direita >= zerosDireita) {
+            saida.escreverBit(false);
+            saida.escrever(xor >>> zerosDireita, 64 - zerosEsquerda - zerosDireita);
+            return;
+        }
+        int significativos = 64 - esquerda - direita;
+        saida.escreverBit(true);
+        saida.escrever(esquerda, 5);
+        saida.escrever(significativos - 1, 6);
+        saida.escrever(xor >>> direita, significativos);
+        zerosEsquerda = esquerda;
+        zerosDireita = direita;
+    }
+
+    public int getAmostras() { return amostras; }
+    public long getTsMin() { return tsMin; }
+    public long getTsMax() { return tsMax; }
+
+    public byte[] bytes() {
+        return saida.bytes();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.infra.storage;
+
+// Leitura sequencial de uma série gravada por CodificadorGorilla, sem alocar por amostra:
+// while (d.proxima()) { d.timestamp(); d.valor(); }
+public final class DecodificadorGorilla {
+
+    private final EntradaBits entrada;
+    private final int amostras;
+    private int lidas;
+    private long ts, delta;
+    private long bits;
+    private int zerosEsquerda, zerosDireita;
+
+    public DecodificadorGorilla(byte[] dados, int amostras) {
+        this.entrada = new EntradaBits(dados);
+        this.amostras = amostras;
+    }
+
+    public boolean proxima() {
+        if (lidas == amostras) return false;
+        if (lidas == 0) {
+            ts = entrada.ler(64);
+            bits = entrada.ler(64);
+        } else {
+            delta += lerDeltaDeDelta();
+            ts += delta;
+            lerXor();
+        }
+        lidas++;
+        return true;
+    }
+
+    public long timestamp() { return ts; }
+
+    public double valor() { return Double.longBitsToDouble(bits); }
+
+    private long lerDeltaDeDelta() {
+        if (!entrada.lerBit()) return 0;
+        if (!entrada.lerBit()) return entrada.lerComSinal(7);
+        if (!entrada.lerBit()) return entrada.lerComSinal(9);
+        if (!entrada.lerBit()) return entrada.lerComSinal(12);
+        return entrada.ler(64);
+    }
+
+    private void lerXor() {
+        if (!entrada.lerBit()) return;
+        if (entrada.lerBit()) {
+            zerosEsquerda = (int) entrada.ler(5);
+            int significativos = (int) entrada.ler(6) + 1;
+            zerosDireita = 64 - zerosEsquerda - significativos;
+        }
+        bits ^= entrada.ler(64 - zerosEsquerda - zerosDireita) << zerosDireita;
+    }
+}
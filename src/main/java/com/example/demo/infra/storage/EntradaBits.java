@@ -0,0 +1,35 @@
+package com.example.demo.infra.storage;
+
+// Leitura na mesma ordem de SaidaBits
+final class EntradaBits {
+
+    private final byte[] dados;
+    private long posicao;
+
+    EntradaBits(byte[] dados) {
+        this.dados = dados;
+    }
+
+    long ler(int bits) {
+        long valor = 0;
+        while (bits > 0) {
+            int deslocamento = (int) (posicao & 7);
+            int disponiveis = 8 - deslocamento;
+            int n = Math.min(disponiveis, bits);
+            int b = dados[(int) (posicao >>> 3)] & 0xFF;
+            valor = (valor << n) | ((b >>> (disponiveis - n)) & ((1 << n) - 1));
+            posicao += n;
+            bits -= n;
+        }
+        return valor;
+    }
+
+    boolean lerBit() {
+        return ler(1) == 1;
+    }
+
+    // Lê um campo de complemento de dois com "bits" bits
+    long lerComSinal(int bits) {
+        return (ler(bits) << (64 - bits)) >> (64 - bits);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.demo.infra.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+// Arquivo colunar de uma missão encerrada. Layout (big-endian):
+//   cabeçalho: magic, versão, missaoId, quantidade de canais, quantidade de eventos
+//   por canal: nome e unidade (UTF, unidade vazia = sem unidade), amostras, tsMin, tsMax, quantidade
+//              de blocos, o diretório dos blocos (amostras, tsMin, tsMax, tamanho) e em seguida os
+//              bytes de cada bloco. Cada bloco é uma série Gorilla própria (CodificadorGorilla) de até
+//              AMOSTRAS_POR_BLOCO amostras: a leitura de uma janela descomprime só os blocos que a cruzam
+//   eventos: tamanho e bloco deflate com as colunas id e timestamp (deltas zigzag varint), tipo e
+//            severidade (dicionário + índices) e descrição, linhas em ordem de id (paginação por cursor)
+// A série de cada canal fica em memória já comprimida até finalizar(), que grava .tmp, faz fsync
+// e só então move para o nome final
+public final class EscritorArquivoMissao {
+
+    static final int MAGIC = 0x4D415251; // "MARQ"
+    static final int VERSAO = 2;
+    static final int AMOSTRAS_POR_BLOCO = 4096;
+
+    private static final class Canal {
+        String unidade;
+        final List<CodificadorGorilla> blocos = new ArrayList<>();
+        int amostras;
+        long tsMin = Long.MAX_VALUE, tsMax = Long.MIN_VALUE;
+
+        Canal(String unidade) { this.unidade = unidade; }
+
+        void adicionar(long ts, double valor) {
+            CodificadorGorilla atual = blocos.isEmpty() ? null : blocos.get(blocos.size() - 1);
+            if (atual == null || atual.getAmostras() == AMOSTRAS_POR_BLOCO) {
+                atual = new CodificadorGorilla();
+                blocos.add(atual);
+            }
+            atual.adicionar(ts, valor);
+            amostras++;
+            if (ts < tsMin) tsMin = ts;
+            if (ts > tsMax) tsMax = ts;
+        }
+    }
+
+    private final Path destino;
+    private final long missaoId;
+    private final Map<String, Canal> canais = new LinkedHashMap<>();
+    private final List<Long> idsEventos = new ArrayList<>();
+    private final List<Long> tsEventos = new ArrayList<>();
+    private final List<String> tiposEventos = new ArrayList<>();
+    private final List<String> severidadesEventos = new ArrayList<>();
+    private final List<String> descricoesEventos = new ArrayList<>();
+    private long amostras;
+
+    public EscritorArquivoMissao(Path destino, long missaoId) {
+        this.destino = destino;
+        this.missaoId = missaoId;
+    }
+
+    // Amostras de cada canal devem chegar em ordem de tempo para a compressão render
+    public void adicionarAmostra(String canal, String unidade, long timestampMs, double valor) {
+        Canal c = canais.computeIfAbsent(canal, k -> new Canal(unidade));
+        if (c.unidade == null) c.unidade = unidade;
+        c.adicionar(timestampMs, valor);
+        amostras++;
+    }
+
+    public void adicionarEvento(long id, String tipo, String descricao, String severidade, long timestampMs) {
+        idsEventos.add(id);
+        tsEventos.add(timestampMs);
+        tiposEventos.add(tipo);
+        severidadesEventos.add(severidade);
+        descricoesEventos.add(descricao);
+    }
+
+    // Grava, faz fsync e publica o arquivo; retorna o tamanho em bytes
+    public long finalizar() throws IOException {
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        Files.createDirectories(destino.getParent());
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(canal), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSAO);
+            out.writeLong(missaoId);
+            out.writeInt(canais.size());
+            out.writeInt(idsEventos.size());
+            for (Map.Entry<String, Canal> e : canais.entrySet()) {
+                Canal c = e.getValue();
+                out.writeUTF(e.getKey());
+                out.writeUTF(c.unidade != null ? c.unidade : "");
+                out.writeInt(c.amostras);
+                out.writeLong(c.tsMin);
+                out.writeLong(c.tsMax);
+                out.writeInt(c.blocos.size());
+                List<byte[]> dados = new ArrayList<>(c.blocos.size());
+                for (CodificadorGorilla bloco : c.blocos) {
+                    byte[] b = bloco.bytes();
+                    dados.add(b);
+                    out.writeInt(bloco.getAmostras());
+                    out.writeLong(bloco.getTsMin());
+                    out.writeLong(bloco.getTsMax());
+                    out.writeInt(b.length);
+                }
+                for (byte[] b : dados) out.write(b);
+            }
+            byte[] eventos = eventosComprimidos();
+            out.writeInt(eventos.length);
+            out.write(eventos);
+            out.flush();
+            canal.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(destino);
+    }
+
+    private byte[] eventosComprimidos() throws IOException {
+        // Os eventos chegam em ordem de data_hora; no arquivo ficam em ordem de id
+        Integer[] ordem = new Integer[idsEventos.size()];
+        for (int i = 0; i < ordem.length; i++) ordem[i] = i;
+        Arrays.sort(ordem, Comparator.comparingLong(idsEventos::get));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            long anterior = 0;
+            for (long id : reordenar(idsEventos, ordem)) {
+                escreverVarLong(out, id - anterior);
+                anterior = id;
+            }
+            anterior = 0;
+            for (long ts : reordenar(tsEventos, ordem)) {
+                escreverVarLong(out, ts - anterior);
+                anterior = ts;
+            }
+            escreverDicionario(out, reordenar(tiposEventos, ordem));
+            escreverDicionario(out, reordenar(severidadesEventos, ordem));
+            for (String d : reordenar(descricoesEventos, ordem)) {
+                out.writeBoolean(d != null);
+                if (d != null) out.writeUTF(d);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> List<T> reordenar(List<T> coluna, Integer[] ordem) {
+        List<T> ordenada = new ArrayList<>(ordem.length);
+        for (int i : ordem) ordenada.add(coluna.get(i));
+        return ordenada;
+    }
+
+    // Valores distintos uma vez, depois o índice de cada linha
+    private static void escreverDicionario(DataOutputStream out, List<String> coluna) throws IOException {
+        Map<String, Integer> indices = new HashMap<>();
+        List<String> distintos = new ArrayList<>();
+        int[] linhas = new int[coluna.size()];
+        for (int i = 0; i < linhas.length; i++) {
+            String v = coluna.get(i) != null ? coluna.get(i) : "";
+            Integer indice = indices.get(v);
+            if (indice == null) {
+                indice = distintos.size();
+                indices.put(v, indice);
+                distintos.add(v);
+            }
+            linhas[i] = indice;
+        }
+        out.writeInt(distintos.size());
+        for (String v : distintos) out.writeUTF(v);
+        for (int indice : linhas) escreverVarLong(out, indice);
+    }
+
+    // Zigzag + varint: deltas pequenos, positivos ou negativos, ocupam 1 ou 2 bytes
+    static void escreverVarLong(DataOutput out, long valor) throws IOException {
+        long v = (valor << 1) ^ (valor >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    public Path getDestino() { return destino; }
+    public long getAmostras() { return amostras; }
+    public int getEventos() { return idsEventos.size(); }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.infra.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Grava um segmento append-only de telemetria. Layout do arquivo (big-endian):
+//   cabeçalho (64 bytes): magic, versão, missaoId, registros, tsMin, tsMax, canais, offset do dicionário
+//   registros de largura fixa (20 bytes): timestamp epoch ms (long), id do canal (int), valor (double)
+//   dicionário de canais: para cada id, nome e unidade (short + UTF-8)
+// Os registros devem chegar em ordem de tempo. O arquivo é escrito como .tmp e só é movido
+// para o nome final em finalizar(), depois do fsync
+public final class EscritorSegmento implements Closeable {
+
+    static final int MAGIC = 0x544C4D53; // "TLMS"
+    static final int VERSAO = 1;
+    static final int CABECALHO = 64;
+    static final int REGISTRO = 20;
+
+    private final Path destino;
+    private final Path temporario;
+    private final long missaoId;
+    private final FileChannel canal;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private final Map<String, Integer> canais = new HashMap<>();
+    private final List<String> nomes = new ArrayList<>();
+    private final List<String> unidades = new ArrayList<>();
+    private long registros;
+    private long tsMin = Long.MAX_VALUE;
+    private long tsMax = Long.MIN_VALUE;
+    private boolean finalizado;
+
+    public EscritorSegmento(Path destino, long missaoId) throws IOException {
+        this.destino = destino;
+        this.temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        this.missaoId = missaoId;
+        Files.createDirectories(destino.getParent());
+        this.canal = FileChannel.open(temporario, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.canal.position(CABECALHO);
+    }
+
+    public void adicionar(String nomeCanal, String unidade, long timestampMs, double valor) throws IOException {
+        Integer id = canais.get(nomeCanal);
+        if (id == null) {
+            id = nomes.size();
+            canais.put(nomeCanal, id);
+            nomes.add(nomeCanal);
+            unidades.add(unidade);
+        }
+        if (buffer.remaining() < REGISTRO) descarregar();
+        buffer.putLong(timestampMs).putInt(id).putDouble(valor);
+        registros++;
+        if (timestampMs < tsMin) tsMin = timestampMs;
+        if (timestampMs > tsMax) tsMax = timestampMs;
+    }
+
+    // Grava dicionário e cabeçalho, faz fsync e publica o arquivo; retorna o tamanho em bytes
+    public long finalizar() throws IOException {
+        descarregar();
+        long offsetDicionario = canal.position();
+        for (int i = 0; i < nomes.size(); i++) {
+            escreverTexto(nomes.get(i));
+            escreverTexto(unidades.get(i));
+        }
+        descarregar();
+        long tamanho = canal.position();
+
+        ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO);
+        cabecalho.putInt(MAGIC).putInt(VERSAO).putLong(missaoId).putLong(registros)
+                .putLong(tsMin).putLong(tsMax).putInt(nomes.size()).putLong(offsetDicionario);
+        cabecalho.clear();
+        while (cabecalho.hasRemaining()) canal.write(cabecalho, cabecalho.position());
+        canal.force(true);
+        canal.close();
+        Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+        finalizado = true;
+        return tamanho;
+    }
+
+    public long getRegistros() { return registros; }
+    public long getTsMin() { return tsMin; }
+    public long getTsMax() { return tsMax; }
+    public Path getDestino() { return destino; }
+
+    @Override
+    public void close() throws IOException {
+        if (finalizado) return;
+        canal.close();
+        Files.deleteIfExists(temporario);
+    }
+
+    private void escreverTexto(String texto) throws IOException {
+        byte[] bytes = texto != null ? texto.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (bytes.length > Short.MAX_VALUE) throw new IOException("Texto longo demais para o dicionário");
+        if (buffer.remaining() < 2 + bytes.length) descarregar();
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private void descarregar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) canal.write(buffer);
+        buffer.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.infra.storage;
+
+import java.util.Arrays;
+
+// Escrita de campos de 1 a 64 bits em sequência, do bit mais significativo para o menos
+final class SaidaBits {
+
+    private byte[] dados = new byte[256];
+    private int tamanho;
+    private int atual;
+    private int ocupados;
+
+    void escrever(long valor, int bits) {
+        while (bits > 0) {
+            int n = Math.min(8 - ocupados, bits);
+            int pedaco = (int) (valor >>> (bits - n)) & ((1 << n) - 1);
+            atual = (atual << n) | pedaco;
+            ocupados += n;
+            bits -= n;
+            if (ocupados == 8) {
+                if (tamanho == dados.length) dados = Arrays.copyOf(dados, dados.length * 2);
+                dados[tamanho++] = (byte) atual;
+                atual = 0;
+                ocupados = 0;
+            }
+        }
+    }
+
+    void escreverBit(boolean bit) {
+        escrever(bit ? 1 : 0, 1);
+    }
+
+    // Bytes escritos; o último byte incompleto é completado com zeros à direita
+    byte[] bytes() {
+        byte[] saida = Arrays.copyOf(dados, tamanho + (ocupados > 0 ? 1 : 0));
+        if (ocupados > 0) saida[tamanho] = (byte) (atual << (8 - ocupados));
+        return saida;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.infra.storage;
+
+import com.example.demo.domain.monitoring.ConsumidorAmostras;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Segmento imutável lido via MappedByteBuffer: varreduras por intervalo usam leituras absolutas
+// direto do page cache, sem cópia para objetos. O índice esparso guarda o timestamp de cada
+// PASSO_INDICE-ésimo registro e localiza o início da varredura por busca binária
+public final class SegmentoMapeado {
+
+    static final int PASSO_INDICE = 1024;
+
+    private final MappedByteBuffer mapa;
+    private final long missaoId;
+    private final long registros;
+    private final long tsMin;
+    private final long tsMax;
+    private final String[] canais;
+    private final String[] unidades;
+    private final long[] indice;
+
+    private SegmentoMapeado(MappedByteBuffer mapa) throws IOException {
+        this.mapa = mapa;
+        if (mapa.getInt(0) != EscritorSegmento.MAGIC || mapa.getInt(4) != EscritorSegmento.VERSAO) {
+            throw new IOException("Arquivo de segmento inválido");
+        }
+        this.missaoId = mapa.getLong(8);
+        this.registros = mapa.getLong(16);
+        this.tsMin = mapa.getLong(24);
+        this.tsMax = mapa.getLong(32);
+        int totalCanais = mapa.getInt(40);
+        long offsetDicionario = mapa.getLong(44);
+
+        this.canais = new String[totalCanais];
+        this.unidades = new String[totalCanais];
+        int pos = (int) offsetDicionario;
+        for (int i = 0; i < totalCanais; i++) {
+            int n = mapa.getShort(pos);
+            canais[i] = lerTexto(pos + 2, n);
+            pos += 2 + n;
+            int u = mapa.getShort(pos);
+            unidades[i] = u > 0 ? lerTexto(pos + 2, u) : null;
+            pos += 2 + u;
+        }
+
+        this.indice = new long[(int) ((registros + PASSO_INDICE - 1) / PASSO_INDICE)];
+        for (int k = 0; k < indice.length; k++) {
+            indice[k] = mapa.getLong(posicao((long) k * PASSO_INDICE));
+        }
+    }
+
+    public static SegmentoMapeado abrir(Path arquivo) throws IOException {
+        try (FileChannel fc = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (fc.size() > Integer.MAX_VALUE) throw new IOException("Segmento maior que 2 GiB: " + arquivo);
+            return new SegmentoMapeado(fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size()));
+        }
+    }
+
+    // Entrega, em ordem de tempo, as amostras de [deMs, ateMs]; canal null = todos os canais
+    public void percorrer(String canal, long deMs, long ateMs, ConsumidorAmostras consumidor) {
+        if (ateMs < tsMin || deMs > tsMax || registros == 0) return;
+        int idCanal = -1;
+        if (canal != null) {
+            idCanal = idDoCanal(canal);
+            if (idCanal < 0) return;
+        }
+        long i = (long) blocoInicial(deMs) * PASSO_INDICE;
+        for (; i < registros; i++) {
+            int p = posicao(i);
+            long ts = mapa.getLong(p);
+            if (ts > ateMs) break;
+            if (ts < deMs) continue;
+            int id = mapa.getInt(p + 8);
+            if (idCanal >= 0 && id != idCanal) continue;
+            consumidor.aceitar(canais[id], ts, mapa.getDouble(p + 12));
+        }
+    }
+
+    public String unidade(String canal) {
+        int id = idDoCanal(canal);
+        return id >= 0 ? unidades[id] : null;
+    }
+
+    public long getMissaoId() { return missaoId; }
+    public long getRegistros() { return registros; }
+    public long getTsMin() { return tsMin; }
+    public long getTsMax() { return tsMax; }
+    public String[] getCanais() { return canais.clone(); }
+
+    // Último bloco cujo primeiro timestamp é anterior a deMs (o início pode estar no meio dele)
+    private int blocoInicial(long deMs) {
+        int lo = 0, hi = indice.length - 1, resultado = 0;
+        while (lo <= hi) {
+            int meio = (lo + hi) >>> 1;
+            if (indice[meio] < deMs) {
+                resultado = meio;
+                lo = meio + 1;
+            } else {
+                hi = meio - 1;
+            }
+        }
+        return resultado;
+    }
+
+    private int idDoCanal(String canal) {
+        for (int i = 0; i < canais.length; i++) {
+            if (canais[i].equals(canal)) return i;
+        }
+        return -1;
+    }
+
+    private static int posicao(long registro) {
+        return (int) (EscritorSegmento.CABECALHO + registro * EscritorSegmento.REGISTRO);
+    }
+
+    private String lerTexto(int pos, int n) {
+        byte[] bytes = new byte[n];
+        mapa.get(pos, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
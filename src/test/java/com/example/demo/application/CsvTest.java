@@ -0,0 +1,85 @@
+package com.example.demo.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvTest {
+
+    private static Csv.Leitor leitor(String texto) {
+        return new Csv.Leitor(new BufferedReader(new StringReader(texto)));
+    }
+
+    @Test
+    void campoEntreAspasComQuebrasDeLinhaFormaUmRegistro() throws IOException {
+        Csv.Leitor csv = leitor("nome,nivel\n\"Ana\",\"linha 1\nlinha 2\n\nlinha 4\"\nBia,A\n");
+
+        assertThat(csv.proximo()).isEqualTo("nome,nivel");
+        assertThat(csv.linhaInicial()).isEqualTo(1);
+
+        String registro = csv.proximo();
+        assertThat(csv.linhaInicial()).isEqualTo(2);
+        assertThat(Csv.campos(registro)).containsExactly("Ana", "linha 1\nlinha 2\n\nlinha 4");
+
+        // A linha inicial conta as linhas físicas consumidas pelo registro anterior
+        assertThat(Csv.campos(csv.proximo())).containsExactly("Bia", "A");
+        assertThat(csv.linhaInicial()).isEqualTo(6);
+        assertThat(csv.proximo()).isNull();
+    }
+
+    @Test
+    void aspasEscapadasNaoFecham() throws IOException {
+        Csv.Leitor csv = leitor("\"diz \"\"oi\"\",\nvírgula\",2\nx,3\n");
+
+        assertThat(Csv.campos(csv.proximo())).containsExactly("diz \"oi\",\nvírgula", "2");
+        assertThat(Csv.campos(csv.proximo())).containsExactly("x", "3");
+        assertThat(csv.linhaInicial()).isEqualTo(3);
+    }
+
+    @Test
+    void escaparEDesfeitoPorCampos() {
+        String[] valores = {"simples", "com,vírgula", "com \"aspas\"", "duas\nlinhas", "cr\r\nlf", ""};
+        StringBuilder linha = new StringBuilder();
+        for (String v : valores) linha.append(linha.isEmpty() ? "" : ",").append(Csv.escapar(v));
+
+        assertThat(Csv.campos(linha.toString())).containsExactly("simples", "com,vírgula", "com \"aspas\"",
+                "duas\nlinhas", "cr\r\nlf", "");
+        assertThat(Csv.escapar(null)).isEmpty();
+    }
+
+    @Test
+    void aspasNaoFechadasNoFimDoArquivo() throws IOException {
+        Csv.Leitor csv = leitor("a,1\n\"b,2\nc,3\n");
+        csv.proximo();
+
+        String registro = csv.proximo();
+        assertThat(csv.linhaInicial()).isEqualTo(2);
+        assertThatThrownBy(() -> Csv.campos(registro)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Aspas não fechadas");
+        assertThat(csv.proximo()).isNull();
+    }
+
+    @Test
+    void registroGrandeDemaisInterrompeALeitura() throws IOException {
+        // Aspa sem par na linha 2 seguida de linhas que, lidas com as aspas trocadas, pareceriam registros
+        StringBuilder texto = new StringBuilder("a,1\n\"b,2\n");
+        String linha = "x".repeat(100) + ",\"y\"\n";
+        for (int i = 0; i < 2 * Csv.TAMANHO_MAXIMO_REGISTRO / linha.length(); i++) texto.append(linha);
+        texto.append("ok,\"fim\"\n");
+        Csv.Leitor csv = leitor(texto.toString());
+        csv.proximo();
+
+        assertThatThrownBy(csv::proximo).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("excede " + Csv.TAMANHO_MAXIMO_REGISTRO)
+                .hasMessageContaining("interrompida");
+        assertThat(csv.linhaInicial()).isEqualTo(2);
+        // Nada depois do registro grande é lido, nem mesmo a última linha bem formada
+        assertThat(csv.proximo()).isNull();
+        assertThat(csv.proximo()).isNull();
+    }
+}
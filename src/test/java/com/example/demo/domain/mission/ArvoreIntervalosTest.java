@@ -0,0 +1,122 @@
+package com.example.demo.domain.mission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArvoreIntervalosTest {
+
+    private static final long NENHUM = Long.MIN_VALUE;
+
+    private static List<Long> sobrepostos(ArvoreIntervalos arvore, long de, long ate) {
+        List<Long> ids = new ArrayList<>();
+        arvore.sobrepostos(de, ate, ids::add);
+        return ids;
+    }
+
+    @Test
+    void intervalosQueSeCruzamSobrepoem() {
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        arvore.inserir(10, 20, 1);
+        arvore.inserir(15, 30, 2);
+        arvore.inserir(40, 50, 3);
+
+        assertThat(arvore.sobrepoe(18, 19, NENHUM)).isTrue();
+        assertThat(arvore.sobrepoe(30, 40, NENHUM)).isFalse();
+        assertThat(sobrepostos(arvore, 0, 100)).containsExactly(1L, 2L, 3L);
+        assertThat(sobrepostos(arvore, 19, 41)).containsExactly(1L, 2L, 3L);
+        assertThat(sobrepostos(arvore, 25, 35)).containsExactly(2L);
+    }
+
+    @Test
+    void intervalosQueSeTocamNaoSobrepoem() {
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        arvore.inserir(10, 20, 1);
+
+        // [inicio, fim) semiaberto: uma missão pode começar no instante em que a outra termina
+        assertThat(arvore.sobrepoe(20, 30, NENHUM)).isFalse();
+        assertThat(arvore.sobrepoe(0, 10, NENHUM)).isFalse();
+        assertThat(arvore.sobrepoe(19, 20, NENHUM)).isTrue();
+        assertThat(arvore.sobrepoe(0, 11, NENHUM)).isTrue();
+    }
+
+    @Test
+    void ignoraOProprioIntervalo() {
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        arvore.inserir(10, 20, 1);
+
+        assertThat(arvore.sobrepoe(12, 18, 1)).isFalse();
+        arvore.inserir(15, 25, 2);
+        assertThat(arvore.sobrepoe(12, 18, 1)).isTrue();
+    }
+
+    @Test
+    void removePelaChaveInicioEId() {
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        arvore.inserir(10, 20, 1);
+        arvore.inserir(10, 30, 2);
+
+        assertThat(arvore.remover(10, 3)).isFalse();
+        assertThat(arvore.remover(11, 1)).isFalse();
+        assertThat(arvore.remover(10, 1)).isTrue();
+        assertThat(arvore.tamanho()).isEqualTo(1);
+        assertThat(sobrepostos(arvore, 0, 100)).containsExactly(2L);
+        assertThat(arvore.remover(10, 2)).isTrue();
+        assertThat(arvore.vazia()).isTrue();
+        assertThat(arvore.sobrepoe(Long.MIN_VALUE, Long.MAX_VALUE, NENHUM)).isFalse();
+    }
+
+    @Test
+    void recusaIntervaloVazio() {
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        assertThatThrownBy(() -> arvore.inserir(10, 10, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> arvore.inserir(10, 5, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(arvore.vazia()).isTrue();
+    }
+
+    @Test
+    void concordaComBuscaExaustivaEmOperacoesAleatorias() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        ArvoreIntervalos arvore = new ArvoreIntervalos();
+        List<long[]> referencia = new ArrayList<>(); // {inicio, fim, id}
+        long proximoId = 0;
+
+        for (int passo = 0; passo < 20_000; passo++) {
+            int op = rnd.nextInt(10);
+            if (op < 5 || referencia.isEmpty()) {
+                long inicio = rnd.nextLong(1_000);
+                long fim = inicio + 1 + rnd.nextLong(50);
+                arvore.inserir(inicio, fim, proximoId);
+                referencia.add(new long[]{inicio, fim, proximoId++});
+            } else if (op < 8) {
+                long[] r = referencia.remove(rnd.nextInt(referencia.size()));
+                assertThat(arvore.remover(r[0], r[2])).isTrue();
+            } else {
+                long de = rnd.nextLong(1_050);
+                long ate = de + 1 + rnd.nextLong(30);
+                long ignorar = referencia.isEmpty() || rnd.nextBoolean() ? NENHUM
+                        : referencia.get(rnd.nextInt(referencia.size()))[2];
+
+                List<Long> esperados = new ArrayList<>();
+                boolean esperado = false;
+                referencia.stream()
+                        .filter(r -> r[0] < ate && r[1] > de)
+                        .sorted((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[2], b[2]))
+                        .forEach(r -> esperados.add(r[2]));
+                for (long[] r : referencia) {
+                    if (r[0] < ate && r[1] > de && r[2] != ignorar) esperado = true;
+                }
+
+                assertThat(arvore.sobrepoe(de, ate, ignorar)).as("[%d, %d) ignorando %d", de, ate, ignorar)
+                        .isEqualTo(esperado);
+                assertThat(sobrepostos(arvore, de, ate)).as("[%d, %d)", de, ate).isEqualTo(esperados);
+            }
+            assertThat(arvore.tamanho()).isEqualTo(referencia.size());
+        }
+    }
+}
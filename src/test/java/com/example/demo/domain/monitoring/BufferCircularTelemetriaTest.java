@@ -0,0 +1,117 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BufferCircularTelemetriaTest {
+
+    // Amostra de sequência s: timestamp s e valor -s, para conferir que o par não se mistura
+    private static void escrever(BufferCircularTelemetria b, long de, long ate) {
+        for (long s = de; s < ate; s++) b.adicionar(s, -s, "C");
+    }
+
+    private static void conferirContiguas(BufferCircularTelemetria.Leitura l, long primeira) {
+        for (int k = 0; k < l.tamanho(); k++) {
+            assertThat(l.timestamps()[k]).isEqualTo(primeira + k);
+            assertThat(l.valores()[k]).isEqualTo(-(double) (primeira + k));
+        }
+    }
+
+    @Test
+    void capacidadePrecisaSerPotenciaDeDois() {
+        assertThatThrownBy(() -> new BufferCircularTelemetria(100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BufferCircularTelemetria(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void leituraAntesDeDarAVolta() {
+        BufferCircularTelemetria b = new BufferCircularTelemetria(8);
+        escrever(b, 0, 5);
+
+        BufferCircularTelemetria.Leitura l = b.ler(Long.MIN_VALUE);
+        assertThat(l.tamanho()).isEqualTo(5);
+        assertThat(l.fim()).isEqualTo(5);
+        assertThat(l.unidade()).isEqualTo("C");
+        conferirContiguas(l, 0);
+        assertThat(b.ler(3).timestamps()).containsExactly(3, 4);
+        assertThat(b.ler(Long.MIN_VALUE, 2).timestamps()).containsExactly(3, 4);
+    }
+
+    @Test
+    void depoisDaVoltaSoRestamAsUltimasAmostras() {
+        BufferCircularTelemetria b = new BufferCircularTelemetria(8);
+        escrever(b, 0, 21);
+
+        // Com o buffer cheio, o slot da próxima escrita conta como sujo: capacidade - 1 amostras
+        BufferCircularTelemetria.Leitura l = b.ler(Long.MIN_VALUE);
+        assertThat(b.getEscritos()).isEqualTo(21);
+        assertThat(l.tamanho()).isEqualTo(7);
+        assertThat(l.fim()).isEqualTo(21);
+        conferirContiguas(l, 14);
+
+        // Quem ficou para trás retoma do que ainda existe; quem está em dia recebe só as novas
+        conferirContiguas(b.lerAPartirDe(2), 14);
+        assertThat(b.lerAPartirDe(2).tamanho()).isEqualTo(7);
+        assertThat(b.lerAPartirDe(19).timestamps()).containsExactly(19, 20);
+        assertThat(b.lerAPartirDe(21).tamanho()).isZero();
+    }
+
+    @Test
+    void leitoresConcorrentesNuncaVeemAmostrasMisturadasNemFaixasComBuracos() throws Exception {
+        BufferCircularTelemetria b = new BufferCircularTelemetria(64);
+        long total = 2_000_000;
+        int leitores = 3;
+        ExecutorService pool = Executors.newFixedThreadPool(leitores + 1);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Long>> resultados = new ArrayList<>();
+            for (int r = 0; r < leitores; r++) {
+                boolean acompanha = r % 2 == 0;
+                resultados.add(pool.submit(() -> {
+                    largada.await();
+                    long cursor = 0, lidas = 0;
+                    while (cursor < total) {
+                        BufferCircularTelemetria.Leitura l = acompanha
+                                ? b.lerAPartirDe(cursor) : b.ler(Long.MIN_VALUE, 16);
+                        int n = l.tamanho();
+                        if (n > 0) {
+                            long primeira = l.timestamps()[0];
+                            // A cópia é uma faixa contígua terminando em fim - 1, com pares íntegros
+                            assertThat(primeira + n).isEqualTo(l.fim());
+                            conferirContiguas(l, primeira);
+                            if (acompanha) {
+                                // Nada repetido; salto só quando o escritor deu a volta sobre o leitor
+                                assertThat(primeira).isGreaterThanOrEqualTo(cursor);
+                                if (primeira > cursor) assertThat(l.fim() - primeira).isLessThanOrEqualTo(64);
+                            }
+                            lidas += n;
+                        }
+                        cursor = Math.max(cursor, l.fim());
+                    }
+                    return lidas;
+                }));
+            }
+            Future<?> escritor = pool.submit(() -> {
+                largada.await();
+                escrever(b, 0, total);
+                return null;
+            });
+            largada.countDown();
+            escritor.get(60, TimeUnit.SECONDS);
+            for (Future<Long> f : resultados) assertThat(f.get(60, TimeUnit.SECONDS)).isPositive();
+        } finally {
+            pool.shutdownNow();
+        }
+        conferirContiguas(b.ler(Long.MIN_VALUE), total - 63);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EstatisticaIncrementalTest {
+
+    private static void conferirIgual(EstatisticaIncremental a, EstatisticaIncremental b) {
+        assertThat(a.getContagem()).isEqualTo(b.getContagem());
+        // Tolerância relativa: a ordem das somas muda os últimos bits
+        assertThat(a.getMedia()).isCloseTo(b.getMedia(), within(1e-12 * Math.max(1, Math.abs(b.getMedia()))));
+        assertThat(a.getVariancia()).isCloseTo(b.getVariancia(), within(1e-9 * Math.max(1, b.getVariancia())));
+        assertThat(a.getMinimo()).isEqualTo(b.getMinimo());
+        assertThat(a.getMaximo()).isEqualTo(b.getMaximo());
+    }
+
+    @Test
+    void calculaMediaVarianciaEExtremos() {
+        EstatisticaIncremental e = new EstatisticaIncremental();
+        for (double v : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) e.adicionar(v);
+
+        assertThat(e.getContagem()).isEqualTo(8);
+        assertThat(e.getMedia()).isEqualTo(5.0);
+        assertThat(e.getM2()).isCloseTo(32.0, within(1e-12));
+        assertThat(e.getVariancia()).isCloseTo(32.0 / 7, within(1e-12));
+        assertThat(e.getMinimo()).isEqualTo(2.0);
+        assertThat(e.getMaximo()).isEqualTo(9.0);
+    }
+
+    @Test
+    void vaziaNaoTemExtremosNemVariancia() {
+        EstatisticaIncremental e = new EstatisticaIncremental();
+        assertThat(e.getContagem()).isZero();
+        assertThat(e.getMinimo()).isNaN();
+        assertThat(e.getMaximo()).isNaN();
+        assertThat(e.getVariancia()).isZero();
+    }
+
+    @Test
+    void combinarEquivaleAAdicionarTudoEmSequencia() {
+        SplittableRandom rnd = new SplittableRandom(3);
+        EstatisticaIncremental sequencial = new EstatisticaIncremental();
+        EstatisticaIncremental a = new EstatisticaIncremental();
+        EstatisticaIncremental b = new EstatisticaIncremental();
+        for (int i = 0; i < 10_000; i++) {
+            // Médias bem diferentes nas duas metades: o termo de correção de Chan importa
+            double v = i < 3_000 ? 1e6 + rnd.nextGaussian() : -50 + 10 * rnd.nextGaussian();
+            sequencial.adicionar(v);
+            (i < 3_000 ? a : b).adicionar(v);
+        }
+        a.combinar(b);
+
+        conferirIgual(a, sequencial);
+    }
+
+    @Test
+    void combinarComVaziaNaoAltera() {
+        EstatisticaIncremental e = new EstatisticaIncremental();
+        e.adicionar(1);
+        e.adicionar(3);
+        EstatisticaIncremental referencia = e.copia();
+
+        e.combinar(new EstatisticaIncremental());
+        conferirIgual(e, referencia);
+
+        EstatisticaIncremental vazia = new EstatisticaIncremental();
+        vazia.combinar(e);
+        conferirIgual(vazia, referencia);
+    }
+
+    @Test
+    void restaurarDoSnapshotContinuaDeOndeParou() {
+        EstatisticaIncremental continua = new EstatisticaIncremental();
+        for (int i = 0; i < 100; i++) continua.adicionar(i * 0.5);
+
+        EstatisticaIncremental restaurada = EstatisticaIncremental.restaurar(continua.getContagem(),
+                continua.getMedia(), continua.getM2(), continua.getMinimo(), continua.getMaximo());
+        conferirIgual(restaurada, continua);
+
+        for (int i = 0; i < 50; i++) {
+            continua.adicionar(-i);
+            restaurada.adicionar(-i);
+        }
+        conferirIgual(restaurada, continua);
+    }
+
+    @Test
+    void copiaEIndependenteDoOriginal() {
+        EstatisticaIncremental e = new EstatisticaIncremental();
+        e.adicionar(10);
+        EstatisticaIncremental c = e.copia();
+        e.adicionar(20);
+
+        assertThat(c.getContagem()).isEqualTo(1);
+        assertThat(c.getMaximo()).isEqualTo(10.0);
+        assertThat(e.getContagem()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HistogramaQuantisTest {
+
+    private static final double ERRO = 0.01;
+    private static final double[] QUANTIS = {0, 0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999, 1};
+
+    // Log-normal: várias ordens de grandeza, como atrasos e pressões
+    private static double[] logNormal(int n, long semente) {
+        SplittableRandom rnd = new SplittableRandom(semente);
+        double[] valores = new double[n];
+        for (int i = 0; i < n; i++) valores[i] = Math.exp(3 + 2 * rnd.nextGaussian());
+        return valores;
+    }
+
+    // Mesma definição de posição do sketch: o menor valor com pelo menos ceil(q * n) amostras <= ele
+    private static double exato(double[] ordenados, double q) {
+        int posicao = (int) Math.max(1, Math.ceil(q * ordenados.length));
+        return ordenados[posicao - 1];
+    }
+
+    @Test
+    void quantisRespeitamOErroRelativo() {
+        double[] valores = logNormal(200_000, 1);
+        HistogramaQuantis h = new HistogramaQuantis(ERRO);
+        for (double v : valores) h.adicionar(v);
+        double[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+
+        for (double q : QUANTIS) {
+            double esperado = exato(ordenados, q);
+            assertThat(h.quantil(q)).as("q=%s", q).isCloseTo(esperado, within(ERRO * esperado));
+        }
+        assertThat(h.getTotal()).isEqualTo(valores.length);
+        assertThat(h.quantil(0)).isEqualTo(ordenados[0]);
+        assertThat(h.quantil(1)).isEqualTo(ordenados[ordenados.length - 1]);
+    }
+
+    @Test
+    void combinarEquivaleAUmSketchSobreTodosOsDados() {
+        double[] valores = logNormal(50_000, 2);
+        HistogramaQuantis unico = new HistogramaQuantis(ERRO);
+        HistogramaQuantis[] partes = new HistogramaQuantis[4];
+        for (int p = 0; p < partes.length; p++) partes[p] = new HistogramaQuantis(ERRO);
+        for (int i = 0; i < valores.length; i++) {
+            // Partes com faixas diferentes: força o array denso a crescer para os dois lados
+            double v = i % 4 == 0 ? valores[i] * 1e-3 : i % 4 == 1 ? valores[i] * 1e3 : valores[i];
+            unico.adicionar(v);
+            partes[i % 4].adicionar(v);
+        }
+        HistogramaQuantis combinado = new HistogramaQuantis(ERRO);
+        combinado.combinar(partes[2]);
+        combinado.combinar(partes[0]);
+        combinado.combinar(new HistogramaQuantis(ERRO));
+        combinado.combinar(partes[3]);
+        combinado.combinar(partes[1]);
+
+        assertThat(combinado.getTotal()).isEqualTo(unico.getTotal());
+        assertThat(combinado.getMinimo()).isEqualTo(unico.getMinimo());
+        assertThat(combinado.getMaximo()).isEqualTo(unico.getMaximo());
+        for (double q : QUANTIS) {
+            assertThat(combinado.quantil(q)).as("q=%s", q).isEqualTo(unico.quantil(q));
+        }
+    }
+
+    @Test
+    void zerosENegativosFicamAbaixoDosPositivos() {
+        HistogramaQuantis h = new HistogramaQuantis(ERRO);
+        h.adicionar(-5);
+        h.adicionar(-200);
+        h.adicionar(0);
+        h.adicionar(1e-12);
+        for (int i = 1; i <= 6; i++) h.adicionar(100);
+
+        assertThat(h.quantil(0)).isEqualTo(-200.0);
+        assertThat(h.quantil(0.2)).isCloseTo(-5, within(ERRO * 5));
+        assertThat(h.quantil(0.3)).isEqualTo(0.0);
+        assertThat(h.quantil(0.4)).isEqualTo(0.0);
+        assertThat(h.quantil(0.5)).isCloseTo(100, within(ERRO * 100));
+    }
+
+    @Test
+    void quantisDeValoresNegativosRespeitamOErroRelativo() {
+        // Temperaturas abaixo de zero: a ordem se inverte no módulo
+        double[] valores = logNormal(20_000, 3);
+        for (int i = 0; i < valores.length; i++) valores[i] = -valores[i];
+        HistogramaQuantis h = new HistogramaQuantis(ERRO);
+        for (double v : valores) h.adicionar(v);
+        double[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+
+        for (double q : QUANTIS) {
+            double esperado = exato(ordenados, q);
+            assertThat(h.quantil(q)).as("q=%s", q).isCloseTo(esperado, within(ERRO * -esperado));
+        }
+    }
+
+    @Test
+    void vazioNaoTemQuantis() {
+        HistogramaQuantis h = new HistogramaQuantis(ERRO);
+        assertThat(h.quantil(0.5)).isNaN();
+        assertThat(h.getMinimo()).isNaN();
+        assertThatThrownBy(() -> h.quantil(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void naoCombinaSketchesComErrosDiferentes() {
+        HistogramaQuantis h = new HistogramaQuantis(0.01);
+        assertThatThrownBy(() -> h.combinar(new HistogramaQuantis(0.02))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HistogramaQuantis(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void copiaEIndependente() {
+        HistogramaQuantis h = new HistogramaQuantis(ERRO);
+        h.adicionar(10);
+        HistogramaQuantis c = h.copia();
+        h.adicionar(1000);
+
+        assertThat(c.getTotal()).isEqualTo(1);
+        assertThat(c.quantil(1)).isEqualTo(10.0);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReducaoLttbTest {
+
+    @Test
+    void seriePequenaPassaInteiraEmOrdemDeTempo() {
+        ReducaoLttb r = new ReducaoLttb(0, 1000, 10);
+        // Amostras concentradas no mesmo balde e fora de ordem: sem redução, nenhuma se perde
+        r.aceitar(30, 3);
+        r.aceitar(10, 1);
+        r.aceitar(20, 2);
+        r.aceitar(40, 4);
+
+        assertThat(r.timestamps()).containsExactly(10, 20, 30, 40);
+        assertThat(r.valores()).containsExactly(1, 2, 3, 4);
+        assertThat(r.getDescartadas()).isZero();
+    }
+
+    @Test
+    void exatamentePontosAmostrasAindaPassamInteiras() {
+        ReducaoLttb r = new ReducaoLttb(0, 100, 5);
+        for (int i = 0; i < 5; i++) r.aceitar(i * 10, i);
+
+        assertThat(r.timestamps()).containsExactly(0, 10, 20, 30, 40);
+    }
+
+    @Test
+    void mantemPrimeiroEUltimoPontoEUmPorBalde() {
+        int pontos = 12;
+        ReducaoLttb r = new ReducaoLttb(0, 10_000, pontos);
+        for (long t = 0; t < 10_000; t += 3) r.aceitar(t, Math.sin(t / 500.0));
+
+        long[] ts = r.timestamps();
+        double[] vs = r.valores();
+        assertThat(ts).hasSize(pontos);
+        assertThat(ts[0]).isZero();
+        assertThat(vs[0]).isEqualTo(0.0);
+        assertThat(ts[pontos - 1]).isEqualTo(9999);
+        assertThat(vs[pontos - 1]).isEqualTo(Math.sin(9999 / 500.0));
+        // Os pontos do meio saem um de cada balde de 1000 ms, em ordem
+        double largura = 10_000.0 / (pontos - 2);
+        for (int i = 1; i < pontos - 1; i++) {
+            assertThat((int) (ts[i] / largura)).as("ponto %d", i).isEqualTo(i - 1);
+        }
+    }
+
+    @Test
+    void escolheOPicoDoBalde() {
+        // Série plana com um pico isolado: o triângulo maior é o do pico
+        ReducaoLttb r = new ReducaoLttb(0, 1000, 5);
+        for (long t = 0; t < 1000; t++) r.aceitar(t, t == 500 ? 100 : 0);
+
+        assertThat(r.timestamps()).contains(500L);
+        assertThat(r.valores()).contains(100.0);
+    }
+
+    @Test
+    void amostrasForaDaJanelaSaoIgnoradas() {
+        ReducaoLttb r = new ReducaoLttb(100, 200, 3);
+        r.aceitar(99, 1);
+        r.aceitar(100, 2);
+        r.aceitar(199, 3);
+        r.aceitar(200, 4);
+
+        assertThat(r.amostrasLidas()).isEqualTo(2);
+        assertThat(r.timestamps()).containsExactly(100, 199);
+    }
+
+    @Test
+    void amostraAtrasadaAntesDoBaldePendenteEDescartada() {
+        ReducaoLttb r = new ReducaoLttb(0, 1000, 7); // 5 baldes de 200 ms
+        for (long t = 0; t < 1000; t += 10) {
+            r.aceitar(t, t);
+            if (t == 700) r.aceitar(50, -1); // balde 0 já fechado
+        }
+
+        assertThat(r.getDescartadas()).isEqualTo(1);
+        assertThat(r.valores()).doesNotContain(-1.0);
+        assertThat(r.timestamps()).hasSize(7).startsWith(0L).endsWith(990L);
+    }
+}
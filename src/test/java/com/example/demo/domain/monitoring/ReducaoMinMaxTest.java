@@ -0,0 +1,92 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReducaoMinMaxTest {
+
+    @Test
+    void seriePequenaPassaInteiraEmOrdemDeTempo() {
+        ReducaoMinMax r = new ReducaoMinMax(0, 1000, 10);
+        // Quatro amostras no mesmo balde e fora de ordem: sem redução, nenhuma se perde
+        r.aceitar(30, 3);
+        r.aceitar(10, 1);
+        r.aceitar(20, 2);
+        r.aceitar(40, 4);
+
+        assertThat(r.timestamps()).containsExactly(10, 20, 30, 40);
+        assertThat(r.valores()).containsExactly(1, 2, 3, 4);
+        assertThat(r.amostrasLidas()).isEqualTo(4);
+    }
+
+    @Test
+    void exatamentePontosAmostrasAindaPassamInteiras() {
+        ReducaoMinMax r = new ReducaoMinMax(0, 100, 6);
+        for (int i = 0; i < 6; i++) r.aceitar(i, i * i);
+
+        assertThat(r.timestamps()).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void limitesDosBaldesSaoSemiabertos() {
+        // 4 pontos = 2 baldes de 50 ms em [0, 100)
+        ReducaoMinMax r = new ReducaoMinMax(0, 100, 4);
+        r.aceitar(-1, 100);   // antes da janela
+        r.aceitar(0, 5);
+        r.aceitar(49, 7);
+        r.aceitar(20, 6);
+        r.aceitar(50, 1);     // primeiro instante do segundo balde
+        r.aceitar(99, 3);
+        r.aceitar(70, 2);
+        r.aceitar(100, -100); // fim da janela, exclusivo
+
+        assertThat(r.amostrasLidas()).isEqualTo(6);
+        assertThat(r.timestamps()).containsExactly(0, 49, 50, 99);
+        assertThat(r.valores()).containsExactly(5, 7, 1, 3);
+    }
+
+    @Test
+    void preservaMinimoEMaximoDeCadaBaldeNaOrdemEmQueOcorreram() {
+        int baldes = 20;
+        long largura = 1000;
+        ReducaoMinMax r = new ReducaoMinMax(0, baldes * largura, 2 * baldes);
+        double[] min = new double[baldes], max = new double[baldes];
+        long[] tsMin = new long[baldes], tsMax = new long[baldes];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        SplittableRandom rnd = new SplittableRandom(11);
+        for (long t = 0; t < baldes * largura; t += 7) {
+            double v = rnd.nextGaussian();
+            r.aceitar(t, v);
+            int b = (int) (t / largura);
+            if (v < min[b]) { min[b] = v; tsMin[b] = t; }
+            if (v > max[b]) { max[b] = v; tsMax[b] = t; }
+        }
+
+        long[] ts = r.timestamps();
+        double[] vs = r.valores();
+        assertThat(ts).hasSize(2 * baldes);
+        for (int b = 0; b < baldes; b++) {
+            boolean minPrimeiro = tsMin[b] < tsMax[b];
+            assertThat(ts[2 * b]).isEqualTo(minPrimeiro ? tsMin[b] : tsMax[b]);
+            assertThat(vs[2 * b]).isEqualTo(minPrimeiro ? min[b] : max[b]);
+            assertThat(ts[2 * b + 1]).isEqualTo(minPrimeiro ? tsMax[b] : tsMin[b]);
+            assertThat(vs[2 * b + 1]).isEqualTo(minPrimeiro ? max[b] : min[b]);
+        }
+    }
+
+    @Test
+    void baldeComUmaSoAmostraGeraUmPonto() {
+        ReducaoMinMax r = new ReducaoMinMax(0, 300, 6);
+        for (int i = 0; i < 10; i++) r.aceitar(i, i); // balde 0: min e max
+        r.aceitar(150, 42);                           // balde 1: um ponto
+        // balde 2 vazio
+
+        assertThat(r.timestamps()).containsExactly(0, 9, 150);
+        assertThat(r.valores()).containsExactly(0, 9, 42);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerieQuantisTest {
+
+    private static final double ERRO = 0.01;
+    private static final long MINUTO = 60_000L;
+    private static final long HORA = 3_600_000L;
+    // Início de uma hora cheia (múltiplo de HORA desde a época)
+    private static final long T0 = 472_222L * HORA;
+
+    // Um valor por minuto durante duas horas; o valor identifica o minuto
+    private static SerieQuantis duasHoras() {
+        SerieQuantis s = new SerieQuantis(ERRO);
+        for (int m = 0; m < 120; m++) s.adicionar(T0 + m * MINUTO + 30_000, m + 1);
+        return s;
+    }
+
+    @Test
+    void consultaCombinaSoOsMinutosDaJanela() {
+        SerieQuantis s = duasHoras();
+
+        HistogramaQuantis janela = s.consultar(T0 + 10 * MINUTO, T0 + 19 * MINUTO);
+        assertThat(janela.getTotal()).isEqualTo(10);
+        assertThat(janela.getMinimo()).isEqualTo(11.0);
+        assertThat(janela.getMaximo()).isEqualTo(20.0);
+        // O minuto em que deMs cai entra inteiro
+        assertThat(s.consultar(T0 + 10 * MINUTO + 59_999, T0 + 10 * MINUTO + 59_999).getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void consolidarMoveMinutosParaAHoraSemPerderNemDuplicar() {
+        SerieQuantis s = duasHoras();
+        HistogramaQuantis antes = s.consultar(T0, T0 + 2 * HORA);
+
+        // Limite exclusivo: o minuto que começa exatamente no limite continua como minuto
+        s.consolidar(T0 + HORA, T0 - HORA);
+
+        HistogramaQuantis depois = s.consultar(T0, T0 + 2 * HORA);
+        assertThat(depois.getTotal()).isEqualTo(antes.getTotal());
+        for (double q : new double[]{0, 0.25, 0.5, 0.75, 1}) {
+            assertThat(depois.quantil(q)).isEqualTo(antes.quantil(q));
+        }
+        // Segunda hora ainda em minutos: a janela dos seus 10 primeiros minutos é exata
+        assertThat(s.consultar(T0 + HORA, T0 + HORA + 9 * MINUTO).getTotal()).isEqualTo(10);
+        assertThat(s.consultar(T0 + HORA, T0 + HORA + 9 * MINUTO).getMinimo()).isEqualTo(61.0);
+    }
+
+    @Test
+    void horaConsolidadaEntraInteiraEmJanelaParcial() {
+        SerieQuantis s = duasHoras();
+        s.consolidar(T0 + HORA, T0 - HORA);
+
+        // Dez minutos no meio da primeira hora: o balde horário inteiro (60 amostras) entra
+        HistogramaQuantis janela = s.consultar(T0 + 20 * MINUTO, T0 + 29 * MINUTO);
+        assertThat(janela.getTotal()).isEqualTo(60);
+        assertThat(janela.getMinimo()).isEqualTo(1.0);
+        assertThat(janela.getMaximo()).isEqualTo(60.0);
+        // A hora seguinte não vaza para uma janela que termina antes dela
+        assertThat(s.consultar(T0, T0 + HORA - 1).getMaximo()).isEqualTo(60.0);
+    }
+
+    @Test
+    void horasAnterioresAoLimiteSaoDescartadas() {
+        SerieQuantis s = duasHoras();
+        s.consolidar(T0 + 2 * HORA, T0 + HORA);
+
+        assertThat(s.consultar(T0, T0 + HORA - 1).getTotal()).isZero();
+        assertThat(s.consultar(T0 + HORA, T0 + 2 * HORA).getTotal()).isEqualTo(60);
+        assertThat(s.isVazia()).isFalse();
+
+        s.consolidar(T0 + 3 * HORA, T0 + 3 * HORA);
+        assertThat(s.isVazia()).isTrue();
+    }
+}
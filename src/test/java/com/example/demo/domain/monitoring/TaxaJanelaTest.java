@@ -0,0 +1,59 @@
+package com.example.demo.domain.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaxaJanelaTest {
+
+    private static final long INICIO = 1_700_000_000_000L;
+
+    @Test
+    void mediaPorSegundoSobreAJanelaInteira() {
+        TaxaJanela taxa = new TaxaJanela(60);
+        for (int s = 0; s < 60; s++) taxa.registrar(INICIO + s * 1000L, 10);
+
+        assertThat(taxa.porSegundo(INICIO + 59_000)).isEqualTo(10.0);
+        // Só 30 s de dados numa janela de 60 s: metade da taxa
+        TaxaJanela parcial = new TaxaJanela(60);
+        for (int s = 0; s < 30; s++) parcial.registrar(INICIO + s * 1000L, 10);
+        assertThat(parcial.porSegundo(INICIO + 29_999)).isEqualTo(5.0);
+    }
+
+    @Test
+    void registrosNoMesmoSegundoSomam() {
+        TaxaJanela taxa = new TaxaJanela(10);
+        taxa.registrar(INICIO, 3);
+        taxa.registrar(INICIO + 999, 7);
+
+        assertThat(taxa.porSegundo(INICIO + 999)).isEqualTo(1.0);
+    }
+
+    @Test
+    void segundosForaDaJanelaExpiram() {
+        TaxaJanela taxa = new TaxaJanela(10);
+        taxa.registrar(INICIO, 100);
+
+        assertThat(taxa.porSegundo(INICIO + 9_000)).isEqualTo(10.0);
+        assertThat(taxa.porSegundo(INICIO + 10_000)).isZero();
+    }
+
+    @Test
+    void baldeReaproveitadoUmaVoltaDepoisZeraAContagemAntiga() {
+        TaxaJanela taxa = new TaxaJanela(10);
+        taxa.registrar(INICIO, 100);
+        // Mesmo balde (s mod 10), uma volta depois
+        taxa.registrar(INICIO + 10_000, 5);
+
+        assertThat(taxa.porSegundo(INICIO + 10_000)).isEqualTo(0.5);
+    }
+
+    @Test
+    void consultaNoPassadoIgnoraRegistrosFuturos() {
+        TaxaJanela taxa = new TaxaJanela(10);
+        taxa.registrar(INICIO + 5_000, 20);
+
+        assertThat(taxa.porSegundo(INICIO)).isZero();
+        assertThat(taxa.porSegundo(INICIO + 5_000)).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.domain.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class IntegradorDormandPrinceTest {
+
+    private static final double[] SEM_DESCONTINUIDADES = {};
+
+    @Test
+    void decaimentoExponencialSegueASolucaoAnalitica() {
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-9, 1e-12);
+        List<double[]> saidas = new ArrayList<>();
+        rk.integrar((t, y, dydt) -> dydt[0] = -y[0], 0, new double[]{1}, 5, 0.5, SEM_DESCONTINUIDADES,
+                (t, y) -> saidas.add(new double[]{t, y[0]}));
+
+        assertThat(saidas).hasSize(10);
+        for (double[] s : saidas) {
+            assertThat(s[1]).isCloseTo(Math.exp(-s[0]), within(1e-8));
+        }
+    }
+
+    @Test
+    void osciladorHarmonicoMantemFaseEAmplitude() {
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-10, 1e-12);
+        List<double[]> saidas = new ArrayList<>();
+        rk.integrar((t, y, dydt) -> {
+            dydt[0] = y[1];
+            dydt[1] = -y[0];
+        }, 0, new double[]{1, 0}, 20, 1, SEM_DESCONTINUIDADES, (t, y) -> saidas.add(new double[]{t, y[0], y[1]}));
+
+        for (double[] s : saidas) {
+            assertThat(s[1]).isCloseTo(Math.cos(s[0]), within(1e-7));
+            assertThat(s[2]).isCloseTo(-Math.sin(s[0]), within(1e-7));
+        }
+    }
+
+    @Test
+    void emiteExatamenteOsInstantesDeSaidaAntesDoFim() {
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-6, 1e-9);
+        List<Double> instantes = new ArrayList<>();
+        rk.integrar((t, y, dydt) -> dydt[0] = 1, 2, new double[]{0}, 3, 0.25, SEM_DESCONTINUIDADES,
+                (t, y) -> {
+                    instantes.add(t);
+                    assertThat(y[0]).isCloseTo(t - 2, within(1e-12));
+                });
+
+        assertThat(instantes).containsExactly(2.0, 2.25, 2.5, 2.75);
+    }
+
+    @Test
+    void passoNaoAtravessaDescontinuidade() {
+        // Queima de 1 s com aceleração unitária, como o empuxo de ModeloFoguete: a velocidade final é 1.
+        // O passo que termina na descontinuidade ainda vê o lado de depois nos últimos estágios, e o
+        // controle de erro o encurta até a tolerância
+        SistemaEdo queima = (t, y, dydt) -> dydt[0] = t < 1 ? 1 : 0;
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-9, 1e-12);
+        double[] final_ = new double[1];
+        rk.integrar(queima, 0, new double[]{0}, 10, 9.5, new double[]{1}, (t, y) -> final_[0] = y[0]);
+
+        assertThat(final_[0]).isCloseTo(1, within(1e-7));
+    }
+
+    @Test
+    void sistemaQueExplodeFalhaEmVezDeTravar() {
+        // y' = y², y(0) = 1: solução 1 / (1 - t), explode em t = 1
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-6, 1e-9);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> rk.integrar((t, y, dydt) -> dydt[0] = y[0] * y[0], 0, new double[]{1}, 2,
+                        0.1, SEM_DESCONTINUIDADES, (t, y) -> {}))
+                        .isInstanceOf(IllegalStateException.class));
+        assertThat(rk.getPassosAceitos() + rk.getPassosRejeitados()).isLessThan(IntegradorDormandPrince.MAX_PASSOS);
+    }
+
+    @Test
+    void derivadaNaoFinitaNoMeioDaIntegracaoFalha() {
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-6, 1e-9);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> rk.integrar((t, y, dydt) -> dydt[0] = t > 0.5 ? Double.NaN : 1, 0,
+                        new double[]{0}, 1, 0.1, SEM_DESCONTINUIDADES, (t, y) -> {}))
+                        .isInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void estadoInicialNaoFinitoFalhaDeImediato() {
+        IntegradorDormandPrince rk = new IntegradorDormandPrince(1e-6, 1e-9);
+        assertThatThrownBy(() -> rk.integrar((t, y, dydt) -> dydt[0] = 0, 0, new double[]{Double.NaN}, 1, 0.1,
+                SEM_DESCONTINUIDADES, (t, y) -> {}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("não finitos");
+    }
+}
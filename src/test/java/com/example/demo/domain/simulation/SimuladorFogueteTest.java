@@ -0,0 +1,82 @@
+package com.example.demo.domain.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class SimuladorFogueteTest {
+
+    // Saída do serviço Python com ParametrosFoguete.PADRAO, na raiz do repositório
+    private static final Path REFERENCIA_PYTHON = Path.of("resultado_simulacao.json");
+    private static final double TOLERANCIA_PERCENTUAL = 0.01;
+
+    private static double apogeuPython, tempoApogeuPython, velocidadeMaximaPython, tempoVelocidadeMaximaPython;
+    private static int pontosPython;
+
+    @BeforeAll
+    static void lerReferencia() throws IOException {
+        JsonNode dados = new ObjectMapper().readTree(REFERENCIA_PYTHON.toFile()).get("dados");
+        JsonNode tempo = dados.get("tempo"), altitude = dados.get("altitude"), velocidade = dados.get("velocidade");
+        pontosPython = tempo.size();
+        apogeuPython = Double.NEGATIVE_INFINITY;
+        velocidadeMaximaPython = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < pontosPython; i++) {
+            if (altitude.get(i).asDouble() > apogeuPython) {
+                apogeuPython = altitude.get(i).asDouble();
+                tempoApogeuPython = tempo.get(i).asDouble();
+            }
+            if (velocidade.get(i).asDouble() > velocidadeMaximaPython) {
+                velocidadeMaximaPython = velocidade.get(i).asDouble();
+                tempoVelocidadeMaximaPython = tempo.get(i).asDouble();
+            }
+        }
+    }
+
+    @Test
+    void padraoConcordaComOServicoPython() {
+        ResultadoSimulacao r = new SimuladorFoguete().simular(ParametrosFoguete.PADRAO);
+
+        assertThat(r.apogeu()).isCloseTo(apogeuPython, withinPercentage(TOLERANCIA_PERCENTUAL));
+        assertThat(r.velocidadeMaxima()).isCloseTo(velocidadeMaximaPython, withinPercentage(TOLERANCIA_PERCENTUAL));
+        // Extremos avaliados na mesma grade de saída de 0,1 s
+        assertThat(r.tempoApogeu()).isCloseTo(tempoApogeuPython, within(1e-9));
+        assertThat(r.tempoVelocidadeMaxima()).isCloseTo(tempoVelocidadeMaximaPython, within(1e-9));
+        assertThat(r.pontos()).isEqualTo(pontosPython);
+    }
+
+    @Test
+    void monteCarloComSementeFixaERepetivel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MonteCarloFoguete mc = new MonteCarloFoguete();
+            Dispersao dispersao = new Dispersao(0.02, 0.10, 0.01, 0.02, 100_000, Double.POSITIVE_INFINITY);
+            AcumuladorMonteCarlo a = mc.executar(pool, ParametrosFoguete.PADRAO, dispersao, 200, 42);
+            AcumuladorMonteCarlo b = mc.executar(pool, ParametrosFoguete.PADRAO, dispersao, 200, 42);
+            AcumuladorMonteCarlo outra = mc.executar(pool, ParametrosFoguete.PADRAO, dispersao, 200, 43);
+
+            assertThat(a.getExecucoes()).isEqualTo(200);
+            assertThat(b.getFalhas()).isEqualTo(a.getFalhas());
+            for (AcumuladorMonteCarlo.Metrica m : AcumuladorMonteCarlo.Metrica.values()) {
+                // A divisão em subtarefas segue a faixa de execuções, não o agendamento: mesmas amostras,
+                // combinadas na mesma ordem
+                assertThat(b.estatistica(m).getMedia()).as("%s", m).isEqualTo(a.estatistica(m).getMedia());
+                assertThat(b.estatistica(m).getVariancia()).as("%s", m).isEqualTo(a.estatistica(m).getVariancia());
+                assertThat(b.estatistica(m).getMinimo()).as("%s", m).isEqualTo(a.estatistica(m).getMinimo());
+                assertThat(b.estatistica(m).getMaximo()).as("%s", m).isEqualTo(a.estatistica(m).getMaximo());
+            }
+            assertThat(outra.estatistica(AcumuladorMonteCarlo.Metrica.APOGEU).getMedia())
+                    .isNotEqualTo(a.estatistica(AcumuladorMonteCarlo.Metrica.APOGEU).getMedia());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
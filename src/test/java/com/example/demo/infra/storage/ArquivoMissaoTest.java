@@ -0,0 +1,144 @@
+package com.example.demo.infra.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArquivoMissaoTest {
+
+    private static final long INICIO = 1_700_000_000_000L;
+    private static final int AMOSTRAS_TEMPERATURA = 2 * EscritorArquivoMissao.AMOSTRAS_POR_BLOCO + 100;
+
+    @TempDir
+    Path dir;
+
+    private record Amostra(String canal, long ts, double valor) {}
+
+    private record Evento(long id, String tipo, String descricao, String severidade, long ts) {}
+
+    private ArquivoMissaoAberto gravar() throws IOException {
+        EscritorArquivoMissao escritor = new EscritorArquivoMissao(dir.resolve("missao-7.marq"), 7);
+        for (int i = 0; i < AMOSTRAS_TEMPERATURA; i++) {
+            escritor.adicionarAmostra("temperatura", "C", INICIO + i * 1000L, 20 + (i % 17) * 0.25);
+            if (i % 100 == 0) escritor.adicionarAmostra("pressao", null, INICIO + i * 1000L, 101.3 - i * 1e-4);
+        }
+        escritor.adicionarEvento(10, "INICIO", "Missão iniciada", "INFO", INICIO);
+        escritor.adicionarEvento(11, "AJUSTE_ORBITA", null, null, INICIO + 5_000);
+        escritor.adicionarEvento(15, "EMERGENCIA", "Pressão baixa", "CRITICA", INICIO + 3_000);
+        long bytes = escritor.finalizar();
+
+        assertThat(Files.size(escritor.getDestino())).isEqualTo(bytes);
+        assertThat(Files.exists(dir.resolve("missao-7.marq.tmp"))).isFalse();
+        return ArquivoMissaoAberto.abrir(escritor.getDestino());
+    }
+
+    private static List<Amostra> ler(ArquivoMissaoAberto a, String canal, long de, long ate) throws IOException {
+        List<Amostra> lidas = new ArrayList<>();
+        a.percorrer(canal, de, ate, (c, ts, v) -> lidas.add(new Amostra(c, ts, v)));
+        return lidas;
+    }
+
+    @Test
+    void cabecalhoDescreveCanaisEBlocos() throws IOException {
+        ArquivoMissaoAberto a = gravar();
+
+        assertThat(a.getMissaoId()).isEqualTo(7);
+        assertThat(a.getEventos()).isEqualTo(3);
+        assertThat(a.getAmostras()).isEqualTo(AMOSTRAS_TEMPERATURA + (AMOSTRAS_TEMPERATURA + 99) / 100);
+
+        ArquivoMissaoAberto.Canal temperatura = a.getCanais().get(0);
+        assertThat(temperatura.nome()).isEqualTo("temperatura");
+        assertThat(temperatura.unidade()).isEqualTo("C");
+        assertThat(temperatura.amostras()).isEqualTo(AMOSTRAS_TEMPERATURA);
+        assertThat(temperatura.tsMin()).isEqualTo(INICIO);
+        assertThat(temperatura.tsMax()).isEqualTo(INICIO + (AMOSTRAS_TEMPERATURA - 1) * 1000L);
+        assertThat(temperatura.blocos()).hasSize(3);
+        assertThat(temperatura.blocos()).extracting(ArquivoMissaoAberto.Bloco::amostras)
+                .containsExactly(EscritorArquivoMissao.AMOSTRAS_POR_BLOCO, EscritorArquivoMissao.AMOSTRAS_POR_BLOCO, 100);
+        for (int b = 1; b < temperatura.blocos().size(); b++) {
+            assertThat(temperatura.blocos().get(b).tsMin()).isGreaterThan(temperatura.blocos().get(b - 1).tsMax());
+        }
+
+        ArquivoMissaoAberto.Canal pressao = a.getCanais().get(1);
+        assertThat(pressao.unidade()).isNull();
+        assertThat(pressao.blocos()).hasSize(1);
+    }
+
+    @Test
+    void leituraCompletaDevolveTodasAsAmostrasEmOrdem() throws IOException {
+        ArquivoMissaoAberto a = gravar();
+
+        List<Amostra> temperatura = ler(a, "temperatura", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(temperatura).hasSize(AMOSTRAS_TEMPERATURA);
+        for (int i = 0; i < AMOSTRAS_TEMPERATURA; i++) {
+            assertThat(temperatura.get(i)).isEqualTo(new Amostra("temperatura", INICIO + i * 1000L, 20 + (i % 17) * 0.25));
+        }
+        assertThat(ler(a, null, Long.MIN_VALUE, Long.MAX_VALUE))
+                .hasSize((int) a.getAmostras())
+                .filteredOn(s -> s.canal().equals("pressao")).first()
+                .isEqualTo(new Amostra("pressao", INICIO, 101.3));
+    }
+
+    @Test
+    void janelaDevolveSoAsAmostrasDentroDelaInclusiveNasBordas() throws IOException {
+        ArquivoMissaoAberto a = gravar();
+        // Atravessa a fronteira entre o primeiro e o segundo bloco
+        long de = INICIO + (EscritorArquivoMissao.AMOSTRAS_POR_BLOCO - 3) * 1000L;
+        long ate = INICIO + (EscritorArquivoMissao.AMOSTRAS_POR_BLOCO + 2) * 1000L;
+
+        List<Amostra> janela = ler(a, "temperatura", de, ate);
+        assertThat(janela).extracting(Amostra::ts)
+                .containsExactly(de, de + 1000, de + 2000, de + 3000, de + 4000, de + 5000);
+        assertThat(ler(a, "temperatura", INICIO - 10_000, INICIO - 1)).isEmpty();
+        assertThat(ler(a, "inexistente", Long.MIN_VALUE, Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void eventosVoltamComIdsTimestampsENulos() throws IOException {
+        ArquivoMissaoAberto a = gravar();
+
+        List<Evento> eventos = new ArrayList<>();
+        a.percorrerEventos((id, tipo, descricao, severidade, ts) -> eventos.add(new Evento(id, tipo, descricao, severidade, ts)));
+        assertThat(eventos).containsExactly(
+                new Evento(10, "INICIO", "Missão iniciada", "INFO", INICIO),
+                new Evento(11, "AJUSTE_ORBITA", null, null, INICIO + 5_000),
+                new Evento(15, "EMERGENCIA", "Pressão baixa", "CRITICA", INICIO + 3_000));
+    }
+
+    @Test
+    void eventosFicamEmOrdemDeIdEPaginamPorCursor() throws IOException {
+        // Chegam em ordem de data_hora, com ids fora de ordem
+        EscritorArquivoMissao escritor = new EscritorArquivoMissao(dir.resolve("missao-8.marq"), 8);
+        long[] ids = {5, 3, 9, 1, 7, 2, 8, 4, 6};
+        for (int i = 0; i < ids.length; i++) {
+            escritor.adicionarEvento(ids[i], ids[i] % 2 == 0 ? "PAR" : "IMPAR", "evento " + ids[i], "INFO",
+                    INICIO + i * 1000L);
+        }
+        escritor.finalizar();
+        ArquivoMissaoAberto a = ArquivoMissaoAberto.abrir(escritor.getDestino());
+
+        assertThat(pagina(a, Long.MIN_VALUE, null, Integer.MAX_VALUE)).extracting(Evento::id)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(pagina(a, 0, null, 4)).extracting(Evento::id).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(pagina(a, 4, null, 4)).extracting(Evento::id).containsExactly(5L, 6L, 7L, 8L);
+        assertThat(pagina(a, 8, null, 4)).extracting(Evento::id).containsExactly(9L);
+        assertThat(pagina(a, 9, null, 4)).isEmpty();
+        assertThat(pagina(a, 2, "IMPAR", 2)).extracting(Evento::id).containsExactly(3L, 5L);
+        // Descrição e timestamp continuam ligados ao id depois da reordenação
+        assertThat(pagina(a, 6, null, 1)).containsExactly(new Evento(7, "IMPAR", "evento 7", "INFO", INICIO + 4_000));
+    }
+
+    private static List<Evento> pagina(ArquivoMissaoAberto a, long aposId, String tipo, int limite) throws IOException {
+        List<Evento> eventos = new ArrayList<>();
+        a.percorrerEventos(aposId, tipo, limite,
+                (id, t, descricao, severidade, ts) -> eventos.add(new Evento(id, t, descricao, severidade, ts)));
+        return eventos;
+    }
+}
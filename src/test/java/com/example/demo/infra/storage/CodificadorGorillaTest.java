@@ -0,0 +1,112 @@
+package com.example.demo.infra.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodificadorGorillaTest {
+
+    // Compara bit a bit: NaN com payload, -0.0 e infinitos precisam voltar idênticos
+    private static void conferirIdaEVolta(long[] ts, double[] valores) {
+        CodificadorGorilla c = new CodificadorGorilla();
+        for (int i = 0; i < ts.length; i++) c.adicionar(ts[i], valores[i]);
+
+        DecodificadorGorilla d = new DecodificadorGorilla(c.bytes(), c.getAmostras());
+        for (int i = 0; i < ts.length; i++) {
+            assertThat(d.proxima()).as("amostra %d", i).isTrue();
+            assertThat(d.timestamp()).as("timestamp %d", i).isEqualTo(ts[i]);
+            assertThat(Double.doubleToRawLongBits(d.valor())).as("valor %d", i)
+                    .isEqualTo(Double.doubleToRawLongBits(valores[i]));
+        }
+        assertThat(d.proxima()).isFalse();
+    }
+
+    @Test
+    void serieVaziaNaoTemAmostras() {
+        CodificadorGorilla c = new CodificadorGorilla();
+        assertThat(new DecodificadorGorilla(c.bytes(), 0).proxima()).isFalse();
+    }
+
+    @Test
+    void amostragemRegularComValorConstanteCustaPoucosBits() {
+        int n = 10_000;
+        long[] ts = new long[n];
+        double[] valores = new double[n];
+        for (int i = 0; i < n; i++) {
+            ts[i] = 1_700_000_000_000L + i * 1000L;
+            valores[i] = 101.325;
+        }
+        conferirIdaEVolta(ts, valores);
+
+        CodificadorGorilla c = new CodificadorGorilla();
+        for (int i = 0; i < n; i++) c.adicionar(ts[i], valores[i]);
+        // 1 bit de delta-of-delta + 1 bit de XOR por amostra, além das duas primeiras
+        assertThat(c.bytes().length).isLessThan(n / 4 + 64);
+        assertThat(c.getTsMin()).isEqualTo(ts[0]);
+        assertThat(c.getTsMax()).isEqualTo(ts[n - 1]);
+    }
+
+    @Test
+    void timestampsForaDeOrdemERepetidos() {
+        long[] ts = {5_000, 4_000, 4_000, 10_000_000_000L, 0, -1, Long.MAX_VALUE / 2, 6_000, 6_001};
+        double[] valores = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        conferirIdaEVolta(ts, valores);
+
+        CodificadorGorilla c = new CodificadorGorilla();
+        for (int i = 0; i < ts.length; i++) c.adicionar(ts[i], valores[i]);
+        assertThat(c.getTsMin()).isEqualTo(-1);
+        assertThat(c.getTsMax()).isEqualTo(Long.MAX_VALUE / 2);
+    }
+
+    @Test
+    void valoresEspeciais() {
+        double[] valores = {0.0, -0.0, Double.NaN, Double.longBitsToDouble(0x7ff8_0000_dead_beefL),
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE,
+                -Double.MAX_VALUE, 1.0, 1.0, Double.NaN};
+        long[] ts = new long[valores.length];
+        for (int i = 0; i < ts.length; i++) ts[i] = i * 10L;
+        conferirIdaEVolta(ts, valores);
+    }
+
+    @Test
+    void deltasEmTodasAsFaixas() {
+        // Delta-of-delta de 0, ±63, ±255, ±2047 e maiores: cada faixa do cabeçalho de tamanho variável
+        long[] deltas = {1000, 1000, 1063, 1000, 1255, 744, 3047, 1000, 1_000_000, 1000, -5_000_000, 1};
+        long[] ts = new long[deltas.length + 1];
+        double[] valores = new double[ts.length];
+        ts[0] = 1_700_000_000_000L;
+        for (int i = 0; i < deltas.length; i++) ts[i + 1] = ts[i] + deltas[i];
+        for (int i = 0; i < valores.length; i++) valores[i] = i;
+        conferirIdaEVolta(ts, valores);
+    }
+
+    @Test
+    void seriesAleatorias() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        for (int rodada = 0; rodada < 50; rodada++) {
+            int n = 1 + rnd.nextInt(5_000);
+            long[] ts = new long[n];
+            double[] valores = new double[n];
+            long t = rnd.nextLong();
+            double v = rnd.nextDouble() * 1000;
+            for (int i = 0; i < n; i++) {
+                // Jitter pequeno na maior parte, saltos e recuos ocasionais
+                t += switch (rnd.nextInt(10)) {
+                    case 0 -> rnd.nextLong(-1_000_000, 1_000_000);
+                    case 1 -> 0;
+                    default -> 1000 + rnd.nextInt(-5, 6);
+                };
+                v = switch (rnd.nextInt(8)) {
+                    case 0 -> v;
+                    case 1 -> Double.longBitsToDouble(rnd.nextLong());
+                    default -> v + rnd.nextGaussian();
+                };
+                ts[i] = t;
+                valores[i] = v;
+            }
+            conferirIdaEVolta(ts, valores);
+        }
+    }
+}